@@ -56,6 +56,7 @@ import software.amazon.jdbc.ConnectionProvider;
 import software.amazon.jdbc.HostListProviderService;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.NodeChangeOptions;
 import software.amazon.jdbc.OldConnectionSuggestedAction;
 import software.amazon.jdbc.PluginManagerService;
@@ -232,6 +233,30 @@ public class ConnectionPluginManagerBenchmarks {
     );
   }
 
+  @Benchmark
+  public Integer executeJdbcMethodWithPlugins() {
+    return pluginManager.execute(
+        int.class,
+        RuntimeException.class,
+        mockStatement,
+        JdbcMethod.STATEMENT_EXECUTE,
+        () -> 1,
+        new Object[] {1}
+    );
+  }
+
+  @Benchmark
+  public Integer executeJdbcMethodWithNoPlugins() {
+    return pluginManagerWithNoPlugins.execute(
+        int.class,
+        RuntimeException.class,
+        mockStatement,
+        JdbcMethod.STATEMENT_EXECUTE,
+        () -> 1,
+        new Object[] {1}
+    );
+  }
+
   @Benchmark
   public ConnectionPluginManager initHostProvidersWithPlugins() throws SQLException {
     pluginManager.initHostProvider(
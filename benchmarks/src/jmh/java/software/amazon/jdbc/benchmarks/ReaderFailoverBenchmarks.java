@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.benchmarks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.plugin.failover.ClusterAwareReaderFailoverHandler;
+import software.amazon.jdbc.plugin.failover.ReaderFailoverResult;
+
+/**
+ * Measures the time to get a reader connection during a reader failover process. Connections are
+ * opened by a stub driver: attempts to unavailable readers fail after a delay, like connection
+ * timeouts, and only one reader of the cluster accepts connections.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReaderFailoverBenchmarks {
+
+  private static final int READER_COUNT = 15;
+  private static final long FAILED_CONNECT_DELAY_MS = 200;
+  private static final long CONNECT_DELAY_MS = 20;
+
+  @Param({"0", "4", "16"})
+  private int connectionAttemptParallelism;
+
+  @Mock private PluginService mockPluginService;
+  @Mock private Connection mockConnection;
+  private AutoCloseable closeable;
+  private final Properties properties = new Properties();
+  private final List<HostSpec> hosts = new ArrayList<>();
+  private ClusterAwareReaderFailoverHandler readerFailoverHandler;
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(ReaderFailoverBenchmarks.class.getSimpleName())
+        .detectJvmArgs()
+        .build();
+
+    new Runner(opt).run();
+  }
+
+  @Setup(Level.Iteration)
+  public void setUpIteration() throws Exception {
+    closeable = MockitoAnnotations.openMocks(this);
+
+    hosts.clear();
+    hosts.add(new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host("writer").port(5432).role(HostRole.WRITER).build());
+    for (int i = 0; i < READER_COUNT; i++) {
+      hosts.add(new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+          .host("reader-" + i).port(5432).role(HostRole.READER).build());
+    }
+    final HostSpec availableReader = hosts.get(READER_COUNT);
+
+    when(mockPluginService.forceConnect(any(HostSpec.class), any(Properties.class)))
+        .thenAnswer(invocation -> {
+          final HostSpec hostSpec = invocation.getArgument(0);
+          if (hostSpec == availableReader) {
+            TimeUnit.MILLISECONDS.sleep(CONNECT_DELAY_MS);
+            return mockConnection;
+          }
+          TimeUnit.MILLISECONDS.sleep(FAILED_CONNECT_DELAY_MS);
+          throw new SQLException("Connection timed out", "08S01");
+        });
+    when(mockPluginService.isNetworkException(any(SQLException.class))).thenReturn(true);
+
+    readerFailoverHandler = new ClusterAwareReaderFailoverHandler(
+        mockPluginService,
+        properties,
+        60000,
+        30000,
+        false,
+        connectionAttemptParallelism);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDownIteration() throws Exception {
+    closeable.close();
+  }
+
+  @Benchmark
+  public ReaderFailoverResult getReaderConnection() throws SQLException {
+    final ReaderFailoverResult result = readerFailoverHandler.getReaderConnection(hosts);
+    if (!result.isConnected()) {
+      throw new IllegalStateException("Reader connection failed.");
+    }
+    return result;
+  }
+}
@@ -99,6 +99,21 @@ tasks.test {
     filter.excludeTestsMatching("integration.*")
 }
 
+// Verifies that driver threads don't pin the carriers of virtual threads. A single carrier thread makes
+// a pinned virtual thread block all others, including pinning that jdk.tracePinnedThreads doesn't report.
+tasks.register<Test>("test-virtual-thread-pinning") {
+    group = "verification"
+    javaLauncher.set(javaToolchains.launcherFor {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    })
+    filter.includeTestsMatching("*VirtualThreadPinningTest")
+    systemProperty("jdk.tracePinnedThreads", "short")
+    // Lets Mockito mock classes on Java 21.
+    systemProperty("net.bytebuddy.experimental", "true")
+    systemProperty("jdk.virtualThreadScheduler.parallelism", "1")
+    systemProperty("jdk.virtualThreadScheduler.maxPoolSize", "1")
+}
+
 java {
     withJavadocJar()
     withSourcesJar()
@@ -18,11 +18,13 @@ package software.amazon.jdbc;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -31,7 +33,6 @@ import software.amazon.jdbc.plugin.AuroraInitialConnectionStrategyPluginFactory;
 import software.amazon.jdbc.plugin.AwsSecretsManagerConnectionPluginFactory;
 import software.amazon.jdbc.plugin.ConnectTimeConnectionPluginFactory;
 import software.amazon.jdbc.plugin.DataCacheConnectionPluginFactory;
-import software.amazon.jdbc.plugin.DefaultConnectionPlugin;
 import software.amazon.jdbc.plugin.DriverMetaDataConnectionPluginFactory;
 import software.amazon.jdbc.plugin.ExecutionTimeConnectionPluginFactory;
 import software.amazon.jdbc.plugin.LogQueryConnectionPluginFactory;
@@ -44,6 +45,7 @@ import software.amazon.jdbc.plugin.iam.IamAuthConnectionPluginFactory;
 import software.amazon.jdbc.plugin.readwritesplitting.ReadWriteSplittingPluginFactory;
 import software.amazon.jdbc.plugin.staledns.AuroraStaleDnsPluginFactory;
 import software.amazon.jdbc.plugin.strategy.fastestresponse.FastestResponseStrategyPluginFactory;
+import software.amazon.jdbc.plugin.strategy.leastlatency.LeastLatencyStrategyPluginFactory;
 import software.amazon.jdbc.profile.ConfigurationProfile;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.SqlState;
@@ -76,6 +78,7 @@ public class ConnectionPluginChainBuilder {
           put("connectTime", ConnectTimeConnectionPluginFactory.class);
           put("dev", DeveloperConnectionPluginFactory.class);
           put("fastestResponseStrategy", FastestResponseStrategyPluginFactory.class);
+          put("leastLatencyStrategy", LeastLatencyStrategyPluginFactory.class);
           put("initialConnection", AuroraInitialConnectionStrategyPluginFactory.class);
         }
       };
@@ -98,6 +101,7 @@ public class ConnectionPluginChainBuilder {
           put(HostMonitoringConnectionPluginFactory.class, 800);
           put(software.amazon.jdbc.plugin.efm2.HostMonitoringConnectionPluginFactory.class, 810);
           put(FastestResponseStrategyPluginFactory.class, 900);
+          put(LeastLatencyStrategyPluginFactory.class, 910);
           put(IamAuthConnectionPluginFactory.class, 1000);
           put(AwsSecretsManagerConnectionPluginFactory.class, 1100);
           put(FederatedAuthPluginFactory.class, 1200);
@@ -110,6 +114,11 @@ public class ConnectionPluginChainBuilder {
 
   protected static final String DEFAULT_PLUGINS = "auroraConnectionTracker,failover,efm2";
 
+  // Templates are cached by the effective plugin configuration. The number of distinct
+  // configurations is expected to be small, and templates of further configurations aren't cached.
+  private static final int MAX_PLUGIN_CHAIN_TEMPLATES = 64;
+  private static final Map<List<Object>, PluginChainTemplate> pluginChainTemplates = new ConcurrentHashMap<>();
+
   /*
    Internal class used for plugin factory sorting. It holds a reference to a plugin
    factory and an assigned weight.
@@ -133,20 +142,63 @@ public class ConnectionPluginChainBuilder {
       @Nullable ConfigurationProfile configurationProfile)
       throws SQLException {
 
-    List<ConnectionPlugin> plugins;
-    List<Class<? extends ConnectionPluginFactory>> pluginFactories;
+    return this.getPluginChainTemplate(props, configurationProfile).createPlugins(
+        pluginService,
+        defaultConnProvider,
+        effectiveConnProvider,
+        pluginManagerService,
+        props);
+  }
 
+  /**
+   * Returns the plugin chain template of the plugin configuration of the given properties or
+   * configuration profile. Templates are cached by the effective plugin configuration, so plugin
+   * factories are resolved, sorted and instantiated once per configuration.
+   *
+   * @param props                the configuration of the connection
+   * @param configurationProfile a profile configuration defined by the user
+   * @return the plugin chain template
+   * @throws SQLException if a plugin is unknown or its factory can't be instantiated
+   */
+  public PluginChainTemplate getPluginChainTemplate(
+      final Properties props,
+      @Nullable ConfigurationProfile configurationProfile)
+      throws SQLException {
+
+    final boolean autoSortPluginOrder = PropertyDefinition.AUTO_SORT_PLUGIN_ORDER.getBoolean(props);
+    final Object pluginConfiguration;
     if (configurationProfile != null && configurationProfile.getPluginFactories() != null) {
-      pluginFactories = configurationProfile.getPluginFactories();
+      pluginConfiguration = new ArrayList<>(configurationProfile.getPluginFactories());
     } else {
+      final String pluginCodes = PropertyDefinition.PLUGINS.getString(props);
+      pluginConfiguration = pluginCodes == null ? DEFAULT_PLUGINS : pluginCodes;
+    }
 
-      String pluginCodes = PropertyDefinition.PLUGINS.getString(props);
-
-      if (pluginCodes == null) {
-        pluginCodes = DEFAULT_PLUGINS;
+    final List<Object> templateKey = Arrays.asList(pluginConfiguration, autoSortPluginOrder);
+    PluginChainTemplate template = pluginChainTemplates.get(templateKey);
+    if (template == null) {
+      template = this.createPluginChainTemplate(pluginConfiguration, autoSortPluginOrder);
+      if (pluginChainTemplates.size() < MAX_PLUGIN_CHAIN_TEMPLATES) {
+        final PluginChainTemplate existingTemplate = pluginChainTemplates.putIfAbsent(templateKey, template);
+        if (existingTemplate != null) {
+          template = existingTemplate;
+        }
       }
+    }
+    return template;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected PluginChainTemplate createPluginChainTemplate(
+      final Object pluginConfiguration, final boolean autoSortPluginOrder) throws SQLException {
+
+    List<Class<? extends ConnectionPluginFactory>> pluginFactories;
+
+    if (pluginConfiguration instanceof List) {
+      pluginFactories = (List<Class<? extends ConnectionPluginFactory>>) pluginConfiguration;
+    } else {
 
-      final List<String> pluginCodeList = StringUtils.split(pluginCodes, ",", true);
+      final List<String> pluginCodeList = StringUtils.split((String) pluginConfiguration, ",", true);
       pluginFactories = new ArrayList<>(pluginCodeList.size());
 
       for (final String pluginCode : pluginCodeList) {
@@ -160,52 +212,31 @@ public class ConnectionPluginChainBuilder {
       }
     }
 
-    if (!pluginFactories.isEmpty()) {
-
-      if (PropertyDefinition.AUTO_SORT_PLUGIN_ORDER.getBoolean(props)) {
-        pluginFactories = this.sortPluginFactories(pluginFactories);
-
-        final List<Class<? extends ConnectionPluginFactory>> tempPluginFactories = pluginFactories;
-        LOGGER.finest(() ->
-            "Plugins order has been rearranged. The following order is in effect: "
-                + tempPluginFactories.stream()
-                  .map(Class::getSimpleName)
-                  .collect(Collectors.joining(", ")));
-      }
-
-      try {
-        final ConnectionPluginFactory[] factories =
-            WrapperUtils.loadClasses(
-                    pluginFactories,
-                    ConnectionPluginFactory.class,
-                    "ConnectionPluginManager.unableToLoadPlugin")
-                .toArray(new ConnectionPluginFactory[0]);
-
-        // make a chain of connection plugins
-
-        plugins = new ArrayList<>(factories.length + 1);
-
-        for (final ConnectionPluginFactory factory : factories) {
-          plugins.add(factory.getInstance(pluginService, props));
-        }
-
-      } catch (final InstantiationException instEx) {
-        throw new SQLException(instEx.getMessage(), SqlState.UNKNOWN_STATE.getState(), instEx);
-      }
-    } else {
-      plugins = new ArrayList<>(1); // one spot for default connection plugin
+    if (pluginFactories.isEmpty()) {
+      return new PluginChainTemplate(new ConnectionPluginFactory[0]);
     }
 
-    // add default connection plugin to the tail
-    final ConnectionPlugin defaultPlugin = new DefaultConnectionPlugin(
-        pluginService,
-        defaultConnProvider,
-        effectiveConnProvider,
-        pluginManagerService);
+    if (autoSortPluginOrder) {
+      pluginFactories = this.sortPluginFactories(pluginFactories);
 
-    plugins.add(defaultPlugin);
+      final List<Class<? extends ConnectionPluginFactory>> tempPluginFactories = pluginFactories;
+      LOGGER.finest(() ->
+          "Plugins order has been rearranged. The following order is in effect: "
+              + tempPluginFactories.stream()
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(", ")));
+    }
 
-    return plugins;
+    try {
+      return new PluginChainTemplate(
+          WrapperUtils.loadClasses(
+                  pluginFactories,
+                  ConnectionPluginFactory.class,
+                  "ConnectionPluginManager.unableToLoadPlugin")
+              .toArray(new ConnectionPluginFactory[0]));
+    } catch (final InstantiationException instEx) {
+      throw new SQLException(instEx.getMessage(), SqlState.UNKNOWN_STATE.getState(), instEx);
+    }
   }
 
   protected List<Class<? extends ConnectionPluginFactory>> sortPluginFactories(
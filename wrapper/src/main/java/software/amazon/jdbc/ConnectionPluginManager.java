@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -46,6 +47,7 @@ import software.amazon.jdbc.plugin.iam.IamAuthConnectionPlugin;
 import software.amazon.jdbc.plugin.readwritesplitting.ReadWriteSplittingPlugin;
 import software.amazon.jdbc.plugin.staledns.AuroraStaleDnsPlugin;
 import software.amazon.jdbc.plugin.strategy.fastestresponse.FastestResponseStrategyPlugin;
+import software.amazon.jdbc.plugin.strategy.leastlatency.LeastLatencyStrategyPlugin;
 import software.amazon.jdbc.profile.ConfigurationProfile;
 import software.amazon.jdbc.util.AsynchronousMethodsHelper;
 import software.amazon.jdbc.util.Messages;
@@ -81,6 +83,7 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
           put(AuroraStaleDnsPlugin.class, "plugin:auroraStaleDns");
           put(ReadWriteSplittingPlugin.class, "plugin:readWriteSplitting");
           put(FastestResponseStrategyPlugin.class, "plugin:fastestResponseStrategy");
+          put(LeastLatencyStrategyPlugin.class, "plugin:leastLatencyStrategy");
           put(DefaultConnectionPlugin.class, "plugin:targetDriver");
           put(AuroraInitialConnectionStrategyPlugin.class, "plugin:initialConnection");
         }
@@ -99,6 +102,10 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
 
   private final ReentrantLock lock = new ReentrantLock();
 
+  // Incremented when a switch of the current connection begins and again when it ends, so the value is odd
+  // while a switch is in progress. Methods executed without the lock use it to detect a concurrent switch.
+  private final AtomicLong connectionSwitchCounter = new AtomicLong();
+
   protected Properties props = new Properties();
   protected List<ConnectionPlugin> plugins;
   protected final @NonNull ConnectionProvider defaultConnProvider;
@@ -106,10 +113,18 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
   protected final ConnectionWrapper connectionWrapper;
   protected PluginService pluginService;
   protected TelemetryFactory telemetryFactory;
+  protected boolean isResultSetFastPathEnabled;
 
   @SuppressWarnings("rawtypes")
   protected final Map<String, PluginChainJdbcCallable> pluginChainFuncMap = new HashMap<>();
 
+  // Plugin chains for the methods of the wrapper classes, indexed by JdbcMethod.id and built on first use.
+  protected final PluginChain[] pluginChainsByMethodId = new PluginChain[JdbcMethod.count()];
+
+  // The shared template the plugins have been created from, or null if the plugin chain layouts of the
+  // template can't be used for the plugins.
+  protected @Nullable PluginChainTemplate pluginChainTemplate;
+
   public ConnectionPluginManager(
       final @NonNull ConnectionProvider defaultConnProvider,
       final @Nullable ConnectionProvider effectiveConnProvider,
@@ -152,10 +167,20 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
     this.plugins = plugins;
     this.connectionWrapper = connectionWrapper;
     this.telemetryFactory = telemetryFactory;
+    this.isResultSetFastPathEnabled = PropertyDefinition.ENABLE_RESULT_SET_FAST_PATH.getBoolean(props);
   }
 
   public void lock() {
     lock.lock();
+    if (this.pluginService instanceof PluginManagerService) {
+      // Availability changes held back by the plugin service are delivered while the connection is locked.
+      try {
+        ((PluginManagerService) this.pluginService).notifyPendingAvailabilityChanges();
+      } catch (final RuntimeException | Error e) {
+        lock.unlock();
+        throw e;
+      }
+    }
   }
 
   public void unlock() {
@@ -166,6 +191,35 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
     return lock.isHeldByCurrentThread();
   }
 
+  /**
+   * Returns a stamp to be validated by {@link #validateConnectionSwitchStamp(long)} after a method
+   * has been executed without holding the lock.
+   *
+   * @return the stamp; odd if a switch of the current connection is in progress
+   */
+  public long getConnectionSwitchStamp() {
+    return this.connectionSwitchCounter.get();
+  }
+
+  /**
+   * Checks that the current connection hasn't been switched since the given stamp was obtained.
+   *
+   * @param stamp the stamp returned by {@link #getConnectionSwitchStamp()}
+   * @return true if no switch of the current connection has begun or was in progress since the
+   *     stamp was obtained
+   */
+  public boolean validateConnectionSwitchStamp(final long stamp) {
+    return (stamp & 1) == 0 && this.connectionSwitchCounter.get() == stamp;
+  }
+
+  public void beginConnectionSwitch() {
+    this.connectionSwitchCounter.incrementAndGet();
+  }
+
+  public void endConnectionSwitch() {
+    this.connectionSwitchCounter.incrementAndGet();
+  }
+
   /**
    * Initialize a chain of {@link ConnectionPlugin} using their corresponding {@link
    * ConnectionPluginFactory}. If {@code PropertyDefinition.PLUGINS} is provided by the user,
@@ -190,15 +244,17 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
     this.props = props;
     this.pluginService = pluginService;
     this.telemetryFactory = pluginService.getTelemetryFactory();
+    this.isResultSetFastPathEnabled = PropertyDefinition.ENABLE_RESULT_SET_FAST_PATH.getBoolean(props);
 
     ConnectionPluginChainBuilder pluginChainBuilder = new ConnectionPluginChainBuilder();
-    this.plugins = pluginChainBuilder.getPlugins(
+    final PluginChainTemplate template = pluginChainBuilder.getPluginChainTemplate(props, configurationProfile);
+    this.plugins = template.createPlugins(
         this.pluginService,
         this.defaultConnProvider,
         this.effectiveConnProvider,
         pluginManagerService,
-        props,
-        configurationProfile);
+        props);
+    this.pluginChainTemplate = template.hasSameSubscriptions(this.plugins) ? template : null;
   }
 
   protected <T, E extends Exception> T executeWithSubscribedPlugins(
@@ -231,6 +287,131 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
   }
 
 
+  protected <T, E extends Exception> T executeWithSubscribedPlugins(
+      final JdbcMethod jdbcMethod,
+      final PluginPipeline<T, E> pluginPipeline,
+      final JdbcCallable<T, E> jdbcMethodFunc)
+      throws E {
+
+    if (pluginPipeline == null) {
+      throw new IllegalArgumentException("pluginPipeline");
+    }
+
+    if (jdbcMethodFunc == null) {
+      throw new IllegalArgumentException("jdbcMethodFunc");
+    }
+
+    PluginChain pluginChain = this.pluginChainsByMethodId[jdbcMethod.id];
+
+    if (pluginChain == null) {
+      pluginChain = this.makePluginChain(jdbcMethod);
+      this.pluginChainsByMethodId[jdbcMethod.id] = pluginChain;
+    }
+
+    if (pluginChain.plugins.length == 0) {
+      throw new RuntimeException("Error processing this JDBC call.");
+    }
+
+    return this.executePluginChain(pluginChain, 0, pluginPipeline, jdbcMethodFunc);
+  }
+
+  /**
+   * Checks whether a call to the given method may skip the plugin pipeline and be invoked on the
+   * target driver object directly. This is only allowed if {@link
+   * PropertyDefinition#ENABLE_RESULT_SET_FAST_PATH} is enabled and no plugin other than the {@link
+   * DefaultConnectionPlugin} is subscribed to the method. Such calls are not locked, traced or
+   * checked against the current connection.
+   *
+   * @param jdbcMethod the method about to be invoked
+   * @return true if the method may be invoked on the target driver object directly
+   */
+  public boolean canBypassPlugins(final JdbcMethod jdbcMethod) {
+    if (!this.isResultSetFastPathEnabled) {
+      return false;
+    }
+
+    PluginChain pluginChain = this.pluginChainsByMethodId[jdbcMethod.id];
+    if (pluginChain == null) {
+      pluginChain = this.makePluginChain(jdbcMethod);
+      this.pluginChainsByMethodId[jdbcMethod.id] = pluginChain;
+    }
+    return pluginChain.isDefaultPluginOnly;
+  }
+
+  protected <T, E extends Exception> T executePluginChain(
+      final @NonNull PluginChain pluginChain,
+      final int pluginIndex,
+      final @NonNull PluginPipeline<T, E> pluginPipeline,
+      final @NonNull JdbcCallable<T, E> jdbcMethodFunc)
+      throws E {
+
+    final TelemetryContext context = telemetryFactory.openTelemetryContext(
+        pluginChain.pluginNames[pluginIndex], TelemetryTraceLevel.NESTED);
+    try {
+      final ConnectionPlugin plugin = pluginChain.plugins[pluginIndex];
+      if (pluginIndex == pluginChain.plugins.length - 1) {
+        return pluginPipeline.call(plugin, jdbcMethodFunc);
+      }
+      return pluginPipeline.call(
+          plugin,
+          () -> this.executePluginChain(pluginChain, pluginIndex + 1, pluginPipeline, jdbcMethodFunc));
+    } finally {
+      context.closeContext();
+    }
+  }
+
+  /**
+   * Builds the plugin chain of the given method. The layout of the chain is taken from the shared
+   * plugin chain template if the template has one, otherwise it's built and added to the template.
+   */
+  protected @NonNull PluginChain makePluginChain(final @NonNull JdbcMethod jdbcMethod) {
+    final PluginChainTemplate template = this.pluginChainTemplate;
+    if (template == null) {
+      return this.makePluginChain(jdbcMethod.methodName);
+    }
+
+    PluginChainTemplate.ChainLayout layout = template.getLayout(jdbcMethod);
+    if (layout == null) {
+      final PluginChain pluginChain = this.makePluginChain(jdbcMethod.methodName);
+      final int[] pluginIndexes = new int[pluginChain.plugins.length];
+      int pluginIndex = 0;
+      for (int i = 0; i < pluginIndexes.length; i++) {
+        // Chain plugins are in the order of the plugins of the connection.
+        while (this.plugins.get(pluginIndex) != pluginChain.plugins[i]) {
+          pluginIndex++;
+        }
+        pluginIndexes[i] = pluginIndex;
+      }
+      template.setLayout(jdbcMethod, new PluginChainTemplate.ChainLayout(pluginIndexes, pluginChain.pluginNames));
+      return pluginChain;
+    }
+
+    final ConnectionPlugin[] chainPlugins = new ConnectionPlugin[layout.pluginIndexes.length];
+    for (int i = 0; i < chainPlugins.length; i++) {
+      chainPlugins[i] = this.plugins.get(layout.pluginIndexes[i]);
+    }
+    return new PluginChain(chainPlugins, layout.pluginNames);
+  }
+
+  protected @NonNull PluginChain makePluginChain(final @NonNull String methodName) {
+    final List<ConnectionPlugin> subscribedPlugins = new ArrayList<>();
+    for (final ConnectionPlugin plugin : this.plugins) {
+      final Set<String> pluginSubscribedMethods = plugin.getSubscribedMethods();
+      if (pluginSubscribedMethods.contains(ALL_METHODS)
+          || pluginSubscribedMethods.contains(methodName)) {
+        subscribedPlugins.add(plugin);
+      }
+    }
+
+    final ConnectionPlugin[] chainPlugins = subscribedPlugins.toArray(new ConnectionPlugin[0]);
+    final String[] chainPluginNames = new String[chainPlugins.length];
+    for (int i = 0; i < chainPlugins.length; i++) {
+      chainPluginNames[i] = pluginNameByClass.getOrDefault(
+          chainPlugins[i].getClass(), chainPlugins[i].getClass().getSimpleName());
+    }
+    return new PluginChain(chainPlugins, chainPluginNames);
+  }
+
   protected <T, E extends Exception> T executeWithTelemetry(
       final @NonNull JdbcCallable<T, E> execution,
       final @NonNull String pluginName) throws E {
@@ -315,27 +496,105 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
       final Object[] jdbcMethodArgs)
       throws E {
 
-    // The target driver may block on Statement.getConnection().
+    this.checkInvokedAgainstCurrentConnection(exceptionClass, methodInvokeOn, methodName);
+
+    return executeWithSubscribedPlugins(
+        methodName,
+        (plugin, func) ->
+            plugin.execute(
+                resultType, exceptionClass, methodInvokeOn, methodName, func, jdbcMethodArgs),
+        jdbcMethodFunc);
+  }
+
+  public <T, E extends Exception> T execute(
+      final Class<T> resultType,
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    final String methodName = jdbcMethod.methodName;
+    this.checkInvokedAgainstCurrentConnection(exceptionClass, methodInvokeOn, methodName);
+
+    return executeWithSubscribedPlugins(
+        jdbcMethod,
+        (plugin, func) ->
+            plugin.execute(
+                resultType, exceptionClass, methodInvokeOn, methodName, func, jdbcMethodArgs),
+        jdbcMethodFunc);
+  }
+
+  /**
+   * Executes a JDBC method through the plugin chain. The given bound connection is the physical
+   * connection that the object the method is invoked on has been created with, so it doesn't need to
+   * be fetched from the target driver object.
+   */
+  public <T, E extends Exception> T execute(
+      final Class<T> resultType,
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final @Nullable Connection boundConnection,
+      final JdbcMethod jdbcMethod,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    final String methodName = jdbcMethod.methodName;
     if (!AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)) {
-      final Connection conn = WrapperUtils.getConnectionFromSqlObject(methodInvokeOn);
-      if (conn != null
-          && conn != this.pluginService.getCurrentConnection()
-          && !sqlMethodAnalyzer.isMethodClosingSqlObject(methodName)) {
-        throw WrapperUtils.wrapExceptionIfNeeded(
-            exceptionClass,
-            new SQLException(
-                Messages.get("ConnectionPluginManager.invokedAgainstOldConnection", new Object[] {methodInvokeOn})));
-      }
+      this.checkBoundConnection(exceptionClass, methodInvokeOn, boundConnection, methodName);
     }
 
     return executeWithSubscribedPlugins(
-        methodName,
+        jdbcMethod,
         (plugin, func) ->
             plugin.execute(
                 resultType, exceptionClass, methodInvokeOn, methodName, func, jdbcMethodArgs),
         jdbcMethodFunc);
   }
 
+  /**
+   * Checks that a JDBC object isn't used with an old connection after the current connection has
+   * been switched. The connection of the object is fetched from the target driver object.
+   */
+  public <E extends Exception> void checkInvokedAgainstCurrentConnection(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName)
+      throws E {
+
+    // The target driver may block on Statement.getConnection().
+    if (!AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)) {
+      final Connection conn = WrapperUtils.getConnectionFromSqlObject(methodInvokeOn);
+      this.checkBoundConnection(exceptionClass, methodInvokeOn, conn, methodName);
+    }
+  }
+
+  /**
+   * Checks that a JDBC object bound to the given connection isn't used with an old connection after
+   * the current connection has been switched.
+   */
+  public <E extends Exception> void checkBoundConnection(
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final @Nullable Connection boundConnection,
+      final String methodName)
+      throws E {
+
+    // The bound connection is recorded when the object is wrapped. Calls against objects that have
+    // been closed since then are allowed, just like for objects that were never bound.
+    if (boundConnection != null
+        && boundConnection != this.pluginService.getCurrentConnection()
+        && !sqlMethodAnalyzer.isMethodClosingSqlObject(methodName)
+        && !WrapperUtils.isSqlObjectClosed(methodInvokeOn)) {
+      throw WrapperUtils.wrapExceptionIfNeeded(
+          exceptionClass,
+          new SQLException(
+              Messages.get("ConnectionPluginManager.invokedAgainstOldConnection", new Object[] {methodInvokeOn})));
+    }
+  }
+
   /**
    * Establishes a connection to the given host using the given driver protocol and properties. If a
    * non-default {@link ConnectionProvider} has been set with
@@ -616,6 +875,19 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
     T call(final @NonNull ConnectionPlugin plugin, final @Nullable JdbcCallable<T, E> jdbcMethodFunc) throws E;
   }
 
+  protected static final class PluginChain {
+
+    private final ConnectionPlugin[] plugins;
+    private final String[] pluginNames;
+    private final boolean isDefaultPluginOnly;
+
+    PluginChain(final ConnectionPlugin[] plugins, final String[] pluginNames) {
+      this.plugins = plugins;
+      this.pluginNames = pluginNames;
+      this.isDefaultPluginOnly = plugins.length == 1 && plugins[0] instanceof DefaultConnectionPlugin;
+    }
+  }
+
   private interface PluginChainJdbcCallable<T, E extends Exception> {
 
     T call(final @NonNull PluginPipeline<T, E> pipelineFunc, final @NonNull JdbcCallable<T, E> jdbcMethodFunc) throws E;
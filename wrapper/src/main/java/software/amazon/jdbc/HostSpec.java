@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import software.amazon.jdbc.hostavailability.HostAvailability;
 import software.amazon.jdbc.hostavailability.HostAvailabilityStrategy;
 import software.amazon.jdbc.util.StringUtils;
@@ -35,6 +36,9 @@ public class HostSpec {
 
   public static final int NO_PORT = -1;
   public static final long DEFAULT_WEIGHT = 100;
+  // Incremented when the availability of any host changes, so indexes of available hosts can tell
+  // that they may be out of date without checking each host.
+  private static final AtomicLong availabilityVersion = new AtomicLong();
 
   protected final String host;
   protected final int port;
@@ -119,10 +123,23 @@ public class HostSpec {
   }
 
   public void setAvailability(final HostAvailability availability) {
+    final HostAvailability previousAvailability = this.availability;
     this.availability = availability;
     if (this.hostAvailabilityStrategy != null) {
       this.hostAvailabilityStrategy.setHostAvailability(availability);
     }
+    if (previousAvailability != availability) {
+      availabilityVersion.incrementAndGet();
+    }
+  }
+
+  /**
+   * Returns a version that is increased whenever the availability of any host changes.
+   *
+   * @return the availability version.
+   */
+  public static long getAvailabilityVersion() {
+    return availabilityVersion.get();
   }
 
   public HostAvailabilityStrategy getHostAvailabilityStrategy() {
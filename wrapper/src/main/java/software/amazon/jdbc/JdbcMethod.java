@@ -0,0 +1,713 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import java.sql.ResultSet;
+
+/**
+ * JDBC methods intercepted by the wrapper classes in {@link software.amazon.jdbc.wrapper}.
+ *
+ * <p>Each method is assigned a dense integer identifier (see {@link #id}) so that per-connection
+ * plugin chains can be looked up by array index rather than by hashing the method name on every
+ * call. Plugins keep subscribing to methods by their {@link #methodName}.
+ *
+ * <p>Scalar {@link ResultSet} getters, {@link ResultSet#wasNull()} and
+ * {@link ResultSet#findColumn(String)} only read rows already fetched by the target driver, so they
+ * don't need to hold the connection lock. Getters that may do I/O or create driver objects, such as
+ * stream, LOB and object getters, and metadata methods keep the lock. See
+ * {@link #shouldLockConnection}.
+ */
+public enum JdbcMethod {
+  CONNECTION_ABORT("Connection.abort"),
+  CONNECTION_CLEARWARNINGS("Connection.clearWarnings"),
+  CONNECTION_CLOSE("Connection.close"),
+  CONNECTION_COMMIT("Connection.commit"),
+  CONNECTION_CREATEARRAYOF("Connection.createArrayOf"),
+  CONNECTION_CREATEBLOB("Connection.createBlob"),
+  CONNECTION_CREATECLOB("Connection.createClob"),
+  CONNECTION_CREATENCLOB("Connection.createNClob"),
+  CONNECTION_CREATESQLXML("Connection.createSQLXML"),
+  CONNECTION_CREATESTATEMENT("Connection.createStatement"),
+  CONNECTION_CREATESTRUCT("Connection.createStruct"),
+  CONNECTION_GETAUTOCOMMIT("Connection.getAutoCommit"),
+  CONNECTION_GETCATALOG("Connection.getCatalog"),
+  CONNECTION_GETCLIENTINFO("Connection.getClientInfo"),
+  CONNECTION_GETHOLDABILITY("Connection.getHoldability"),
+  CONNECTION_GETMETADATA("Connection.getMetaData"),
+  CONNECTION_GETNETWORKTIMEOUT("Connection.getNetworkTimeout"),
+  CONNECTION_GETSCHEMA("Connection.getSchema"),
+  CONNECTION_GETTRANSACTIONISOLATION("Connection.getTransactionIsolation"),
+  CONNECTION_GETTYPEMAP("Connection.getTypeMap"),
+  CONNECTION_GETWARNINGS("Connection.getWarnings"),
+  CONNECTION_ISCLOSED("Connection.isClosed"),
+  CONNECTION_ISREADONLY("Connection.isReadOnly"),
+  CONNECTION_ISVALID("Connection.isValid"),
+  CONNECTION_NATIVESQL("Connection.nativeSQL"),
+  CONNECTION_PREPARECALL("Connection.prepareCall"),
+  CONNECTION_PREPARESTATEMENT("Connection.prepareStatement"),
+  CONNECTION_RELEASESAVEPOINT("Connection.releaseSavepoint"),
+  CONNECTION_ROLLBACK("Connection.rollback"),
+  CONNECTION_SETAUTOCOMMIT("Connection.setAutoCommit"),
+  CONNECTION_SETCATALOG("Connection.setCatalog"),
+  CONNECTION_SETCLIENTINFO("Connection.setClientInfo"),
+  CONNECTION_SETHOLDABILITY("Connection.setHoldability"),
+  CONNECTION_SETNETWORKTIMEOUT("Connection.setNetworkTimeout"),
+  CONNECTION_SETREADONLY("Connection.setReadOnly"),
+  CONNECTION_SETSAVEPOINT("Connection.setSavepoint"),
+  CONNECTION_SETSCHEMA("Connection.setSchema"),
+  CONNECTION_SETTRANSACTIONISOLATION("Connection.setTransactionIsolation"),
+  CONNECTION_SETTYPEMAP("Connection.setTypeMap"),
+
+  STATEMENT_ADDBATCH("Statement.addBatch"),
+  STATEMENT_CANCEL("Statement.cancel"),
+  STATEMENT_CLEARBATCH("Statement.clearBatch"),
+  STATEMENT_CLEARWARNINGS("Statement.clearWarnings"),
+  STATEMENT_CLOSE("Statement.close"),
+  STATEMENT_CLOSEONCOMPLETION("Statement.closeOnCompletion"),
+  STATEMENT_EXECUTE("Statement.execute"),
+  STATEMENT_EXECUTEBATCH("Statement.executeBatch"),
+  STATEMENT_EXECUTEQUERY("Statement.executeQuery"),
+  STATEMENT_EXECUTEUPDATE("Statement.executeUpdate"),
+  STATEMENT_GETCONNECTION("Statement.getConnection"),
+  STATEMENT_GETFETCHDIRECTION("Statement.getFetchDirection"),
+  STATEMENT_GETFETCHSIZE("Statement.getFetchSize"),
+  STATEMENT_GETGENERATEDKEYS("Statement.getGeneratedKeys"),
+  STATEMENT_GETMAXFIELDSIZE("Statement.getMaxFieldSize"),
+  STATEMENT_GETMAXROWS("Statement.getMaxRows"),
+  STATEMENT_GETMORERESULTS("Statement.getMoreResults"),
+  STATEMENT_GETQUERYTIMEOUT("Statement.getQueryTimeout"),
+  STATEMENT_GETRESULTSET("Statement.getResultSet"),
+  STATEMENT_GETRESULTSETCONCURRENCY("Statement.getResultSetConcurrency"),
+  STATEMENT_GETRESULTSETHOLDABILITY("Statement.getResultSetHoldability"),
+  STATEMENT_GETRESULTSETTYPE("Statement.getResultSetType"),
+  STATEMENT_GETUPDATECOUNT("Statement.getUpdateCount"),
+  STATEMENT_GETWARNINGS("Statement.getWarnings"),
+  STATEMENT_ISCLOSEONCOMPLETION("Statement.isCloseOnCompletion"),
+  STATEMENT_ISCLOSED("Statement.isClosed"),
+  STATEMENT_ISPOOLABLE("Statement.isPoolable"),
+  STATEMENT_SETCURSORNAME("Statement.setCursorName"),
+  STATEMENT_SETESCAPEPROCESSING("Statement.setEscapeProcessing"),
+  STATEMENT_SETFETCHDIRECTION("Statement.setFetchDirection"),
+  STATEMENT_SETFETCHSIZE("Statement.setFetchSize"),
+  STATEMENT_SETMAXFIELDSIZE("Statement.setMaxFieldSize"),
+  STATEMENT_SETMAXROWS("Statement.setMaxRows"),
+  STATEMENT_SETPOOLABLE("Statement.setPoolable"),
+  STATEMENT_SETQUERYTIMEOUT("Statement.setQueryTimeout"),
+
+  PREPAREDSTATEMENT_ADDBATCH("PreparedStatement.addBatch"),
+  PREPAREDSTATEMENT_CANCEL("PreparedStatement.cancel"),
+  PREPAREDSTATEMENT_CLEARBATCH("PreparedStatement.clearBatch"),
+  PREPAREDSTATEMENT_CLEARPARAMETERS("PreparedStatement.clearParameters"),
+  PREPAREDSTATEMENT_CLEARWARNINGS("PreparedStatement.clearWarnings"),
+  PREPAREDSTATEMENT_CLOSE("PreparedStatement.close"),
+  PREPAREDSTATEMENT_CLOSEONCOMPLETION("PreparedStatement.closeOnCompletion"),
+  PREPAREDSTATEMENT_EXECUTE("PreparedStatement.execute"),
+  PREPAREDSTATEMENT_EXECUTEBATCH("PreparedStatement.executeBatch"),
+  PREPAREDSTATEMENT_EXECUTELARGEUPDATE("PreparedStatement.executeLargeUpdate"),
+  PREPAREDSTATEMENT_EXECUTEQUERY("PreparedStatement.executeQuery"),
+  PREPAREDSTATEMENT_EXECUTEUPDATE("PreparedStatement.executeUpdate"),
+  PREPAREDSTATEMENT_GETCONNECTION("PreparedStatement.getConnection"),
+  PREPAREDSTATEMENT_GETFETCHDIRECTION("PreparedStatement.getFetchDirection"),
+  PREPAREDSTATEMENT_GETFETCHSIZE("PreparedStatement.getFetchSize"),
+  PREPAREDSTATEMENT_GETGENERATEDKEYS("PreparedStatement.getGeneratedKeys"),
+  PREPAREDSTATEMENT_GETMAXFIELDSIZE("PreparedStatement.getMaxFieldSize"),
+  PREPAREDSTATEMENT_GETMAXROWS("PreparedStatement.getMaxRows"),
+  PREPAREDSTATEMENT_GETMETADATA("PreparedStatement.getMetaData"),
+  PREPAREDSTATEMENT_GETMORERESULTS("PreparedStatement.getMoreResults"),
+  PREPAREDSTATEMENT_GETPARAMETERMETADATA("PreparedStatement.getParameterMetaData"),
+  PREPAREDSTATEMENT_GETQUERYTIMEOUT("PreparedStatement.getQueryTimeout"),
+  PREPAREDSTATEMENT_GETRESULTSET("PreparedStatement.getResultSet"),
+  PREPAREDSTATEMENT_GETRESULTSETCONCURRENCY("PreparedStatement.getResultSetConcurrency"),
+  PREPAREDSTATEMENT_GETRESULTSETHOLDABILITY("PreparedStatement.getResultSetHoldability"),
+  PREPAREDSTATEMENT_GETRESULTSETTYPE("PreparedStatement.getResultSetType"),
+  PREPAREDSTATEMENT_GETUPDATECOUNT("PreparedStatement.getUpdateCount"),
+  PREPAREDSTATEMENT_GETWARNINGS("PreparedStatement.getWarnings"),
+  PREPAREDSTATEMENT_ISCLOSEONCOMPLETION("PreparedStatement.isCloseOnCompletion"),
+  PREPAREDSTATEMENT_ISCLOSED("PreparedStatement.isClosed"),
+  PREPAREDSTATEMENT_ISPOOLABLE("PreparedStatement.isPoolable"),
+  PREPAREDSTATEMENT_SETARRAY("PreparedStatement.setArray"),
+  PREPAREDSTATEMENT_SETASCIISTREAM("PreparedStatement.setAsciiStream"),
+  PREPAREDSTATEMENT_SETBIGDECIMAL("PreparedStatement.setBigDecimal"),
+  PREPAREDSTATEMENT_SETBINARYSTREAM("PreparedStatement.setBinaryStream"),
+  PREPAREDSTATEMENT_SETBLOB("PreparedStatement.setBlob"),
+  PREPAREDSTATEMENT_SETBOOLEAN("PreparedStatement.setBoolean"),
+  PREPAREDSTATEMENT_SETBYTE("PreparedStatement.setByte"),
+  PREPAREDSTATEMENT_SETBYTES("PreparedStatement.setBytes"),
+  PREPAREDSTATEMENT_SETCHARACTERSTREAM("PreparedStatement.setCharacterStream"),
+  PREPAREDSTATEMENT_SETCLOB("PreparedStatement.setClob"),
+  PREPAREDSTATEMENT_SETCURSORNAME("PreparedStatement.setCursorName"),
+  PREPAREDSTATEMENT_SETDATE("PreparedStatement.setDate"),
+  PREPAREDSTATEMENT_SETDOUBLE("PreparedStatement.setDouble"),
+  PREPAREDSTATEMENT_SETESCAPEPROCESSING("PreparedStatement.setEscapeProcessing"),
+  PREPAREDSTATEMENT_SETFETCHDIRECTION("PreparedStatement.setFetchDirection"),
+  PREPAREDSTATEMENT_SETFETCHSIZE("PreparedStatement.setFetchSize"),
+  PREPAREDSTATEMENT_SETFLOAT("PreparedStatement.setFloat"),
+  PREPAREDSTATEMENT_SETINT("PreparedStatement.setInt"),
+  PREPAREDSTATEMENT_SETLONG("PreparedStatement.setLong"),
+  PREPAREDSTATEMENT_SETMAXFIELDSIZE("PreparedStatement.setMaxFieldSize"),
+  PREPAREDSTATEMENT_SETMAXROWS("PreparedStatement.setMaxRows"),
+  PREPAREDSTATEMENT_SETNCHARACTERSTREAM("PreparedStatement.setNCharacterStream"),
+  PREPAREDSTATEMENT_SETNCLOB("PreparedStatement.setNClob"),
+  PREPAREDSTATEMENT_SETNSTRING("PreparedStatement.setNString"),
+  PREPAREDSTATEMENT_SETNULL("PreparedStatement.setNull"),
+  PREPAREDSTATEMENT_SETOBJECT("PreparedStatement.setObject"),
+  PREPAREDSTATEMENT_SETPOOLABLE("PreparedStatement.setPoolable"),
+  PREPAREDSTATEMENT_SETQUERYTIMEOUT("PreparedStatement.setQueryTimeout"),
+  PREPAREDSTATEMENT_SETREF("PreparedStatement.setRef"),
+  PREPAREDSTATEMENT_SETROWID("PreparedStatement.setRowId"),
+  PREPAREDSTATEMENT_SETSQLXML("PreparedStatement.setSQLXML"),
+  PREPAREDSTATEMENT_SETSHORT("PreparedStatement.setShort"),
+  PREPAREDSTATEMENT_SETSTRING("PreparedStatement.setString"),
+  PREPAREDSTATEMENT_SETTIME("PreparedStatement.setTime"),
+  PREPAREDSTATEMENT_SETTIMESTAMP("PreparedStatement.setTimestamp"),
+  PREPAREDSTATEMENT_SETURL("PreparedStatement.setURL"),
+  PREPAREDSTATEMENT_SETUNICODESTREAM("PreparedStatement.setUnicodeStream"),
+
+  CALLABLESTATEMENT_ADDBATCH("CallableStatement.addBatch"),
+  CALLABLESTATEMENT_CANCEL("CallableStatement.cancel"),
+  CALLABLESTATEMENT_CLEARBATCH("CallableStatement.clearBatch"),
+  CALLABLESTATEMENT_CLEARPARAMETERS("CallableStatement.clearParameters"),
+  CALLABLESTATEMENT_CLEARWARNINGS("CallableStatement.clearWarnings"),
+  CALLABLESTATEMENT_CLOSE("CallableStatement.close"),
+  CALLABLESTATEMENT_CLOSEONCOMPLETION("CallableStatement.closeOnCompletion"),
+  CALLABLESTATEMENT_EXECUTE("CallableStatement.execute"),
+  CALLABLESTATEMENT_EXECUTEBATCH("CallableStatement.executeBatch"),
+  CALLABLESTATEMENT_EXECUTELARGEUPDATE("CallableStatement.executeLargeUpdate"),
+  CALLABLESTATEMENT_EXECUTEQUERY("CallableStatement.executeQuery"),
+  CALLABLESTATEMENT_EXECUTEUPDATE("CallableStatement.executeUpdate"),
+  CALLABLESTATEMENT_GETARRAY("CallableStatement.getArray"),
+  CALLABLESTATEMENT_GETBIGDECIMAL("CallableStatement.getBigDecimal"),
+  CALLABLESTATEMENT_GETBLOB("CallableStatement.getBlob"),
+  CALLABLESTATEMENT_GETBOOLEAN("CallableStatement.getBoolean"),
+  CALLABLESTATEMENT_GETBYTE("CallableStatement.getByte"),
+  CALLABLESTATEMENT_GETBYTES("CallableStatement.getBytes"),
+  CALLABLESTATEMENT_GETCHARACTERSTREAM("CallableStatement.getCharacterStream"),
+  CALLABLESTATEMENT_GETCLOB("CallableStatement.getClob"),
+  CALLABLESTATEMENT_GETCONNECTION("CallableStatement.getConnection"),
+  CALLABLESTATEMENT_GETDATE("CallableStatement.getDate"),
+  CALLABLESTATEMENT_GETDOUBLE("CallableStatement.getDouble"),
+  CALLABLESTATEMENT_GETFETCHDIRECTION("CallableStatement.getFetchDirection"),
+  CALLABLESTATEMENT_GETFETCHSIZE("CallableStatement.getFetchSize"),
+  CALLABLESTATEMENT_GETFLOAT("CallableStatement.getFloat"),
+  CALLABLESTATEMENT_GETGENERATEDKEYS("CallableStatement.getGeneratedKeys"),
+  CALLABLESTATEMENT_GETINT("CallableStatement.getInt"),
+  CALLABLESTATEMENT_GETLONG("CallableStatement.getLong"),
+  CALLABLESTATEMENT_GETMAXFIELDSIZE("CallableStatement.getMaxFieldSize"),
+  CALLABLESTATEMENT_GETMAXROWS("CallableStatement.getMaxRows"),
+  CALLABLESTATEMENT_GETMETADATA("CallableStatement.getMetaData"),
+  CALLABLESTATEMENT_GETMORERESULTS("CallableStatement.getMoreResults"),
+  CALLABLESTATEMENT_GETNCHARACTERSTREAM("CallableStatement.getNCharacterStream"),
+  CALLABLESTATEMENT_GETNCLOB("CallableStatement.getNClob"),
+  CALLABLESTATEMENT_GETNSTRING("CallableStatement.getNString"),
+  CALLABLESTATEMENT_GETOBJECT("CallableStatement.getObject"),
+  CALLABLESTATEMENT_GETPARAMETERMETADATA("CallableStatement.getParameterMetaData"),
+  CALLABLESTATEMENT_GETQUERYTIMEOUT("CallableStatement.getQueryTimeout"),
+  CALLABLESTATEMENT_GETREF("CallableStatement.getRef"),
+  CALLABLESTATEMENT_GETRESULTSET("CallableStatement.getResultSet"),
+  CALLABLESTATEMENT_GETRESULTSETCONCURRENCY("CallableStatement.getResultSetConcurrency"),
+  CALLABLESTATEMENT_GETRESULTSETHOLDABILITY("CallableStatement.getResultSetHoldability"),
+  CALLABLESTATEMENT_GETRESULTSETTYPE("CallableStatement.getResultSetType"),
+  CALLABLESTATEMENT_GETROWID("CallableStatement.getRowId"),
+  CALLABLESTATEMENT_GETSQLXML("CallableStatement.getSQLXML"),
+  CALLABLESTATEMENT_GETSHORT("CallableStatement.getShort"),
+  CALLABLESTATEMENT_GETSTRING("CallableStatement.getString"),
+  CALLABLESTATEMENT_GETTIME("CallableStatement.getTime"),
+  CALLABLESTATEMENT_GETTIMESTAMP("CallableStatement.getTimestamp"),
+  CALLABLESTATEMENT_GETURL("CallableStatement.getURL"),
+  CALLABLESTATEMENT_GETUPDATECOUNT("CallableStatement.getUpdateCount"),
+  CALLABLESTATEMENT_GETWARNINGS("CallableStatement.getWarnings"),
+  CALLABLESTATEMENT_ISCLOSEONCOMPLETION("CallableStatement.isCloseOnCompletion"),
+  CALLABLESTATEMENT_ISCLOSED("CallableStatement.isClosed"),
+  CALLABLESTATEMENT_ISPOOLABLE("CallableStatement.isPoolable"),
+  CALLABLESTATEMENT_REGISTEROUTPARAMETER("CallableStatement.registerOutParameter"),
+  CALLABLESTATEMENT_SETARRAY("CallableStatement.setArray"),
+  CALLABLESTATEMENT_SETASCIISTREAM("CallableStatement.setAsciiStream"),
+  CALLABLESTATEMENT_SETBIGDECIMAL("CallableStatement.setBigDecimal"),
+  CALLABLESTATEMENT_SETBINARYSTREAM("CallableStatement.setBinaryStream"),
+  CALLABLESTATEMENT_SETBLOB("CallableStatement.setBlob"),
+  CALLABLESTATEMENT_SETBOOLEAN("CallableStatement.setBoolean"),
+  CALLABLESTATEMENT_SETBYTE("CallableStatement.setByte"),
+  CALLABLESTATEMENT_SETBYTES("CallableStatement.setBytes"),
+  CALLABLESTATEMENT_SETCHARACTERSTREAM("CallableStatement.setCharacterStream"),
+  CALLABLESTATEMENT_SETCLOB("CallableStatement.setClob"),
+  CALLABLESTATEMENT_SETCURSORNAME("CallableStatement.setCursorName"),
+  CALLABLESTATEMENT_SETDATE("CallableStatement.setDate"),
+  CALLABLESTATEMENT_SETDOUBLE("CallableStatement.setDouble"),
+  CALLABLESTATEMENT_SETESCAPEPROCESSING("CallableStatement.setEscapeProcessing"),
+  CALLABLESTATEMENT_SETFETCHDIRECTION("CallableStatement.setFetchDirection"),
+  CALLABLESTATEMENT_SETFETCHSIZE("CallableStatement.setFetchSize"),
+  CALLABLESTATEMENT_SETFLOAT("CallableStatement.setFloat"),
+  CALLABLESTATEMENT_SETINT("CallableStatement.setInt"),
+  CALLABLESTATEMENT_SETLONG("CallableStatement.setLong"),
+  CALLABLESTATEMENT_SETMAXFIELDSIZE("CallableStatement.setMaxFieldSize"),
+  CALLABLESTATEMENT_SETMAXROWS("CallableStatement.setMaxRows"),
+  CALLABLESTATEMENT_SETNCHARACTERSTREAM("CallableStatement.setNCharacterStream"),
+  CALLABLESTATEMENT_SETNCLOB("CallableStatement.setNClob"),
+  CALLABLESTATEMENT_SETNSTRING("CallableStatement.setNString"),
+  CALLABLESTATEMENT_SETNULL("CallableStatement.setNull"),
+  CALLABLESTATEMENT_SETOBJECT("CallableStatement.setObject"),
+  CALLABLESTATEMENT_SETPOOLABLE("CallableStatement.setPoolable"),
+  CALLABLESTATEMENT_SETQUERYTIMEOUT("CallableStatement.setQueryTimeout"),
+  CALLABLESTATEMENT_SETREF("CallableStatement.setRef"),
+  CALLABLESTATEMENT_SETROWID("CallableStatement.setRowId"),
+  CALLABLESTATEMENT_SETSQLXML("CallableStatement.setSQLXML"),
+  CALLABLESTATEMENT_SETSHORT("CallableStatement.setShort"),
+  CALLABLESTATEMENT_SETSTRING("CallableStatement.setString"),
+  CALLABLESTATEMENT_SETTIME("CallableStatement.setTime"),
+  CALLABLESTATEMENT_SETTIMESTAMP("CallableStatement.setTimestamp"),
+  CALLABLESTATEMENT_SETURL("CallableStatement.setURL"),
+  CALLABLESTATEMENT_SETUNICODESTREAM("CallableStatement.setUnicodeStream"),
+  CALLABLESTATEMENT_WASNULL("CallableStatement.wasNull"),
+
+  RESULTSET_ABSOLUTE("ResultSet.absolute"),
+  RESULTSET_AFTERLAST("ResultSet.afterLast"),
+  RESULTSET_BEFOREFIRST("ResultSet.beforeFirst"),
+  RESULTSET_CANCELROWUPDATES("ResultSet.cancelRowUpdates"),
+  RESULTSET_CLEARWARNINGS("ResultSet.clearWarnings"),
+  RESULTSET_CLOSE("ResultSet.close"),
+  RESULTSET_DELETEROW("ResultSet.deleteRow"),
+  RESULTSET_FINDCOLUMN("ResultSet.findColumn", false),
+  RESULTSET_FIRST("ResultSet.first"),
+  RESULTSET_GETARRAY("ResultSet.getArray"),
+  RESULTSET_GETASCIISTREAM("ResultSet.getAsciiStream"),
+  RESULTSET_GETBIGDECIMAL("ResultSet.getBigDecimal"),
+  RESULTSET_GETBINARYSTREAM("ResultSet.getBinaryStream"),
+  RESULTSET_GETBLOB("ResultSet.getBlob"),
+  RESULTSET_GETBOOLEAN("ResultSet.getBoolean", false),
+  RESULTSET_GETBYTE("ResultSet.getByte", false),
+  RESULTSET_GETBYTES("ResultSet.getBytes"),
+  RESULTSET_GETCHARACTERSTREAM("ResultSet.getCharacterStream"),
+  RESULTSET_GETCLOB("ResultSet.getClob"),
+  RESULTSET_GETCONCURRENCY("ResultSet.getConcurrency"),
+  RESULTSET_GETCURSORNAME("ResultSet.getCursorName"),
+  RESULTSET_GETDATE("ResultSet.getDate"),
+  RESULTSET_GETDOUBLE("ResultSet.getDouble", false),
+  RESULTSET_GETFETCHDIRECTION("ResultSet.getFetchDirection"),
+  RESULTSET_GETFETCHSIZE("ResultSet.getFetchSize"),
+  RESULTSET_GETFLOAT("ResultSet.getFloat", false),
+  RESULTSET_GETHOLDABILITY("ResultSet.getHoldability"),
+  RESULTSET_GETINT("ResultSet.getInt", false),
+  RESULTSET_GETLONG("ResultSet.getLong", false),
+  RESULTSET_GETMETADATA("ResultSet.getMetaData"),
+  RESULTSET_GETNCHARACTERSTREAM("ResultSet.getNCharacterStream"),
+  RESULTSET_GETNCLOB("ResultSet.getNClob"),
+  RESULTSET_GETNSTRING("ResultSet.getNString", false),
+  RESULTSET_GETOBJECT("ResultSet.getObject"),
+  RESULTSET_GETREF("ResultSet.getRef"),
+  RESULTSET_GETROW("ResultSet.getRow"),
+  RESULTSET_GETROWID("ResultSet.getRowId"),
+  RESULTSET_GETSQLXML("ResultSet.getSQLXML"),
+  RESULTSET_GETSHORT("ResultSet.getShort", false),
+  RESULTSET_GETSTATEMENT("ResultSet.getStatement"),
+  RESULTSET_GETSTRING("ResultSet.getString", false),
+  RESULTSET_GETTIME("ResultSet.getTime"),
+  RESULTSET_GETTIMESTAMP("ResultSet.getTimestamp"),
+  RESULTSET_GETTYPE("ResultSet.getType"),
+  RESULTSET_GETURL("ResultSet.getURL"),
+  RESULTSET_GETUNICODESTREAM("ResultSet.getUnicodeStream"),
+  RESULTSET_GETWARNINGS("ResultSet.getWarnings"),
+  RESULTSET_INSERTROW("ResultSet.insertRow"),
+  RESULTSET_ISAFTERLAST("ResultSet.isAfterLast"),
+  RESULTSET_ISBEFOREFIRST("ResultSet.isBeforeFirst"),
+  RESULTSET_ISCLOSED("ResultSet.isClosed"),
+  RESULTSET_ISFIRST("ResultSet.isFirst"),
+  RESULTSET_ISLAST("ResultSet.isLast"),
+  RESULTSET_LAST("ResultSet.last"),
+  RESULTSET_MOVETOCURRENTROW("ResultSet.moveToCurrentRow"),
+  RESULTSET_MOVETOINSERTROW("ResultSet.moveToInsertRow"),
+  RESULTSET_NEXT("ResultSet.next"),
+  RESULTSET_PREVIOUS("ResultSet.previous"),
+  RESULTSET_REFRESHROW("ResultSet.refreshRow"),
+  RESULTSET_RELATIVE("ResultSet.relative"),
+  RESULTSET_ROWDELETED("ResultSet.rowDeleted"),
+  RESULTSET_ROWINSERTED("ResultSet.rowInserted"),
+  RESULTSET_ROWUPDATED("ResultSet.rowUpdated"),
+  RESULTSET_SETFETCHDIRECTION("ResultSet.setFetchDirection"),
+  RESULTSET_SETFETCHSIZE("ResultSet.setFetchSize"),
+  RESULTSET_UPDATEARRAY("ResultSet.updateArray"),
+  RESULTSET_UPDATEASCIISTREAM("ResultSet.updateAsciiStream"),
+  RESULTSET_UPDATEBIGDECIMAL("ResultSet.updateBigDecimal"),
+  RESULTSET_UPDATEBINARYSTREAM("ResultSet.updateBinaryStream"),
+  RESULTSET_UPDATEBLOB("ResultSet.updateBlob"),
+  RESULTSET_UPDATEBOOLEAN("ResultSet.updateBoolean"),
+  RESULTSET_UPDATEBYTE("ResultSet.updateByte"),
+  RESULTSET_UPDATEBYTES("ResultSet.updateBytes"),
+  RESULTSET_UPDATECHARACTERSTREAM("ResultSet.updateCharacterStream"),
+  RESULTSET_UPDATECLOB("ResultSet.updateClob"),
+  RESULTSET_UPDATEDATE("ResultSet.updateDate"),
+  RESULTSET_UPDATEDOUBLE("ResultSet.updateDouble"),
+  RESULTSET_UPDATEFLOAT("ResultSet.updateFloat"),
+  RESULTSET_UPDATEINT("ResultSet.updateInt"),
+  RESULTSET_UPDATELONG("ResultSet.updateLong"),
+  RESULTSET_UPDATENCHARACTERSTREAM("ResultSet.updateNCharacterStream"),
+  RESULTSET_UPDATENCLOB("ResultSet.updateNClob"),
+  RESULTSET_UPDATENSTRING("ResultSet.updateNString"),
+  RESULTSET_UPDATENULL("ResultSet.updateNull"),
+  RESULTSET_UPDATEOBJECT("ResultSet.updateObject"),
+  RESULTSET_UPDATEREF("ResultSet.updateRef"),
+  RESULTSET_UPDATEROW("ResultSet.updateRow"),
+  RESULTSET_UPDATEROWID("ResultSet.updateRowId"),
+  RESULTSET_UPDATESQLXML("ResultSet.updateSQLXML"),
+  RESULTSET_UPDATESHORT("ResultSet.updateShort"),
+  RESULTSET_UPDATESTRING("ResultSet.updateString"),
+  RESULTSET_UPDATETIME("ResultSet.updateTime"),
+  RESULTSET_UPDATETIMESTAMP("ResultSet.updateTimestamp"),
+  RESULTSET_WASNULL("ResultSet.wasNull", false),
+
+  RESULTSETMETADATA_GETCATALOGNAME("ResultSetMetaData.getCatalogName"),
+  RESULTSETMETADATA_GETCOLUMNCLASSNAME("ResultSetMetaData.getColumnClassName"),
+  RESULTSETMETADATA_GETCOLUMNCOUNT("ResultSetMetaData.getColumnCount"),
+  RESULTSETMETADATA_GETCOLUMNDISPLAYSIZE("ResultSetMetaData.getColumnDisplaySize"),
+  RESULTSETMETADATA_GETCOLUMNLABEL("ResultSetMetaData.getColumnLabel"),
+  RESULTSETMETADATA_GETCOLUMNNAME("ResultSetMetaData.getColumnName"),
+  RESULTSETMETADATA_GETCOLUMNTYPE("ResultSetMetaData.getColumnType"),
+  RESULTSETMETADATA_GETCOLUMNTYPENAME("ResultSetMetaData.getColumnTypeName"),
+  RESULTSETMETADATA_GETPRECISION("ResultSetMetaData.getPrecision"),
+  RESULTSETMETADATA_GETSCALE("ResultSetMetaData.getScale"),
+  RESULTSETMETADATA_GETSCHEMANAME("ResultSetMetaData.getSchemaName"),
+  RESULTSETMETADATA_GETTABLENAME("ResultSetMetaData.getTableName"),
+  RESULTSETMETADATA_ISAUTOINCREMENT("ResultSetMetaData.isAutoIncrement"),
+  RESULTSETMETADATA_ISCASESENSITIVE("ResultSetMetaData.isCaseSensitive"),
+  RESULTSETMETADATA_ISCURRENCY("ResultSetMetaData.isCurrency"),
+  RESULTSETMETADATA_ISDEFINITELYWRITABLE("ResultSetMetaData.isDefinitelyWritable"),
+  RESULTSETMETADATA_ISNULLABLE("ResultSetMetaData.isNullable"),
+  RESULTSETMETADATA_ISREADONLY("ResultSetMetaData.isReadOnly"),
+  RESULTSETMETADATA_ISSEARCHABLE("ResultSetMetaData.isSearchable"),
+  RESULTSETMETADATA_ISSIGNED("ResultSetMetaData.isSigned"),
+  RESULTSETMETADATA_ISWRITABLE("ResultSetMetaData.isWritable"),
+
+  DATABASEMETADATA_ALLPROCEDURESARECALLABLE("DatabaseMetaData.allProceduresAreCallable"),
+  DATABASEMETADATA_ALLTABLESARESELECTABLE("DatabaseMetaData.allTablesAreSelectable"),
+  DATABASEMETADATA_AUTOCOMMITFAILURECLOSESALLRESULTSETS("DatabaseMetaData.autoCommitFailureClosesAllResultSets"),
+  DATABASEMETADATA_DATADEFINITIONCAUSESTRANSACTIONCOMMIT("DatabaseMetaData.dataDefinitionCausesTransactionCommit"),
+  DATABASEMETADATA_DATADEFINITIONIGNOREDINTRANSACTIONS("DatabaseMetaData.dataDefinitionIgnoredInTransactions"),
+  DATABASEMETADATA_DELETESAREDETECTED("DatabaseMetaData.deletesAreDetected"),
+  DATABASEMETADATA_DOESMAXROWSIZEINCLUDEBLOBS("DatabaseMetaData.doesMaxRowSizeIncludeBlobs"),
+  DATABASEMETADATA_GENERATEDKEYALWAYSRETURNED("DatabaseMetaData.generatedKeyAlwaysReturned"),
+  DATABASEMETADATA_GETATTRIBUTES("DatabaseMetaData.getAttributes"),
+  DATABASEMETADATA_GETBESTROWIDENTIFIER("DatabaseMetaData.getBestRowIdentifier"),
+  DATABASEMETADATA_GETCATALOGSEPARATOR("DatabaseMetaData.getCatalogSeparator"),
+  DATABASEMETADATA_GETCATALOGTERM("DatabaseMetaData.getCatalogTerm"),
+  DATABASEMETADATA_GETCATALOGS("DatabaseMetaData.getCatalogs"),
+  DATABASEMETADATA_GETCLIENTINFOPROPERTIES("DatabaseMetaData.getClientInfoProperties"),
+  DATABASEMETADATA_GETCOLUMNPRIVILEGES("DatabaseMetaData.getColumnPrivileges"),
+  DATABASEMETADATA_GETCOLUMNS("DatabaseMetaData.getColumns"),
+  DATABASEMETADATA_GETCONNECTION("DatabaseMetaData.getConnection"),
+  DATABASEMETADATA_GETCROSSREFERENCE("DatabaseMetaData.getCrossReference"),
+  DATABASEMETADATA_GETDATABASEMAJORVERSION("DatabaseMetaData.getDatabaseMajorVersion"),
+  DATABASEMETADATA_GETDATABASEMINORVERSION("DatabaseMetaData.getDatabaseMinorVersion"),
+  DATABASEMETADATA_GETDATABASEPRODUCTNAME("DatabaseMetaData.getDatabaseProductName"),
+  DATABASEMETADATA_GETDATABASEPRODUCTVERSION("DatabaseMetaData.getDatabaseProductVersion"),
+  DATABASEMETADATA_GETDEFAULTTRANSACTIONISOLATION("DatabaseMetaData.getDefaultTransactionIsolation"),
+  DATABASEMETADATA_GETDRIVERNAME("DatabaseMetaData.getDriverName"),
+  DATABASEMETADATA_GETEXPORTEDKEYS("DatabaseMetaData.getExportedKeys"),
+  DATABASEMETADATA_GETEXTRANAMECHARACTERS("DatabaseMetaData.getExtraNameCharacters"),
+  DATABASEMETADATA_GETFUNCTIONCOLUMNS("DatabaseMetaData.getFunctionColumns"),
+  DATABASEMETADATA_GETFUNCTIONS("DatabaseMetaData.getFunctions"),
+  DATABASEMETADATA_GETIDENTIFIERQUOTESTRING("DatabaseMetaData.getIdentifierQuoteString"),
+  DATABASEMETADATA_GETIMPORTEDKEYS("DatabaseMetaData.getImportedKeys"),
+  DATABASEMETADATA_GETINDEXINFO("DatabaseMetaData.getIndexInfo"),
+  DATABASEMETADATA_GETJDBCMAJORVERSION("DatabaseMetaData.getJDBCMajorVersion"),
+  DATABASEMETADATA_GETJDBCMINORVERSION("DatabaseMetaData.getJDBCMinorVersion"),
+  DATABASEMETADATA_GETMAXBINARYLITERALLENGTH("DatabaseMetaData.getMaxBinaryLiteralLength"),
+  DATABASEMETADATA_GETMAXCATALOGNAMELENGTH("DatabaseMetaData.getMaxCatalogNameLength"),
+  DATABASEMETADATA_GETMAXCHARLITERALLENGTH("DatabaseMetaData.getMaxCharLiteralLength"),
+  DATABASEMETADATA_GETMAXCOLUMNNAMELENGTH("DatabaseMetaData.getMaxColumnNameLength"),
+  DATABASEMETADATA_GETMAXCOLUMNSINGROUPBY("DatabaseMetaData.getMaxColumnsInGroupBy"),
+  DATABASEMETADATA_GETMAXCOLUMNSININDEX("DatabaseMetaData.getMaxColumnsInIndex"),
+  DATABASEMETADATA_GETMAXCOLUMNSINORDERBY("DatabaseMetaData.getMaxColumnsInOrderBy"),
+  DATABASEMETADATA_GETMAXCOLUMNSINSELECT("DatabaseMetaData.getMaxColumnsInSelect"),
+  DATABASEMETADATA_GETMAXCOLUMNSINTABLE("DatabaseMetaData.getMaxColumnsInTable"),
+  DATABASEMETADATA_GETMAXCONNECTIONS("DatabaseMetaData.getMaxConnections"),
+  DATABASEMETADATA_GETMAXCURSORNAMELENGTH("DatabaseMetaData.getMaxCursorNameLength"),
+  DATABASEMETADATA_GETMAXINDEXLENGTH("DatabaseMetaData.getMaxIndexLength"),
+  DATABASEMETADATA_GETMAXLOGICALLOBSIZE("DatabaseMetaData.getMaxLogicalLobSize"),
+  DATABASEMETADATA_GETMAXPROCEDURENAMELENGTH("DatabaseMetaData.getMaxProcedureNameLength"),
+  DATABASEMETADATA_GETMAXROWSIZE("DatabaseMetaData.getMaxRowSize"),
+  DATABASEMETADATA_GETMAXSCHEMANAMELENGTH("DatabaseMetaData.getMaxSchemaNameLength"),
+  DATABASEMETADATA_GETMAXSTATEMENTLENGTH("DatabaseMetaData.getMaxStatementLength"),
+  DATABASEMETADATA_GETMAXSTATEMENTS("DatabaseMetaData.getMaxStatements"),
+  DATABASEMETADATA_GETMAXTABLENAMELENGTH("DatabaseMetaData.getMaxTableNameLength"),
+  DATABASEMETADATA_GETMAXTABLESINSELECT("DatabaseMetaData.getMaxTablesInSelect"),
+  DATABASEMETADATA_GETMAXUSERNAMELENGTH("DatabaseMetaData.getMaxUserNameLength"),
+  DATABASEMETADATA_GETNUMERICFUNCTIONS("DatabaseMetaData.getNumericFunctions"),
+  DATABASEMETADATA_GETPRIMARYKEYS("DatabaseMetaData.getPrimaryKeys"),
+  DATABASEMETADATA_GETPROCEDURECOLUMNS("DatabaseMetaData.getProcedureColumns"),
+  DATABASEMETADATA_GETPROCEDURETERM("DatabaseMetaData.getProcedureTerm"),
+  DATABASEMETADATA_GETPROCEDURES("DatabaseMetaData.getProcedures"),
+  DATABASEMETADATA_GETPSEUDOCOLUMNS("DatabaseMetaData.getPseudoColumns"),
+  DATABASEMETADATA_GETRESULTSETHOLDABILITY("DatabaseMetaData.getResultSetHoldability"),
+  DATABASEMETADATA_GETROWIDLIFETIME("DatabaseMetaData.getRowIdLifetime"),
+  DATABASEMETADATA_GETSQLKEYWORDS("DatabaseMetaData.getSQLKeywords"),
+  DATABASEMETADATA_GETSQLSTATETYPE("DatabaseMetaData.getSQLStateType"),
+  DATABASEMETADATA_GETSCHEMATERM("DatabaseMetaData.getSchemaTerm"),
+  DATABASEMETADATA_GETSCHEMAS("DatabaseMetaData.getSchemas"),
+  DATABASEMETADATA_GETSEARCHSTRINGESCAPE("DatabaseMetaData.getSearchStringEscape"),
+  DATABASEMETADATA_GETSTRINGFUNCTIONS("DatabaseMetaData.getStringFunctions"),
+  DATABASEMETADATA_GETSUPERTABLES("DatabaseMetaData.getSuperTables"),
+  DATABASEMETADATA_GETSUPERTYPES("DatabaseMetaData.getSuperTypes"),
+  DATABASEMETADATA_GETSYSTEMFUNCTIONS("DatabaseMetaData.getSystemFunctions"),
+  DATABASEMETADATA_GETTABLEPRIVILEGES("DatabaseMetaData.getTablePrivileges"),
+  DATABASEMETADATA_GETTABLETYPES("DatabaseMetaData.getTableTypes"),
+  DATABASEMETADATA_GETTABLES("DatabaseMetaData.getTables"),
+  DATABASEMETADATA_GETTIMEDATEFUNCTIONS("DatabaseMetaData.getTimeDateFunctions"),
+  DATABASEMETADATA_GETTYPEINFO("DatabaseMetaData.getTypeInfo"),
+  DATABASEMETADATA_GETUDTS("DatabaseMetaData.getUDTs"),
+  DATABASEMETADATA_GETURL("DatabaseMetaData.getURL"),
+  DATABASEMETADATA_GETUSERNAME("DatabaseMetaData.getUserName"),
+  DATABASEMETADATA_GETVERSIONCOLUMNS("DatabaseMetaData.getVersionColumns"),
+  DATABASEMETADATA_INSERTSAREDETECTED("DatabaseMetaData.insertsAreDetected"),
+  DATABASEMETADATA_ISCATALOGATSTART("DatabaseMetaData.isCatalogAtStart"),
+  DATABASEMETADATA_ISREADONLY("DatabaseMetaData.isReadOnly"),
+  DATABASEMETADATA_LOCATORSUPDATECOPY("DatabaseMetaData.locatorsUpdateCopy"),
+  DATABASEMETADATA_NULLPLUSNONNULLISNULL("DatabaseMetaData.nullPlusNonNullIsNull"),
+  DATABASEMETADATA_NULLSARESORTEDATEND("DatabaseMetaData.nullsAreSortedAtEnd"),
+  DATABASEMETADATA_NULLSARESORTEDATSTART("DatabaseMetaData.nullsAreSortedAtStart"),
+  DATABASEMETADATA_NULLSARESORTEDHIGH("DatabaseMetaData.nullsAreSortedHigh"),
+  DATABASEMETADATA_NULLSARESORTEDLOW("DatabaseMetaData.nullsAreSortedLow"),
+  DATABASEMETADATA_OTHERSDELETESAREVISIBLE("DatabaseMetaData.othersDeletesAreVisible"),
+  DATABASEMETADATA_OTHERSINSERTSAREVISIBLE("DatabaseMetaData.othersInsertsAreVisible"),
+  DATABASEMETADATA_OTHERSUPDATESAREVISIBLE("DatabaseMetaData.othersUpdatesAreVisible"),
+  DATABASEMETADATA_OWNDELETESAREVISIBLE("DatabaseMetaData.ownDeletesAreVisible"),
+  DATABASEMETADATA_OWNINSERTSAREVISIBLE("DatabaseMetaData.ownInsertsAreVisible"),
+  DATABASEMETADATA_OWNUPDATESAREVISIBLE("DatabaseMetaData.ownUpdatesAreVisible"),
+  DATABASEMETADATA_STORESLOWERCASEIDENTIFIERS("DatabaseMetaData.storesLowerCaseIdentifiers"),
+  DATABASEMETADATA_STORESLOWERCASEQUOTEDIDENTIFIERS("DatabaseMetaData.storesLowerCaseQuotedIdentifiers"),
+  DATABASEMETADATA_STORESMIXEDCASEIDENTIFIERS("DatabaseMetaData.storesMixedCaseIdentifiers"),
+  DATABASEMETADATA_STORESMIXEDCASEQUOTEDIDENTIFIERS("DatabaseMetaData.storesMixedCaseQuotedIdentifiers"),
+  DATABASEMETADATA_STORESUPPERCASEIDENTIFIERS("DatabaseMetaData.storesUpperCaseIdentifiers"),
+  DATABASEMETADATA_STORESUPPERCASEQUOTEDIDENTIFIERS("DatabaseMetaData.storesUpperCaseQuotedIdentifiers"),
+  DATABASEMETADATA_SUPPORTSANSI92ENTRYLEVELSQL("DatabaseMetaData.supportsANSI92EntryLevelSQL"),
+  DATABASEMETADATA_SUPPORTSANSI92FULLSQL("DatabaseMetaData.supportsANSI92FullSQL"),
+  DATABASEMETADATA_SUPPORTSANSI92INTERMEDIATESQL("DatabaseMetaData.supportsANSI92IntermediateSQL"),
+  DATABASEMETADATA_SUPPORTSALTERTABLEWITHADDCOLUMN("DatabaseMetaData.supportsAlterTableWithAddColumn"),
+  DATABASEMETADATA_SUPPORTSALTERTABLEWITHDROPCOLUMN("DatabaseMetaData.supportsAlterTableWithDropColumn"),
+  DATABASEMETADATA_SUPPORTSBATCHUPDATES("DatabaseMetaData.supportsBatchUpdates"),
+  DATABASEMETADATA_SUPPORTSCATALOGSINDATAMANIPULATION("DatabaseMetaData.supportsCatalogsInDataManipulation"),
+  DATABASEMETADATA_SUPPORTSCATALOGSININDEXDEFINITIONS("DatabaseMetaData.supportsCatalogsInIndexDefinitions"),
+  DATABASEMETADATA_SUPPORTSCATALOGSINPRIVILEGEDEFINITIONS("DatabaseMetaData.supportsCatalogsInPrivilegeDefinitions"),
+  DATABASEMETADATA_SUPPORTSCATALOGSINPROCEDURECALLS("DatabaseMetaData.supportsCatalogsInProcedureCalls"),
+  DATABASEMETADATA_SUPPORTSCATALOGSINTABLEDEFINITIONS("DatabaseMetaData.supportsCatalogsInTableDefinitions"),
+  DATABASEMETADATA_SUPPORTSCOLUMNALIASING("DatabaseMetaData.supportsColumnAliasing"),
+  DATABASEMETADATA_SUPPORTSCONVERT("DatabaseMetaData.supportsConvert"),
+  DATABASEMETADATA_SUPPORTSCORESQLGRAMMAR("DatabaseMetaData.supportsCoreSQLGrammar"),
+  DATABASEMETADATA_SUPPORTSCORRELATEDSUBQUERIES("DatabaseMetaData.supportsCorrelatedSubqueries"),
+  DATABASEMETADATA_SUPPORTSDATADEFINITIONANDDATAMANIPULATIONTRANSACTIONS(
+      "DatabaseMetaData.supportsDataDefinitionAndDataManipulationTransactions"),
+  DATABASEMETADATA_SUPPORTSDATAMANIPULATIONTRANSACTIONSONLY(
+      "DatabaseMetaData.supportsDataManipulationTransactionsOnly"),
+  DATABASEMETADATA_SUPPORTSDIFFERENTTABLECORRELATIONNAMES("DatabaseMetaData.supportsDifferentTableCorrelationNames"),
+  DATABASEMETADATA_SUPPORTSEXPRESSIONSINORDERBY("DatabaseMetaData.supportsExpressionsInOrderBy"),
+  DATABASEMETADATA_SUPPORTSEXTENDEDSQLGRAMMAR("DatabaseMetaData.supportsExtendedSQLGrammar"),
+  DATABASEMETADATA_SUPPORTSFULLOUTERJOINS("DatabaseMetaData.supportsFullOuterJoins"),
+  DATABASEMETADATA_SUPPORTSGETGENERATEDKEYS("DatabaseMetaData.supportsGetGeneratedKeys"),
+  DATABASEMETADATA_SUPPORTSGROUPBY("DatabaseMetaData.supportsGroupBy"),
+  DATABASEMETADATA_SUPPORTSGROUPBYBEYONDSELECT("DatabaseMetaData.supportsGroupByBeyondSelect"),
+  DATABASEMETADATA_SUPPORTSGROUPBYUNRELATED("DatabaseMetaData.supportsGroupByUnrelated"),
+  DATABASEMETADATA_SUPPORTSINTEGRITYENHANCEMENTFACILITY("DatabaseMetaData.supportsIntegrityEnhancementFacility"),
+  DATABASEMETADATA_SUPPORTSLIKEESCAPECLAUSE("DatabaseMetaData.supportsLikeEscapeClause"),
+  DATABASEMETADATA_SUPPORTSLIMITEDOUTERJOINS("DatabaseMetaData.supportsLimitedOuterJoins"),
+  DATABASEMETADATA_SUPPORTSMINIMUMSQLGRAMMAR("DatabaseMetaData.supportsMinimumSQLGrammar"),
+  DATABASEMETADATA_SUPPORTSMIXEDCASEIDENTIFIERS("DatabaseMetaData.supportsMixedCaseIdentifiers"),
+  DATABASEMETADATA_SUPPORTSMIXEDCASEQUOTEDIDENTIFIERS("DatabaseMetaData.supportsMixedCaseQuotedIdentifiers"),
+  DATABASEMETADATA_SUPPORTSMULTIPLEOPENRESULTS("DatabaseMetaData.supportsMultipleOpenResults"),
+  DATABASEMETADATA_SUPPORTSMULTIPLERESULTSETS("DatabaseMetaData.supportsMultipleResultSets"),
+  DATABASEMETADATA_SUPPORTSMULTIPLETRANSACTIONS("DatabaseMetaData.supportsMultipleTransactions"),
+  DATABASEMETADATA_SUPPORTSNAMEDPARAMETERS("DatabaseMetaData.supportsNamedParameters"),
+  DATABASEMETADATA_SUPPORTSNONNULLABLECOLUMNS("DatabaseMetaData.supportsNonNullableColumns"),
+  DATABASEMETADATA_SUPPORTSOPENCURSORSACROSSCOMMIT("DatabaseMetaData.supportsOpenCursorsAcrossCommit"),
+  DATABASEMETADATA_SUPPORTSOPENCURSORSACROSSROLLBACK("DatabaseMetaData.supportsOpenCursorsAcrossRollback"),
+  DATABASEMETADATA_SUPPORTSOPENSTATEMENTSACROSSCOMMIT("DatabaseMetaData.supportsOpenStatementsAcrossCommit"),
+  DATABASEMETADATA_SUPPORTSOPENSTATEMENTSACROSSROLLBACK("DatabaseMetaData.supportsOpenStatementsAcrossRollback"),
+  DATABASEMETADATA_SUPPORTSORDERBYUNRELATED("DatabaseMetaData.supportsOrderByUnrelated"),
+  DATABASEMETADATA_SUPPORTSOUTERJOINS("DatabaseMetaData.supportsOuterJoins"),
+  DATABASEMETADATA_SUPPORTSPOSITIONEDDELETE("DatabaseMetaData.supportsPositionedDelete"),
+  DATABASEMETADATA_SUPPORTSPOSITIONEDUPDATE("DatabaseMetaData.supportsPositionedUpdate"),
+  DATABASEMETADATA_SUPPORTSREFCURSORS("DatabaseMetaData.supportsRefCursors"),
+  DATABASEMETADATA_SUPPORTSRESULTSETCONCURRENCY("DatabaseMetaData.supportsResultSetConcurrency"),
+  DATABASEMETADATA_SUPPORTSRESULTSETHOLDABILITY("DatabaseMetaData.supportsResultSetHoldability"),
+  DATABASEMETADATA_SUPPORTSRESULTSETTYPE("DatabaseMetaData.supportsResultSetType"),
+  DATABASEMETADATA_SUPPORTSSAVEPOINTS("DatabaseMetaData.supportsSavepoints"),
+  DATABASEMETADATA_SUPPORTSSCHEMASINDATAMANIPULATION("DatabaseMetaData.supportsSchemasInDataManipulation"),
+  DATABASEMETADATA_SUPPORTSSCHEMASININDEXDEFINITIONS("DatabaseMetaData.supportsSchemasInIndexDefinitions"),
+  DATABASEMETADATA_SUPPORTSSCHEMASINPRIVILEGEDEFINITIONS("DatabaseMetaData.supportsSchemasInPrivilegeDefinitions"),
+  DATABASEMETADATA_SUPPORTSSCHEMASINPROCEDURECALLS("DatabaseMetaData.supportsSchemasInProcedureCalls"),
+  DATABASEMETADATA_SUPPORTSSCHEMASINTABLEDEFINITIONS("DatabaseMetaData.supportsSchemasInTableDefinitions"),
+  DATABASEMETADATA_SUPPORTSSELECTFORUPDATE("DatabaseMetaData.supportsSelectForUpdate"),
+  DATABASEMETADATA_SUPPORTSSTATEMENTPOOLING("DatabaseMetaData.supportsStatementPooling"),
+  DATABASEMETADATA_SUPPORTSSTOREDFUNCTIONSUSINGCALLSYNTAX("DatabaseMetaData.supportsStoredFunctionsUsingCallSyntax"),
+  DATABASEMETADATA_SUPPORTSSTOREDPROCEDURES("DatabaseMetaData.supportsStoredProcedures"),
+  DATABASEMETADATA_SUPPORTSSUBQUERIESINCOMPARISONS("DatabaseMetaData.supportsSubqueriesInComparisons"),
+  DATABASEMETADATA_SUPPORTSSUBQUERIESINEXISTS("DatabaseMetaData.supportsSubqueriesInExists"),
+  DATABASEMETADATA_SUPPORTSSUBQUERIESININS("DatabaseMetaData.supportsSubqueriesInIns"),
+  DATABASEMETADATA_SUPPORTSSUBQUERIESINQUANTIFIEDS("DatabaseMetaData.supportsSubqueriesInQuantifieds"),
+  DATABASEMETADATA_SUPPORTSTABLECORRELATIONNAMES("DatabaseMetaData.supportsTableCorrelationNames"),
+  DATABASEMETADATA_SUPPORTSTRANSACTIONISOLATIONLEVEL("DatabaseMetaData.supportsTransactionIsolationLevel"),
+  DATABASEMETADATA_SUPPORTSTRANSACTIONS("DatabaseMetaData.supportsTransactions"),
+  DATABASEMETADATA_SUPPORTSUNION("DatabaseMetaData.supportsUnion"),
+  DATABASEMETADATA_SUPPORTSUNIONALL("DatabaseMetaData.supportsUnionAll"),
+  DATABASEMETADATA_UPDATESAREDETECTED("DatabaseMetaData.updatesAreDetected"),
+  DATABASEMETADATA_USESLOCALFILEPERTABLE("DatabaseMetaData.usesLocalFilePerTable"),
+  DATABASEMETADATA_USESLOCALFILES("DatabaseMetaData.usesLocalFiles"),
+
+  PARAMETERMETADATA_GETPARAMETERCLASSNAME("ParameterMetaData.getParameterClassName"),
+  PARAMETERMETADATA_GETPARAMETERCOUNT("ParameterMetaData.getParameterCount"),
+  PARAMETERMETADATA_GETPARAMETERMODE("ParameterMetaData.getParameterMode"),
+  PARAMETERMETADATA_GETPARAMETERTYPE("ParameterMetaData.getParameterType"),
+  PARAMETERMETADATA_GETPARAMETERTYPENAME("ParameterMetaData.getParameterTypeName"),
+  PARAMETERMETADATA_GETPRECISION("ParameterMetaData.getPrecision"),
+  PARAMETERMETADATA_GETSCALE("ParameterMetaData.getScale"),
+  PARAMETERMETADATA_ISNULLABLE("ParameterMetaData.isNullable"),
+  PARAMETERMETADATA_ISSIGNED("ParameterMetaData.isSigned"),
+
+  ARRAY_FREE("Array.free"),
+  ARRAY_GETARRAY("Array.getArray"),
+  ARRAY_GETBASETYPE("Array.getBaseType"),
+  ARRAY_GETBASETYPENAME("Array.getBaseTypeName"),
+  ARRAY_GETRESULTSET("Array.getResultSet"),
+
+  BLOB_FREE("Blob.free"),
+  BLOB_GETBINARYSTREAM("Blob.getBinaryStream"),
+  BLOB_GETBYTES("Blob.getBytes"),
+  BLOB_LENGTH("Blob.length"),
+  BLOB_POSITION("Blob.position"),
+  BLOB_SETBINARYSTREAM("Blob.setBinaryStream"),
+  BLOB_SETBYTES("Blob.setBytes"),
+  BLOB_TRUNCATE("Blob.truncate"),
+
+  CLOB_FREE("Clob.free"),
+  CLOB_GETASCIISTREAM("Clob.getAsciiStream"),
+  CLOB_GETCHARACTERSTREAM("Clob.getCharacterStream"),
+  CLOB_GETSUBSTRING("Clob.getSubString"),
+  CLOB_LENGTH("Clob.length"),
+  CLOB_POSITION("Clob.position"),
+  CLOB_SETASCIISTREAM("Clob.setAsciiStream"),
+  CLOB_SETCHARACTERSTREAM("Clob.setCharacterStream"),
+  CLOB_SETSTRING("Clob.setString"),
+  CLOB_TRUNCATE("Clob.truncate"),
+
+  NCLOB_FREE("NClob.free"),
+  NCLOB_GETASCIISTREAM("NClob.getAsciiStream"),
+  NCLOB_GETCHARACTERSTREAM("NClob.getCharacterStream"),
+  NCLOB_GETSUBSTRING("NClob.getSubString"),
+  NCLOB_LENGTH("NClob.length"),
+  NCLOB_POSITION("NClob.position"),
+  NCLOB_SETASCIISTREAM("NClob.setAsciiStream"),
+  NCLOB_SETCHARACTERSTREAM("NClob.setCharacterStream"),
+  NCLOB_SETSTRING("NClob.setString"),
+  NCLOB_TRUNCATE("NClob.truncate"),
+
+  REF_GETBASETYPENAME("Ref.getBaseTypeName"),
+  REF_GETOBJECT("Ref.getObject"),
+  REF_SETOBJECT("Ref.setObject"),
+
+  SAVEPOINT_GETSAVEPOINTID("Savepoint.getSavepointId"),
+  SAVEPOINT_GETSAVEPOINTNAME("Savepoint.getSavepointName"),
+
+  SQLDATA_GETSQLTYPENAME("SQLData.getSQLTypeName"),
+  SQLDATA_READSQL("SQLData.readSQL"),
+  SQLDATA_WRITESQL("SQLData.writeSQL"),
+
+  SQLINPUT_READARRAY("SQLInput.readArray"),
+  SQLINPUT_READASCIISTREAM("SQLInput.readAsciiStream"),
+  SQLINPUT_READBIGDECIMAL("SQLInput.readBigDecimal"),
+  SQLINPUT_READBINARYSTREAM("SQLInput.readBinaryStream"),
+  SQLINPUT_READBLOB("SQLInput.readBlob"),
+  SQLINPUT_READBOOLEAN("SQLInput.readBoolean"),
+  SQLINPUT_READBYTE("SQLInput.readByte"),
+  SQLINPUT_READBYTES("SQLInput.readBytes"),
+  SQLINPUT_READCHARACTERSTREAM("SQLInput.readCharacterStream"),
+  SQLINPUT_READCLOB("SQLInput.readClob"),
+  SQLINPUT_READDATE("SQLInput.readDate"),
+  SQLINPUT_READDOUBLE("SQLInput.readDouble"),
+  SQLINPUT_READFLOAT("SQLInput.readFloat"),
+  SQLINPUT_READINT("SQLInput.readInt"),
+  SQLINPUT_READLONG("SQLInput.readLong"),
+  SQLINPUT_READNCLOB("SQLInput.readNClob"),
+  SQLINPUT_READNSTRING("SQLInput.readNString"),
+  SQLINPUT_READOBJECT("SQLInput.readObject"),
+  SQLINPUT_READREF("SQLInput.readRef"),
+  SQLINPUT_READROWID("SQLInput.readRowId"),
+  SQLINPUT_READSQLXML("SQLInput.readSQLXML"),
+  SQLINPUT_READSHORT("SQLInput.readShort"),
+  SQLINPUT_READSTRING("SQLInput.readString"),
+  SQLINPUT_READTIME("SQLInput.readTime"),
+  SQLINPUT_READTIMESTAMP("SQLInput.readTimestamp"),
+  SQLINPUT_READURL("SQLInput.readURL"),
+  SQLINPUT_WASNULL("SQLInput.wasNull"),
+
+  SQLOUTPUT_WRITEARRAY("SQLOutput.writeArray"),
+  SQLOUTPUT_WRITEASCIISTREAM("SQLOutput.writeAsciiStream"),
+  SQLOUTPUT_WRITEBIGDECIMAL("SQLOutput.writeBigDecimal"),
+  SQLOUTPUT_WRITEBINARYSTREAM("SQLOutput.writeBinaryStream"),
+  SQLOUTPUT_WRITEBLOB("SQLOutput.writeBlob"),
+  SQLOUTPUT_WRITEBOOLEAN("SQLOutput.writeBoolean"),
+  SQLOUTPUT_WRITEBYTE("SQLOutput.writeByte"),
+  SQLOUTPUT_WRITEBYTES("SQLOutput.writeBytes"),
+  SQLOUTPUT_WRITECHARACTERSTREAM("SQLOutput.writeCharacterStream"),
+  SQLOUTPUT_WRITECLOB("SQLOutput.writeClob"),
+  SQLOUTPUT_WRITEDATE("SQLOutput.writeDate"),
+  SQLOUTPUT_WRITEDOUBLE("SQLOutput.writeDouble"),
+  SQLOUTPUT_WRITEFLOAT("SQLOutput.writeFloat"),
+  SQLOUTPUT_WRITEINT("SQLOutput.writeInt"),
+  SQLOUTPUT_WRITELONG("SQLOutput.writeLong"),
+  SQLOUTPUT_WRITENCLOB("SQLOutput.writeNClob"),
+  SQLOUTPUT_WRITENSTRING("SQLOutput.writeNString"),
+  SQLOUTPUT_WRITEOBJECT("SQLOutput.writeObject"),
+  SQLOUTPUT_WRITEREF("SQLOutput.writeRef"),
+  SQLOUTPUT_WRITEROWID("SQLOutput.writeRowId"),
+  SQLOUTPUT_WRITESQLXML("SQLOutput.writeSQLXML"),
+  SQLOUTPUT_WRITESHORT("SQLOutput.writeShort"),
+  SQLOUTPUT_WRITESTRING("SQLOutput.writeString"),
+  SQLOUTPUT_WRITESTRUCT("SQLOutput.writeStruct"),
+  SQLOUTPUT_WRITETIME("SQLOutput.writeTime"),
+  SQLOUTPUT_WRITETIMESTAMP("SQLOutput.writeTimestamp"),
+  SQLOUTPUT_WRITEURL("SQLOutput.writeURL"),
+
+  SQLTYPE_GETNAME("SQLType.getName"),
+  SQLTYPE_GETVENDOR("SQLType.getVendor"),
+  SQLTYPE_GETVENDORTYPENUMBER("SQLType.getVendorTypeNumber"),
+
+  STRUCT_GETATTRIBUTES("Struct.getAttributes"),
+  STRUCT_GETSQLTYPENAME("Struct.getSQLTypeName");
+
+  private static final JdbcMethod[] ALL_METHODS = values();
+
+  public final String methodName;
+  public final int id;
+  public final boolean shouldLockConnection;
+
+  JdbcMethod(final String methodName) {
+    this(methodName, true);
+  }
+
+  JdbcMethod(final String methodName, final boolean shouldLockConnection) {
+    this.methodName = methodName;
+    this.id = this.ordinal();
+    this.shouldLockConnection = shouldLockConnection;
+  }
+
+  /**
+   * Returns the number of known JDBC methods. Method identifiers are in the range
+   * {@code [0, count())}.
+   *
+   * @return the number of known JDBC methods
+   */
+  public static int count() {
+    return ALL_METHODS.length;
+  }
+}
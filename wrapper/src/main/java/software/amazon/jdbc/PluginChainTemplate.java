@@ -0,0 +1,130 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.plugin.DefaultConnectionPlugin;
+
+/**
+ * The resolved plugin chain of a plugin configuration, shared by all connections with this
+ * configuration. It holds the sorted plugin factories, so creating a connection only creates the
+ * plugins of the connection. It also holds the layouts of the plugin chains of JDBC methods, built
+ * once from the subscriptions of the plugins of the first connection that executes a method.
+ *
+ * <p>Layouts are only used for plugins that return the same sets of subscribed methods as the
+ * plugins the template has been created with. Plugins that create their subscriptions per
+ * connection get their plugin chains built per connection.
+ */
+public final class PluginChainTemplate {
+
+  private final ConnectionPluginFactory[] factories;
+  private final AtomicReferenceArray<ChainLayout> layoutsByMethodId =
+      new AtomicReferenceArray<>(JdbcMethod.count());
+  // The subscriptions of the plugins the layouts are built from, set by the first connection.
+  private final AtomicReference<Set<String>[]> subscribedMethodsRef = new AtomicReference<>();
+
+  PluginChainTemplate(final ConnectionPluginFactory[] factories) {
+    this.factories = factories;
+  }
+
+  /**
+   * Creates the plugins of a connection. The {@link DefaultConnectionPlugin} is added to the tail
+   * of the list.
+   */
+  List<ConnectionPlugin> createPlugins(
+      final PluginService pluginService,
+      final ConnectionProvider defaultConnProvider,
+      final ConnectionProvider effectiveConnProvider,
+      final PluginManagerService pluginManagerService,
+      final Properties props) {
+
+    final List<ConnectionPlugin> plugins = new ArrayList<>(this.factories.length + 1);
+    for (final ConnectionPluginFactory factory : this.factories) {
+      plugins.add(factory.getInstance(pluginService, props));
+    }
+    plugins.add(new DefaultConnectionPlugin(
+        pluginService,
+        defaultConnProvider,
+        effectiveConnProvider,
+        pluginManagerService));
+    return plugins;
+  }
+
+  /**
+   * Checks whether the plugin chain layouts of this template can be used for the given plugins.
+   *
+   * @param plugins the plugins of a connection created by {@link #createPlugins}
+   * @return true if the plugins are subscribed to the same methods as the plugins the layouts are
+   *     built from
+   */
+  @SuppressWarnings("unchecked")
+  boolean hasSameSubscriptions(final List<ConnectionPlugin> plugins) {
+    Set<String>[] subscribedMethods = this.subscribedMethodsRef.get();
+    if (subscribedMethods == null) {
+      final Set<String>[] pluginSubscribedMethods = new Set[plugins.size()];
+      for (int i = 0; i < pluginSubscribedMethods.length; i++) {
+        pluginSubscribedMethods[i] = plugins.get(i).getSubscribedMethods();
+      }
+      if (this.subscribedMethodsRef.compareAndSet(null, pluginSubscribedMethods)) {
+        return true;
+      }
+      subscribedMethods = this.subscribedMethodsRef.get();
+    }
+
+    if (subscribedMethods.length != plugins.size()) {
+      return false;
+    }
+    for (int i = 0; i < subscribedMethods.length; i++) {
+      if (subscribedMethods[i] != plugins.get(i).getSubscribedMethods()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the layout of the plugin chain of the given method, or null if it hasn't been built
+   * yet. Layouts are immutable, so they can be shared by connections.
+   */
+  @Nullable ChainLayout getLayout(final JdbcMethod jdbcMethod) {
+    return this.layoutsByMethodId.get(jdbcMethod.id);
+  }
+
+  void setLayout(final JdbcMethod jdbcMethod, final ChainLayout layout) {
+    this.layoutsByMethodId.compareAndSet(jdbcMethod.id, null, layout);
+  }
+
+  /**
+   * The plugins of a plugin chain, as indexes of the plugins of a connection, and their names.
+   */
+  static final class ChainLayout {
+
+    final int[] pluginIndexes;
+    final String[] pluginNames;
+
+    ChainLayout(final int[] pluginIndexes, final String[] pluginNames) {
+      this.pluginIndexes = pluginIndexes;
+      this.pluginNames = pluginNames;
+    }
+  }
+}
@@ -19,4 +19,13 @@ package software.amazon.jdbc;
 public interface PluginManagerService {
 
   void setInTransaction(boolean inTransaction);
+
+  /**
+   * Delivers availability changes that have been held back, either to limit the rate of
+   * notifications or because they were made by a thread that doesn't hold the connection lock.
+   * Called on the thread of the connection while the connection is locked.
+   */
+  default void notifyPendingAvailabilityChanges() {
+    // do nothing
+  }
 }
@@ -23,6 +23,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -45,6 +46,8 @@ import software.amazon.jdbc.exceptions.ExceptionManager;
 import software.amazon.jdbc.hostavailability.HostAvailability;
 import software.amazon.jdbc.hostavailability.HostAvailabilityStrategyFactory;
 import software.amazon.jdbc.hostlistprovider.StaticHostListProvider;
+import software.amazon.jdbc.hostlistprovider.TopologyChangeNotifier;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.profile.ConfigurationProfile;
 import software.amazon.jdbc.states.SessionStateService;
 import software.amazon.jdbc.states.SessionStateServiceImpl;
@@ -60,6 +63,11 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
   protected static final long DEFAULT_HOST_AVAILABILITY_CACHE_EXPIRE_NANO = TimeUnit.MINUTES.toNanos(5);
 
   protected static final CacheMap<String, HostAvailability> hostAvailabilityExpiringCache = new CacheMap<>();
+
+  // Plugins are notified of availability changes at most once per window. Changes made within the
+  // window after a notification are merged and delivered together on a thread of this connection,
+  // by the next change made after the window or by the next call that locks the connection.
+  protected static final long AVAILABILITY_NOTIFICATION_WINDOW_NANO = TimeUnit.MILLISECONDS.toNanos(100);
   protected final ConnectionPluginManager pluginManager;
   private final Properties props;
   private final String originalUrl;
@@ -81,6 +89,17 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
 
   protected final ReentrantLock connectionSwitchLock = new ReentrantLock();
 
+  // The snapshot of the current host list. Rebuilt when the host list is replaced by a list that
+  // isn't the host list of a snapshot.
+  private volatile @Nullable TopologySnapshot topologySnapshot;
+
+  // Guards the availability changes that haven't been delivered to plugins yet.
+  private final ReentrantLock availabilityNotificationLock = new ReentrantLock();
+  private Map<String, EnumSet<NodeChangeOptions>> pendingAvailabilityChanges = new HashMap<>();
+  private long lastAvailabilityNotificationTimeNano;
+  private boolean isAvailabilityNotificationSent;
+  private volatile boolean hasPendingAvailabilityChanges;
+
   public PluginServiceImpl(
       @NonNull final ConnectionPluginManager pluginManager,
       @NonNull final Properties props,
@@ -164,7 +183,7 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
         if (this.getHosts().isEmpty()) {
           throw new RuntimeException(Messages.get("PluginServiceImpl.hostListEmpty"));
         }
-        this.currentHostSpec = this.getWriter(this.getHosts());
+        this.currentHostSpec = this.getTopologySnapshot().getWriter();
         if (this.currentHostSpec == null) {
           this.currentHostSpec = this.getHosts().get(0);
         }
@@ -201,15 +220,6 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
     return this.hostListProvider.getHostRole(conn);
   }
 
-  private HostSpec getWriter(final @NonNull List<HostSpec> hosts) {
-    for (final HostSpec hostSpec : hosts) {
-      if (hostSpec.getRole() == HostRole.WRITER) {
-        return hostSpec;
-      }
-    }
-    return null;
-  }
-
   @Override
   public ConnectionProvider getConnectionProvider() {
     return this.pluginManager.defaultConnProvider;
@@ -259,6 +269,11 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
 
           final Connection oldConnection = this.currentConnection;
           final boolean isInTransaction = this.isInTransaction;
+          // Nested switches happen within the outermost one and must not reset the switch in progress.
+          final boolean isOutermostSwitch = connectionSwitchLock.getHoldCount() == 1;
+          if (isOutermostSwitch) {
+            this.pluginManager.beginConnectionSwitch();
+          }
           this.sessionStateService.begin();
 
           try {
@@ -299,6 +314,9 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
             }
           } finally {
             this.sessionStateService.complete();
+            if (isOutermostSwitch) {
+              this.pluginManager.endConnectionSwitch();
+            }
           }
         }
         return changes;
@@ -370,11 +388,7 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
       return;
     }
 
-    final List<HostSpec> hostsToChange = this.getHosts().stream()
-        .filter((host) -> hostAliases.contains(host.asAlias())
-            || host.getAliases().stream().anyMatch(hostAliases::contains))
-        .distinct()
-        .collect(Collectors.toList());
+    final Set<HostSpec> hostsToChange = this.getHostsByAliases(hostAliases);
 
     if (hostsToChange.isEmpty()) {
       LOGGER.finest(() -> Messages.get("PluginServiceImpl.hostsChangelistEmpty"));
@@ -398,11 +412,112 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
       }
     }
 
+    if (!changes.isEmpty()) {
+      this.notifyAvailabilityChanged(changes);
+    }
+  }
+
+  /**
+   * Finds the hosts of the current host list that have any of the given aliases.
+   *
+   * @param hostAliases the aliases to look up.
+   * @return the matching hosts.
+   */
+  protected Set<HostSpec> getHostsByAliases(final @NonNull Set<String> hostAliases) {
+    final TopologySnapshot snapshot = this.getTopologySnapshot();
+    final Set<HostSpec> result = new LinkedHashSet<>();
+    for (final String alias : hostAliases) {
+      for (final HostSpec host : snapshot.getHostsByAlias(alias)) {
+        // Aliases can be removed from a host after the snapshot is built.
+        if (host.asAliases().contains(alias)) {
+          result.add(host);
+        }
+      }
+    }
+
+    if (result.isEmpty()) {
+      // Aliases can also be added to a host after the snapshot is built.
+      for (final HostSpec host : snapshot.getHosts()) {
+        for (final String alias : hostAliases) {
+          if (host.asAliases().contains(alias)) {
+            result.add(host);
+            break;
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  protected TopologySnapshot getTopologySnapshot() {
+    final List<HostSpec> currentHosts = this.getHosts();
+    TopologySnapshot snapshot = this.topologySnapshot;
+    if (snapshot == null || !snapshot.isSnapshotOf(currentHosts)) {
+      snapshot = TopologySnapshot.of(currentHosts);
+      this.topologySnapshot = snapshot;
+    }
+    return snapshot;
+  }
+
+  /**
+   * Notifies plugins of availability changes. Plugins are only notified right away if the calling
+   * thread holds the lock of the connection and they haven't been notified within the last
+   * notification window. Otherwise, for example when the change is made by a failover or monitoring
+   * thread, the changes are merged with other pending changes and delivered together by
+   * {@link #notifyPendingAvailabilityChanges()} when the connection is locked next.
+   *
+   * @param changes the availability changes by host URL.
+   */
+  protected void notifyAvailabilityChanged(final Map<String, EnumSet<NodeChangeOptions>> changes) {
+    final long currentTimeNano = System.nanoTime();
+    final Map<String, EnumSet<NodeChangeOptions>> changesToDeliver;
+    this.availabilityNotificationLock.lock();
+    try {
+      // The latest change of a host replaces its earlier changes.
+      this.pendingAvailabilityChanges.putAll(changes);
+      if (!this.pluginManager.isHeldByCurrentThread()
+          || (this.isAvailabilityNotificationSent
+          && currentTimeNano - this.lastAvailabilityNotificationTimeNano < AVAILABILITY_NOTIFICATION_WINDOW_NANO)) {
+        this.hasPendingAvailabilityChanges = true;
+        return;
+      }
+      changesToDeliver = this.takePendingAvailabilityChanges(currentTimeNano);
+    } finally {
+      this.availabilityNotificationLock.unlock();
+    }
+
+    this.pluginManager.notifyNodeListChanged(changesToDeliver);
+  }
+
+  @Override
+  public void notifyPendingAvailabilityChanges() {
+    if (!this.hasPendingAvailabilityChanges) {
+      return;
+    }
+
+    final Map<String, EnumSet<NodeChangeOptions>> changes;
+    this.availabilityNotificationLock.lock();
+    try {
+      changes = this.takePendingAvailabilityChanges(System.nanoTime());
+    } finally {
+      this.availabilityNotificationLock.unlock();
+    }
+
     if (!changes.isEmpty()) {
       this.pluginManager.notifyNodeListChanged(changes);
     }
   }
 
+  // Must be called with availabilityNotificationLock held.
+  private Map<String, EnumSet<NodeChangeOptions>> takePendingAvailabilityChanges(final long currentTimeNano) {
+    final Map<String, EnumSet<NodeChangeOptions>> changes = this.pendingAvailabilityChanges;
+    this.pendingAvailabilityChanges = new HashMap<>();
+    this.hasPendingAvailabilityChanges = false;
+    this.isAvailabilityNotificationSent = true;
+    this.lastAvailabilityNotificationTimeNano = currentTimeNano;
+    return changes;
+  }
+
   @Override
   public boolean isInTransaction() {
     return this.isInTransaction;
@@ -489,8 +604,16 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
     }
 
     if (!changes.isEmpty()) {
-      this.hosts = newHosts != null ? newHosts : new ArrayList<>();
+      this.hosts = newHosts != null ? TopologySnapshot.of(newHosts).getHosts() : new ArrayList<>();
       this.pluginManager.notifyNodeListChanged(changes);
+
+      for (final EnumSet<NodeChangeOptions> hostChanges : changes.values()) {
+        if (hostChanges.contains(NodeChangeOptions.PROMOTED_TO_WRITER)) {
+          // Wake up writer failover processes of other connections waiting for a new writer.
+          TopologyChangeNotifier.get(this.getHostListProvider()).notifyWriterChanged();
+          break;
+        }
+      }
     }
   }
 
@@ -529,6 +652,14 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
   public void releaseResources() {
     LOGGER.fine(() -> Messages.get("PluginServiceImpl.releaseResources"));
 
+    this.availabilityNotificationLock.lock();
+    try {
+      this.pendingAvailabilityChanges.clear();
+      this.hasPendingAvailabilityChanges = false;
+    } finally {
+      this.availabilityNotificationLock.unlock();
+    }
+
     try {
       if (this.currentConnection != null && !this.currentConnection.isClosed()) {
         this.currentConnection.close();
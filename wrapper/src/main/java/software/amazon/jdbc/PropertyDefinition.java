@@ -17,13 +17,16 @@
 package software.amazon.jdbc;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -167,10 +170,26 @@ public class PropertyDefinition {
               "true", "false"
           });
 
+  public static final AwsWrapperProperty ENABLE_RESULT_SET_FAST_PATH =
+      new AwsWrapperProperty(
+          "enableResultSetFastPath",
+          "false",
+          "Allows ResultSet getters to call the target driver directly, bypassing the plugin pipeline, "
+            + "when no connection plugin is subscribed to them.",
+          false,
+          new String[] {
+              "true", "false"
+          });
+
   private static final Map<String, AwsWrapperProperty> PROPS_BY_NAME =
       new ConcurrentHashMap<>();
   private static final Set<String> KNOWN_PROPS_BY_PREFIX = ConcurrentHashMap.newKeySet();
 
+  // Snapshots are shared by connections with identical property values. The number of distinct
+  // configurations is expected to be small, and snapshots of further configurations aren't shared.
+  private static final int MAX_SHARED_SNAPSHOTS = 256;
+  private static final Map<List<Object>, Object> SHARED_SNAPSHOTS = new ConcurrentHashMap<>();
+
   static {
     registerProperties(PropertyDefinition.class);
   }
@@ -191,6 +210,44 @@ public class PropertyDefinition {
     KNOWN_PROPS_BY_PREFIX.add(propertyNamePrefix);
   }
 
+  /**
+   * Returns an immutable snapshot of the given properties, created by the given factory. Snapshots
+   * are shared by all connections with the same values of the properties the snapshot is created
+   * from, so hot paths can read typed values from a snapshot instead of parsing them from the
+   * connection properties on each call.
+   *
+   * @param snapshotClass the class of the snapshot
+   * @param props the connection properties
+   * @param factory creates a snapshot from the connection properties
+   * @param snapshotProperties the properties the snapshot is created from
+   * @param <T> the type of the snapshot
+   * @return the snapshot
+   */
+  public static <T> T getSnapshot(
+      final Class<T> snapshotClass,
+      final Properties props,
+      final Function<Properties, T> factory,
+      final AwsWrapperProperty... snapshotProperties) {
+
+    final List<Object> key = new ArrayList<>(snapshotProperties.length + 1);
+    key.add(snapshotClass);
+    for (final AwsWrapperProperty property : snapshotProperties) {
+      final Object value = props.get(property.name);
+      key.add(value == null ? props.getProperty(property.name, property.defaultValue) : value);
+    }
+
+    final Object snapshot = SHARED_SNAPSHOTS.get(key);
+    if (snapshot != null) {
+      return snapshotClass.cast(snapshot);
+    }
+
+    final T newSnapshot = factory.apply(props);
+    if (SHARED_SNAPSHOTS.size() < MAX_SHARED_SNAPSHOTS) {
+      SHARED_SNAPSHOTS.putIfAbsent(key, newSnapshot);
+    }
+    return newSnapshot;
+  }
+
   public static void removeAll(final Properties props) {
     PROPS_BY_NAME.keySet().forEach(props::remove);
 
@@ -20,10 +20,9 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Properties;
 import java.util.Random;
-import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.util.Messages;
 
 public class RandomHostSelector implements HostSelector {
@@ -35,10 +34,7 @@ public class RandomHostSelector implements HostSelector {
       @NonNull final List<HostSpec> hosts,
       @NonNull final HostRole role,
       @Nullable final Properties props) throws SQLException {
-    final List<HostSpec> eligibleHosts = hosts.stream()
-        .filter(hostSpec ->
-            role.equals(hostSpec.getRole()) && hostSpec.getAvailability().equals(HostAvailability.AVAILABLE))
-        .collect(Collectors.toList());
+    final List<HostSpec> eligibleHosts = TopologySnapshot.getAvailableHosts(hosts, role);
     if (eligibleHosts.size() == 0) {
       throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
     }
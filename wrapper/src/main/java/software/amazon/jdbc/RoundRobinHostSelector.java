@@ -17,22 +17,30 @@
 package software.amazon.jdbc;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.util.CacheMap;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.StringUtils;
 
+/**
+ * Selects hosts in turns. Hosts with greater weights are selected more often, and selections of
+ * each host are spread evenly over a cycle (smooth weighted round robin).
+ *
+ * <p>The order of selections of a cluster is computed once as a ring of host indexes. Selections
+ * take the next position of the ring with an atomic counter, so concurrent selections don't block
+ * each other. The ring is rebuilt when the eligible hosts or the weight properties change.
+ */
 public class RoundRobinHostSelector implements HostSelector {
   public static final AwsWrapperProperty ROUND_ROBIN_HOST_WEIGHT_PAIRS = new AwsWrapperProperty(
       "roundRobinHostWeightPairs", null,
@@ -42,10 +50,15 @@ public class RoundRobinHostSelector implements HostSelector {
       "The default weight for any hosts that have not been configured with the `roundRobinHostWeightPairs` parameter.");
   public static final String STRATEGY_ROUND_ROBIN = "roundRobin";
   private static final int DEFAULT_WEIGHT = 1;
+  // Weights are scaled down proportionally if a cycle would be longer than this.
+  private static final int MAX_RING_SIZE = 4096;
   private static final long DEFAULT_ROUND_ROBIN_CACHE_EXPIRE_NANO = TimeUnit.MINUTES.toNanos(10);
+  // Cache entries of a cluster in use are renewed at most this often.
+  private static final long CACHE_RENEW_INTERVAL_NANO = TimeUnit.MINUTES.toNanos(1);
   static final Pattern HOST_WEIGHT_PAIRS_PATTERN =
       Pattern.compile(
           "((?<host>[^:/?#]*):(?<weight>[0-9]*))");
+  // All hosts of a cluster point to the same cluster info.
   private static final CacheMap<String, RoundRobinClusterInfo> roundRobinCache = new CacheMap<>();
 
   static {
@@ -53,138 +66,194 @@ public class RoundRobinHostSelector implements HostSelector {
   }
 
   @Override
-  public synchronized HostSpec getHost(
+  public HostSpec getHost(
       final @NonNull List<HostSpec> hosts,
       final @NonNull HostRole role,
       final @Nullable Properties props) throws SQLException {
-    final List<HostSpec> eligibleHosts = hosts.stream()
-        .filter(hostSpec ->
-            role.equals(hostSpec.getRole()) && hostSpec.getAvailability().equals(HostAvailability.AVAILABLE))
-        .sorted(Comparator.comparing(HostSpec::getHost))
-        .collect(Collectors.toList());
+    final List<HostSpec> eligibleHosts = TopologySnapshot.getAvailableHostsSortedByHostName(hosts, role);
 
     if (eligibleHosts.isEmpty()) {
       throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
     }
 
-    // Create new cache entries for provided hosts if necessary. All hosts point to the same cluster info.
-    createCacheEntryForHosts(eligibleHosts, props);
-    final String currentClusterInfoKey = eligibleHosts.get(0).getHost();
-    final RoundRobinClusterInfo clusterInfo = roundRobinCache.get(currentClusterInfoKey);
+    final String hostWeightPairs = props == null ? null : ROUND_ROBIN_HOST_WEIGHT_PAIRS.getString(props);
+    final String defaultWeight = props == null ? null : ROUND_ROBIN_DEFAULT_WEIGHT.getString(props);
+
+    final RoundRobinClusterInfo clusterInfo = getClusterInfo(eligibleHosts);
+    HostRing ring = clusterInfo.ring;
+    if (ring == null || !ring.matches(eligibleHosts, hostWeightPairs, defaultWeight)) {
+      ring = createRing(clusterInfo, ring, eligibleHosts, hostWeightPairs, defaultWeight);
+    } else if (System.nanoTime() - clusterInfo.cacheUpdateTimeNano > CACHE_RENEW_INTERVAL_NANO) {
+      updateCacheEntries(clusterInfo, ring);
+    }
+    return eligibleHosts.get(ring.nextHostIndex());
+  }
+
+  private RoundRobinClusterInfo getClusterInfo(final @NonNull List<HostSpec> hosts) {
+    RoundRobinClusterInfo clusterInfo = roundRobinCache.get(hosts.get(0).getHost());
+    if (clusterInfo != null) {
+      return clusterInfo;
+    }
+
+    // If another host has an existing entry, all hosts are pointed to its cluster info when the
+    // ring is rebuilt.
+    for (final HostSpec host : hosts) {
+      clusterInfo = roundRobinCache.get(host.getHost());
+      if (clusterInfo != null) {
+        return clusterInfo;
+      }
+    }
+    return new RoundRobinClusterInfo();
+  }
 
-    final HostSpec lastHost = clusterInfo.lastHost;
-    int lastHostIndex = -1;
+  private HostRing createRing(
+      final @NonNull RoundRobinClusterInfo clusterInfo,
+      final @Nullable HostRing previousRing,
+      final @NonNull List<HostSpec> hosts,
+      final @Nullable String hostWeightPairs,
+      final @Nullable String defaultWeightString) throws SQLException {
+    final int defaultWeight = parseDefaultWeight(defaultWeightString);
+    final Map<String, Integer> clusterWeightsMap = parseHostWeightPairs(hostWeightPairs);
+
+    final String[] hostNames = new String[hosts.size()];
+    final int[] weights = new int[hosts.size()];
+    for (int i = 0; i < hostNames.length; i++) {
+      hostNames[i] = hosts.get(i).getHost();
+      final Integer weight = clusterWeightsMap.get(hostNames[i]);
+      weights[i] = weight == null ? defaultWeight : weight;
+    }
+    final int[] hostIndexes = createSmoothWeightedSequence(weights);
 
-    // Check if lastHost is in list of eligible hosts. Update lastHostIndex.
+    // Continue with the host that follows the last selected host, if that host is still eligible.
+    long startPosition = 0;
+    final String lastHost = previousRing == null ? null : previousRing.getLastHost();
     if (lastHost != null) {
-      for (int i = 0; i < eligibleHosts.size(); i++) {
-        if (eligibleHosts.get(i).getHost().equals(lastHost.getHost())) {
-          lastHostIndex = i;
+      for (int i = 0; i < hostNames.length; i++) {
+        if (hostNames[i].equals(lastHost)) {
+          final int nextHostIndex = (i + 1) % hostNames.length;
+          while (hostIndexes[(int) startPosition] != nextHostIndex) {
+            startPosition++;
+          }
+          break;
         }
       }
     }
 
-    final int targetHostIndex;
-    // If the host is weighted and the lastHost is in the eligibleHosts list.
-    if (clusterInfo.weightCounter > 0 && lastHostIndex != -1) {
-      targetHostIndex = lastHostIndex;
-    } else {
-      if (lastHostIndex != -1 && lastHostIndex != eligibleHosts.size() - 1) {
-        targetHostIndex = lastHostIndex + 1;
-      } else {
-        targetHostIndex = 0;
-      }
+    final HostRing ring = new HostRing(
+        hostNames, hostIndexes, hostWeightPairs, defaultWeightString, startPosition);
+    clusterInfo.ring = ring;
 
-      final Integer weight = clusterInfo.clusterWeightsMap.get(eligibleHosts.get(targetHostIndex).getHost());
-      clusterInfo.weightCounter = weight == null ? clusterInfo.defaultWeight : weight;
+    updateCacheEntries(clusterInfo, ring);
+    if (previousRing != null) {
+      for (final String hostName : previousRing.hostNames) {
+        if (!ring.containsHost(hostName) && roundRobinCache.get(hostName) == clusterInfo) {
+          roundRobinCache.remove(hostName);
+        }
+      }
     }
+    return ring;
+  }
 
-    clusterInfo.weightCounter--;
-    clusterInfo.lastHost = eligibleHosts.get(targetHostIndex);
-
-    return eligibleHosts.get(targetHostIndex);
+  private void updateCacheEntries(final @NonNull RoundRobinClusterInfo clusterInfo, final @NonNull HostRing ring) {
+    clusterInfo.cacheUpdateTimeNano = System.nanoTime();
+    for (final String hostName : ring.hostNames) {
+      roundRobinCache.put(hostName, clusterInfo, DEFAULT_ROUND_ROBIN_CACHE_EXPIRE_NANO);
+    }
   }
 
-  private void createCacheEntryForHosts(
-      final @NonNull List<HostSpec> hosts,
-      final @Nullable Properties props)
-      throws SQLException {
-    final List<HostSpec> hostsWithCacheEntry = new ArrayList<>();
-    for (final HostSpec host : hosts) {
-      if (roundRobinCache.get(host.getHost()) != null) {
-        hostsWithCacheEntry.add(host);
+  /**
+   * Computes the order of selections of one cycle. Each host is selected as many times as its
+   * weight, and selections of a host are spread evenly over the cycle.
+   *
+   * @param weights the weights of the hosts.
+   * @return the indexes of the selected hosts in the order of selection.
+   */
+  static int[] createSmoothWeightedSequence(final int[] weights) {
+    final long[] scaledWeights = new long[weights.length];
+    long gcd = 0;
+    long totalWeight = 0;
+    for (final int weight : weights) {
+      gcd = gcd(gcd, weight);
+      totalWeight += weight;
+    }
+    for (int i = 0; i < weights.length; i++) {
+      scaledWeights[i] = weights[i] / gcd;
+    }
+    totalWeight /= gcd;
+    if (totalWeight > MAX_RING_SIZE) {
+      final long unscaledTotalWeight = totalWeight;
+      totalWeight = 0;
+      for (int i = 0; i < weights.length; i++) {
+        scaledWeights[i] = Math.max(1, scaledWeights[i] * MAX_RING_SIZE / unscaledTotalWeight);
+        totalWeight += scaledWeights[i];
       }
     }
 
-    // If there is a host with an existing entry, update the cache entries for all hosts to point each to the same
-    // RoundRobinClusterInfo object. If there are no cache entries, create a new RoundRobinClusterInfo.
-    if (!hostsWithCacheEntry.isEmpty()) {
-      for (final HostSpec host : hosts) {
-        roundRobinCache.put(
-            host.getHost(),
-            roundRobinCache.get(hostsWithCacheEntry.get(0).getHost()),
-            DEFAULT_ROUND_ROBIN_CACHE_EXPIRE_NANO);
-      }
-    } else {
-      final RoundRobinClusterInfo roundRobinClusterInfo = new RoundRobinClusterInfo();
-      updateCachePropertiesForRoundRobinClusterInfo(roundRobinClusterInfo, props);
-      for (final HostSpec host : hosts) {
-        roundRobinCache.put(
-            host.getHost(),
-            roundRobinClusterInfo,
-            DEFAULT_ROUND_ROBIN_CACHE_EXPIRE_NANO);
+    final int[] sequence = new int[(int) totalWeight];
+    final long[] currentWeights = new long[weights.length];
+    for (int position = 0; position < sequence.length; position++) {
+      int selected = 0;
+      for (int i = 0; i < currentWeights.length; i++) {
+        currentWeights[i] += scaledWeights[i];
+        if (currentWeights[i] > currentWeights[selected]) {
+          selected = i;
+        }
       }
+      currentWeights[selected] -= totalWeight;
+      sequence[position] = selected;
     }
+    return sequence;
   }
 
-  private void updateCachePropertiesForRoundRobinClusterInfo(
-      final @NonNull RoundRobinClusterInfo roundRobinClusterInfo,
-      final @Nullable Properties props) throws SQLException {
-    int defaultWeight = DEFAULT_WEIGHT;
-    if (props != null) {
-      final String defaultWeightString = ROUND_ROBIN_DEFAULT_WEIGHT.getString(props);
-      if (!StringUtils.isNullOrEmpty(defaultWeightString)) {
-        try {
-          final int parsedWeight = Integer.parseInt(defaultWeightString);
-          if (parsedWeight < DEFAULT_WEIGHT) {
-            throw new SQLException(Messages.get("HostSelector.roundRobinInvalidDefaultWeight"));
-          }
-          defaultWeight = parsedWeight;
-        } catch (NumberFormatException e) {
-          throw new SQLException(Messages.get("HostSelector.roundRobinInvalidDefaultWeight"));
-        }
+  private static long gcd(final long a, final long b) {
+    return b == 0 ? a : gcd(b, a % b);
+  }
+
+  private int parseDefaultWeight(final @Nullable String defaultWeightString) throws SQLException {
+    if (StringUtils.isNullOrEmpty(defaultWeightString)) {
+      return DEFAULT_WEIGHT;
+    }
+    try {
+      final int parsedWeight = Integer.parseInt(defaultWeightString);
+      if (parsedWeight < DEFAULT_WEIGHT) {
+        throw new SQLException(Messages.get("HostSelector.roundRobinInvalidDefaultWeight"));
       }
+      return parsedWeight;
+    } catch (NumberFormatException e) {
+      throw new SQLException(Messages.get("HostSelector.roundRobinInvalidDefaultWeight"));
     }
-    roundRobinClusterInfo.defaultWeight = defaultWeight;
+  }
 
-    if (props != null) {
-      final String hostWeights = ROUND_ROBIN_HOST_WEIGHT_PAIRS.getString(props);
-      if (!StringUtils.isNullOrEmpty(hostWeights)) {
-        final String[] hostWeightPairs = hostWeights.split(",");
-        for (final String pair : hostWeightPairs) {
-          final Matcher matcher = HOST_WEIGHT_PAIRS_PATTERN.matcher(pair);
-          if (!matcher.matches()) {
-            throw new SQLException(Messages.get("HostSelector.roundRobinInvalidHostWeightPairs"));
-          }
+  private Map<String, Integer> parseHostWeightPairs(final @Nullable String hostWeights) throws SQLException {
+    final Map<String, Integer> clusterWeightsMap = new HashMap<>();
+    if (StringUtils.isNullOrEmpty(hostWeights)) {
+      return clusterWeightsMap;
+    }
 
-          final String hostName = matcher.group("host").trim();
-          final String hostWeight = matcher.group("weight").trim();
-          if (hostName.isEmpty() || hostWeight.isEmpty()) {
-            throw new SQLException(Messages.get("HostSelector.roundRobinInvalidHostWeightPairs"));
-          }
+    final String[] hostWeightPairs = hostWeights.split(",");
+    for (final String pair : hostWeightPairs) {
+      final Matcher matcher = HOST_WEIGHT_PAIRS_PATTERN.matcher(pair);
+      if (!matcher.matches()) {
+        throw new SQLException(Messages.get("HostSelector.roundRobinInvalidHostWeightPairs"));
+      }
 
-          try {
-            final int weight = Integer.parseInt(hostWeight);
-            if (weight < DEFAULT_WEIGHT) {
-              throw new SQLException(Messages.get("HostSelector.roundRobinInvalidHostWeightPairs"));
-            }
-            roundRobinClusterInfo.clusterWeightsMap.put(hostName, weight);
-          } catch (NumberFormatException e) {
-            throw new SQLException(Messages.get("HostSelector.roundRobinInvalidHostWeightPairs"));
-          }
+      final String hostName = matcher.group("host").trim();
+      final String hostWeight = matcher.group("weight").trim();
+      if (hostName.isEmpty() || hostWeight.isEmpty()) {
+        throw new SQLException(Messages.get("HostSelector.roundRobinInvalidHostWeightPairs"));
+      }
+
+      try {
+        final int weight = Integer.parseInt(hostWeight);
+        if (weight < DEFAULT_WEIGHT) {
+          throw new SQLException(Messages.get("HostSelector.roundRobinInvalidHostWeightPairs"));
         }
+        clusterWeightsMap.put(hostName, weight);
+      } catch (NumberFormatException e) {
+        throw new SQLException(Messages.get("HostSelector.roundRobinInvalidHostWeightPairs"));
       }
     }
+    return clusterWeightsMap;
   }
 
   // For testing purposes only
@@ -193,9 +262,98 @@ public class RoundRobinHostSelector implements HostSelector {
   }
 
   public static class RoundRobinClusterInfo {
+    /**
+     * No longer updated. The selection state of a cluster is kept in its ring of hosts.
+     *
+     * @deprecated the last selected host is no longer tracked by this field.
+     */
+    @Deprecated
     public HostSpec lastHost;
+    /**
+     * No longer updated. The selection state of a cluster is kept in its ring of hosts.
+     *
+     * @deprecated host weights are no longer tracked by this field.
+     */
+    @Deprecated
     public HashMap<String, Integer> clusterWeightsMap = new HashMap<>();
+    /**
+     * No longer updated. The selection state of a cluster is kept in its ring of hosts.
+     *
+     * @deprecated the default weight is no longer tracked by this field.
+     */
+    @Deprecated
     public int defaultWeight = 1;
+    /**
+     * No longer updated. The selection state of a cluster is kept in its ring of hosts.
+     *
+     * @deprecated the weight counter is no longer tracked by this field.
+     */
+    @Deprecated
     public int weightCounter = 0;
+
+    volatile @Nullable HostRing ring;
+    volatile long cacheUpdateTimeNano;
+  }
+
+  static class HostRing {
+    // Host names of the eligible hosts the ring was built for, in the order of the eligible hosts.
+    private final String[] hostNames;
+    // Indexes of the eligible hosts in the order of selection.
+    private final int[] hostIndexes;
+    private final @Nullable String hostWeightPairs;
+    private final @Nullable String defaultWeight;
+    private final AtomicLong position;
+
+    HostRing(
+        final String[] hostNames,
+        final int[] hostIndexes,
+        final @Nullable String hostWeightPairs,
+        final @Nullable String defaultWeight,
+        final long startPosition) {
+      this.hostNames = hostNames;
+      this.hostIndexes = hostIndexes;
+      this.hostWeightPairs = hostWeightPairs;
+      this.defaultWeight = defaultWeight;
+      this.position = new AtomicLong(startPosition);
+    }
+
+    int nextHostIndex() {
+      return this.hostIndexes[this.toRingIndex(this.position.getAndIncrement())];
+    }
+
+    @Nullable String getLastHost() {
+      final long lastPosition = this.position.get() - 1;
+      return lastPosition < 0 ? null : this.hostNames[this.hostIndexes[this.toRingIndex(lastPosition)]];
+    }
+
+    boolean matches(
+        final @NonNull List<HostSpec> hosts,
+        final @Nullable String hostWeightPairs,
+        final @Nullable String defaultWeight) {
+      if (hosts.size() != this.hostNames.length
+          || !Objects.equals(hostWeightPairs, this.hostWeightPairs)
+          || !Objects.equals(defaultWeight, this.defaultWeight)) {
+        return false;
+      }
+      for (int i = 0; i < this.hostNames.length; i++) {
+        if (!this.hostNames[i].equals(hosts.get(i).getHost())) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    boolean containsHost(final String hostName) {
+      for (final String name : this.hostNames) {
+        if (name.equals(hostName)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private int toRingIndex(final long position) {
+      return (int) ((position & Long.MAX_VALUE) % this.hostIndexes.length);
+    }
   }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.hostlistprovider;
+
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.HostSpec;
+
+/**
+ * Interface for cluster topology monitors. A monitor uses a background thread and a dedicated
+ * connection to keep the topology of a cluster up to date, so connections to the same cluster don't
+ * need to query the topology themselves.
+ */
+public interface ClusterTopologyMonitor extends AutoCloseable, Runnable {
+
+  /**
+   * Registers a host list provider that uses this monitor. The monitor uses the registered
+   * providers to query the topology and doesn't keep them from being garbage collected.
+   *
+   * @param hostListProvider the host list provider using this monitor.
+   */
+  void registerHostListProvider(@NonNull RdsHostListProvider hostListProvider);
+
+  /**
+   * Returns the latest topology fetched by the monitor. This method doesn't block.
+   *
+   * @return an unmodifiable list of hosts, or null if the topology hasn't been fetched yet.
+   */
+  @Nullable List<HostSpec> getTopology();
+
+  /**
+   * Requests the monitor to fetch the topology and waits until it's fetched successfully or the
+   * timeout elapses. Concurrent requests share the same topology query.
+   *
+   * @param timeoutNano the maximum time to wait.
+   * @return an unmodifiable list of hosts, or null if the topology hasn't been fetched yet.
+   */
+  @Nullable List<HostSpec> forceRefresh(long timeoutNano);
+
+  /**
+   * Returns whether the monitor can be disposed, which is the case when no registered host list
+   * provider is left.
+   *
+   * @return true if the monitor isn't used anymore.
+   */
+  boolean canDispose();
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.hostlistprovider;
+
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.util.ExecutorFactory;
+import software.amazon.jdbc.util.Messages;
+import software.amazon.jdbc.util.PropertyUtils;
+import software.amazon.jdbc.util.SlidingExpirationCacheWithCleanupThread;
+import software.amazon.jdbc.util.Utils;
+
+/**
+ * This class uses a background thread and a dedicated connection to monitor the topology of a
+ * cluster. The fetched topology is published as an unmodifiable snapshot that can be read without
+ * blocking. While a writer change is suspected, the topology is fetched with a higher rate.
+ *
+ * <p>The monitor outlives the connection that created it, so it only keeps state that doesn't
+ * depend on any connection. The monitoring connection is opened through the plugin service of any
+ * connection that still uses the monitor, so authentication plugins apply to it. Host list
+ * providers using the monitor are referenced weakly, and the monitor can be disposed once none of
+ * them is left.
+ */
+public class ClusterTopologyMonitorImpl implements ClusterTopologyMonitor {
+
+  private static final Logger LOGGER = Logger.getLogger(ClusterTopologyMonitorImpl.class.getName());
+  private static final String MONITORING_PROPERTY_PREFIX = "topology-monitoring-";
+
+  // The topology is fetched with the high refresh rate for this period after a writer change is suspected.
+  protected static final long HIGH_REFRESH_PERIOD_NANO = TimeUnit.SECONDS.toNanos(30);
+  protected static final long CACHE_CLEANUP_NANO = TimeUnit.MINUTES.toNanos(1);
+
+  protected static final SlidingExpirationCacheWithCleanupThread<String, ClusterTopologyMonitor> monitors =
+      new SlidingExpirationCacheWithCleanupThread<>(
+          ClusterTopologyMonitor::canDispose,
+          (monitor) -> {
+            try {
+              monitor.close();
+            } catch (Exception ex) {
+              // ignore
+            }
+          },
+          CACHE_CLEANUP_NANO);
+
+  protected final String clusterId;
+  protected final Properties properties;
+  protected final HostSpec initialHostSpec;
+  protected final long refreshRateNano;
+  protected final long highRefreshRateNano;
+
+  private final AtomicBoolean stopped = new AtomicBoolean(false);
+  // A lock rather than a monitor, so waiting callers don't pin the carriers of virtual threads.
+  private final ReentrantLock refreshLock = new ReentrantLock();
+  private final Condition refreshCondition = this.refreshLock.newCondition();
+  private final ExecutorService threadPool = ExecutorFactory.newThreadPerTaskExecutor("cluster-topology-monitor-");
+  private final Queue<WeakReference<RdsHostListProvider>> hostListProviders = new ConcurrentLinkedQueue<>();
+
+  private volatile @Nullable List<HostSpec> topology;
+  private volatile long highRefreshRateEndTimeNano;
+
+  // The following fields are guarded by refreshLock.
+  private long fetchedTopologyCount;
+  private boolean isRefreshInProgress;
+  private long requestedFetchCount;
+
+  private Connection monitoringConn = null;
+
+  /**
+   * Starts monitoring the topology of a cluster.
+   *
+   * @param clusterId           The id of the monitored cluster.
+   * @param properties          The {@link Properties} of the monitoring connection.
+   * @param initialHostSpec     The host to connect to while the writer isn't known.
+   * @param refreshRateNano     The rate to fetch the topology with.
+   * @param highRefreshRateNano The rate to fetch the topology with while a writer change is
+   *                            suspected.
+   */
+  public ClusterTopologyMonitorImpl(
+      final @NonNull String clusterId,
+      final @NonNull Properties properties,
+      final @NonNull HostSpec initialHostSpec,
+      final long refreshRateNano,
+      final long highRefreshRateNano) {
+
+    this.clusterId = clusterId;
+    this.properties = PropertyUtils.copyProperties(properties);
+    this.initialHostSpec = initialHostSpec;
+    this.refreshRateNano = refreshRateNano;
+    this.highRefreshRateNano = highRefreshRateNano;
+
+    this.threadPool.submit(this);
+    this.threadPool.shutdown(); // No more tasks are accepted by pool.
+  }
+
+  public static void clearCache() {
+    monitors.clear();
+  }
+
+  @Override
+  public void registerHostListProvider(final @NonNull RdsHostListProvider hostListProvider) {
+    this.hostListProviders.add(new WeakReference<>(hostListProvider));
+  }
+
+  /**
+   * Returns any host list provider that still uses this monitor. Providers that have been garbage
+   * collected are removed along the way.
+   *
+   * @return a host list provider, or null if no provider uses this monitor anymore.
+   */
+  protected @Nullable RdsHostListProvider getHostListProvider() {
+    final Iterator<WeakReference<RdsHostListProvider>> iterator = this.hostListProviders.iterator();
+    while (iterator.hasNext()) {
+      final RdsHostListProvider hostListProvider = iterator.next().get();
+      if (hostListProvider != null) {
+        return hostListProvider;
+      }
+      iterator.remove();
+    }
+    return null;
+  }
+
+  @Override
+  public @Nullable List<HostSpec> getTopology() {
+    return this.topology;
+  }
+
+  @Override
+  public @Nullable List<HostSpec> forceRefresh(final long timeoutNano) {
+    this.highRefreshRateEndTimeNano = this.getCurrentTimeNano() + HIGH_REFRESH_PERIOD_NANO;
+
+    this.refreshLock.lock();
+    try {
+      // A refresh in progress may have queried the topology before this request was made,
+      // so the request is completed by the next successful refresh after it.
+      final long expectedRefreshCount = this.fetchedTopologyCount + (this.isRefreshInProgress ? 2 : 1);
+      this.requestedFetchCount = Math.max(this.requestedFetchCount, expectedRefreshCount);
+      this.refreshCondition.signalAll();
+
+      final long endTimeNano = this.getCurrentTimeNano() + timeoutNano;
+      long remainingNano = timeoutNano;
+      while (this.fetchedTopologyCount < expectedRefreshCount && remainingNano > 0 && !this.stopped.get()) {
+        this.refreshCondition.awaitNanos(remainingNano);
+        remainingNano = endTimeNano - this.getCurrentTimeNano();
+      }
+    } catch (final InterruptedException intEx) {
+      Thread.currentThread().interrupt();
+    } finally {
+      this.refreshLock.unlock();
+    }
+
+    return this.topology;
+  }
+
+  @Override
+  public boolean canDispose() {
+    return this.getHostListProvider() == null;
+  }
+
+  @Override
+  public void close() throws Exception {
+    this.stopped.set(true);
+    this.signalRefreshWaiters();
+
+    // Waiting for 30s gives a thread enough time to exit monitoring loop and close database connection.
+    if (!this.threadPool.awaitTermination(30, TimeUnit.SECONDS)) {
+      this.threadPool.shutdownNow();
+    }
+    LOGGER.finest(() -> Messages.get(
+        "ClusterTopologyMonitorImpl.stopped",
+        new Object[] {this.clusterId}));
+  }
+
+  private void signalRefreshWaiters() {
+    this.refreshLock.lock();
+    try {
+      this.refreshCondition.signalAll();
+    } finally {
+      this.refreshLock.unlock();
+    }
+  }
+
+  // This method helps to organize unit tests.
+  long getCurrentTimeNano() {
+    return System.nanoTime();
+  }
+
+  @Override
+  public void run() {
+
+    LOGGER.finest(() -> Messages.get(
+        "ClusterTopologyMonitorImpl.startMonitoringThread",
+        new Object[] {this.clusterId}));
+
+    try {
+      while (!this.stopped.get()) {
+
+        this.refreshLock.lock();
+        try {
+          this.isRefreshInProgress = true;
+        } finally {
+          this.refreshLock.unlock();
+        }
+
+        final long refreshStartTimeNano = this.getCurrentTimeNano();
+        final List<HostSpec> hosts = this.fetchTopology();
+
+        final boolean isFetched = !Utils.isNullOrEmpty(hosts);
+        if (isFetched) {
+          this.updateTopology(hosts);
+        } else {
+          // The topology can't be fetched or has no writer. A writer change may be in progress.
+          this.highRefreshRateEndTimeNano = this.getCurrentTimeNano() + HIGH_REFRESH_PERIOD_NANO;
+        }
+
+        this.refreshLock.lock();
+        try {
+          this.isRefreshInProgress = false;
+          if (isFetched) {
+            this.fetchedTopologyCount++;
+            this.refreshCondition.signalAll();
+          }
+
+          if (isFetched && this.fetchedTopologyCount < this.requestedFetchCount) {
+            // Another refresh has been requested while the topology was fetched. Failed refreshes are
+            // retried with the high refresh rate instead.
+            continue;
+          }
+
+          final long currentTimeNano = this.getCurrentTimeNano();
+          final long rateNano = currentTimeNano < this.highRefreshRateEndTimeNano
+              ? this.highRefreshRateNano
+              : this.refreshRateNano;
+          final long delayNano = rateNano - (currentTimeNano - refreshStartTimeNano);
+          if (!this.stopped.get() && delayNano > 0) {
+            this.refreshCondition.awaitNanos(delayNano);
+          }
+        } finally {
+          this.refreshLock.unlock();
+        }
+      }
+    } catch (final InterruptedException intEx) {
+      // do nothing; just exit the thread
+    } catch (final Exception ex) {
+      // this should not be reached; log and exit thread
+      if (LOGGER.isLoggable(Level.FINEST)) {
+        LOGGER.log(
+            Level.FINEST,
+            Messages.get(
+                "ClusterTopologyMonitorImpl.exceptionDuringMonitoringStop",
+                new Object[] {this.clusterId}),
+            ex); // We want to print full trace stack of the exception.
+      }
+    } finally {
+      this.stopped.set(true);
+      this.closeMonitoringConnection();
+      this.signalRefreshWaiters();
+    }
+
+    LOGGER.finest(() -> Messages.get(
+        "ClusterTopologyMonitorImpl.stopMonitoringThread",
+        new Object[] {this.clusterId}));
+  }
+
+  /**
+   * Fetch the topology using the monitoring connection. The monitoring connection is opened to the
+   * writer of the latest known topology if it's not open yet.
+   *
+   * @return the fetched topology, or null if the topology can't be fetched.
+   */
+  protected @Nullable List<HostSpec> fetchTopology() {
+    final RdsHostListProvider hostListProvider = this.getHostListProvider();
+    if (hostListProvider == null) {
+      // No connection uses this monitor anymore. It's going to be disposed.
+      return null;
+    }
+
+    try {
+      if (this.monitoringConn == null || this.monitoringConn.isClosed()) {
+        final HostSpec hostSpec = this.getWriter(this.topology);
+        final HostSpec monitoringHostSpec = hostSpec == null ? this.initialHostSpec : hostSpec;
+
+        LOGGER.finest(() -> Messages.get(
+            "ClusterTopologyMonitorImpl.openingMonitoringConnection",
+            new Object[] {this.clusterId, monitoringHostSpec.getUrl()}));
+        // The connection is opened through the plugins of a connection that uses this monitor, so
+        // authentication plugins such as IAM or Secrets Manager apply to it.
+        this.monitoringConn = hostListProvider.getPluginService().forceConnect(
+            monitoringHostSpec, this.getMonitoringProperties());
+      }
+
+      return hostListProvider.queryForTopology(this.monitoringConn);
+
+    } catch (final SQLException ex) {
+      LOGGER.finest(() -> Messages.get(
+          "ClusterTopologyMonitorImpl.errorFetchingTopology",
+          new Object[] {this.clusterId, ex.getMessage()}));
+      this.closeMonitoringConnection();
+      return null;
+    }
+  }
+
+  protected void updateTopology(final @NonNull List<HostSpec> hosts) {
+    final List<HostSpec> previousTopology = this.topology;
+    final HostSpec previousWriter = this.getWriter(previousTopology);
+    final HostSpec writer = this.getWriter(hosts);
+
+    if (previousWriter != null && writer != null && !previousWriter.getHost().equals(writer.getHost())) {
+      LOGGER.fine(() -> Messages.get(
+          "ClusterTopologyMonitorImpl.writerChanged",
+          new Object[] {this.clusterId, previousWriter.getHost(), writer.getHost()}));
+      this.highRefreshRateEndTimeNano = this.getCurrentTimeNano() + HIGH_REFRESH_PERIOD_NANO;
+    }
+
+    this.topology = TopologySnapshot.of(hosts).getHosts();
+    RdsHostListProvider.topologyCache.put(this.clusterId, this.topology, this.refreshRateNano);
+
+    if (writer != null && (previousWriter == null || !previousWriter.getHost().equals(writer.getHost()))) {
+      // Wake up writer failover processes waiting for a new writer.
+      TopologyChangeNotifier.get(this.clusterId).notifyWriterChanged();
+    }
+
+    final RdsHostListProvider hostListProvider = this.getHostListProvider();
+    if (previousTopology == null && hostListProvider != null && hostListProvider.isPrimaryClusterId) {
+      hostListProvider.suggestPrimaryCluster(hosts);
+    }
+  }
+
+  protected @Nullable HostSpec getWriter(final @Nullable List<HostSpec> hosts) {
+    if (hosts == null) {
+      return null;
+    }
+    for (final HostSpec hostSpec : hosts) {
+      if (hostSpec.getRole() == HostRole.WRITER) {
+        return hostSpec;
+      }
+    }
+    return null;
+  }
+
+  protected Properties getMonitoringProperties() {
+    final Properties monitoringConnProperties = PropertyUtils.copyProperties(this.properties);
+
+    this.properties.stringPropertyNames().stream()
+        .filter(p -> p.startsWith(MONITORING_PROPERTY_PREFIX))
+        .forEach(
+            p -> {
+              monitoringConnProperties.put(
+                  p.substring(MONITORING_PROPERTY_PREFIX.length()),
+                  this.properties.getProperty(p));
+              monitoringConnProperties.remove(p);
+            });
+    return monitoringConnProperties;
+  }
+
+  private void closeMonitoringConnection() {
+    if (this.monitoringConn != null) {
+      try {
+        this.monitoringConn.close();
+      } catch (final SQLException ex) {
+        // ignore
+      }
+      this.monitoringConn = null;
+    }
+  }
+}
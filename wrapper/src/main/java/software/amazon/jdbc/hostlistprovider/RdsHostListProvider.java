@@ -24,7 +24,6 @@ import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -46,6 +45,7 @@ import software.amazon.jdbc.HostListProviderService;
 import software.amazon.jdbc.HostRole;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.PropertyDefinition;
 import software.amazon.jdbc.hostavailability.HostAvailability;
 import software.amazon.jdbc.util.CacheMap;
@@ -82,6 +82,20 @@ public class RdsHostListProvider implements DynamicHostListProvider {
               + "This pattern is required to be specified for IP address or custom domain connections to AWS RDS "
               + "clusters. Otherwise, if unspecified, the pattern will be automatically created for AWS RDS clusters.");
 
+  public static final AwsWrapperProperty CLUSTER_TOPOLOGY_MONITORING_ENABLED =
+      new AwsWrapperProperty(
+          "clusterTopologyMonitoringEnabled",
+          "false",
+          "Enables a background monitor that fetches the cluster topology with a dedicated connection. "
+              + "Connections with the same cluster id share the monitor and never query the topology themselves.");
+
+  public static final AwsWrapperProperty CLUSTER_TOPOLOGY_HIGH_REFRESH_RATE_MS =
+      new AwsWrapperProperty(
+          "clusterTopologyHighRefreshRateMs",
+          "100",
+          "Cluster topology refresh rate in millis used by the cluster topology monitor "
+              + "while a writer change is suspected.");
+
   final Executor networkTimeoutExecutor = new SynchronousExecutor();
   final HostListProviderService hostListProviderService;
   private final String originalUrl;
@@ -95,6 +109,7 @@ public class RdsHostListProvider implements DynamicHostListProvider {
       ? TimeUnit.MILLISECONDS.toNanos(Long.parseLong(CLUSTER_TOPOLOGY_REFRESH_RATE_MS.defaultValue))
       : TimeUnit.MILLISECONDS.toNanos(30000);
   private final long suggestedClusterIdRefreshRateNano = TimeUnit.MINUTES.toNanos(10);
+  private final long topologyMonitorDisposalTimeNano = TimeUnit.MINUTES.toNanos(10);
   private List<HostSpec> hostList = new ArrayList<>();
   private List<HostSpec> initialHostList = new ArrayList<>();
   private HostSpec initialHostSpec;
@@ -114,6 +129,9 @@ public class RdsHostListProvider implements DynamicHostListProvider {
   protected boolean isPrimaryClusterId;
 
   protected volatile boolean isInitialized = false;
+  protected boolean isTopologyMonitoringEnabled;
+  protected volatile ClusterTopologyMonitor registeredTopologyMonitor;
+  protected long highRefreshRateNano;
 
   static final Logger LOGGER = Logger.getLogger(RdsHostListProvider.class.getName());
 
@@ -159,6 +177,7 @@ public class RdsHostListProvider implements DynamicHostListProvider {
         throw new SQLException(Messages.get("RdsHostListProvider.parsedListEmpty",
             new Object[] {this.originalUrl}));
       }
+      this.initialHostList = TopologySnapshot.of(this.initialHostList).getHosts();
       this.initialHostSpec = this.initialHostList.get(0);
       this.hostListProviderService.setInitialConnectionHostSpec(this.initialHostSpec);
 
@@ -166,6 +185,12 @@ public class RdsHostListProvider implements DynamicHostListProvider {
       this.isPrimaryClusterId = false;
       this.refreshRateNano =
           TimeUnit.MILLISECONDS.toNanos(CLUSTER_TOPOLOGY_REFRESH_RATE_MS.getInteger(properties));
+      this.highRefreshRateNano =
+          TimeUnit.MILLISECONDS.toNanos(CLUSTER_TOPOLOGY_HIGH_REFRESH_RATE_MS.getInteger(properties));
+      // The topology monitor opens its connection through the plugin service of a connection
+      // that uses it, so the connection plugins apply to the monitoring connection.
+      this.isTopologyMonitoringEnabled = CLUSTER_TOPOLOGY_MONITORING_ENABLED.getBoolean(properties)
+          && this.hostListProviderService instanceof PluginService;
 
       HostSpecBuilder hostSpecBuilder = this.hostListProviderService.getHostSpecBuilder();
       this.clusterInstanceTemplate =
@@ -234,6 +259,10 @@ public class RdsHostListProvider implements DynamicHostListProvider {
       this.isPrimaryClusterId = true;
     }
 
+    if (this.isTopologyMonitoringEnabled) {
+      return this.getTopologyFromMonitor(forceUpdate);
+    }
+
     final List<HostSpec> cachedHosts = topologyCache.get(this.clusterId);
 
     // This clusterId is a primary one and is about to create a new entry in the cache.
@@ -255,11 +284,13 @@ public class RdsHostListProvider implements DynamicHostListProvider {
       final List<HostSpec> hosts = queryForTopology(conn);
 
       if (!Utils.isNullOrEmpty(hosts)) {
-        topologyCache.put(this.clusterId, hosts, this.refreshRateNano);
+        // Connections to the cluster share the snapshot of the topology.
+        final List<HostSpec> snapshotHosts = TopologySnapshot.of(hosts).getHosts();
+        topologyCache.put(this.clusterId, snapshotHosts, this.refreshRateNano);
         if (needToSuggest) {
-          this.suggestPrimaryCluster(hosts);
+          this.suggestPrimaryCluster(snapshotHosts);
         }
-        return new FetchTopologyResult(false, hosts);
+        return new FetchTopologyResult(false, snapshotHosts);
       }
     }
 
@@ -271,6 +302,50 @@ public class RdsHostListProvider implements DynamicHostListProvider {
     }
   }
 
+  /**
+   * Get cluster topology from the topology monitor of the cluster. Unless an update is forced, the
+   * latest topology fetched by the monitor is returned without blocking.
+   *
+   * @param forceUpdate If true, it waits for the monitor to fetch a fresh topology.
+   * @return a list of hosts that describes cluster topology. Returns the hosts parsed from the
+   *     connection string if the monitor hasn't fetched the topology yet.
+   */
+  protected FetchTopologyResult getTopologyFromMonitor(final boolean forceUpdate) {
+    final ClusterTopologyMonitor monitor = this.getTopologyMonitor();
+    final List<HostSpec> hosts = forceUpdate
+        ? monitor.forceRefresh(TimeUnit.MILLISECONDS.toNanos(defaultTopologyQueryTimeoutMs))
+        : monitor.getTopology();
+
+    if (Utils.isNullOrEmpty(hosts)) {
+      return new FetchTopologyResult(false, this.initialHostList);
+    }
+    return new FetchTopologyResult(!forceUpdate, hosts);
+  }
+
+  // The plugin service of the connection, used by the topology monitor to open its connection.
+  PluginService getPluginService() {
+    return (PluginService) this.hostListProviderService;
+  }
+
+  protected ClusterTopologyMonitor getTopologyMonitor() {
+    final ClusterTopologyMonitor monitor = ClusterTopologyMonitorImpl.monitors.computeIfAbsent(
+        this.clusterId,
+        (key) -> new ClusterTopologyMonitorImpl(
+            key,
+            this.properties,
+            this.initialHostSpec,
+            this.refreshRateNano,
+            this.highRefreshRateNano),
+        this.topologyMonitorDisposalTimeNano);
+
+    if (monitor != this.registeredTopologyMonitor) {
+      // The cluster id may have changed, or the previous monitor has been disposed.
+      monitor.registerHostListProvider(this);
+      this.registeredTopologyMonitor = monitor;
+    }
+    return monitor;
+  }
+
   private ClusterSuggestedResult getSuggestedClusterId(final String url) {
     for (final Entry<String, List<HostSpec>> entry : topologyCache.getEntries().entrySet()) {
       final String key = entry.getKey(); // clusterId
@@ -512,7 +587,7 @@ public class RdsHostListProvider implements DynamicHostListProvider {
     LOGGER.finest(() -> Utils.logTopology(results.hosts, results.isCachedData ? "[From cache] " : ""));
 
     this.hostList = results.hosts;
-    return Collections.unmodifiableList(hostList);
+    return TopologySnapshot.of(this.hostList).getHosts();
   }
 
   @Override
@@ -530,7 +605,7 @@ public class RdsHostListProvider implements DynamicHostListProvider {
     final FetchTopologyResult results = getTopology(currentConnection, true);
     LOGGER.finest(() -> Utils.logTopology(results.hosts));
     this.hostList = results.hosts;
-    return Collections.unmodifiableList(this.hostList);
+    return TopologySnapshot.of(this.hostList).getHosts();
   }
 
   public RdsUrlType getRdsUrlType() throws SQLException {
@@ -538,6 +613,18 @@ public class RdsHostListProvider implements DynamicHostListProvider {
     return this.rdsUrlType;
   }
 
+  /**
+   * Returns the id of the cluster. Connections to the same cluster share the cluster id, unless it
+   * can't be identified from the connection string, in which case it's unique to this provider.
+   *
+   * @return the cluster id.
+   * @throws SQLException if the provider can't be initialized.
+   */
+  public String getClusterId() throws SQLException {
+    init();
+    return this.clusterId;
+  }
+
   private void validateHostPatternSetting(final String hostPattern) {
     if (!this.rdsHelper.isDnsPatternValid(hostPattern)) {
       // "Invalid value for the 'clusterInstanceHostPattern' configuration setting - the host
@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.hostlistprovider;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+import software.amazon.jdbc.HostListProvider;
+import software.amazon.jdbc.util.Messages;
+import software.amazon.jdbc.util.SlidingExpirationCache;
+
+/**
+ * Notifies waiting threads that a new writer has been detected in the topology of a cluster.
+ * Writer changes are reported by the cluster topology monitor and by the plugin service when a
+ * refreshed topology promotes a node to writer.
+ *
+ * <p>There is a notifier per cluster, so waiting threads are only woken up by writer changes of
+ * their own cluster. Notifiers that have no waiting threads are removed when they haven't been
+ * used for a while.
+ */
+public class TopologyChangeNotifier {
+
+  private static final Logger LOGGER = Logger.getLogger(TopologyChangeNotifier.class.getName());
+  private static final long NOTIFIER_EXPIRATION_NANO = TimeUnit.MINUTES.toNanos(10);
+  private static final SlidingExpirationCache<String, TopologyChangeNotifier> notifiers =
+      new SlidingExpirationCache<>(notifier -> !notifier.hasWaiters(), null);
+
+  // A lock is used instead of an object monitor, so waiting virtual threads don't pin their
+  // carrier threads.
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition writerChanged = lock.newCondition();
+  private long writerChangeCount;
+
+  private TopologyChangeNotifier() {
+  }
+
+  /**
+   * Returns the notifier of the given cluster.
+   *
+   * @param clusterId the cluster id.
+   * @return the notifier of the cluster.
+   */
+  public static TopologyChangeNotifier get(final String clusterId) {
+    return notifiers.computeIfAbsent(clusterId, k -> new TopologyChangeNotifier(), NOTIFIER_EXPIRATION_NANO);
+  }
+
+  /**
+   * Returns the notifier of the cluster of the given host list provider. Only an
+   * {@link RdsHostListProvider} knows its cluster, so for other providers a notifier that is never
+   * notified is returned, and waiting on it waits for the whole timeout.
+   *
+   * @param hostListProvider the host list provider of a connection.
+   * @return the notifier of the cluster.
+   */
+  public static TopologyChangeNotifier get(final HostListProvider hostListProvider) {
+    if (hostListProvider instanceof RdsHostListProvider) {
+      try {
+        return get(((RdsHostListProvider) hostListProvider).getClusterId());
+      } catch (final SQLException e) {
+        LOGGER.finest(() -> Messages.get("TopologyChangeNotifier.unknownClusterId", new Object[] {e.getMessage()}));
+      }
+    }
+    return new TopologyChangeNotifier();
+  }
+
+  public static void clearCache() {
+    notifiers.clear();
+  }
+
+  /**
+   * Returns the number of writer changes detected so far. Get the count before reading the
+   * topology, and pass it to {@link #awaitWriterChange(long, long)} to not miss a writer change
+   * detected in the meantime.
+   *
+   * @return the number of writer changes.
+   */
+  public long getWriterChangeCount() {
+    lock.lock();
+    try {
+      return writerChangeCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void notifyWriterChanged() {
+    lock.lock();
+    try {
+      writerChangeCount++;
+      writerChanged.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits until a writer change is detected after the given count was taken, or the timeout
+   * elapses.
+   *
+   * @param observedWriterChangeCount the count returned by {@link #getWriterChangeCount()}.
+   * @param timeoutNano the maximum time to wait.
+   * @return true if a writer change was detected.
+   * @throws InterruptedException if the thread is interrupted while waiting.
+   */
+  public boolean awaitWriterChange(final long observedWriterChangeCount, final long timeoutNano)
+      throws InterruptedException {
+    lock.lock();
+    try {
+      long remainingNano = timeoutNano;
+      while (writerChangeCount == observedWriterChangeCount) {
+        if (remainingNano <= 0) {
+          return false;
+        }
+        remainingNano = writerChanged.awaitNanos(remainingNano);
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  boolean hasWaiters() {
+    lock.lock();
+    try {
+      return lock.hasWaiters(writerChanged);
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.hostlistprovider;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+
+/**
+ * An immutable host list with indexes that are computed once, so consumers don't have to filter the
+ * host list on each call. Host list providers publish topologies as snapshots, and
+ * {@link #of(List)} returns the snapshot of a published host list without copying it.
+ *
+ * <p>Hosts of each role are kept in the order of their host names. Hosts can become available or
+ * unavailable after the snapshot is built, so available hosts are indexed again after the
+ * availability of any host changes, which is tracked by {@link HostSpec#getAvailabilityVersion()}
+ * without visiting the hosts of the snapshot. If a host uses an availability strategy whose result
+ * depends on time, available hosts are computed on each call.
+ *
+ * <p>Consumers that only need the writer or the available hosts of a list once should use
+ * {@link #getWriter(List)}, {@link #getAvailableHosts(List, HostRole)} and
+ * {@link #getAvailableHostsSortedByHostName(List, HostRole)}, which don't build a snapshot for
+ * lists that aren't the host list of a snapshot.
+ */
+public class TopologySnapshot {
+
+  private static final AtomicLong versionCounter = new AtomicLong();
+  private static final HostSpec[] NO_HOSTS = new HostSpec[0];
+
+  private final HostSpec[] hosts;
+  private final SnapshotHostList hostList;
+  private final @Nullable List<HostSpec> source;
+  private final long version;
+  private final @Nullable HostSpec writer;
+  private final EnumMap<HostRole, List<HostSpec>> hostsByRole = new EnumMap<>(HostRole.class);
+  private final boolean isAvailabilityTimeDependent;
+  private volatile @Nullable AvailabilityIndex availabilityIndex;
+  private volatile @Nullable Map<String, List<HostSpec>> hostsByAlias;
+  private volatile @Nullable Map<String, HostSpec> hostsById;
+
+  private TopologySnapshot(final @NonNull List<HostSpec> source) {
+    this.hosts = source.toArray(NO_HOSTS);
+    this.hostList = new SnapshotHostList(this);
+    this.source = source;
+    this.version = versionCounter.incrementAndGet();
+
+    HostSpec writer = null;
+    boolean isAvailabilityTimeDependent = false;
+    final EnumMap<HostRole, List<HostSpec>> hostsByRole = new EnumMap<>(HostRole.class);
+    for (final HostSpec host : this.hosts) {
+      if (writer == null && host.getRole() == HostRole.WRITER) {
+        writer = host;
+      }
+      if (host.getRole() != null) {
+        hostsByRole.computeIfAbsent(host.getRole(), (role) -> new ArrayList<>()).add(host);
+      }
+      if (host.getHostAvailabilityStrategy() != null
+          && !(host.getHostAvailabilityStrategy() instanceof SimpleHostAvailabilityStrategy)) {
+        isAvailabilityTimeDependent = true;
+      }
+    }
+    this.writer = writer;
+    this.isAvailabilityTimeDependent = isAvailabilityTimeDependent;
+    for (final Map.Entry<HostRole, List<HostSpec>> entry : hostsByRole.entrySet()) {
+      this.hostsByRole.put(entry.getKey(), sortedByHostName(entry.getValue()));
+    }
+  }
+
+  /**
+   * Returns the snapshot of the given host list. If the list is the host list of a snapshot, that
+   * snapshot is returned. Otherwise, a new snapshot of the list is built.
+   *
+   * @param hosts the host list.
+   * @return the snapshot of the host list.
+   */
+  public static TopologySnapshot of(final @NonNull List<HostSpec> hosts) {
+    if (hosts instanceof SnapshotHostList) {
+      return ((SnapshotHostList) hosts).snapshot;
+    }
+    return new TopologySnapshot(hosts);
+  }
+
+  /**
+   * Returns the writer of the given host list. The index of the snapshot is used if the list is
+   * the host list of a snapshot. Otherwise, the list is scanned.
+   *
+   * @param hosts the host list.
+   * @return the first writer of the list, or null if there's no writer.
+   */
+  public static @Nullable HostSpec getWriter(final @NonNull List<HostSpec> hosts) {
+    if (hosts instanceof SnapshotHostList) {
+      return ((SnapshotHostList) hosts).snapshot.getWriter();
+    }
+    for (final HostSpec host : hosts) {
+      if (host.getRole() == HostRole.WRITER) {
+        return host;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the available hosts of the given host list with the given role. The index of the
+   * snapshot is used if the list is the host list of a snapshot, in which case the hosts are in the
+   * order of their host names. Otherwise, the list is filtered and the hosts keep their order.
+   *
+   * @param hosts the host list.
+   * @param role the host role.
+   * @return an immutable list of hosts.
+   */
+  public static List<HostSpec> getAvailableHosts(
+      final @NonNull List<HostSpec> hosts, final @NonNull HostRole role) {
+    if (hosts instanceof SnapshotHostList) {
+      return ((SnapshotHostList) hosts).snapshot.getAvailableHosts(role);
+    }
+    final List<HostSpec> availableHosts = new ArrayList<>(hosts.size());
+    for (final HostSpec host : hosts) {
+      if (host.getRole() == role && host.getAvailability() == HostAvailability.AVAILABLE) {
+        availableHosts.add(host);
+      }
+    }
+    return Collections.unmodifiableList(availableHosts);
+  }
+
+  /**
+   * Returns the available hosts of the given host list with the given role in the order of their
+   * host names. The index of the snapshot is used if the list is the host list of a snapshot.
+   * Otherwise, the list is filtered and sorted.
+   *
+   * @param hosts the host list.
+   * @param role the host role.
+   * @return an immutable list of hosts.
+   */
+  public static List<HostSpec> getAvailableHostsSortedByHostName(
+      final @NonNull List<HostSpec> hosts, final @NonNull HostRole role) {
+    if (hosts instanceof SnapshotHostList) {
+      return ((SnapshotHostList) hosts).snapshot.getAvailableHosts(role);
+    }
+    return sortedByHostName(getAvailableHosts(hosts, role));
+  }
+
+  /**
+   * Returns true if this snapshot was built from the given host list or if the list is the host
+   * list of this snapshot.
+   *
+   * @param hosts the host list.
+   * @return true if the snapshot represents the given host list.
+   */
+  public boolean isSnapshotOf(final @Nullable List<HostSpec> hosts) {
+    return hosts == this.hostList || hosts == this.source;
+  }
+
+  /**
+   * Returns the hosts of the snapshot as an immutable list in their original order.
+   *
+   * @return the hosts.
+   */
+  public List<HostSpec> getHosts() {
+    return this.hostList;
+  }
+
+  /**
+   * Returns the version of the snapshot. Snapshots built later have greater versions.
+   *
+   * @return the version.
+   */
+  public long getVersion() {
+    return this.version;
+  }
+
+  public @Nullable HostSpec getWriter() {
+    return this.writer;
+  }
+
+  /**
+   * Returns the hosts with the given role in the order of their host names.
+   *
+   * @param role the host role.
+   * @return an immutable list of hosts.
+   */
+  public List<HostSpec> getHosts(final @NonNull HostRole role) {
+    final List<HostSpec> hosts = this.hostsByRole.get(role);
+    return hosts == null ? Collections.emptyList() : hosts;
+  }
+
+  /**
+   * Returns the available hosts with the given role in the order of their host names.
+   *
+   * @param role the host role.
+   * @return an immutable list of hosts.
+   */
+  public List<HostSpec> getAvailableHosts(final @NonNull HostRole role) {
+    if (this.isAvailabilityTimeDependent) {
+      return getAvailableHosts(this.getHosts(role));
+    }
+
+    final long availabilityVersion = HostSpec.getAvailabilityVersion();
+    AvailabilityIndex index = this.availabilityIndex;
+    if (index == null || index.availabilityVersion != availabilityVersion) {
+      index = new AvailabilityIndex(availabilityVersion, this.hostsByRole);
+      this.availabilityIndex = index;
+    }
+    final List<HostSpec> hosts = index.availableHostsByRole.get(role);
+    return hosts == null ? Collections.emptyList() : hosts;
+  }
+
+  /**
+   * Returns the hosts that had the given alias when the snapshot was built. Aliases can be removed
+   * from a host later, so callers should check that a host still has the alias.
+   *
+   * @param alias the host alias.
+   * @return an immutable list of hosts.
+   */
+  public List<HostSpec> getHostsByAlias(final @NonNull String alias) {
+    Map<String, List<HostSpec>> hostsByAlias = this.hostsByAlias;
+    if (hostsByAlias == null) {
+      hostsByAlias = new HashMap<>();
+      for (final HostSpec host : this.hosts) {
+        for (final String hostAlias : host.asAliases()) {
+          hostsByAlias.computeIfAbsent(hostAlias, (key) -> new ArrayList<>(1)).add(host);
+        }
+      }
+      this.hostsByAlias = hostsByAlias;
+    }
+    final List<HostSpec> hosts = hostsByAlias.get(alias);
+    return hosts == null ? Collections.emptyList() : Collections.unmodifiableList(hosts);
+  }
+
+  public @Nullable HostSpec getHostById(final @NonNull String hostId) {
+    Map<String, HostSpec> hostsById = this.hostsById;
+    if (hostsById == null) {
+      hostsById = new HashMap<>();
+      for (final HostSpec host : this.hosts) {
+        if (host.getHostId() != null) {
+          hostsById.putIfAbsent(host.getHostId(), host);
+        }
+      }
+      this.hostsById = hostsById;
+    }
+    return hostsById.get(hostId);
+  }
+
+  private static List<HostSpec> sortedByHostName(final List<HostSpec> hosts) {
+    final HostSpec[] sortedHosts = hosts.toArray(NO_HOSTS);
+    Arrays.sort(sortedHosts, Comparator.comparing(
+        HostSpec::getHost, Comparator.nullsFirst(Comparator.naturalOrder())));
+    return Collections.unmodifiableList(Arrays.asList(sortedHosts));
+  }
+
+  private static List<HostSpec> getAvailableHosts(final List<HostSpec> hosts) {
+    final List<HostSpec> availableHosts = new ArrayList<>(hosts.size());
+    for (final HostSpec host : hosts) {
+      if (host.getAvailability() == HostAvailability.AVAILABLE) {
+        availableHosts.add(host);
+      }
+    }
+    return Collections.unmodifiableList(availableHosts);
+  }
+
+  private static class AvailabilityIndex {
+    private final long availabilityVersion;
+    private final EnumMap<HostRole, List<HostSpec>> availableHostsByRole = new EnumMap<>(HostRole.class);
+
+    private AvailabilityIndex(
+        final long availabilityVersion, final EnumMap<HostRole, List<HostSpec>> hostsByRole) {
+      this.availabilityVersion = availabilityVersion;
+      for (final Map.Entry<HostRole, List<HostSpec>> entry : hostsByRole.entrySet()) {
+        this.availableHostsByRole.put(entry.getKey(), getAvailableHosts(entry.getValue()));
+      }
+    }
+  }
+
+  // An immutable view of the hosts of a snapshot that leads back to the snapshot.
+  private static class SnapshotHostList extends AbstractList<HostSpec> implements RandomAccess {
+    private final TopologySnapshot snapshot;
+
+    private SnapshotHostList(final TopologySnapshot snapshot) {
+      this.snapshot = snapshot;
+    }
+
+    @Override
+    public HostSpec get(final int index) {
+      return this.snapshot.hosts[index];
+    }
+
+    @Override
+    public int size() {
+      return this.snapshot.hosts.length;
+    }
+  }
+}
@@ -16,10 +16,16 @@
 
 package software.amazon.jdbc.plugin;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
@@ -30,27 +36,41 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.RowId;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
 import software.amazon.jdbc.AwsWrapperProperty;
 import software.amazon.jdbc.JdbcCallable;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.PropertyDefinition;
 import software.amazon.jdbc.util.Messages;
+import software.amazon.jdbc.util.SizeLimitedCacheMap;
 import software.amazon.jdbc.util.StringUtils;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
@@ -69,9 +89,23 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
       "dataCacheTriggerCondition", "false",
       "A regular expression that, if it's matched, allows the plugin to cache SQL results.");
 
-  protected static final Map<String, ResultSet> dataCache = new ConcurrentHashMap<>();
+  public static final AwsWrapperProperty DATA_CACHE_EXPIRATION_TIME_MS = new AwsWrapperProperty(
+      "dataCacheExpirationTimeMs", "600000",
+      "Time in milliseconds that cached SQL results expire after.");
 
+  public static final AwsWrapperProperty DATA_CACHE_MAX_SIZE_BYTES = new AwsWrapperProperty(
+      "dataCacheMaxSizeBytes", "67108864",
+      "Maximum estimated size in bytes of all cached SQL results. "
+          + "When the cache is full, the least recently used results are evicted.");
+
+  // Connections with different maximum cache sizes use separate caches, so the maximum size of a
+  // cache is set once when it is created.
+  protected static final Map<Long, SizeLimitedCacheMap<String, CachedResultSetData>> dataCaches =
+      new ConcurrentHashMap<>();
+
+  protected final SizeLimitedCacheMap<String, CachedResultSetData> dataCache;
   protected final String dataCacheTriggerCondition;
+  protected final long dataCacheExpirationTimeNano;
 
   static {
     PropertyDefinition.registerPluginProperties(DataCacheConnectionPlugin.class);
@@ -81,141 +115,1026 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
   private final TelemetryCounter hitCounter;
   private final TelemetryCounter missCounter;
   private final TelemetryCounter totalCallsCounter;
-  private final TelemetryGauge cacheSizeGauge;
+  private final TelemetryCounter evictionCounter;
+
+  // The caches are shared by all connections, so their gauges are registered once by the first plugin instance.
+  private static final AtomicBoolean cacheGaugesRegistered = new AtomicBoolean(false);
+  private static volatile TelemetryGauge cacheSizeGauge;
+  private static volatile TelemetryGauge cacheBytesGauge;
 
   public DataCacheConnectionPlugin(final PluginService pluginService, final Properties props) {
     this.telemetryFactory = pluginService.getTelemetryFactory();
     this.dataCacheTriggerCondition = DATA_CACHE_TRIGGER_CONDITION.getString(props);
+    this.dataCacheExpirationTimeNano = TimeUnit.MILLISECONDS.toNanos(DATA_CACHE_EXPIRATION_TIME_MS.getLong(props));
+    this.dataCache = dataCaches.computeIfAbsent(DATA_CACHE_MAX_SIZE_BYTES.getLong(props), SizeLimitedCacheMap::new);
+
+    this.hitCounter = telemetryFactory.createCounter("dataCache.cache.hit");
+    this.missCounter = telemetryFactory.createCounter("dataCache.cache.miss");
+    this.totalCallsCounter = telemetryFactory.createCounter("dataCache.cache.totalCalls");
+    this.evictionCounter = telemetryFactory.createCounter("dataCache.cache.eviction");
+    if (cacheGaugesRegistered.compareAndSet(false, true)) {
+      cacheSizeGauge = telemetryFactory.createGauge("dataCache.cache.size",
+          () -> dataCaches.values().stream().mapToLong(SizeLimitedCacheMap::size).sum());
+      cacheBytesGauge = telemetryFactory.createGauge("dataCache.cache.bytes",
+          () -> dataCaches.values().stream().mapToLong(SizeLimitedCacheMap::getSizeBytes).sum());
+    }
+  }
+
+  public static void clearCache() {
+    dataCaches.values().forEach(SizeLimitedCacheMap::clear);
+  }
+
+  @Override
+  public Set<String> getSubscribedMethods() {
+    return subscribedMethods;
+  }
+
+  @Override
+  public <T, E extends Exception> T execute(
+      final Class<T> resultClass,
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    if (StringUtils.isNullOrEmpty(this.dataCacheTriggerCondition) || resultClass != ResultSet.class) {
+      return jdbcMethodFunc.call();
+    }
+
+    totalCallsCounter.inc();
+
+    boolean needToCache = false;
+    final String sql = getQuery(jdbcMethodArgs);
+
+    if (!StringUtils.isNullOrEmpty(sql) && sql.matches(this.dataCacheTriggerCondition)) {
+      final CachedResultSetData cachedData = this.dataCache.get(sql);
+      if (cachedData == null) {
+        needToCache = true;
+        missCounter.inc();
+        LOGGER.finest(
+            () -> Messages.get(
+                "DataCacheConnectionPlugin.queryResultsCached",
+                new Object[]{methodName, sql}));
+      } else {
+        hitCounter.inc();
+        // Cached data is immutable, so each caller gets its own cursor over it.
+        return resultClass.cast(new CachedResultSet(cachedData));
+      }
+    }
+
+    final ResultSet result = (ResultSet) jdbcMethodFunc.call();
+
+    if (needToCache) {
+      try {
+        final CachedResultSetData cachedData = new CachedResultSetData(result);
+        final int evictedCount = this.dataCache.put(
+            sql, cachedData, cachedData.getEstimatedSizeBytes(), this.dataCacheExpirationTimeNano);
+        if (evictedCount > 0) {
+          evictionCounter.add(evictedCount);
+        }
+        return resultClass.cast(new CachedResultSet(cachedData));
+      } catch (final SQLException ex) {
+        // ignore exception
+      }
+    }
+
+    return resultClass.cast(result);
+  }
+
+  protected String getQuery(final Object[] jdbcMethodArgs) {
+
+    // Get query from method argument
+    if (jdbcMethodArgs != null && jdbcMethodArgs.length > 0 && jdbcMethodArgs[0] != null) {
+      return jdbcMethodArgs[0].toString();
+    }
+    return null;
+  }
+
+  /**
+   * Immutable data of a cached result set. Values are stored by column, using primitive arrays for
+   * numeric and boolean columns and a dictionary for strings with few distinct values. Column
+   * labels are resolved to column indexes once when the data is cached.
+   */
+  public static class CachedResultSetData {
+
+    // Rough estimate of the memory used by the metadata of a column.
+    private static final long COLUMN_METADATA_SIZE_BYTES = 256;
+
+    protected final int rowCount;
+    protected final int columnCount;
+    protected final CachedColumn[] columns;
+    protected final CachedResultSetMetaData metaData;
+    protected final Map<String, Integer> columnIndexByLabel;
+    protected final Map<String, Integer> columnIndexByLowerCaseLabel;
+    protected final long estimatedSizeBytes;
+
+    public CachedResultSetData(final ResultSet resultSet) throws SQLException {
+      this.metaData = new CachedResultSetMetaData(resultSet.getMetaData());
+      this.columnCount = this.metaData.getColumnCount();
+      this.columnIndexByLabel = new HashMap<>();
+      this.columnIndexByLowerCaseLabel = new HashMap<>();
+      for (int i = 1; i <= this.columnCount; ++i) {
+        final String label = this.metaData.getColumnLabel(i);
+        if (label != null) {
+          this.columnIndexByLabel.putIfAbsent(label, i);
+          this.columnIndexByLowerCaseLabel.putIfAbsent(label.toLowerCase(Locale.ROOT), i);
+        }
+      }
+
+      final List<Object[]> rows = new ArrayList<>();
+      while (resultSet.next()) {
+        final Object[] row = new Object[this.columnCount];
+        for (int i = 1; i <= this.columnCount; ++i) {
+          row[i - 1] = getCacheableValue(resultSet.getObject(i));
+        }
+        rows.add(row);
+      }
+
+      this.rowCount = rows.size();
+      this.columns = new CachedColumn[this.columnCount];
+      final Object[] values = new Object[this.rowCount];
+      long sizeBytes = CachedColumn.OBJECT_HEADER_SIZE_BYTES;
+      for (int column = 0; column < this.columnCount; column++) {
+        for (int row = 0; row < this.rowCount; row++) {
+          values[row] = rows.get(row)[column];
+        }
+        this.columns[column] = CachedColumn.create(values);
+        sizeBytes += COLUMN_METADATA_SIZE_BYTES + this.columns[column].getEstimatedSizeBytes();
+      }
+      this.estimatedSizeBytes = sizeBytes;
+    }
+
+    /**
+     * Returns a value that can be cached and shared by result sets of other connections. Large
+     * objects are owned by the connection they were read with, so their contents are cached
+     * instead: {@link Blob} values as byte arrays, and {@link Clob} and {@link NClob} values as
+     * strings.
+     */
+    protected static Object getCacheableValue(final Object value) throws SQLException {
+      if (value instanceof Blob) {
+        final Blob blob = (Blob) value;
+        return blob.getBytes(1, (int) blob.length());
+      }
+      if (value instanceof Clob) {
+        final Clob clob = (Clob) value;
+        return clob.getSubString(1, (int) clob.length());
+      }
+      return value;
+    }
+
+    public int getRowCount() {
+      return this.rowCount;
+    }
+
+    public long getEstimatedSizeBytes() {
+      return this.estimatedSizeBytes;
+    }
+
+    /**
+     * Returns the index of the column with the given label. Labels are matched case-sensitively
+     * first, and case-insensitively if there is no exact match.
+     *
+     * @param columnLabel the label of the column
+     * @return the index of the column starting from 1, or null if there's no such column
+     */
+    public Integer getColumnIndex(final String columnLabel) {
+      if (columnLabel == null) {
+        return null;
+      }
+      final Integer columnIndex = this.columnIndexByLabel.get(columnLabel);
+      return columnIndex != null
+          ? columnIndex
+          : this.columnIndexByLowerCaseLabel.get(columnLabel.toLowerCase(Locale.ROOT));
+    }
+  }
+
+  /**
+   * A column of cached values. Typed getters of a column are only called for rows that aren't null.
+   */
+  protected abstract static class CachedColumn {
+
+    // Rough estimates of the memory used by cached values.
+    protected static final long OBJECT_REFERENCE_SIZE_BYTES = 8;
+    protected static final long OBJECT_HEADER_SIZE_BYTES = 16;
+    protected static final long DEFAULT_VALUE_SIZE_BYTES = 32;
+
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    // String columns with at least this number of rows and at most one distinct value per this
+    // number of rows are stored with a dictionary.
+    private static final int DICTIONARY_MIN_ROW_COUNT = 16;
+    private static final int DICTIONARY_ROWS_PER_VALUE = 4;
+
+    protected final long[] nullBits;
+
+    protected CachedColumn(final Object[] values) {
+      this.nullBits = new long[(values.length + 63) >>> 6];
+      for (int row = 0; row < values.length; row++) {
+        if (values[row] == null) {
+          this.nullBits[row >>> 6] |= 1L << row;
+        }
+      }
+    }
+
+    protected static CachedColumn create(final Object[] values) {
+      Class<?> valueClass = null;
+      for (final Object value : values) {
+        if (value == null) {
+          continue;
+        }
+        if (valueClass == null) {
+          valueClass = value.getClass();
+        } else if (valueClass != value.getClass()) {
+          return new ObjectColumn(values);
+        }
+      }
+
+      if (valueClass == Integer.class || valueClass == Short.class || valueClass == Byte.class) {
+        return new IntColumn(values, valueClass);
+      }
+      if (valueClass == Long.class) {
+        return new LongColumn(values);
+      }
+      if (valueClass == Double.class || valueClass == Float.class) {
+        return new DoubleColumn(values, valueClass);
+      }
+      if (valueClass == Boolean.class) {
+        return new BooleanColumn(values);
+      }
+      if (valueClass == String.class && values.length >= DICTIONARY_MIN_ROW_COUNT) {
+        final Map<String, Integer> codes = new HashMap<>();
+        final int maxDictionarySize = values.length / DICTIONARY_ROWS_PER_VALUE;
+        for (final Object value : values) {
+          if (value != null && codes.putIfAbsent((String) value, codes.size()) == null
+              && codes.size() > maxDictionarySize) {
+            return new ObjectColumn(values);
+          }
+        }
+        return new DictionaryColumn(values, codes);
+      }
+      return new ObjectColumn(values);
+    }
+
+    protected static long estimateSizeBytes(final Object value) {
+      if (value == null) {
+        return 0;
+      }
+      if (value instanceof String) {
+        return OBJECT_HEADER_SIZE_BYTES * 2 + 2L * ((String) value).length();
+      }
+      if (value instanceof byte[]) {
+        return OBJECT_HEADER_SIZE_BYTES + ((byte[]) value).length;
+      }
+      return DEFAULT_VALUE_SIZE_BYTES;
+    }
+
+    protected static SQLException unsupportedConversion(final Object value, final Class<?> targetClass) {
+      return new SQLException(Messages.get(
+          "DataCacheConnectionPlugin.unsupportedConversion",
+          new Object[] {value.getClass().getName(), targetClass.getName()}));
+    }
+
+    protected static SQLException valueOutOfRange(final Object value, final String typeName) {
+      return new SQLException(Messages.get(
+          "DataCacheConnectionPlugin.valueOutOfRange",
+          new Object[] {typeName, String.valueOf(value)}));
+    }
+
+    protected static int toInt(final long value) throws SQLException {
+      if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+        throw valueOutOfRange(value, "int");
+      }
+      return (int) value;
+    }
+
+    protected static long toLong(final double value) throws SQLException {
+      // (double) Long.MAX_VALUE is rounded up to 2^63, which is out of range.
+      if (Double.isNaN(value) || value < Long.MIN_VALUE || value >= (double) Long.MAX_VALUE) {
+        throw valueOutOfRange(value, "long");
+      }
+      return (long) value;
+    }
+
+    protected static long toLong(final BigDecimal value) throws SQLException {
+      if (value.compareTo(MIN_LONG) < 0 || value.compareTo(MAX_LONG) > 0) {
+        throw valueOutOfRange(value, "long");
+      }
+      return value.longValue();
+    }
+
+    public boolean isNull(final int row) {
+      return (this.nullBits[row >>> 6] & (1L << row)) != 0;
+    }
+
+    public long getEstimatedSizeBytes() {
+      return OBJECT_HEADER_SIZE_BYTES * 2 + 8L * this.nullBits.length;
+    }
+
+    /**
+     * Returns the value of the given row with its original class.
+     *
+     * @param row the index of the row starting from 0
+     * @return the value, or null if the value is null
+     */
+    public abstract Object getObject(int row);
+
+    public String getString(final int row) {
+      final Object value = this.getObject(row);
+      if (value instanceof byte[]) {
+        return new String((byte[]) value, StandardCharsets.UTF_8);
+      }
+      return value.toString();
+    }
+
+    public int getInt(final int row) throws SQLException {
+      return toInt(this.getLong(row));
+    }
+
+    public long getLong(final int row) throws SQLException {
+      final Object value = this.getObject(row);
+      if (value instanceof Double || value instanceof Float) {
+        return toLong(((Number) value).doubleValue());
+      }
+      if (value instanceof BigDecimal) {
+        return toLong((BigDecimal) value);
+      }
+      if (value instanceof BigInteger) {
+        return toLong(new BigDecimal((BigInteger) value));
+      }
+      if (value instanceof Number) {
+        return ((Number) value).longValue();
+      }
+      if (value instanceof Boolean) {
+        return (Boolean) value ? 1 : 0;
+      }
+      if (value instanceof String) {
+        final String str = ((String) value).trim();
+        try {
+          return Long.parseLong(str);
+        } catch (final NumberFormatException ex) {
+          return toLong(this.parseBigDecimal(str, Long.class));
+        }
+      }
+      throw unsupportedConversion(value, Long.class);
+    }
+
+    public double getDouble(final int row) throws SQLException {
+      final Object value = this.getObject(row);
+      if (value instanceof Number) {
+        return ((Number) value).doubleValue();
+      }
+      if (value instanceof Boolean) {
+        return (Boolean) value ? 1 : 0;
+      }
+      if (value instanceof String) {
+        try {
+          return Double.parseDouble(((String) value).trim());
+        } catch (final NumberFormatException ex) {
+          throw new SQLException(unsupportedConversion(value, Double.class).getMessage(), ex);
+        }
+      }
+      throw unsupportedConversion(value, Double.class);
+    }
+
+    public boolean getBoolean(final int row) throws SQLException {
+      final Object value = this.getObject(row);
+      if (value instanceof Boolean) {
+        return (Boolean) value;
+      }
+      if (value instanceof Number) {
+        return ((Number) value).doubleValue() != 0;
+      }
+      if (value instanceof String) {
+        final String str = ((String) value).trim();
+        if ("1".equals(str) || "true".equalsIgnoreCase(str) || "t".equalsIgnoreCase(str)
+            || "y".equalsIgnoreCase(str) || "yes".equalsIgnoreCase(str) || "on".equalsIgnoreCase(str)) {
+          return true;
+        }
+        if ("0".equals(str) || "false".equalsIgnoreCase(str) || "f".equalsIgnoreCase(str)
+            || "n".equalsIgnoreCase(str) || "no".equalsIgnoreCase(str) || "off".equalsIgnoreCase(str)) {
+          return false;
+        }
+      }
+      throw unsupportedConversion(value, Boolean.class);
+    }
+
+    public BigDecimal getBigDecimal(final int row) throws SQLException {
+      final Object value = this.getObject(row);
+      if (value instanceof BigDecimal) {
+        return (BigDecimal) value;
+      }
+      if (value instanceof BigInteger) {
+        return new BigDecimal((BigInteger) value);
+      }
+      if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+        return BigDecimal.valueOf(((Number) value).longValue());
+      }
+      if (value instanceof Number || value instanceof String) {
+        return this.parseBigDecimal(value.toString().trim(), BigDecimal.class);
+      }
+      if (value instanceof Boolean) {
+        return (Boolean) value ? BigDecimal.ONE : BigDecimal.ZERO;
+      }
+      throw unsupportedConversion(value, BigDecimal.class);
+    }
+
+    protected BigDecimal parseBigDecimal(final String value, final Class<?> targetClass) throws SQLException {
+      try {
+        return new BigDecimal(value);
+      } catch (final NumberFormatException ex) {
+        throw new SQLException(unsupportedConversion(value, targetClass).getMessage(), ex);
+      }
+    }
+  }
+
+  /**
+   * A column of {@link Integer}, {@link Short} or {@link Byte} values.
+   */
+  protected static class IntColumn extends CachedColumn {
+
+    protected final int[] values;
+    protected final Class<?> valueClass;
+
+    protected IntColumn(final Object[] values, final Class<?> valueClass) {
+      super(values);
+      this.values = new int[values.length];
+      this.valueClass = valueClass;
+      for (int row = 0; row < values.length; row++) {
+        if (values[row] != null) {
+          this.values[row] = ((Number) values[row]).intValue();
+        }
+      }
+    }
+
+    @Override
+    public long getEstimatedSizeBytes() {
+      return super.getEstimatedSizeBytes() + OBJECT_HEADER_SIZE_BYTES + 4L * this.values.length;
+    }
+
+    @Override
+    public Object getObject(final int row) {
+      if (this.isNull(row)) {
+        return null;
+      }
+      final int value = this.values[row];
+      if (this.valueClass == Short.class) {
+        return (short) value;
+      }
+      if (this.valueClass == Byte.class) {
+        return (byte) value;
+      }
+      return value;
+    }
+
+    @Override
+    public String getString(final int row) {
+      return Integer.toString(this.values[row]);
+    }
+
+    @Override
+    public int getInt(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    public long getLong(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    public double getDouble(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    public boolean getBoolean(final int row) {
+      return this.values[row] != 0;
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int row) {
+      return BigDecimal.valueOf(this.values[row]);
+    }
+  }
+
+  /**
+   * A column of {@link Long} values.
+   */
+  protected static class LongColumn extends CachedColumn {
+
+    protected final long[] values;
+
+    protected LongColumn(final Object[] values) {
+      super(values);
+      this.values = new long[values.length];
+      for (int row = 0; row < values.length; row++) {
+        if (values[row] != null) {
+          this.values[row] = (Long) values[row];
+        }
+      }
+    }
+
+    @Override
+    public long getEstimatedSizeBytes() {
+      return super.getEstimatedSizeBytes() + OBJECT_HEADER_SIZE_BYTES + 8L * this.values.length;
+    }
+
+    @Override
+    public Object getObject(final int row) {
+      return this.isNull(row) ? null : this.values[row];
+    }
+
+    @Override
+    public String getString(final int row) {
+      return Long.toString(this.values[row]);
+    }
+
+    @Override
+    public int getInt(final int row) throws SQLException {
+      return toInt(this.values[row]);
+    }
+
+    @Override
+    public long getLong(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    public double getDouble(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    public boolean getBoolean(final int row) {
+      return this.values[row] != 0;
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int row) {
+      return BigDecimal.valueOf(this.values[row]);
+    }
+  }
+
+  /**
+   * A column of {@link Double} or {@link Float} values.
+   */
+  protected static class DoubleColumn extends CachedColumn {
+
+    protected final double[] values;
+    protected final boolean isFloat;
+
+    protected DoubleColumn(final Object[] values, final Class<?> valueClass) {
+      super(values);
+      this.values = new double[values.length];
+      this.isFloat = valueClass == Float.class;
+      for (int row = 0; row < values.length; row++) {
+        if (values[row] != null) {
+          this.values[row] = ((Number) values[row]).doubleValue();
+        }
+      }
+    }
+
+    @Override
+    public long getEstimatedSizeBytes() {
+      return super.getEstimatedSizeBytes() + OBJECT_HEADER_SIZE_BYTES + 8L * this.values.length;
+    }
+
+    @Override
+    public Object getObject(final int row) {
+      if (this.isNull(row)) {
+        return null;
+      }
+      return this.isFloat ? (Object) (float) this.values[row] : (Object) this.values[row];
+    }
+
+    @Override
+    public String getString(final int row) {
+      return this.isFloat ? Float.toString((float) this.values[row]) : Double.toString(this.values[row]);
+    }
+
+    @Override
+    public int getInt(final int row) throws SQLException {
+      final double value = this.values[row];
+      if (Double.isNaN(value) || value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+        throw valueOutOfRange(value, "int");
+      }
+      return (int) value;
+    }
+
+    @Override
+    public long getLong(final int row) throws SQLException {
+      return toLong(this.values[row]);
+    }
+
+    @Override
+    public double getDouble(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    public boolean getBoolean(final int row) {
+      return this.values[row] != 0;
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int row) throws SQLException {
+      // The string representation keeps the precision of float values.
+      return this.parseBigDecimal(this.getString(row), BigDecimal.class);
+    }
+  }
+
+  /**
+   * A column of {@link Boolean} values stored as a bitmap.
+   */
+  protected static class BooleanColumn extends CachedColumn {
+
+    protected final long[] valueBits;
+
+    protected BooleanColumn(final Object[] values) {
+      super(values);
+      this.valueBits = new long[this.nullBits.length];
+      for (int row = 0; row < values.length; row++) {
+        if (Boolean.TRUE.equals(values[row])) {
+          this.valueBits[row >>> 6] |= 1L << row;
+        }
+      }
+    }
+
+    @Override
+    public long getEstimatedSizeBytes() {
+      return super.getEstimatedSizeBytes() + OBJECT_HEADER_SIZE_BYTES + 8L * this.valueBits.length;
+    }
+
+    @Override
+    public Object getObject(final int row) {
+      return this.isNull(row) ? null : this.getBoolean(row);
+    }
+
+    @Override
+    public String getString(final int row) {
+      return Boolean.toString(this.getBoolean(row));
+    }
+
+    @Override
+    public long getLong(final int row) {
+      return this.getBoolean(row) ? 1 : 0;
+    }
+
+    @Override
+    public double getDouble(final int row) {
+      return this.getBoolean(row) ? 1 : 0;
+    }
+
+    @Override
+    public boolean getBoolean(final int row) {
+      return (this.valueBits[row >>> 6] & (1L << row)) != 0;
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int row) {
+      return this.getBoolean(row) ? BigDecimal.ONE : BigDecimal.ZERO;
+    }
+  }
+
+  /**
+   * A column of {@link String} values with few distinct values. Each distinct value is stored once,
+   * and rows store the index of their value in the dictionary. Indexes are stored as bytes if the
+   * dictionary is small enough.
+   */
+  protected static class DictionaryColumn extends CachedColumn {
+
+    protected final String[] dictionary;
+    protected final byte[] byteCodes;
+    protected final int[] intCodes;
+
+    protected DictionaryColumn(final Object[] values, final Map<String, Integer> codes) {
+      super(values);
+      this.dictionary = new String[codes.size()];
+      for (final Map.Entry<String, Integer> entry : codes.entrySet()) {
+        this.dictionary[entry.getValue()] = entry.getKey();
+      }
+
+      final boolean useByteCodes = this.dictionary.length <= 256;
+      this.byteCodes = useByteCodes ? new byte[values.length] : null;
+      this.intCodes = useByteCodes ? null : new int[values.length];
+      for (int row = 0; row < values.length; row++) {
+        if (values[row] == null) {
+          continue;
+        }
+        final int code = codes.get((String) values[row]);
+        if (useByteCodes) {
+          this.byteCodes[row] = (byte) code;
+        } else {
+          this.intCodes[row] = code;
+        }
+      }
+    }
+
+    @Override
+    public long getEstimatedSizeBytes() {
+      long sizeBytes = super.getEstimatedSizeBytes() + OBJECT_HEADER_SIZE_BYTES * 2
+          + OBJECT_REFERENCE_SIZE_BYTES * this.dictionary.length;
+      sizeBytes += this.byteCodes != null ? this.byteCodes.length : 4L * this.intCodes.length;
+      for (final String value : this.dictionary) {
+        sizeBytes += estimateSizeBytes(value);
+      }
+      return sizeBytes;
+    }
+
+    @Override
+    public Object getObject(final int row) {
+      return this.isNull(row) ? null : this.getString(row);
+    }
+
+    @Override
+    public String getString(final int row) {
+      return this.dictionary[this.byteCodes != null ? this.byteCodes[row] & 0xFF : this.intCodes[row]];
+    }
+  }
+
+  /**
+   * A column of values of any other type, or of values of different types.
+   */
+  protected static class ObjectColumn extends CachedColumn {
+
+    protected final Object[] values;
+
+    protected ObjectColumn(final Object[] values) {
+      super(values);
+      this.values = values.clone();
+    }
+
+    @Override
+    public long getEstimatedSizeBytes() {
+      long sizeBytes = super.getEstimatedSizeBytes() + OBJECT_HEADER_SIZE_BYTES
+          + OBJECT_REFERENCE_SIZE_BYTES * this.values.length;
+      for (final Object value : this.values) {
+        sizeBytes += estimateSizeBytes(value);
+      }
+      return sizeBytes;
+    }
+
+    @Override
+    public Object getObject(final int row) {
+      return this.values[row];
+    }
+  }
+
+  /**
+   * Immutable copy of the metadata of a cached result set.
+   */
+  public static class CachedResultSetMetaData implements ResultSetMetaData {
+
+    protected final CachedColumnMetaData[] columns;
+
+    public CachedResultSetMetaData(final ResultSetMetaData metaData) throws SQLException {
+      this.columns = new CachedColumnMetaData[metaData.getColumnCount()];
+      for (int i = 1; i <= this.columns.length; ++i) {
+        this.columns[i - 1] = new CachedColumnMetaData(metaData, i);
+      }
+    }
+
+    protected CachedColumnMetaData getColumn(final int column) throws SQLException {
+      if (column < 1 || column > this.columns.length) {
+        throw new SQLException(Messages.get(
+            "DataCacheConnectionPlugin.invalidColumnIndex", new Object[] {column}));
+      }
+      return this.columns[column - 1];
+    }
+
+    @Override
+    public int getColumnCount() {
+      return this.columns.length;
+    }
+
+    @Override
+    public boolean isAutoIncrement(final int column) throws SQLException {
+      return this.getColumn(column).isAutoIncrement;
+    }
+
+    @Override
+    public boolean isCaseSensitive(final int column) throws SQLException {
+      return this.getColumn(column).isCaseSensitive;
+    }
+
+    @Override
+    public boolean isSearchable(final int column) throws SQLException {
+      return this.getColumn(column).isSearchable;
+    }
+
+    @Override
+    public boolean isCurrency(final int column) throws SQLException {
+      return this.getColumn(column).isCurrency;
+    }
+
+    @Override
+    public int isNullable(final int column) throws SQLException {
+      return this.getColumn(column).nullable;
+    }
+
+    @Override
+    public boolean isSigned(final int column) throws SQLException {
+      return this.getColumn(column).isSigned;
+    }
+
+    @Override
+    public int getColumnDisplaySize(final int column) throws SQLException {
+      return this.getColumn(column).displaySize;
+    }
 
-    this.hitCounter = telemetryFactory.createCounter("dataCache.cache.hit");
-    this.missCounter = telemetryFactory.createCounter("dataCache.cache.miss");
-    this.totalCallsCounter = telemetryFactory.createCounter("dataCache.cache.totalCalls");
-    this.cacheSizeGauge = telemetryFactory.createGauge("dataCache.cache.size", () -> (long) dataCache.size());
-  }
+    @Override
+    public String getColumnLabel(final int column) throws SQLException {
+      return this.getColumn(column).label;
+    }
 
-  public static void clearCache() {
-    dataCache.clear();
-  }
+    @Override
+    public String getColumnName(final int column) throws SQLException {
+      return this.getColumn(column).name;
+    }
 
-  @Override
-  public Set<String> getSubscribedMethods() {
-    return subscribedMethods;
-  }
+    @Override
+    public String getSchemaName(final int column) throws SQLException {
+      return this.getColumn(column).schemaName;
+    }
 
-  @Override
-  public <T, E extends Exception> T execute(
-      final Class<T> resultClass,
-      final Class<E> exceptionClass,
-      final Object methodInvokeOn,
-      final String methodName,
-      final JdbcCallable<T, E> jdbcMethodFunc,
-      final Object[] jdbcMethodArgs)
-      throws E {
+    @Override
+    public int getPrecision(final int column) throws SQLException {
+      return this.getColumn(column).precision;
+    }
 
-    if (StringUtils.isNullOrEmpty(this.dataCacheTriggerCondition) || resultClass != ResultSet.class) {
-      return jdbcMethodFunc.call();
+    @Override
+    public int getScale(final int column) throws SQLException {
+      return this.getColumn(column).scale;
     }
 
-    totalCallsCounter.inc();
+    @Override
+    public String getTableName(final int column) throws SQLException {
+      return this.getColumn(column).tableName;
+    }
 
-    ResultSet result;
-    boolean needToCache = false;
-    final String sql = getQuery(jdbcMethodArgs);
+    @Override
+    public String getCatalogName(final int column) throws SQLException {
+      return this.getColumn(column).catalogName;
+    }
 
-    if (!StringUtils.isNullOrEmpty(sql) && sql.matches(this.dataCacheTriggerCondition)) {
-      result = dataCache.get(sql);
-      if (result == null) {
-        needToCache = true;
-        missCounter.inc();
-        LOGGER.finest(
-            () -> Messages.get(
-                "DataCacheConnectionPlugin.queryResultsCached",
-                new Object[]{methodName, sql}));
-      } else {
-        hitCounter.inc();
-        try {
-          result.beforeFirst();
-        } catch (final SQLException ex) {
-          if (exceptionClass.isAssignableFrom(ex.getClass())) {
-            throw exceptionClass.cast(ex);
-          }
-          throw new RuntimeException(ex);
-        }
-        return resultClass.cast(result);
-      }
+    @Override
+    public int getColumnType(final int column) throws SQLException {
+      return this.getColumn(column).type;
     }
 
-    result = (ResultSet) jdbcMethodFunc.call();
+    @Override
+    public String getColumnTypeName(final int column) throws SQLException {
+      return this.getColumn(column).typeName;
+    }
 
-    if (needToCache) {
-      final ResultSet cachedResultSet;
-      try {
-        cachedResultSet = new CachedResultSet(result);
-        dataCache.put(sql, cachedResultSet);
-        cachedResultSet.beforeFirst();
-        return resultClass.cast(cachedResultSet);
-      } catch (final SQLException ex) {
-        // ignore exception
-      }
+    @Override
+    public boolean isReadOnly(final int column) throws SQLException {
+      // Cached results can't be updated.
+      this.getColumn(column);
+      return true;
     }
 
-    return resultClass.cast(result);
-  }
+    @Override
+    public boolean isWritable(final int column) throws SQLException {
+      this.getColumn(column);
+      return false;
+    }
 
-  protected String getQuery(final Object[] jdbcMethodArgs) {
+    @Override
+    public boolean isDefinitelyWritable(final int column) throws SQLException {
+      this.getColumn(column);
+      return false;
+    }
 
-    // Get query from method argument
-    if (jdbcMethodArgs != null && jdbcMethodArgs.length > 0 && jdbcMethodArgs[0] != null) {
-      return jdbcMethodArgs[0].toString();
+    @Override
+    public String getColumnClassName(final int column) throws SQLException {
+      return this.getColumn(column).className;
     }
-    return null;
-  }
 
-  public static class CachedRow {
-    protected final HashMap<Integer, Object> columnByIndex = new HashMap<>();
-    protected final HashMap<String, Object> columnByName = new HashMap<>();
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+      return iface == ResultSetMetaData.class ? iface.cast(this) : null;
+    }
 
-    public void put(final int columnIndex, final String columnName, final Object columnValue) {
-      columnByIndex.put(columnIndex, columnValue);
-      columnByName.put(columnName, columnValue);
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+      return iface != null && iface.isAssignableFrom(this.getClass());
     }
+  }
 
-    @SuppressWarnings("unused")
-    public Object get(final int columnIndex) {
-      return columnByIndex.get(columnIndex);
+  protected static class CachedColumnMetaData {
+
+    protected final String label;
+    protected final String name;
+    protected final String catalogName;
+    protected final String schemaName;
+    protected final String tableName;
+    protected final int type;
+    protected final String typeName;
+    protected final String className;
+    protected final int displaySize;
+    protected final int precision;
+    protected final int scale;
+    protected final int nullable;
+    protected final boolean isAutoIncrement;
+    protected final boolean isCaseSensitive;
+    protected final boolean isSearchable;
+    protected final boolean isCurrency;
+    protected final boolean isSigned;
+
+    protected CachedColumnMetaData(final ResultSetMetaData metaData, final int column) throws SQLException {
+      this.name = metaData.getColumnName(column);
+      final String label = metaData.getColumnLabel(column);
+      this.label = StringUtils.isNullOrEmpty(label) ? this.name : label;
+      this.catalogName = metaData.getCatalogName(column);
+      this.schemaName = metaData.getSchemaName(column);
+      this.tableName = metaData.getTableName(column);
+      this.type = metaData.getColumnType(column);
+      this.typeName = metaData.getColumnTypeName(column);
+      this.className = metaData.getColumnClassName(column);
+      this.displaySize = metaData.getColumnDisplaySize(column);
+      this.precision = metaData.getPrecision(column);
+      this.scale = metaData.getScale(column);
+      this.nullable = metaData.isNullable(column);
+      this.isAutoIncrement = metaData.isAutoIncrement(column);
+      this.isCaseSensitive = metaData.isCaseSensitive(column);
+      this.isSearchable = metaData.isSearchable(column);
+      this.isCurrency = metaData.isCurrency(column);
+      this.isSigned = metaData.isSigned(column);
     }
+  }
+
+  /**
+   * A serialized {@link NClob} of a cached value.
+   */
+  protected static class SerialNClob extends SerialClob implements NClob {
 
-    @SuppressWarnings("unused")
-    public Object get(final String columnName) {
-      return columnByName.get(columnName);
+    protected SerialNClob(final char[] value) throws SQLException {
+      super(value);
     }
   }
 
   @SuppressWarnings({"RedundantThrows", "checkstyle:OverloadMethodsDeclarationOrder"})
   public static class CachedResultSet implements ResultSet {
 
-    protected ArrayList<CachedRow> rows;
+    protected final CachedResultSetData data;
     protected int currentRow;
+    protected boolean wasNull;
+    protected boolean isClosed;
 
     public CachedResultSet(final ResultSet resultSet) throws SQLException {
+      this(new CachedResultSetData(resultSet));
+    }
 
-      final ResultSetMetaData md = resultSet.getMetaData();
-      final int columns = md.getColumnCount();
-      rows = new ArrayList<>();
+    public CachedResultSet(final CachedResultSetData data) {
+      this.data = data;
+      this.currentRow = -1;
+    }
 
-      while (resultSet.next()) {
-        final CachedRow row = new CachedRow();
-        for (int i = 1; i <= columns; ++i) {
-          row.put(i, md.getColumnName(i), resultSet.getObject(i));
-        }
-        rows.add(row);
+    protected CachedColumn getColumn(final int columnIndex) throws SQLException {
+      if (this.currentRow < 0 || this.currentRow >= this.data.rowCount) {
+        throw new SQLException(Messages.get("DataCacheConnectionPlugin.invalidRow"));
       }
-      currentRow = -1;
+      if (columnIndex < 1 || columnIndex > this.data.columnCount) {
+        throw new SQLException(Messages.get(
+            "DataCacheConnectionPlugin.invalidColumnIndex", new Object[] {columnIndex}));
+      }
+      final CachedColumn column = this.data.columns[columnIndex - 1];
+      this.wasNull = column.isNull(this.currentRow);
+      return column;
+    }
+
+    // Returns the cached value without copying it. Mutable values must not be returned to callers.
+    protected Object getValue(final int columnIndex) throws SQLException {
+      return this.getColumn(columnIndex).getObject(this.currentRow);
+    }
+
+    // Interprets the local date and time in the time zone of the calendar.
+    protected long toCalendarTime(final LocalDateTime localDateTime, final Calendar cal) {
+      final Calendar calendar = (Calendar) cal.clone();
+      calendar.clear();
+      calendar.set(
+          localDateTime.getYear(),
+          localDateTime.getMonthValue() - 1,
+          localDateTime.getDayOfMonth(),
+          localDateTime.getHour(),
+          localDateTime.getMinute(),
+          localDateTime.getSecond());
+      return calendar.getTimeInMillis();
+    }
+
+    protected Timestamp toTimestamp(final LocalDateTime localDateTime, final Calendar cal) {
+      final Timestamp timestamp = new Timestamp(this.toCalendarTime(localDateTime, cal));
+      timestamp.setNanos(localDateTime.getNano());
+      return timestamp;
     }
 
     @Override
     public boolean next() throws SQLException {
-      if (rows.size() == 0 || isLast()) {
+      if (this.data.rowCount == 0 || isLast()) {
         return false;
       }
       currentRow++;
@@ -224,245 +1143,374 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public void close() throws SQLException {
-      currentRow = rows.size() - 1;
+      currentRow = this.data.rowCount - 1;
+      this.isClosed = true;
     }
 
     @Override
     public boolean wasNull() throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.wasNull;
     }
 
     @Override
     public String getString(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return this.wasNull ? null : column.getString(this.currentRow);
     }
 
     @Override
     public boolean getBoolean(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return this.wasNull ? false : column.getBoolean(this.currentRow);
     }
 
     @Override
     public byte getByte(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      if (this.wasNull) {
+        return 0;
+      }
+      final int value = column.getInt(this.currentRow);
+      if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+        throw CachedColumn.valueOutOfRange(value, "byte");
+      }
+      return (byte) value;
     }
 
     @Override
     public short getShort(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      if (this.wasNull) {
+        return 0;
+      }
+      final int value = column.getInt(this.currentRow);
+      if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+        throw CachedColumn.valueOutOfRange(value, "short");
+      }
+      return (short) value;
     }
 
     @Override
     public int getInt(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return this.wasNull ? 0 : column.getInt(this.currentRow);
     }
 
     @Override
     public long getLong(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return this.wasNull ? 0 : column.getLong(this.currentRow);
     }
 
     @Override
     public float getFloat(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return this.wasNull ? 0 : (float) column.getDouble(this.currentRow);
     }
 
     @Override
     public double getDouble(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return this.wasNull ? 0 : column.getDouble(this.currentRow);
     }
 
     @Override
     @Deprecated
     public BigDecimal getBigDecimal(final int columnIndex, final int scale) throws SQLException {
-      throw new UnsupportedOperationException();
+      final BigDecimal value = this.getBigDecimal(columnIndex);
+      return value == null ? null : value.setScale(scale, RoundingMode.HALF_UP);
     }
 
     @Override
     public byte[] getBytes(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Object value = this.getValue(columnIndex);
+      if (value == null) {
+        return null;
+      }
+      if (value instanceof byte[]) {
+        return ((byte[]) value).clone();
+      }
+      if (value instanceof String) {
+        return ((String) value).getBytes(StandardCharsets.UTF_8);
+      }
+      throw CachedColumn.unsupportedConversion(value, byte[].class);
     }
 
     @Override
     public Date getDate(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Object value = this.getValue(columnIndex);
+      if (value == null) {
+        return null;
+      }
+      if (value instanceof Date) {
+        return new Date(((Date) value).getTime());
+      }
+      if (value instanceof Timestamp) {
+        return Date.valueOf(((Timestamp) value).toLocalDateTime().toLocalDate());
+      }
+      if (value instanceof LocalDate) {
+        return Date.valueOf((LocalDate) value);
+      }
+      if (value instanceof LocalDateTime) {
+        return Date.valueOf(((LocalDateTime) value).toLocalDate());
+      }
+      if (value instanceof OffsetDateTime) {
+        return Date.valueOf(((OffsetDateTime) value).atZoneSameInstant(ZoneId.systemDefault()).toLocalDate());
+      }
+      if (value instanceof java.util.Date) {
+        return new Date(((java.util.Date) value).getTime());
+      }
+      if (value instanceof String) {
+        try {
+          return Date.valueOf(((String) value).trim());
+        } catch (final IllegalArgumentException ex) {
+          throw new SQLException(CachedColumn.unsupportedConversion(value, Date.class).getMessage(), ex);
+        }
+      }
+      throw CachedColumn.unsupportedConversion(value, Date.class);
     }
 
     @Override
     public Time getTime(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Object value = this.getValue(columnIndex);
+      if (value == null) {
+        return null;
+      }
+      if (value instanceof Time) {
+        return new Time(((Time) value).getTime());
+      }
+      if (value instanceof Timestamp) {
+        return Time.valueOf(((Timestamp) value).toLocalDateTime().toLocalTime());
+      }
+      if (value instanceof LocalTime) {
+        return Time.valueOf((LocalTime) value);
+      }
+      if (value instanceof LocalDateTime) {
+        return Time.valueOf(((LocalDateTime) value).toLocalTime());
+      }
+      if (value instanceof OffsetDateTime) {
+        return Time.valueOf(((OffsetDateTime) value).atZoneSameInstant(ZoneId.systemDefault()).toLocalTime());
+      }
+      if (value instanceof String) {
+        try {
+          return Time.valueOf(((String) value).trim());
+        } catch (final IllegalArgumentException ex) {
+          throw new SQLException(CachedColumn.unsupportedConversion(value, Time.class).getMessage(), ex);
+        }
+      }
+      throw CachedColumn.unsupportedConversion(value, Time.class);
     }
 
     @Override
     public Timestamp getTimestamp(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Object value = this.getValue(columnIndex);
+      if (value == null) {
+        return null;
+      }
+      if (value instanceof Timestamp) {
+        final Timestamp timestamp = new Timestamp(((Timestamp) value).getTime());
+        timestamp.setNanos(((Timestamp) value).getNanos());
+        return timestamp;
+      }
+      if (value instanceof LocalDateTime) {
+        return Timestamp.valueOf((LocalDateTime) value);
+      }
+      if (value instanceof LocalDate) {
+        return Timestamp.valueOf(((LocalDate) value).atStartOfDay());
+      }
+      if (value instanceof OffsetDateTime) {
+        return Timestamp.from(((OffsetDateTime) value).toInstant());
+      }
+      if (value instanceof Instant) {
+        return Timestamp.from((Instant) value);
+      }
+      if (value instanceof java.util.Date) {
+        return new Timestamp(((java.util.Date) value).getTime());
+      }
+      if (value instanceof String) {
+        try {
+          return Timestamp.valueOf(((String) value).trim());
+        } catch (final IllegalArgumentException ex) {
+          throw new SQLException(CachedColumn.unsupportedConversion(value, Timestamp.class).getMessage(), ex);
+        }
+      }
+      throw CachedColumn.unsupportedConversion(value, Timestamp.class);
     }
 
     @Override
     public InputStream getAsciiStream(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final String value = this.getString(columnIndex);
+      return value == null ? null : new ByteArrayInputStream(value.getBytes(StandardCharsets.US_ASCII));
     }
 
     @Override
     @Deprecated
     public InputStream getUnicodeStream(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final String value = this.getString(columnIndex);
+      return value == null ? null : new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_16BE));
     }
 
     @Override
     public InputStream getBinaryStream(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final byte[] value = this.getBytes(columnIndex);
+      return value == null ? null : new ByteArrayInputStream(value);
     }
 
     @Override
     public String getString(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getString(this.findColumn(columnLabel));
     }
 
     @Override
     public boolean getBoolean(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getBoolean(this.findColumn(columnLabel));
     }
 
     @Override
     public byte getByte(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getByte(this.findColumn(columnLabel));
     }
 
     @Override
     public short getShort(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getShort(this.findColumn(columnLabel));
     }
 
     @Override
     public int getInt(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getInt(this.findColumn(columnLabel));
     }
 
     @Override
     public long getLong(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getLong(this.findColumn(columnLabel));
     }
 
     @Override
     public float getFloat(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getFloat(this.findColumn(columnLabel));
     }
 
     @Override
     public double getDouble(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getDouble(this.findColumn(columnLabel));
     }
 
     @Override
     @Deprecated
     public BigDecimal getBigDecimal(final String columnLabel, final int scale) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getBigDecimal(this.findColumn(columnLabel), scale);
     }
 
     @Override
     public byte[] getBytes(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getBytes(this.findColumn(columnLabel));
     }
 
     @Override
     public Date getDate(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getDate(this.findColumn(columnLabel));
     }
 
     @Override
     public Time getTime(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getTime(this.findColumn(columnLabel));
     }
 
     @Override
     public Timestamp getTimestamp(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getTimestamp(this.findColumn(columnLabel));
     }
 
     @Override
     public InputStream getAsciiStream(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getAsciiStream(this.findColumn(columnLabel));
     }
 
     @Override
     @Deprecated
     public InputStream getUnicodeStream(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getUnicodeStream(this.findColumn(columnLabel));
     }
 
     @Override
     public InputStream getBinaryStream(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getBinaryStream(this.findColumn(columnLabel));
     }
 
     @Override
     public SQLWarning getWarnings() throws SQLException {
-      throw new UnsupportedOperationException();
+      return null;
     }
 
     @Override
     public void clearWarnings() throws SQLException {
-      throw new UnsupportedOperationException();
+      // Cached results have no warnings.
     }
 
     @Override
     public String getCursorName() throws SQLException {
-      throw new UnsupportedOperationException();
+      throw new SQLFeatureNotSupportedException();
     }
 
     @Override
     public ResultSetMetaData getMetaData() throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.data.metaData;
     }
 
     @Override
     public Object getObject(final int columnIndex) throws SQLException {
-      if (this.currentRow < 0 || this.currentRow >= this.rows.size()) {
-        return null; // out of boundaries
+      final Object value = this.getValue(columnIndex);
+      if (value instanceof byte[]) {
+        return ((byte[]) value).clone();
       }
-      final CachedRow row = this.rows.get(this.currentRow);
-      if (!row.columnByIndex.containsKey(columnIndex)) {
-        return null; // column index out of boundaries
+      if (value instanceof Timestamp) {
+        return this.getTimestamp(columnIndex);
       }
-      return row.columnByIndex.get(columnIndex);
+      if (value instanceof Date) {
+        return this.getDate(columnIndex);
+      }
+      if (value instanceof Time) {
+        return this.getTime(columnIndex);
+      }
+      return value;
     }
 
     @Override
     public Object getObject(final String columnLabel) throws SQLException {
-      if (this.currentRow < 0 || this.currentRow >= this.rows.size()) {
-        return null; // out of boundaries
-      }
-      final CachedRow row = this.rows.get(this.currentRow);
-      if (!row.columnByName.containsKey(columnLabel)) {
-        return null; // column name not found
-      }
-      return row.columnByName.get(columnLabel);
+      return this.getObject(this.findColumn(columnLabel));
     }
 
     @Override
     public int findColumn(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Integer columnIndex = this.data.getColumnIndex(columnLabel);
+      if (columnIndex == null) {
+        throw new SQLException(Messages.get(
+            "DataCacheConnectionPlugin.columnNotFound", new Object[] {columnLabel}));
+      }
+      return columnIndex;
     }
 
     @Override
     public Reader getCharacterStream(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final String value = this.getString(columnIndex);
+      return value == null ? null : new StringReader(value);
     }
 
     @Override
     public Reader getCharacterStream(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getCharacterStream(this.findColumn(columnLabel));
     }
 
     @Override
     public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return this.wasNull ? null : column.getBigDecimal(this.currentRow);
     }
 
     @Override
     public BigDecimal getBigDecimal(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getBigDecimal(this.findColumn(columnLabel));
     }
 
     @Override
@@ -472,17 +1520,17 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public boolean isAfterLast() throws SQLException {
-      return this.currentRow >= this.rows.size();
+      return this.currentRow >= this.data.rowCount;
     }
 
     @Override
     public boolean isFirst() throws SQLException {
-      return this.currentRow == 0 && this.rows.size() > 0;
+      return this.currentRow == 0 && this.data.rowCount > 0;
     }
 
     @Override
     public boolean isLast() throws SQLException {
-      return this.currentRow == (this.rows.size() - 1) && this.rows.size() > 0;
+      return this.currentRow == (this.data.rowCount - 1) && this.data.rowCount > 0;
     }
 
     @Override
@@ -492,18 +1540,18 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public void afterLast() throws SQLException {
-      this.currentRow = this.rows.size();
+      this.currentRow = this.data.rowCount;
     }
 
     @Override
     public boolean first() throws SQLException {
       this.currentRow = 0;
-      return this.currentRow < this.rows.size();
+      return this.currentRow < this.data.rowCount;
     }
 
     @Override
     public boolean last() throws SQLException {
-      this.currentRow = this.rows.size() - 1;
+      this.currentRow = this.data.rowCount - 1;
       return this.currentRow >= 0;
     }
 
@@ -517,21 +1565,21 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
       if (row > 0) {
         this.currentRow = row - 1;
       } else {
-        this.currentRow = this.rows.size() + row;
+        this.currentRow = this.data.rowCount + row;
       }
-      return this.currentRow >= 0 && this.currentRow < this.rows.size();
+      return this.currentRow >= 0 && this.currentRow < this.data.rowCount;
     }
 
     @Override
     public boolean relative(final int rows) throws SQLException {
       this.currentRow += rows;
-      return this.currentRow >= 0 && this.currentRow < this.rows.size();
+      return this.currentRow >= 0 && this.currentRow < this.data.rowCount;
     }
 
     @Override
     public boolean previous() throws SQLException {
       this.currentRow--;
-      return this.currentRow >= 0 && this.currentRow < this.rows.size();
+      return this.currentRow >= 0 && this.currentRow < this.data.rowCount;
     }
 
     @Override
@@ -541,27 +1589,30 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public int getFetchDirection() throws SQLException {
-      throw new UnsupportedOperationException();
+      return ResultSet.FETCH_FORWARD;
     }
 
     @Override
     public void setFetchSize(final int rows) throws SQLException {
-      throw new UnsupportedOperationException();
+      // All rows are already fetched, so the hint is ignored.
+      if (rows < 0) {
+        throw new SQLException(Messages.get("DataCacheConnectionPlugin.invalidFetchSize", new Object[] {rows}));
+      }
     }
 
     @Override
     public int getFetchSize() throws SQLException {
-      throw new UnsupportedOperationException();
+      return 0;
     }
 
     @Override
     public int getType() throws SQLException {
-      throw new UnsupportedOperationException();
+      return ResultSet.TYPE_SCROLL_INSENSITIVE;
     }
 
     @Override
     public int getConcurrency() throws SQLException {
-      throw new UnsupportedOperationException();
+      return ResultSet.CONCUR_READ_ONLY;
     }
 
     @Override
@@ -810,99 +1861,139 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public Statement getStatement() throws SQLException {
-      throw new UnsupportedOperationException();
+      // Cached results aren't bound to the statement that produced them.
+      return null;
     }
 
     @Override
     public Object getObject(final int columnIndex, final Map<String, Class<?>> map)
         throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getObject(columnIndex);
     }
 
     @Override
     public Ref getRef(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Object value = this.getValue(columnIndex);
+      if (value == null || value instanceof Ref) {
+        return (Ref) value;
+      }
+      throw CachedColumn.unsupportedConversion(value, Ref.class);
     }
 
     @Override
     public Blob getBlob(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Object value = this.getValue(columnIndex);
+      if (value == null) {
+        return null;
+      }
+      return new SerialBlob(this.getBytes(columnIndex));
     }
 
     @Override
     public Clob getClob(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Object value = this.getValue(columnIndex);
+      if (value == null) {
+        return null;
+      }
+      if (value instanceof String) {
+        return new SerialClob(((String) value).toCharArray());
+      }
+      throw CachedColumn.unsupportedConversion(value, Clob.class);
     }
 
     @Override
     public Array getArray(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Object value = this.getValue(columnIndex);
+      if (value == null || value instanceof Array) {
+        return (Array) value;
+      }
+      throw CachedColumn.unsupportedConversion(value, Array.class);
     }
 
     @Override
     public Object getObject(final String columnLabel, final Map<String, Class<?>> map)
         throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getObject(this.findColumn(columnLabel), map);
     }
 
     @Override
     public Ref getRef(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getRef(this.findColumn(columnLabel));
     }
 
     @Override
     public Blob getBlob(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getBlob(this.findColumn(columnLabel));
     }
 
     @Override
     public Clob getClob(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getClob(this.findColumn(columnLabel));
     }
 
     @Override
     public Array getArray(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getArray(this.findColumn(columnLabel));
     }
 
     @Override
     public Date getDate(final int columnIndex, final Calendar cal) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Date value = this.getDate(columnIndex);
+      if (value == null || cal == null) {
+        return value;
+      }
+      return new Date(this.toCalendarTime(value.toLocalDate().atStartOfDay(), cal));
     }
 
     @Override
     public Date getDate(final String columnLabel, final Calendar cal) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getDate(this.findColumn(columnLabel), cal);
     }
 
     @Override
     public Time getTime(final int columnIndex, final Calendar cal) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Time value = this.getTime(columnIndex);
+      if (value == null || cal == null) {
+        return value;
+      }
+      return new Time(this.toCalendarTime(LocalDate.of(1970, 1, 1).atTime(value.toLocalTime()), cal));
     }
 
     @Override
     public Time getTime(final String columnLabel, final Calendar cal) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getTime(this.findColumn(columnLabel), cal);
     }
 
     @Override
     public Timestamp getTimestamp(final int columnIndex, final Calendar cal) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Timestamp value = this.getTimestamp(columnIndex);
+      return value == null || cal == null ? value : this.toTimestamp(value.toLocalDateTime(), cal);
     }
 
     @Override
     public Timestamp getTimestamp(final String columnLabel, final Calendar cal) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getTimestamp(this.findColumn(columnLabel), cal);
     }
 
     @Override
     public URL getURL(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Object value = this.getValue(columnIndex);
+      if (value == null || value instanceof URL) {
+        return (URL) value;
+      }
+      if (value instanceof String) {
+        try {
+          return new URL((String) value);
+        } catch (final MalformedURLException ex) {
+          throw new SQLException(CachedColumn.unsupportedConversion(value, URL.class).getMessage(), ex);
+        }
+      }
+      throw CachedColumn.unsupportedConversion(value, URL.class);
     }
 
     @Override
     public URL getURL(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getURL(this.findColumn(columnLabel));
     }
 
     @Override
@@ -947,12 +2038,16 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public RowId getRowId(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Object value = this.getValue(columnIndex);
+      if (value == null || value instanceof RowId) {
+        return (RowId) value;
+      }
+      throw CachedColumn.unsupportedConversion(value, RowId.class);
     }
 
     @Override
     public RowId getRowId(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getRowId(this.findColumn(columnLabel));
     }
 
     @Override
@@ -967,12 +2062,12 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public int getHoldability() throws SQLException {
-      throw new UnsupportedOperationException();
+      return ResultSet.HOLD_CURSORS_OVER_COMMIT;
     }
 
     @Override
     public boolean isClosed() throws SQLException {
-      return false;
+      return this.isClosed;
     }
 
     @Override
@@ -1002,22 +2097,33 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
     @Override
     @SuppressWarnings("checkstyle:MethodName")
     public NClob getNClob(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Object value = this.getValue(columnIndex);
+      if (value == null) {
+        return null;
+      }
+      if (value instanceof String) {
+        return new SerialNClob(((String) value).toCharArray());
+      }
+      throw CachedColumn.unsupportedConversion(value, NClob.class);
     }
 
     @Override
     public NClob getNClob(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getNClob(this.findColumn(columnLabel));
     }
 
     @Override
     public SQLXML getSQLXML(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final Object value = this.getValue(columnIndex);
+      if (value == null || value instanceof SQLXML) {
+        return (SQLXML) value;
+      }
+      throw CachedColumn.unsupportedConversion(value, SQLXML.class);
     }
 
     @Override
     public SQLXML getSQLXML(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getSQLXML(this.findColumn(columnLabel));
     }
 
     @Override
@@ -1032,22 +2138,22 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public String getNString(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getString(columnIndex);
     }
 
     @Override
     public String getNString(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getNString(this.findColumn(columnLabel));
     }
 
     @Override
     public Reader getNCharacterStream(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getCharacterStream(columnIndex);
     }
 
     @Override
     public Reader getNCharacterStream(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getNCharacterStream(this.findColumn(columnLabel));
     }
 
     @Override
@@ -1206,12 +2312,79 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public <T> T getObject(final int columnIndex, final Class<T> type) throws SQLException {
-      return type.cast(getObject(columnIndex));
+      if (type == null) {
+        throw new SQLException(Messages.get("DataCacheConnectionPlugin.nullType"));
+      }
+      final Object value = this.getObject(columnIndex);
+      if (value == null) {
+        return null;
+      }
+      if (type.isInstance(value)) {
+        return type.cast(value);
+      }
+      if (type == String.class) {
+        return type.cast(this.getString(columnIndex));
+      }
+      if (type == Integer.class) {
+        return type.cast(this.getInt(columnIndex));
+      }
+      if (type == Long.class) {
+        return type.cast(this.getLong(columnIndex));
+      }
+      if (type == Short.class) {
+        return type.cast(this.getShort(columnIndex));
+      }
+      if (type == Byte.class) {
+        return type.cast(this.getByte(columnIndex));
+      }
+      if (type == Double.class) {
+        return type.cast(this.getDouble(columnIndex));
+      }
+      if (type == Float.class) {
+        return type.cast(this.getFloat(columnIndex));
+      }
+      if (type == Boolean.class) {
+        return type.cast(this.getBoolean(columnIndex));
+      }
+      if (type == BigDecimal.class) {
+        return type.cast(this.getBigDecimal(columnIndex));
+      }
+      if (type == byte[].class) {
+        return type.cast(this.getBytes(columnIndex));
+      }
+      if (type == Date.class) {
+        return type.cast(this.getDate(columnIndex));
+      }
+      if (type == Time.class) {
+        return type.cast(this.getTime(columnIndex));
+      }
+      if (type == Timestamp.class) {
+        return type.cast(this.getTimestamp(columnIndex));
+      }
+      if (type == LocalDate.class) {
+        return type.cast(this.getDate(columnIndex).toLocalDate());
+      }
+      if (type == LocalTime.class) {
+        return type.cast(this.getTime(columnIndex).toLocalTime());
+      }
+      if (type == LocalDateTime.class) {
+        return type.cast(this.getTimestamp(columnIndex).toLocalDateTime());
+      }
+      if (type == Blob.class) {
+        return type.cast(this.getBlob(columnIndex));
+      }
+      if (type == Clob.class) {
+        return type.cast(this.getClob(columnIndex));
+      }
+      if (type == URL.class) {
+        return type.cast(this.getURL(columnIndex));
+      }
+      throw CachedColumn.unsupportedConversion(value, type);
     }
 
     @Override
     public <T> T getObject(final String columnLabel, final Class<T> type) throws SQLException {
-      return type.cast(getObject(columnLabel));
+      return this.getObject(this.findColumn(columnLabel), type);
     }
 
     @Override
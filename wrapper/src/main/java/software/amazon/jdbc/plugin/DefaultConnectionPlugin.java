@@ -45,6 +45,7 @@ import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.hostavailability.HostAvailability;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.SqlMethodAnalyzer;
+import software.amazon.jdbc.util.SqlStatementType;
 import software.amazon.jdbc.util.WrapperUtils;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
@@ -132,6 +133,11 @@ public final class DefaultConnectionPlugin implements ConnectionPlugin {
       telemetryContext.closeContext();
     }
 
+    if (!sqlMethodAnalyzer.canChangeTransactionState(methodName)) {
+      // Skip fetching the bound connection from the target driver since there is nothing to analyze.
+      return result;
+    }
+
     final Connection currentConn = this.pluginService.getCurrentConnection();
     final Connection boundConnection = WrapperUtils.getConnectionFromSqlObject(methodInvokeOn);
     if (boundConnection != null && boundConnection != currentConn) {
@@ -140,18 +146,21 @@ public final class DefaultConnectionPlugin implements ConnectionPlugin {
       return result;
     }
 
-    if (sqlMethodAnalyzer.doesOpenTransaction(currentConn, methodName, jdbcMethodArgs)) {
+    // The statement is classified once and shared by the checks below.
+    final SqlStatementType statementType =
+        sqlMethodAnalyzer.getStatementType(methodInvokeOn, methodName, jdbcMethodArgs);
+    if (sqlMethodAnalyzer.doesOpenTransaction(currentConn, statementType)) {
       this.pluginManagerService.setInTransaction(true);
     } else if (
-        sqlMethodAnalyzer.doesCloseTransaction(currentConn, methodName, jdbcMethodArgs)
+        sqlMethodAnalyzer.doesCloseTransaction(currentConn, methodName, jdbcMethodArgs, statementType)
             // According to the JDBC spec, transactions are committed if autocommit is switched from false to true.
             || sqlMethodAnalyzer.doesSwitchAutoCommitFalseTrue(currentConn, methodName,
-            jdbcMethodArgs)) {
+            jdbcMethodArgs, statementType)) {
       this.pluginManagerService.setInTransaction(false);
     }
 
-    if (sqlMethodAnalyzer.isStatementSettingAutoCommit(methodName, jdbcMethodArgs)) {
-      final Boolean autocommit = sqlMethodAnalyzer.getAutoCommitValueFromSqlStatement(jdbcMethodArgs);
+    if (statementType != null && statementType.isSettingAutoCommit()) {
+      final Boolean autocommit = statementType.getAutoCommitValue();
       if (autocommit != null) {
         try {
           currentConn.setAutoCommit(autocommit);
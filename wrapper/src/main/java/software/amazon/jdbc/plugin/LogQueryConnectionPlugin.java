@@ -18,9 +18,7 @@ package software.amazon.jdbc.plugin;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -28,14 +26,14 @@ import software.amazon.jdbc.AwsWrapperProperty;
 import software.amazon.jdbc.JdbcCallable;
 import software.amazon.jdbc.PropertyDefinition;
 import software.amazon.jdbc.util.Messages;
+import software.amazon.jdbc.util.PreparedSql;
 import software.amazon.jdbc.util.StringUtils;
-import software.amazon.jdbc.util.WrapperUtils;
 
 /*
  * The plugin logs a SQL statement to be executed. When SQL statement isn't passed as a method parameter,
- * it may require use of reflection to obtain SQL statement from a target object internal members. Using reflection
- * can cause a performance degradation. User needs to explicitly allow using reflection by setting
- * configuration parameter 'enhancedLogQueryEnabled' to true.
+ * as for prepared and callable statements, the SQL captured when the statement was created is logged.
+ * User needs to explicitly allow logging such statements by setting configuration parameter
+ * 'enhancedLogQueryEnabled' to true.
  */
 public class LogQueryConnectionPlugin extends AbstractConnectionPlugin {
 
@@ -81,22 +79,11 @@ public class LogQueryConnectionPlugin extends AbstractConnectionPlugin {
               "CallableStatement.executeUpdate",
               "CallableStatement.executeLargeUpdate"));
 
-  private final Map<String, String> queryAccessorByClassName =
-      new HashMap<String, String>() {
-        {
-          put("com.mysql.cj.jdbc.ClientPreparedStatement", "query.originalSql");
-          put("com.mysql.cj.jdbc.CallableStatement", "query.originalSql");
-          put("org.postgresql.jdbc.PgPreparedStatement", "preparedQuery.key");
-          put("org.postgresql.jdbc.PgCallableStatement", "preparedQuery.key.sql");
-          put("org.mariadb.jdbc.ClientPreparedStatement", "sql");
-        }
-      };
-
   public static final AwsWrapperProperty ENHANCED_LOG_QUERY_ENABLED =
       new AwsWrapperProperty(
           "enhancedLogQueryEnabled",
           "false",
-          "Allows the 'logQuery' plugin to inspect object internals to get prepared SQL statements and batches.");
+          "Allows the 'logQuery' plugin to log the SQL of prepared and callable statements.");
 
   protected final boolean enhancedLogQueryEnabled;
 
@@ -148,16 +135,12 @@ public class LogQueryConnectionPlugin extends AbstractConnectionPlugin {
       return null;
     }
 
-    final String targetClassName = methodInvokeOn.getClass().getName();
-
-    // Get query from object internal variable
+    // Get query captured when the statement was prepared
     if (methodWithNoArg.contains(methodName)
         && (jdbcMethodArgs == null || jdbcMethodArgs.length == 0)) {
-
-      final String accessor = queryAccessorByClassName.get(targetClassName);
-      if (accessor != null) {
-        final Object query = WrapperUtils.getFieldValue(methodInvokeOn, accessor);
-        return query == null ? null : query.toString();
+      final PreparedSql preparedSql = PreparedSql.getExecuting(methodInvokeOn);
+      if (preparedSql != null) {
+        return preparedSql.getSql();
       }
     }
 
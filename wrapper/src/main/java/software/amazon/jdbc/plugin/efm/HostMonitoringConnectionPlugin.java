@@ -18,6 +18,7 @@ package software.amazon.jdbc.plugin.efm;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
@@ -76,10 +77,16 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
           "3",
           "Number of failed connection checks before considering database node unhealthy.");
 
-  private static final Set<String> subscribedMethods =
-      Collections.unmodifiableSet(new HashSet<>(Collections.singletonList("*")));
+  private static final Set<String> subscribedMethods;
+
+  static {
+    final Set<String> methods = new HashSet<>(SubscribedMethodHelper.NETWORK_BOUND_METHODS);
+    methods.addAll(Arrays.asList("connect", "forceConnect", "notifyConnectionChanged"));
+    subscribedMethods = Collections.unmodifiableSet(methods);
+  }
 
   protected @NonNull Properties properties;
+  protected volatile @NonNull HostMonitoringSettings settings;
   private final @NonNull Supplier<MonitorService> monitorServiceSupplier;
   private final @NonNull PluginService pluginService;
   private MonitorService monitorService;
@@ -119,10 +126,20 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
     }
     this.pluginService = pluginService;
     this.properties = properties;
+    this.settings = HostMonitoringSettings.get(properties);
     this.monitorServiceSupplier = monitorServiceSupplier;
     this.rdsHelper = rdsHelper;
   }
 
+  /**
+   * Resolves the failure detection settings from the connection properties again. Settings are
+   * resolved once when the plugin is created, so changes of the properties take effect only after
+   * this method is called.
+   */
+  public void reloadSettings() {
+    this.settings = HostMonitoringSettings.get(this.properties);
+  }
+
   @Override
   public Set<String> getSubscribedMethods() {
     return subscribedMethods;
@@ -142,17 +159,15 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
       final Object[] jdbcMethodArgs)
       throws E {
 
-    // update config settings since they may change
-    final boolean isEnabled = FAILURE_DETECTION_ENABLED.getBoolean(this.properties);
+    final HostMonitoringSettings settings = this.settings;
 
-    if (!isEnabled || !SubscribedMethodHelper.NETWORK_BOUND_METHODS.contains(methodName)) {
+    if (!settings.isEnabled() || !SubscribedMethodHelper.NETWORK_BOUND_METHODS.contains(methodName)) {
       return jdbcMethodFunc.call();
     }
 
-    final int failureDetectionTimeMillis = FAILURE_DETECTION_TIME.getInteger(this.properties);
-    final int failureDetectionIntervalMillis =
-        FAILURE_DETECTION_INTERVAL.getInteger(this.properties);
-    final int failureDetectionCount = FAILURE_DETECTION_COUNT.getInteger(this.properties);
+    final int failureDetectionTimeMillis = settings.getFailureDetectionTimeMillis();
+    final int failureDetectionIntervalMillis = settings.getFailureDetectionIntervalMillis();
+    final int failureDetectionCount = settings.getFailureDetectionCount();
 
     initMonitorService();
 
@@ -181,7 +196,8 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
 
     } finally {
       if (monitorContext != null) {
-        synchronized (monitorContext) {
+        monitorContext.lock();
+        try {
           this.monitorService.stopMonitoring(monitorContext);
 
           if (monitorContext.isNodeUnhealthy()) {
@@ -206,6 +222,8 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
                           new Object[] {this.pluginService.getCurrentHostSpec().asAlias()})));
             }
           }
+        } finally {
+          monitorContext.unlock();
         }
 
         LOGGER.finest(
@@ -19,9 +19,10 @@ package software.amazon.jdbc.plugin.efm;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
+import software.amazon.jdbc.util.ExecutorFactory;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 
@@ -32,7 +33,7 @@ import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 public class MonitorConnectionContext {
 
   private static final Logger LOGGER = Logger.getLogger(MonitorConnectionContext.class.getName());
-  private static final Executor ABORT_EXECUTOR = Executors.newSingleThreadExecutor();
+  private static final Executor ABORT_EXECUTOR = ExecutorFactory.newThreadPerTaskExecutor("efm-abort-");
 
   private final TelemetryCounter abortedConnectionsCounter;
 
@@ -41,6 +42,7 @@ public class MonitorConnectionContext {
   private final long failureDetectionCount;
   private final Connection connectionToAbort;
   private final Monitor monitor;
+  private final ReentrantLock lock = new ReentrantLock();
 
   private volatile boolean activeContext = true;
   private volatile boolean nodeUnhealthy = false;
@@ -75,6 +77,18 @@ public class MonitorConnectionContext {
     this.abortedConnectionsCounter = abortedConnectionsCounter;
   }
 
+  /**
+   * Locks the context while its status is evaluated. The status evaluation may abort or check the
+   * connection, so a lock is used rather than a monitor to not pin the carriers of virtual threads.
+   */
+  public void lock() {
+    this.lock.lock();
+  }
+
+  public void unlock() {
+    this.lock.unlock();
+  }
+
   void setStartMonitorTimeNano(final long startMonitorTimeNano) {
     this.startMonitorTimeNano = startMonitorTimeNano;
     this.expectedActiveMonitoringStartTimeNano = startMonitorTimeNano
@@ -190,7 +190,8 @@ public class MonitorImpl implements Monitor {
 
             while ((monitorContext = this.activeContexts.poll()) != null) {
 
-              synchronized (monitorContext) {
+              monitorContext.lock();
+              try {
                 // If context is already invalid, just skip it
                 if (!monitorContext.isActiveContext()) {
                   continue;
@@ -221,6 +222,8 @@ public class MonitorImpl implements Monitor {
                     delayMillis = monitorContext.getFailureDetectionIntervalMillis();
                   }
                 }
+              } finally {
+                monitorContext.unlock();
               }
             }
 
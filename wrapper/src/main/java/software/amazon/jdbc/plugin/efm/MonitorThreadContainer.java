@@ -22,10 +22,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
+import software.amazon.jdbc.util.ExecutorFactory;
 import software.amazon.jdbc.util.Messages;
 
 /**
@@ -47,7 +47,7 @@ public class MonitorThreadContainer {
    * @return a singleton instance of the {@link MonitorThreadContainer}.
    */
   public static MonitorThreadContainer getInstance() {
-    return getInstance(Executors::newCachedThreadPool);
+    return getInstance(() -> ExecutorFactory.newThreadPerTaskExecutor("efm-monitor-"));
   }
 
   static MonitorThreadContainer getInstance(final ExecutorServiceInitializer executorServiceInitializer) {
@@ -18,6 +18,7 @@ package software.amazon.jdbc.plugin.efm2;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
@@ -74,15 +75,29 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
           "3",
           "Number of failed connection checks before considering database node unhealthy.");
 
-  private static final Set<String> subscribedMethods =
-      Collections.unmodifiableSet(new HashSet<>(Collections.singletonList("*")));
+  public static final AwsWrapperProperty FAILURE_DETECTION_DEFERRED_ACTIVATION =
+      new AwsWrapperProperty(
+          "failureDetectionDeferredActivation",
+          "false",
+          "Reuse a single monitoring context per connection and monitor the node only for calls that run "
+              + "longer than failureDetectionTime.");
+
+  private static final Set<String> subscribedMethods;
+
+  static {
+    final Set<String> methods = new HashSet<>(SubscribedMethodHelper.NETWORK_BOUND_METHODS);
+    methods.addAll(Arrays.asList("connect", "forceConnect", "notifyConnectionChanged"));
+    subscribedMethods = Collections.unmodifiableSet(methods);
+  }
 
   protected @NonNull Properties properties;
+  protected volatile @NonNull HostMonitoringSettings settings;
   private final @NonNull Supplier<MonitorService> monitorServiceSupplier;
   private final @NonNull PluginService pluginService;
   private MonitorService monitorService;
   private final RdsUtils rdsHelper;
   private HostSpec monitoringHostSpec;
+  private MonitorConnectionContext deferredMonitorContext;
 
   static {
     PropertyDefinition.registerPluginProperties(HostMonitoringConnectionPlugin.class);
@@ -117,10 +132,20 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
     }
     this.pluginService = pluginService;
     this.properties = properties;
+    this.settings = HostMonitoringSettings.get(properties);
     this.monitorServiceSupplier = monitorServiceSupplier;
     this.rdsHelper = rdsHelper;
   }
 
+  /**
+   * Resolves the failure detection settings from the connection properties again. Settings are
+   * resolved once when the plugin is created, so changes of the properties take effect only after
+   * this method is called.
+   */
+  public void reloadSettings() {
+    this.settings = HostMonitoringSettings.get(this.properties);
+  }
+
   @Override
   public Set<String> getSubscribedMethods() {
     return subscribedMethods;
@@ -140,20 +165,23 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
       final Object[] jdbcMethodArgs)
       throws E {
 
-    // update config settings since they may change
-    final boolean isEnabled = FAILURE_DETECTION_ENABLED.getBoolean(this.properties);
+    final HostMonitoringSettings settings = this.settings;
 
-    if (!isEnabled || !SubscribedMethodHelper.NETWORK_BOUND_METHODS.contains(methodName)) {
+    if (!settings.isEnabled() || !SubscribedMethodHelper.NETWORK_BOUND_METHODS.contains(methodName)) {
       return jdbcMethodFunc.call();
     }
 
-    final int failureDetectionTimeMillis = FAILURE_DETECTION_TIME.getInteger(this.properties);
-    final int failureDetectionIntervalMillis =
-        FAILURE_DETECTION_INTERVAL.getInteger(this.properties);
-    final int failureDetectionCount = FAILURE_DETECTION_COUNT.getInteger(this.properties);
+    final int failureDetectionTimeMillis = settings.getFailureDetectionTimeMillis();
+    final int failureDetectionIntervalMillis = settings.getFailureDetectionIntervalMillis();
+    final int failureDetectionCount = settings.getFailureDetectionCount();
 
     initMonitorService();
 
+    if (settings.isDeferredActivation()) {
+      return this.executeWithDeferredMonitoring(
+          jdbcMethodFunc, failureDetectionTimeMillis, failureDetectionIntervalMillis, failureDetectionCount);
+    }
+
     T result;
     MonitorConnectionContext monitorContext = null;
 
@@ -190,6 +218,69 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
     return result;
   }
 
+  /**
+   * Executes the given SQL function while recording its start time in the deferred monitoring
+   * context of the current connection. Short calls don't create monitoring contexts, and the
+   * monitor checks the node only if the call is still running after the failure detection time.
+   */
+  private <T, E extends Exception> T executeWithDeferredMonitoring(
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final int failureDetectionTimeMillis,
+      final int failureDetectionIntervalMillis,
+      final int failureDetectionCount)
+      throws E {
+
+    final MonitorConnectionContext monitorContext = this.getDeferredMonitorContext(
+        failureDetectionTimeMillis, failureDetectionIntervalMillis, failureDetectionCount);
+    final long callStartTimeNano = System.nanoTime();
+    monitorContext.startCall(callStartTimeNano);
+
+    try {
+      return jdbcMethodFunc.call();
+    } finally {
+      monitorContext.endCall(callStartTimeNano);
+      if (monitorContext.isNodeUnhealthy()) {
+        // The monitor has aborted the connection, so the context can't be reused.
+        this.stopDeferredMonitoring();
+      }
+    }
+  }
+
+  private MonitorConnectionContext getDeferredMonitorContext(
+      final int failureDetectionTimeMillis,
+      final int failureDetectionIntervalMillis,
+      final int failureDetectionCount) {
+
+    final Connection currentConnection = this.pluginService.getCurrentConnection();
+    MonitorConnectionContext monitorContext = this.deferredMonitorContext;
+    if (monitorContext != null
+        && (monitorContext.getConnection() != currentConnection
+        || !monitorContext.hasSettings(
+            failureDetectionTimeMillis, failureDetectionIntervalMillis, failureDetectionCount))) {
+      this.stopDeferredMonitoring();
+      monitorContext = null;
+    }
+
+    if (monitorContext == null) {
+      monitorContext = this.monitorService.startDeferredMonitoring(
+          currentConnection, // abort this connection if needed
+          this.getMonitoringHostSpec(),
+          this.properties,
+          failureDetectionTimeMillis,
+          failureDetectionIntervalMillis,
+          failureDetectionCount);
+      this.deferredMonitorContext = monitorContext;
+    }
+    return monitorContext;
+  }
+
+  private void stopDeferredMonitoring() {
+    if (this.deferredMonitorContext != null && this.monitorService != null) {
+      this.monitorService.stopDeferredMonitoring(this.deferredMonitorContext);
+    }
+    this.deferredMonitorContext = null;
+  }
+
   private void initMonitorService() {
     if (this.monitorService == null) {
       this.monitorService = this.monitorServiceSupplier.get();
@@ -199,6 +290,8 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
   /** Call this plugin's monitor service to release all resources associated with this plugin. */
   @Override
   public void releaseResources() {
+    this.stopDeferredMonitoring();
+
     if (this.monitorService != null) {
       this.monitorService.releaseResources();
     }
@@ -213,6 +306,7 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
 
       // Reset monitoring HostSpec since the associated connection has changed.
       this.monitoringHostSpec = null;
+      this.stopDeferredMonitoring();
     }
 
     return OldConnectionSuggestedAction.NO_OPINION;
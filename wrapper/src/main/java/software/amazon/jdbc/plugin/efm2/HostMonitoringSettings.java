@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.efm2;
+
+import static software.amazon.jdbc.plugin.efm2.HostMonitoringConnectionPlugin.FAILURE_DETECTION_COUNT;
+import static software.amazon.jdbc.plugin.efm2.HostMonitoringConnectionPlugin.FAILURE_DETECTION_DEFERRED_ACTIVATION;
+import static software.amazon.jdbc.plugin.efm2.HostMonitoringConnectionPlugin.FAILURE_DETECTION_ENABLED;
+import static software.amazon.jdbc.plugin.efm2.HostMonitoringConnectionPlugin.FAILURE_DETECTION_INTERVAL;
+import static software.amazon.jdbc.plugin.efm2.HostMonitoringConnectionPlugin.FAILURE_DETECTION_TIME;
+
+import java.util.Properties;
+import software.amazon.jdbc.PropertyDefinition;
+
+/**
+ * Failure detection settings resolved from connection properties. Settings are immutable and
+ * shared by connections with identical failure detection properties.
+ */
+public final class HostMonitoringSettings {
+
+  private final boolean enabled;
+  private final int failureDetectionTimeMillis;
+  private final int failureDetectionIntervalMillis;
+  private final int failureDetectionCount;
+  private final boolean deferredActivation;
+
+  private HostMonitoringSettings(final Properties props) {
+    this.enabled = FAILURE_DETECTION_ENABLED.getBoolean(props);
+    this.failureDetectionTimeMillis = FAILURE_DETECTION_TIME.getInteger(props);
+    this.failureDetectionIntervalMillis = FAILURE_DETECTION_INTERVAL.getInteger(props);
+    this.failureDetectionCount = FAILURE_DETECTION_COUNT.getInteger(props);
+    this.deferredActivation = FAILURE_DETECTION_DEFERRED_ACTIVATION.getBoolean(props);
+  }
+
+  public static HostMonitoringSettings get(final Properties props) {
+    return PropertyDefinition.getSnapshot(
+        HostMonitoringSettings.class,
+        props,
+        HostMonitoringSettings::new,
+        FAILURE_DETECTION_ENABLED,
+        FAILURE_DETECTION_TIME,
+        FAILURE_DETECTION_INTERVAL,
+        FAILURE_DETECTION_COUNT,
+        FAILURE_DETECTION_DEFERRED_ACTIVATION);
+  }
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public int getFailureDetectionTimeMillis() {
+    return this.failureDetectionTimeMillis;
+  }
+
+  public int getFailureDetectionIntervalMillis() {
+    return this.failureDetectionIntervalMillis;
+  }
+
+  public int getFailureDetectionCount() {
+    return this.failureDetectionCount;
+  }
+
+  public boolean isDeferredActivation() {
+    return this.deferredActivation;
+  }
+}
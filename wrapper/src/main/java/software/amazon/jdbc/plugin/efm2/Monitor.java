@@ -24,5 +24,12 @@ public interface Monitor extends AutoCloseable, Runnable {
 
   void startMonitoring(MonitorConnectionContext context);
 
+  /**
+   * Removes a context from the monitor, so the monitor doesn't keep a reference to it.
+   *
+   * @param context The context to remove.
+   */
+  void stopMonitoring(MonitorConnectionContext context);
+
   boolean canDispose();
 }
@@ -18,25 +18,155 @@ package software.amazon.jdbc.plugin.efm2;
 
 import java.lang.ref.WeakReference;
 import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.jdbc.util.TimingWheel;
 
 /**
  * Monitoring context for each connection. This contains each connection's criteria for whether a
  * server should be considered unhealthy. The context is shared between the main thread and the monitor thread.
+ *
+ * <p>A deferred context is registered with the monitor once and reused by all calls of a
+ * connection. The connection only records the start time of the current call, and the monitor
+ * considers the context active while the call has been running longer than the failure detection
+ * time.
  */
-public class MonitorConnectionContext {
+public class MonitorConnectionContext extends TimingWheel.Entry {
+
+  private static final long NO_CALL = Long.MIN_VALUE;
 
   private final AtomicReference<WeakReference<Connection>> connectionToAbortRef;
   private final AtomicBoolean nodeUnhealthy = new AtomicBoolean(false);
+  private final long failureDetectionTimeNano;
+  private final long failureDetectionIntervalNano;
+  private final int failureDetectionCount;
+  private final boolean isDeferred;
+  private volatile Monitor monitor;
+  private volatile long callStartTimeNano = NO_CALL;
+
+  /**
+   * Constructor.
+   *
+   * @param connectionToAbort A reference to the connection associated with this context that will be aborted.
+   * @param failureDetectionTimeMillis Grace period after which node monitoring starts.
+   * @param failureDetectionIntervalMillis Interval between each failed connection check.
+   * @param failureDetectionCount Number of failed connection checks before considering database
+   *                              node as unhealthy.
+   */
+  public MonitorConnectionContext(
+      final Connection connectionToAbort,
+      final int failureDetectionTimeMillis,
+      final int failureDetectionIntervalMillis,
+      final int failureDetectionCount) {
+    this(connectionToAbort, failureDetectionTimeMillis, failureDetectionIntervalMillis, failureDetectionCount, false);
+  }
 
   /**
    * Constructor.
    *
    * @param connectionToAbort A reference to the connection associated with this context that will be aborted.
+   * @param failureDetectionTimeMillis Grace period after which node monitoring starts.
+   * @param failureDetectionIntervalMillis Interval between each failed connection check.
+   * @param failureDetectionCount Number of failed connection checks before considering database
+   *                              node as unhealthy.
+   * @param isDeferred Whether the context is reused by all calls of the connection.
    */
-  public MonitorConnectionContext(final Connection connectionToAbort) {
+  public MonitorConnectionContext(
+      final Connection connectionToAbort,
+      final int failureDetectionTimeMillis,
+      final int failureDetectionIntervalMillis,
+      final int failureDetectionCount,
+      final boolean isDeferred) {
     this.connectionToAbortRef = new AtomicReference<>(new WeakReference<>(connectionToAbort));
+    this.failureDetectionTimeNano = TimeUnit.MILLISECONDS.toNanos(failureDetectionTimeMillis);
+    this.failureDetectionIntervalNano = TimeUnit.MILLISECONDS.toNanos(failureDetectionIntervalMillis);
+    this.failureDetectionCount = failureDetectionCount;
+    this.isDeferred = isDeferred;
+  }
+
+  public boolean isDeferred() {
+    return this.isDeferred;
+  }
+
+  /**
+   * Checks whether the context was created with the given failure detection settings.
+   *
+   * @param failureDetectionTimeMillis Grace period after which node monitoring starts.
+   * @param failureDetectionIntervalMillis Interval between each failed connection check.
+   * @param failureDetectionCount Number of failed connection checks before considering database
+   *                              node as unhealthy.
+   * @return true if the settings match.
+   */
+  public boolean hasSettings(
+      final int failureDetectionTimeMillis,
+      final int failureDetectionIntervalMillis,
+      final int failureDetectionCount) {
+    return this.failureDetectionTimeNano == TimeUnit.MILLISECONDS.toNanos(failureDetectionTimeMillis)
+        && this.failureDetectionIntervalNano == TimeUnit.MILLISECONDS.toNanos(failureDetectionIntervalMillis)
+        && this.failureDetectionCount == failureDetectionCount;
+  }
+
+  /**
+   * Records the start of a call of a deferred context.
+   *
+   * @param currentTimeNano The start time of the call.
+   */
+  public void startCall(final long currentTimeNano) {
+    this.callStartTimeNano = currentTimeNano;
+  }
+
+  /**
+   * Records the end of a call of a deferred context. The call is kept if another call of the
+   * connection has started since.
+   *
+   * @param callStartTimeNano The start time of the call.
+   */
+  public void endCall(final long callStartTimeNano) {
+    if (this.callStartTimeNano == callStartTimeNano) {
+      this.callStartTimeNano = NO_CALL;
+    }
+  }
+
+  /**
+   * Checks whether a call of a deferred context has been running longer than the failure detection
+   * time.
+   *
+   * @param currentTimeNano The current time.
+   * @return true if the monitor should consider the context active.
+   */
+  public boolean isCallOverdue(final long currentTimeNano) {
+    final long startTimeNano = this.callStartTimeNano;
+    return startTimeNano != NO_CALL && currentTimeNano - startTimeNano >= this.failureDetectionTimeNano;
+  }
+
+  public long getFailureDetectionTimeNano() {
+    return this.failureDetectionTimeNano;
+  }
+
+  public long getFailureDetectionIntervalNano() {
+    return this.failureDetectionIntervalNano;
+  }
+
+  public int getFailureDetectionCount() {
+    return this.failureDetectionCount;
+  }
+
+  /**
+   * Returns how long the node has to be unavailable before this connection is aborted.
+   *
+   * @return the duration in nanoseconds.
+   */
+  public long getMaxInvalidNodeDurationNano() {
+    return this.failureDetectionIntervalNano * Math.max(0, this.failureDetectionCount);
+  }
+
+  Monitor getMonitor() {
+    return this.monitor;
+  }
+
+  void setMonitor(final Monitor monitor) {
+    this.monitor = monitor;
   }
 
   public boolean isNodeUnhealthy() {
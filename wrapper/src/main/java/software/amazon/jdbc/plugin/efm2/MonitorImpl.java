@@ -16,30 +16,30 @@
 
 package software.amazon.jdbc.plugin.efm2;
 
-import java.lang.ref.WeakReference;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Properties;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.util.ExecutorFactory;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.PropertyUtils;
 import software.amazon.jdbc.util.StringUtils;
+import software.amazon.jdbc.util.TimingWheel;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
@@ -47,8 +47,9 @@ import software.amazon.jdbc.util.telemetry.TelemetryGauge;
 import software.amazon.jdbc.util.telemetry.TelemetryTraceLevel;
 
 /**
- * This class uses a background thread to monitor a particular server with one or more active {@link
- * Connection}.
+ * This class monitors a particular server with one or more active {@link Connection}. Status checks
+ * are scheduled as tasks on executors shared by all monitors, so monitors don't hold threads while
+ * they're waiting for the next check.
  */
 public class MonitorImpl implements Monitor {
 
@@ -56,30 +57,40 @@ public class MonitorImpl implements Monitor {
   private static final long THREAD_SLEEP_NANO = TimeUnit.SECONDS.toNanos(1);
   private static final String MONITORING_PROPERTY_PREFIX = "monitoring-";
 
-  protected static final Executor ABORT_EXECUTOR = Executors.newSingleThreadExecutor();
-
-  private final Queue<WeakReference<MonitorConnectionContext>> activeContexts = new ConcurrentLinkedQueue<>();
-  private final Map<Long, Queue<WeakReference<MonitorConnectionContext>>> newContexts =
-      new ConcurrentHashMap<>();
+  // Shared by all monitors and the monitor service to abort unhealthy connections.
+  protected static final Executor ABORT_EXECUTOR = ExecutorFactory.newThreadPerTaskExecutor("efm2-abort-");
+
+  // A single thread schedules status checks of all monitors. Checks run on virtual threads if
+  // they're supported, or on pooled threads that are terminated when they're idle.
+  protected static final ScheduledExecutorService scheduler =
+      ExecutorFactory.newSingleThreadScheduledExecutor("efm2-scheduler");
+  protected static final ExecutorService statusCheckExecutor =
+      ExecutorFactory.newThreadPerTaskExecutor("efm2-monitor-");
+
+  // Guards the contexts. New contexts wait in the timing wheel until their failure detection time
+  // elapses, and then they're moved to the list of active contexts. Both take constant time to add
+  // or remove a context.
+  private final ReentrantLock contextsLock = new ReentrantLock();
+  private final TimingWheel<MonitorConnectionContext> newContexts;
+  private final TimingWheel.EntryList<MonitorConnectionContext> activeContexts = new TimingWheel.EntryList<>();
+  // Deferred contexts stay registered while their connections are open. They're checked on each
+  // run and considered active only while a call is overdue.
+  private final TimingWheel.EntryList<MonitorConnectionContext> deferredContexts = new TimingWheel.EntryList<>();
   private final PluginService pluginService;
   private final TelemetryFactory telemetryFactory;
   private final Properties properties;
   private final HostSpec hostSpec;
   private final AtomicBoolean stopped = new AtomicBoolean(false);
+  // Held while a status check is running.
+  private final ReentrantLock runLock = new ReentrantLock();
+  private volatile ScheduledFuture<?> scheduledRun;
   private Connection monitoringConn = null;
-  private final ExecutorService threadPool = Executors.newFixedThreadPool(2, runnableTarget -> {
-    final Thread monitoringThread = new Thread(runnableTarget);
-    monitoringThread.setDaemon(true);
-    return monitoringThread;
-  });
-
-  private final long failureDetectionTimeNano;
-  private final long failureDetectionIntervalNano;
-  private final int failureDetectionCount;
 
   private long invalidNodeStartTimeNano;
   private long failureCount;
   private boolean nodeUnhealthy = false;
+  // The shortest failure detection interval of active contexts.
+  private long statusCheckIntervalNano = Long.MAX_VALUE;
 
 
   private final TelemetryGauge newContextsSizeGauge;
@@ -88,7 +99,9 @@ public class MonitorImpl implements Monitor {
   private final TelemetryCounter abortedConnectionsCounter;
 
   /**
-   * Store the monitoring configuration for a connection.
+   * Store the monitoring configuration for a connection. Failure detection settings are stored in
+   * the monitoring context of each connection, so connections with different settings can share
+   * the monitor.
    *
    * @param pluginService             A service for creating new connections.
    * @param hostSpec                  The {@link HostSpec} of the server this {@link MonitorImpl}
@@ -100,19 +113,14 @@ public class MonitorImpl implements Monitor {
       final @NonNull PluginService pluginService,
       final @NonNull HostSpec hostSpec,
       final @NonNull Properties properties,
-      final int failureDetectionTimeMillis,
-      final int failureDetectionIntervalMillis,
-      final int failureDetectionCount,
       final TelemetryCounter abortedConnectionsCounter) {
 
     this.pluginService = pluginService;
     this.telemetryFactory = pluginService.getTelemetryFactory();
     this.hostSpec = hostSpec;
     this.properties = properties;
-    this.failureDetectionTimeNano = TimeUnit.MILLISECONDS.toNanos(failureDetectionTimeMillis);
-    this.failureDetectionIntervalNano = TimeUnit.MILLISECONDS.toNanos(failureDetectionIntervalMillis);
-    this.failureDetectionCount = failureDetectionCount;
     this.abortedConnectionsCounter = abortedConnectionsCounter;
+    this.newContexts = new TimingWheel<>(THREAD_SLEEP_NANO, this.getCurrentTimeNano());
 
     final String hostId = StringUtils.isNullOrEmpty(this.hostSpec.getHostId())
         ? this.hostSpec.getHost()
@@ -130,23 +138,39 @@ public class MonitorImpl implements Monitor {
         String.format("efm2.nodeHealthy.%s", hostId),
         () -> this.nodeUnhealthy ? 0L : 1L);
 
-    this.threadPool.submit(this::newContextRun); // task to handle new contexts
-    this.threadPool.submit(this); // task to handle active monitoring contexts
-    this.threadPool.shutdown(); // No more tasks are accepted by pool.
+    LOGGER.finest(() -> Messages.get(
+        "MonitorImpl.startMonitoringThread",
+        new Object[]{this.hostSpec.getHost()}));
+    this.schedule(0);
   }
 
   @Override
   public boolean canDispose() {
-    return this.activeContexts.isEmpty() && this.newContexts.isEmpty();
+    this.contextsLock.lock();
+    try {
+      return this.activeContexts.isEmpty() && this.newContexts.size() == 0 && this.deferredContexts.isEmpty();
+    } finally {
+      this.contextsLock.unlock();
+    }
   }
 
   @Override
   public void close() throws Exception {
     this.stopped.set(true);
 
-    // Waiting for 30s gives a thread enough time to exit monitoring loop and close database connection.
-    if (!this.threadPool.awaitTermination(30, TimeUnit.SECONDS)) {
-      this.threadPool.shutdownNow();
+    final ScheduledFuture<?> run = this.scheduledRun;
+    if (run != null) {
+      run.cancel(false);
+    }
+
+    // Waiting for 30s gives a running status check enough time to complete before the monitoring
+    // connection is closed.
+    if (this.runLock.tryLock(30, TimeUnit.SECONDS)) {
+      try {
+        this.closeMonitoringConnection();
+      } finally {
+        this.runLock.unlock();
+      }
     }
     LOGGER.finest(() -> Messages.get(
         "MonitorImpl.stopped",
@@ -154,7 +178,7 @@ public class MonitorImpl implements Monitor {
   }
 
   protected long getActiveContextSize() {
-    return this.newContexts.values().stream().mapToLong(java.util.Collection::size).sum();
+    return this.newContexts.size();
   }
 
   @Override
@@ -163,24 +187,40 @@ public class MonitorImpl implements Monitor {
       LOGGER.warning(() -> Messages.get("MonitorImpl.monitorIsStopped", new Object[] {this.hostSpec.getHost()}));
     }
 
-    final long currentTimeNano = this.getCurrentTimeNano();
-    long startMonitoringTimeNano = this.truncateNanoToSeconds(
-        currentTimeNano + this.failureDetectionTimeNano);
-
-    Queue<WeakReference<MonitorConnectionContext>> queue =
-        this.newContexts.computeIfAbsent(
-            startMonitoringTimeNano,
-            (key) -> new ConcurrentLinkedQueue<>());
-    queue.add(new WeakReference<>(context));
+    context.setMonitor(this);
+    this.contextsLock.lock();
+    try {
+      if (context.isDeferred()) {
+        this.deferredContexts.add(context);
+      } else {
+        this.newContexts.add(context, this.getCurrentTimeNano() + context.getFailureDetectionTimeNano());
+      }
+    } finally {
+      this.contextsLock.unlock();
+    }
   }
 
-  private long truncateNanoToSeconds(final long timeNano) {
-    return TimeUnit.SECONDS.toNanos(TimeUnit.NANOSECONDS.toSeconds(timeNano));
+  @Override
+  public void stopMonitoring(final MonitorConnectionContext context) {
+    this.contextsLock.lock();
+    try {
+      if (!this.newContexts.remove(context) && !this.activeContexts.remove(context)) {
+        this.deferredContexts.remove(context);
+      }
+    } finally {
+      this.contextsLock.unlock();
+    }
   }
 
   public void clearContexts() {
-    this.newContexts.clear();
-    this.activeContexts.clear();
+    this.contextsLock.lock();
+    try {
+      this.newContexts.clear();
+      this.activeContexts.clear();
+      this.deferredContexts.clear();
+    } finally {
+      this.contextsLock.unlock();
+    }
   }
 
   // This method helps to organize unit tests.
@@ -188,146 +228,194 @@ public class MonitorImpl implements Monitor {
     return System.nanoTime();
   }
 
-  public void newContextRun() {
-
-    LOGGER.finest(() -> Messages.get(
-        "MonitorImpl.startMonitoringThreadNewContext",
-        new Object[]{this.hostSpec.getHost()}));
+  protected void schedule(final long delayNano) {
+    if (this.stopped.get()) {
+      return;
+    }
+    try {
+      this.scheduledRun = scheduler.schedule(
+          () -> statusCheckExecutor.execute(this), delayNano, TimeUnit.NANOSECONDS);
+    } catch (final RejectedExecutionException ex) {
+      // The scheduler is shut down.
+      this.stopped.set(true);
+    }
+  }
 
+  /**
+   * Runs a single status check and schedules the next one.
+   */
+  @Override
+  public void run() {
+    this.runLock.lock();
     try {
-      while (!this.stopped.get()) {
-
-        final long currentTimeNano = this.getCurrentTimeNano();
-
-        final ArrayList<Long> processedKeys = new ArrayList<>();
-        this.newContexts.entrySet().stream()
-            // Get entries with key (that is a time in nanos) less or equal than current time.
-            .filter(entry -> entry.getKey() < currentTimeNano)
-            .forEach(entry -> {
-              final Queue<WeakReference<MonitorConnectionContext>> queue = entry.getValue();
-              processedKeys.add(entry.getKey());
-              // Each value of found entry is a queue of monitoring contexts awaiting active monitoring.
-              // Add all contexts to an active monitoring contexts queue.
-              // Ignore disposed contexts.
-              WeakReference<MonitorConnectionContext> contextWeakRef;
-              while ((contextWeakRef = queue.poll()) != null) {
-                MonitorConnectionContext context = contextWeakRef.get();
-                if (context != null && context.isActive()) {
-                  this.activeContexts.add(contextWeakRef);
-                }
-              }
-            });
-        processedKeys.forEach(this.newContexts::remove);
-
-        TimeUnit.SECONDS.sleep(1);
+      if (this.stopped.get()) {
+        return;
       }
-    } catch (final InterruptedException intEx) {
-      // do nothing; just exit the thread
+      this.schedule(this.checkNodeStatus());
+
     } catch (final Exception ex) {
-      // this should not be reached; log and exit thread
+      // this should not be reached; log and continue monitoring
       if (LOGGER.isLoggable(Level.FINEST)) {
         LOGGER.log(
             Level.FINEST,
             Messages.get(
-                "MonitorImpl.exceptionDuringMonitoringStop",
+                "MonitorImpl.exceptionDuringMonitoringContinue",
                 new Object[]{this.hostSpec.getHost()}),
             ex); // We want to print full trace stack of the exception.
       }
-    }
+      this.schedule(THREAD_SLEEP_NANO);
 
-    LOGGER.finest(() -> Messages.get(
-        "MonitorImpl.stopMonitoringThreadNewContext",
-        new Object[]{this.hostSpec.getHost()}));
+    } finally {
+      this.runLock.unlock();
+    }
   }
 
-  @Override
-  public void run() {
-
-    LOGGER.finest(() -> Messages.get(
-        "MonitorImpl.startMonitoringThread",
-        new Object[]{this.hostSpec.getHost()}));
-
+  protected void activateNewContexts(final long currentTimeNano) {
+    this.contextsLock.lock();
     try {
-      while (!this.stopped.get()) {
+      this.newContexts.advance(currentTimeNano, context -> {
+        // Ignore disposed contexts.
+        if (context.isActive()) {
+          this.activeContexts.add(context);
+          this.statusCheckIntervalNano =
+              Math.min(this.statusCheckIntervalNano, context.getFailureDetectionIntervalNano());
+        }
+      });
+    } finally {
+      this.contextsLock.unlock();
+    }
+  }
 
-        if (this.activeContexts.isEmpty()) {
-          TimeUnit.NANOSECONDS.sleep(THREAD_SLEEP_NANO);
-          continue;
+  /**
+   * Returns the shortest failure detection interval of deferred contexts with overdue calls, and
+   * removes deferred contexts of closed connections.
+   *
+   * @param currentTimeNano The current time.
+   * @return the interval in nanoseconds, or {@link Long#MAX_VALUE} if no call is overdue.
+   */
+  protected long getOverdueCallsIntervalNano(final long currentTimeNano) {
+    long minIntervalNano = Long.MAX_VALUE;
+    this.contextsLock.lock();
+    try {
+      MonitorConnectionContext monitorContext = this.deferredContexts.first();
+      while (monitorContext != null) {
+        final MonitorConnectionContext nextMonitorContext = this.deferredContexts.next(monitorContext);
+        if (!monitorContext.isActive()) {
+          this.deferredContexts.remove(monitorContext);
+        } else if (monitorContext.isCallOverdue(currentTimeNano)) {
+          minIntervalNano = Math.min(minIntervalNano, monitorContext.getFailureDetectionIntervalNano());
         }
+        monitorContext = nextMonitorContext;
+      }
+    } finally {
+      this.contextsLock.unlock();
+    }
+    return minIntervalNano;
+  }
 
-        final long statusCheckStartTimeNano = this.getCurrentTimeNano();
-        final boolean isValid = this.checkConnectionStatus();
-        final long statusCheckEndTimeNano = this.getCurrentTimeNano();
+  /**
+   * Checks the status of the monitored server if there are active monitoring contexts, and aborts
+   * connections of the contexts that consider the server unhealthy.
+   *
+   * @return the delay in nanoseconds before the next status check.
+   */
+  protected long checkNodeStatus() {
+    final long currentTimeNano = this.getCurrentTimeNano();
+    this.activateNewContexts(currentTimeNano);
+    final long overdueCallsIntervalNano = this.getOverdueCallsIntervalNano(currentTimeNano);
 
-        this.updateNodeHealthStatus(isValid, statusCheckStartTimeNano, statusCheckEndTimeNano);
+    if (this.activeContexts.isEmpty() && overdueCallsIntervalNano == Long.MAX_VALUE) {
+      return THREAD_SLEEP_NANO;
+    }
+    this.statusCheckIntervalNano = Math.min(this.statusCheckIntervalNano, overdueCallsIntervalNano);
 
-        if (this.nodeUnhealthy) {
-          this.pluginService.setAvailability(this.hostSpec.asAliases(), HostAvailability.NOT_AVAILABLE);
-        }
+    final long statusCheckStartTimeNano = this.getCurrentTimeNano();
+    final boolean isValid = this.checkConnectionStatus();
+    final long statusCheckEndTimeNano = this.getCurrentTimeNano();
 
-        final List<WeakReference<MonitorConnectionContext>> tmpActiveContexts = new ArrayList<>();
-        WeakReference<MonitorConnectionContext> monitorContextWeakRef;
-
-        while ((monitorContextWeakRef = this.activeContexts.poll()) != null) {
-          if (this.stopped.get()) {
-            break;
-          }
-
-          MonitorConnectionContext monitorContext = monitorContextWeakRef.get();
-          if (monitorContext == null) {
-            continue;
-          }
-
-          if (this.nodeUnhealthy) {
-            // Kill connection.
-            monitorContext.setNodeUnhealthy(true);
-            final Connection connectionToAbort = monitorContext.getConnection();
-            monitorContext.setInactive();
-            if (connectionToAbort != null) {
-              this.abortConnection(connectionToAbort);
-              this.abortedConnectionsCounter.inc();
-            }
-          } else if (monitorContext.isActive()) {
-            tmpActiveContexts.add(monitorContextWeakRef);
-          }
-        }
+    this.updateNodeHealthStatus(isValid, statusCheckStartTimeNano);
+    final long invalidNodeDurationNano = isValid ? 0 : statusCheckEndTimeNano - this.invalidNodeStartTimeNano;
 
-        // activeContexts is empty now and tmpActiveContexts contains all yet active contexts
-        // Add active contexts back to the queue.
-        this.activeContexts.addAll(tmpActiveContexts);
+    final List<Connection> connectionsToAbort = new ArrayList<>(0);
+    long minIntervalNano;
 
-        long delayNano = this.failureDetectionIntervalNano - (statusCheckEndTimeNano - statusCheckStartTimeNano);
-        if (delayNano < THREAD_SLEEP_NANO) {
-          delayNano = THREAD_SLEEP_NANO;
-        }
-        TimeUnit.NANOSECONDS.sleep(delayNano);
+    this.contextsLock.lock();
+    try {
+      minIntervalNano = this.checkContexts(
+          this.activeContexts, false, isValid, invalidNodeDurationNano, statusCheckEndTimeNano, connectionsToAbort);
+      minIntervalNano = Math.min(minIntervalNano, this.checkContexts(
+          this.deferredContexts, true, isValid, invalidNodeDurationNano, statusCheckEndTimeNano, connectionsToAbort));
+      this.statusCheckIntervalNano = minIntervalNano;
+    } finally {
+      this.contextsLock.unlock();
+    }
+
+    if (!connectionsToAbort.isEmpty()) {
+      if (!this.nodeUnhealthy) {
+        LOGGER.fine(() -> Messages.get("MonitorConnectionContext.hostDead", new Object[] {this.hostSpec.getHost()}));
+        this.nodeUnhealthy = true;
+        this.pluginService.setAvailability(this.hostSpec.asAliases(), HostAvailability.NOT_AVAILABLE);
       }
-    } catch (final InterruptedException intEx) {
-      // do nothing
-    } catch (final Exception ex) {
-      // this should not be reached; log and exit thread
-      if (LOGGER.isLoggable(Level.FINEST)) {
-        LOGGER.log(
-            Level.FINEST,
-            Messages.get(
-                "MonitorImpl.exceptionDuringMonitoringStop",
-                new Object[]{this.hostSpec.getHost()}),
-            ex); // We want to print full trace stack of the exception.
+
+      // Kill connections outside the lock, so closing them doesn't block new contexts.
+      for (final Connection connectionToAbort : connectionsToAbort) {
+        this.abortConnection(connectionToAbort);
+        this.abortedConnectionsCounter.inc();
       }
-    } finally {
-      this.stopped.set(true);
-      if (this.monitoringConn != null) {
-        try {
-          this.monitoringConn.close();
-        } catch (final SQLException ex) {
-          // ignore
+    }
+
+    if (minIntervalNano == Long.MAX_VALUE) {
+      return THREAD_SLEEP_NANO;
+    }
+    return Math.max(THREAD_SLEEP_NANO, minIntervalNano - (statusCheckEndTimeNano - statusCheckStartTimeNano));
+  }
+
+  /**
+   * Collects connections of the contexts that consider the server unhealthy and removes these
+   * contexts and the inactive ones from the list. Must be called while holding the contexts lock.
+   *
+   * @param contexts The contexts to check.
+   * @param isDeferred Whether the contexts are deferred, so only those with overdue calls are checked.
+   * @param isValid Whether the server is available.
+   * @param invalidNodeDurationNano How long the server has been unavailable.
+   * @param currentTimeNano The current time to check calls of deferred contexts against.
+   * @param connectionsToAbort The list to add connections to abort to.
+   * @return the shortest failure detection interval of the remaining active contexts.
+   */
+  private long checkContexts(
+      final TimingWheel.EntryList<MonitorConnectionContext> contexts,
+      final boolean isDeferred,
+      final boolean isValid,
+      final long invalidNodeDurationNano,
+      final long currentTimeNano,
+      final List<Connection> connectionsToAbort) {
+
+    long minIntervalNano = Long.MAX_VALUE;
+    MonitorConnectionContext monitorContext = contexts.first();
+    while (monitorContext != null) {
+      final MonitorConnectionContext nextMonitorContext = contexts.next(monitorContext);
+
+      if (isDeferred && !monitorContext.isCallOverdue(currentTimeNano)) {
+        if (!monitorContext.isActive()) {
+          contexts.remove(monitorContext);
+        }
+      } else if (!isValid && invalidNodeDurationNano >= monitorContext.getMaxInvalidNodeDurationNano()) {
+        monitorContext.setNodeUnhealthy(true);
+        final Connection connectionToAbort = monitorContext.getConnection();
+        monitorContext.setInactive();
+        contexts.remove(monitorContext);
+        if (connectionToAbort != null) {
+          connectionsToAbort.add(connectionToAbort);
         }
+      } else if (monitorContext.isActive()) {
+        minIntervalNano = Math.min(minIntervalNano, monitorContext.getFailureDetectionIntervalNano());
+      } else {
+        contexts.remove(monitorContext);
       }
-    }
 
-    LOGGER.finest(() -> Messages.get(
-        "MonitorImpl.startMonitoringThread",
-        new Object[]{this.hostSpec.getHost()}));
+      monitorContext = nextMonitorContext;
+    }
+    return minIntervalNano;
   }
 
   /**
@@ -362,7 +450,7 @@ public class MonitorImpl implements Monitor {
       }
 
       final boolean isValid = this.monitoringConn.isValid(
-          (int) TimeUnit.NANOSECONDS.toSeconds(this.failureDetectionIntervalNano));
+          (int) TimeUnit.NANOSECONDS.toSeconds(this.statusCheckIntervalNano));
       return isValid;
 
     } catch (final SQLException sqlEx) {
@@ -375,8 +463,7 @@ public class MonitorImpl implements Monitor {
 
   private void updateNodeHealthStatus(
       final boolean connectionValid,
-      final long statusCheckStartNano,
-      final long statusCheckEndNano) {
+      final long statusCheckStartNano) {
 
     if (!connectionValid) {
       this.failureCount++;
@@ -385,16 +472,6 @@ public class MonitorImpl implements Monitor {
         this.invalidNodeStartTimeNano = statusCheckStartNano;
       }
 
-      final long invalidNodeDurationNano = statusCheckEndNano - this.invalidNodeStartTimeNano;
-      final long maxInvalidNodeDurationNano =
-          this.failureDetectionIntervalNano * Math.max(0, this.failureDetectionCount);
-
-      if (invalidNodeDurationNano >= maxInvalidNodeDurationNano) {
-        LOGGER.fine(() -> Messages.get("MonitorConnectionContext.hostDead", new Object[] {this.hostSpec.getHost()}));
-        this.nodeUnhealthy = true;
-        return;
-      }
-
       LOGGER.finest(
           () -> Messages.get(
               "MonitorConnectionContext.hostNotResponding",
@@ -414,6 +491,17 @@ public class MonitorImpl implements Monitor {
     this.nodeUnhealthy = false;
   }
 
+  private void closeMonitoringConnection() {
+    if (this.monitoringConn != null) {
+      try {
+        this.monitoringConn.close();
+      } catch (final SQLException ex) {
+        // ignore
+      }
+      this.monitoringConn = null;
+    }
+  }
+
   private void abortConnection(final @NonNull Connection connectionToAbort) {
     try {
       connectionToAbort.abort(ABORT_EXECUTOR);
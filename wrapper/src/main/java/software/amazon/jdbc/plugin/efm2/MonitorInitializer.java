@@ -26,8 +26,5 @@ public interface MonitorInitializer {
   Monitor createMonitor(
       HostSpec hostSpec,
       Properties properties,
-      final int failureDetectionTimeMillis,
-      final int failureDetectionIntervalMillis,
-      final int failureDetectionCount,
       final TelemetryCounter abortedConnectionsCounter);
 }
@@ -42,5 +42,28 @@ public interface MonitorService {
    */
   void stopMonitoring(MonitorConnectionContext context, Connection connectionToAbort);
 
+  /**
+   * Registers a deferred {@link MonitorConnectionContext} that is reused by all calls of a
+   * connection. Calls are recorded with {@link MonitorConnectionContext#startCall(long)} and
+   * {@link MonitorConnectionContext#endCall(long)}, and the server is monitored only while a call
+   * runs longer than the failure detection time.
+   *
+   * @return the registered context.
+   */
+  MonitorConnectionContext startDeferredMonitoring(
+      Connection connectionToAbort,
+      HostSpec hostSpec,
+      Properties properties,
+      int failureDetectionTimeMillis,
+      int failureDetectionIntervalMillis,
+      int failureDetectionCount);
+
+  /**
+   * Unregisters a deferred {@link MonitorConnectionContext} when its connection is no longer used.
+   *
+   * @param context The deferred context.
+   */
+  void stopDeferredMonitoring(MonitorConnectionContext context);
+
   void releaseResources();
 }
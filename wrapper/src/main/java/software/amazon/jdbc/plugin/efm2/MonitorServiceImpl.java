@@ -19,8 +19,6 @@ package software.amazon.jdbc.plugin.efm2;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Properties;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -47,8 +45,6 @@ public class MonitorServiceImpl implements MonitorService {
 
   protected static final long CACHE_CLEANUP_NANO = TimeUnit.MINUTES.toNanos(1);
 
-  protected static final Executor ABORT_EXECUTOR = Executors.newSingleThreadExecutor();
-
   protected static final SlidingExpirationCacheWithCleanupThread<String, Monitor> monitors =
       new SlidingExpirationCacheWithCleanupThread<>(
           Monitor::canDispose,
@@ -69,20 +65,8 @@ public class MonitorServiceImpl implements MonitorService {
   public MonitorServiceImpl(final @NonNull PluginService pluginService) {
     this(
         pluginService,
-        (hostSpec,
-            properties,
-            failureDetectionTimeMillis,
-            failureDetectionIntervalMillis,
-            failureDetectionCount,
-            abortedConnectionsCounter) ->
-            new MonitorImpl(
-                pluginService,
-                hostSpec,
-                properties,
-                failureDetectionTimeMillis,
-                failureDetectionIntervalMillis,
-                failureDetectionCount,
-                abortedConnectionsCounter));
+        (hostSpec, properties, abortedConnectionsCounter) ->
+            new MonitorImpl(pluginService, hostSpec, properties, abortedConnectionsCounter));
   }
 
   MonitorServiceImpl(
@@ -107,14 +91,13 @@ public class MonitorServiceImpl implements MonitorService {
       final int failureDetectionIntervalMillis,
       final int failureDetectionCount) {
 
-    final Monitor monitor = this.getMonitor(
-        hostSpec,
-        properties,
+    final Monitor monitor = this.getMonitor(hostSpec, properties);
+
+    final MonitorConnectionContext context = new MonitorConnectionContext(
+        connectionToAbort,
         failureDetectionTimeMillis,
         failureDetectionIntervalMillis,
         failureDetectionCount);
-
-    final MonitorConnectionContext context = new MonitorConnectionContext(connectionToAbort);
     monitor.startMonitoring(context);
 
     return context;
@@ -125,10 +108,15 @@ public class MonitorServiceImpl implements MonitorService {
       @NonNull final MonitorConnectionContext context,
       @NonNull Connection connectionToAbort) {
 
+    final Monitor monitor = context.getMonitor();
+    if (monitor != null) {
+      monitor.stopMonitoring(context);
+    }
+
     if (context.shouldAbort()) {
       context.setInactive();
       try {
-        connectionToAbort.abort(ABORT_EXECUTOR);
+        connectionToAbort.abort(MonitorImpl.ABORT_EXECUTOR);
         connectionToAbort.close();
         this.abortedConnectionsCounter.inc();
       } catch (final SQLException sqlEx) {
@@ -143,43 +131,59 @@ public class MonitorServiceImpl implements MonitorService {
     }
   }
 
+  @Override
+  public MonitorConnectionContext startDeferredMonitoring(
+      final Connection connectionToAbort,
+      final HostSpec hostSpec,
+      final Properties properties,
+      final int failureDetectionTimeMillis,
+      final int failureDetectionIntervalMillis,
+      final int failureDetectionCount) {
+
+    final Monitor monitor = this.getMonitor(hostSpec, properties);
+
+    final MonitorConnectionContext context = new MonitorConnectionContext(
+        connectionToAbort,
+        failureDetectionTimeMillis,
+        failureDetectionIntervalMillis,
+        failureDetectionCount,
+        true);
+    monitor.startMonitoring(context);
+
+    return context;
+  }
+
+  @Override
+  public void stopDeferredMonitoring(@NonNull final MonitorConnectionContext context) {
+    final Monitor monitor = context.getMonitor();
+    if (monitor != null) {
+      monitor.stopMonitoring(context);
+    }
+    context.setInactive();
+  }
+
   @Override
   public void releaseResources() {
     // do nothing
   }
 
   /**
-   * Get or create a {@link MonitorImpl} for a server.
+   * Get or create a {@link MonitorImpl} for a server. Connections to the same server share a
+   * monitor even if they use different failure detection settings, since the settings are stored
+   * in the monitoring context of each connection.
    *
    * @param hostSpec Information such as hostname of the server.
    * @param properties The user configuration for the current connection.
    * @return A {@link MonitorImpl} object associated with a specific server.
    */
-  protected Monitor getMonitor(
-      final HostSpec hostSpec,
-      final Properties properties,
-      final int failureDetectionTimeMillis,
-      final int failureDetectionIntervalMillis,
-      final int failureDetectionCount) {
-
-    final String monitorKey = String.format("%d:%d:%d:%s",
-        failureDetectionTimeMillis,
-        failureDetectionIntervalMillis,
-        failureDetectionCount,
-        hostSpec.getUrl());
+  protected Monitor getMonitor(final HostSpec hostSpec, final Properties properties) {
 
     final long cacheExpirationNano = TimeUnit.MILLISECONDS.toNanos(
         MONITOR_DISPOSAL_TIME_MS.getLong(properties));
 
     return monitors.computeIfAbsent(
-        monitorKey,
-        (key) -> monitorInitializer.createMonitor(
-            hostSpec,
-            properties,
-            failureDetectionTimeMillis,
-            failureDetectionIntervalMillis,
-            failureDetectionCount,
-            this.abortedConnectionsCounter),
+        hostSpec.getUrl(),
+        (key) -> monitorInitializer.createMonitor(hostSpec, properties, this.abortedConnectionsCounter),
         cacheExpirationNano);
   }
 }
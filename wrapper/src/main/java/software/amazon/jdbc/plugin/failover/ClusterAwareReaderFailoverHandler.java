@@ -20,22 +20,27 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.HostRole;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.util.ExecutorFactory;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.PropertyUtils;
 import software.amazon.jdbc.util.Utils;
@@ -49,6 +54,16 @@ import software.amazon.jdbc.util.Utils;
  * (i.e. could not be connected to), the process picks up another pair of readers and repeat. If no
  * reader has been connected to, the process may consider a writer host, and other hosts marked
  * down, to connect to.
+ *
+ * <p>If the connection attempt parallelism is set, the process instead keeps up to that many
+ * connection attempts running at the same time, and starts an attempt to the next host as soon as
+ * an attempt fails. The first successful connection wins, the remaining attempts are cancelled, and
+ * connections they open afterwards are closed.
+ *
+ * <p>If a {@link StandbyConnectionPool} is given, a spare connection to a host is used instead of
+ * opening a new connection to it.
+ *
+ * <p>Connection attempts run on an executor shared by all handlers.
  */
 public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler {
 
@@ -58,10 +73,16 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
   protected static final int DEFAULT_READER_CONNECT_TIMEOUT = 30000; // 30 sec
   public static final ReaderFailoverResult FAILED_READER_FAILOVER_RESULT = new ReaderFailoverResult(null,
       null, false);
+  // Tasks run on virtual threads if they're supported, or on pooled threads that are terminated
+  // when they're idle.
+  protected static final ExecutorService executor =
+      ExecutorFactory.newThreadPerTaskExecutor("failover-reader-");
   protected Properties initialConnectionProps;
   protected int maxFailoverTimeoutMs;
   protected int timeoutMs;
   protected boolean enableFailoverStrictReader;
+  protected int connectionAttemptParallelism;
+  protected @Nullable StandbyConnectionPool standbyConnectionPool;
   protected final PluginService pluginService;
 
   /**
@@ -97,11 +118,66 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
       final int maxFailoverTimeoutMs,
       final int timeoutMs,
       final boolean enableFailoverStrictReader) {
+    this(pluginService, initialConnectionProps, maxFailoverTimeoutMs, timeoutMs, enableFailoverStrictReader, 0);
+  }
+
+  /**
+   * ClusterAwareReaderFailoverHandler constructor.
+   *
+   * @param pluginService                A provider for creating new connections.
+   * @param initialConnectionProps       The initial connection properties to copy over to the new reader.
+   * @param maxFailoverTimeoutMs         Maximum allowed time for the entire reader failover process.
+   * @param timeoutMs                    Maximum allowed time in milliseconds for each reader connection attempt
+   *                                     during the reader failover process.
+   * @param enableFailoverStrictReader   When true, it disables adding a writer to a list of nodes to connect
+   * @param connectionAttemptParallelism Maximum number of connection attempts running at the same time. If 0,
+   *                                     hosts are tried in pairs.
+   */
+  public ClusterAwareReaderFailoverHandler(
+      final PluginService pluginService,
+      final Properties initialConnectionProps,
+      final int maxFailoverTimeoutMs,
+      final int timeoutMs,
+      final boolean enableFailoverStrictReader,
+      final int connectionAttemptParallelism) {
+    this(
+        pluginService,
+        initialConnectionProps,
+        maxFailoverTimeoutMs,
+        timeoutMs,
+        enableFailoverStrictReader,
+        connectionAttemptParallelism,
+        null);
+  }
+
+  /**
+   * ClusterAwareReaderFailoverHandler constructor.
+   *
+   * @param pluginService                A provider for creating new connections.
+   * @param initialConnectionProps       The initial connection properties to copy over to the new reader.
+   * @param maxFailoverTimeoutMs         Maximum allowed time for the entire reader failover process.
+   * @param timeoutMs                    Maximum allowed time in milliseconds for each reader connection attempt
+   *                                     during the reader failover process.
+   * @param enableFailoverStrictReader   When true, it disables adding a writer to a list of nodes to connect
+   * @param connectionAttemptParallelism Maximum number of connection attempts running at the same time. If 0,
+   *                                     hosts are tried in pairs.
+   * @param standbyConnectionPool        Spare connections to use instead of opening new connections, or null.
+   */
+  public ClusterAwareReaderFailoverHandler(
+      final PluginService pluginService,
+      final Properties initialConnectionProps,
+      final int maxFailoverTimeoutMs,
+      final int timeoutMs,
+      final boolean enableFailoverStrictReader,
+      final int connectionAttemptParallelism,
+      final @Nullable StandbyConnectionPool standbyConnectionPool) {
     this.pluginService = pluginService;
     this.initialConnectionProps = initialConnectionProps;
     this.maxFailoverTimeoutMs = maxFailoverTimeoutMs;
     this.timeoutMs = timeoutMs;
     this.enableFailoverStrictReader = enableFailoverStrictReader;
+    this.connectionAttemptParallelism = connectionAttemptParallelism;
+    this.standbyConnectionPool = standbyConnectionPool;
   }
 
   /**
@@ -131,16 +207,14 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
       return FAILED_READER_FAILOVER_RESULT;
     }
 
-    final ExecutorService executor = Executors.newSingleThreadExecutor();
-    final Future<ReaderFailoverResult> future = submitInternalFailoverTask(hosts, currentHost, executor);
-    return getInternalFailoverResult(executor, future);
+    final Future<ReaderFailoverResult> future = submitInternalFailoverTask(hosts, currentHost);
+    return getInternalFailoverResult(future);
   }
 
   private Future<ReaderFailoverResult> submitInternalFailoverTask(
       final List<HostSpec> hosts,
-      final HostSpec currentHost,
-      final ExecutorService executor) {
-    final Future<ReaderFailoverResult> future = executor.submit(() -> {
+      final HostSpec currentHost) {
+    return executor.submit(() -> {
       ReaderFailoverResult result;
       List<HostSpec> topology = hosts;
       try {
@@ -185,12 +259,9 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
         return new ReaderFailoverResult(null, null, false, new SQLException(ex));
       }
     });
-    executor.shutdown();
-    return future;
   }
 
   private ReaderFailoverResult getInternalFailoverResult(
-      final ExecutorService executor,
       final Future<ReaderFailoverResult> future) throws SQLException {
     final ReaderFailoverResult defaultResult = new ReaderFailoverResult(
         null, null, false);
@@ -203,12 +274,9 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
     } catch (final ExecutionException e) {
       return defaultResult;
     } catch (final TimeoutException e) {
-      future.cancel(true);
       return defaultResult;
     } finally {
-      if (!executor.isTerminated()) {
-        executor.shutdownNow(); // terminate all remaining tasks
-      }
+      future.cancel(true); // terminate the remaining connection attempts
     }
   }
 
@@ -300,72 +368,85 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
 
   private ReaderFailoverResult getConnectionFromHostGroup(final List<HostSpec> hosts)
       throws SQLException {
-    final ExecutorService executor = Executors.newFixedThreadPool(2);
-    final CompletionService<ReaderFailoverResult> completionService = new ExecutorCompletionService<>(executor);
-
+    final ConnectionAttempts attempts = new ConnectionAttempts();
     try {
-      for (int i = 0; i < hosts.size(); i += 2) {
-        // submit connection attempt tasks in batches of 2
-        final ReaderFailoverResult result = getResultFromNextTaskBatch(hosts, executor, completionService, i);
-        if (result.isConnected() || result.getException() != null) {
-          return result;
-        }
+      final ReaderFailoverResult result = this.connectionAttemptParallelism > 0
+          ? this.getConnectionInParallel(hosts, attempts)
+          : this.getConnectionInPairs(hosts, attempts);
+      return attempts.complete(result);
+    } finally {
+      attempts.close();
+    }
+  }
 
-        try {
-          TimeUnit.SECONDS.sleep(1);
-        } catch (final InterruptedException e) {
-          Thread.currentThread().interrupt();
-          throw new SQLException(Messages.get("ClusterAwareReaderFailoverHandler.interruptedThread"), "70100", e);
-        }
+  private ReaderFailoverResult getConnectionInPairs(
+      final List<HostSpec> hosts,
+      final ConnectionAttempts attempts) throws SQLException {
+    for (int i = 0; i < hosts.size(); i += 2) {
+      // submit connection attempt tasks in batches of 2
+      final ReaderFailoverResult result = getResultFromNextTaskBatch(hosts, attempts, i);
+      if (result.isConnected() || result.getException() != null) {
+        return result;
       }
 
-      return new ReaderFailoverResult(
-          null,
-          null,
-          false);
-    } finally {
-      executor.shutdownNow();
+      try {
+        TimeUnit.SECONDS.sleep(1);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SQLException(Messages.get("ClusterAwareReaderFailoverHandler.interruptedThread"), "70100", e);
+      }
     }
+
+    return FAILED_READER_FAILOVER_RESULT;
   }
 
   private ReaderFailoverResult getResultFromNextTaskBatch(
       final List<HostSpec> hosts,
-      final ExecutorService executor,
-      final CompletionService<ReaderFailoverResult> completionService,
+      final ConnectionAttempts attempts,
       final int i) throws SQLException {
     ReaderFailoverResult result;
     final int numTasks = i + 1 < hosts.size() ? 2 : 1;
-    completionService.submit(new ConnectionAttemptTask(hosts.get(i)));
+    attempts.submit(hosts.get(i));
     if (numTasks == 2) {
-      completionService.submit(new ConnectionAttemptTask(hosts.get(i + 1)));
+      attempts.submit(hosts.get(i + 1));
     }
     for (int taskNum = 0; taskNum < numTasks; taskNum++) {
-      result = getNextResult(completionService);
-      if (result.isConnected()) {
-        executor.shutdownNow();
+      result = getNextResult(attempts);
+      if (result.isConnected() || result.getException() != null) {
         return result;
       }
-      if (result.getException() != null) {
-        executor.shutdownNow();
+    }
+    return FAILED_READER_FAILOVER_RESULT;
+  }
+
+  /**
+   * Keeps up to {@link #connectionAttemptParallelism} connection attempts running, and starts an
+   * attempt to the next host as soon as an attempt fails. If no attempt completes in time, the
+   * running attempts are cancelled and the remaining hosts are tried.
+   */
+  private ReaderFailoverResult getConnectionInParallel(
+      final List<HostSpec> hosts,
+      final ConnectionAttempts attempts) throws SQLException {
+    int nextHostIndex = 0;
+    while (nextHostIndex < hosts.size() || attempts.getRunningCount() > 0) {
+      while (nextHostIndex < hosts.size() && attempts.getRunningCount() < this.connectionAttemptParallelism) {
+        attempts.submit(hosts.get(nextHostIndex++));
+      }
+
+      final ReaderFailoverResult result = getNextResult(attempts);
+      if (result.isConnected() || result.getException() != null) {
         return result;
       }
     }
-    return new ReaderFailoverResult(
-        null,
-        null,
-        false);
+    return FAILED_READER_FAILOVER_RESULT;
   }
 
-  private ReaderFailoverResult getNextResult(final CompletionService<ReaderFailoverResult> service)
+  private ReaderFailoverResult getNextResult(final ConnectionAttempts attempts)
       throws SQLException {
     try {
-      final Future<ReaderFailoverResult> future = service.poll(this.timeoutMs, TimeUnit.MILLISECONDS);
-      if (future == null) {
-        return FAILED_READER_FAILOVER_RESULT;
-      }
-      final ReaderFailoverResult result = future.get();
+      final ReaderFailoverResult result = attempts.poll(this.timeoutMs);
       return result == null ? FAILED_READER_FAILOVER_RESULT : result;
-    } catch (final ExecutionException e) {
+    } catch (final ExecutionException | CancellationException e) {
       return FAILED_READER_FAILOVER_RESULT;
     } catch (final InterruptedException e) {
       Thread.currentThread().interrupt();
@@ -378,12 +459,108 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
     }
   }
 
+  /**
+   * Connection attempts of a single reader failover process. A successful attempt has to be
+   * selected to be returned, and connections of attempts that succeed after another attempt was
+   * selected, or after the process has completed, are closed.
+   */
+  private class ConnectionAttempts implements AutoCloseable {
+
+    // Selected when the process completes without a connection, so late connections are closed.
+    private final ReaderFailoverResult closedResult = new ReaderFailoverResult(null, null, false);
+    private final AtomicReference<ReaderFailoverResult> selectedResult = new AtomicReference<>();
+    private final CompletionService<ReaderFailoverResult> completionService =
+        new ExecutorCompletionService<>(executor);
+    private final Set<Future<ReaderFailoverResult>> runningFutures = new HashSet<>();
+    private final List<Future<ReaderFailoverResult>> allFutures = new ArrayList<>();
+    private boolean isResultReturned;
+
+    void submit(final HostSpec host) {
+      final Future<ReaderFailoverResult> future = this.completionService.submit(new ConnectionAttemptTask(host, this));
+      this.runningFutures.add(future);
+      this.allFutures.add(future);
+    }
+
+    int getRunningCount() {
+      return this.runningFutures.size();
+    }
+
+    /**
+     * Waits for the next attempt to complete. If no attempt completes in time, the running attempts
+     * are cancelled.
+     *
+     * @param timeoutMs Maximum time to wait.
+     * @return the result of the attempt, or null if no attempt completed in time.
+     */
+    ReaderFailoverResult poll(final int timeoutMs) throws InterruptedException, ExecutionException {
+      while (!this.runningFutures.isEmpty()) {
+        final Future<ReaderFailoverResult> future = this.completionService.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        if (future == null) {
+          this.cancelRunningAttempts();
+          return null;
+        }
+        // Ignore attempts that were cancelled earlier.
+        if (this.runningFutures.remove(future)) {
+          return future.get();
+        }
+      }
+      return null;
+    }
+
+    boolean select(final ReaderFailoverResult result) {
+      return this.selectedResult.compareAndSet(null, result);
+    }
+
+    /**
+     * Completes the process. Returns the selected connection if an attempt has succeeded in the
+     * meantime, or the given result otherwise.
+     */
+    ReaderFailoverResult complete(final ReaderFailoverResult result) {
+      this.isResultReturned = true;
+      if (this.selectedResult.compareAndSet(null, this.closedResult)) {
+        return result;
+      }
+      return this.selectedResult.get();
+    }
+
+    @Override
+    public void close() {
+      if (!this.selectedResult.compareAndSet(null, this.closedResult) && !this.isResultReturned) {
+        // The process failed after an attempt had succeeded.
+        closeConnection(this.selectedResult.get().getConnection());
+      }
+      for (final Future<ReaderFailoverResult> future : this.allFutures) {
+        future.cancel(true);
+      }
+    }
+
+    private void cancelRunningAttempts() {
+      for (final Future<ReaderFailoverResult> future : this.runningFutures) {
+        future.cancel(true);
+      }
+      this.runningFutures.clear();
+    }
+  }
+
+  private static void closeConnection(final Connection conn) {
+    if (conn == null) {
+      return;
+    }
+    try {
+      conn.close();
+    } catch (final SQLException ex) {
+      // ignore
+    }
+  }
+
   private class ConnectionAttemptTask implements Callable<ReaderFailoverResult> {
 
     private final HostSpec newHost;
+    private final ConnectionAttempts attempts;
 
-    private ConnectionAttemptTask(final HostSpec newHost) {
+    private ConnectionAttemptTask(final HostSpec newHost, final ConnectionAttempts attempts) {
       this.newHost = newHost;
+      this.attempts = attempts;
     }
 
     /**
@@ -400,14 +577,23 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
         final Properties copy = new Properties();
         copy.putAll(initialConnectionProps);
 
-        final Connection conn = pluginService.forceConnect(this.newHost, copy);
+        Connection conn = standbyConnectionPool == null ? null : standbyConnectionPool.take(this.newHost);
+        if (conn == null) {
+          conn = pluginService.forceConnect(this.newHost, copy);
+        }
         pluginService.setAvailability(this.newHost.asAliases(), HostAvailability.AVAILABLE);
         LOGGER.fine(
             () -> Messages.get(
                 "ClusterAwareReaderFailoverHandler.successfulReaderConnection",
                 new Object[] {this.newHost.getUrl()}));
         LOGGER.fine("New reader connection object: " + conn);
-        return new ReaderFailoverResult(conn, this.newHost, true);
+        final ReaderFailoverResult result = new ReaderFailoverResult(conn, this.newHost, true);
+        if (!this.attempts.select(result)) {
+          // Another attempt has already been selected, or the process has completed.
+          closeConnection(conn);
+          return FAILED_READER_FAILOVER_RESULT;
+        }
+        return result;
       } catch (final SQLException e) {
         pluginService.setAvailability(newHost.asAliases(), HostAvailability.NOT_AVAILABLE);
         LOGGER.fine(
@@ -18,6 +18,7 @@ package software.amazon.jdbc.plugin.failover;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
@@ -26,15 +27,17 @@ import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.HostRole;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostlistprovider.TopologyChangeNotifier;
+import software.amazon.jdbc.util.ExecutorFactory;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.PropertyUtils;
 import software.amazon.jdbc.util.Utils;
@@ -46,6 +49,14 @@ import software.amazon.jdbc.util.Utils;
  * may be disrupted either by temporary network issue, or due to writer host unavailability during
  * cluster failover. This handler tries both approaches in parallel: 1) try to re-connect to the
  * same writer host, 2) try to update cluster topology and connect to a newly elected writer.
+ *
+ * <p>Both tasks wait between attempts until the next attempt is due or a new writer is detected,
+ * for example by the cluster topology monitor or by a topology refresh of another connection to
+ * the same cluster. A new writer is then connected to without waiting for the rest of the
+ * interval. See {@link TopologyChangeNotifier}.
+ *
+ * <p>If a {@link StandbyConnectionPool} is given, a spare connection to a host is used instead of
+ * opening a new connection to it.
  */
 public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler {
 
@@ -57,8 +68,13 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
   protected Properties initialConnectionProps;
   protected PluginService pluginService;
   protected ReaderFailoverHandler readerFailoverHandler;
+  protected @Nullable StandbyConnectionPool standbyConnectionPool;
   private static final WriterFailoverResult DEFAULT_RESULT =
       new WriterFailoverResult(false, false, null, null, "None");
+  // Tasks run on virtual threads if they're supported, or on pooled threads that are terminated
+  // when they're idle.
+  protected static final ExecutorService executor =
+      ExecutorFactory.newThreadPerTaskExecutor("failover-writer-");
 
   public ClusterAwareWriterFailoverHandler(
       final PluginService pluginService,
@@ -76,6 +92,24 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
       final int failoverTimeoutMs,
       final int readTopologyIntervalMs,
       final int reconnectWriterIntervalMs) {
+    this(
+        pluginService,
+        readerFailoverHandler,
+        initialConnectionProps,
+        failoverTimeoutMs,
+        readTopologyIntervalMs,
+        reconnectWriterIntervalMs,
+        null);
+  }
+
+  public ClusterAwareWriterFailoverHandler(
+      final PluginService pluginService,
+      final ReaderFailoverHandler readerFailoverHandler,
+      final Properties initialConnectionProps,
+      final int failoverTimeoutMs,
+      final int readTopologyIntervalMs,
+      final int reconnectWriterIntervalMs,
+      final @Nullable StandbyConnectionPool standbyConnectionPool) {
     this(
         pluginService,
         readerFailoverHandler,
@@ -83,6 +117,7 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
     this.maxFailoverTimeoutMs = failoverTimeoutMs;
     this.readTopologyIntervalMs = readTopologyIntervalMs;
     this.reconnectWriterIntervalMs = reconnectWriterIntervalMs;
+    this.standbyConnectionPool = standbyConnectionPool;
   }
 
   /**
@@ -102,13 +137,12 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
     final boolean singleTask =
         this.pluginService.getDialect().getFailoverRestrictions().contains(FailoverRestriction.DISABLE_TASK_A);
 
-    final ExecutorService executorService = Executors.newFixedThreadPool(2);
-    final CompletionService<WriterFailoverResult> completionService = new ExecutorCompletionService<>(executorService);
-    submitTasks(currentTopology, executorService, completionService, singleTask);
+    final CompletionService<WriterFailoverResult> completionService = new ExecutorCompletionService<>(executor);
+    final List<Future<WriterFailoverResult>> futures = submitTasks(currentTopology, completionService, singleTask);
 
     try {
       final long startTimeNano = System.nanoTime();
-      WriterFailoverResult result = getNextResult(executorService, completionService, this.maxFailoverTimeoutMs);
+      WriterFailoverResult result = getNextResult(completionService, this.maxFailoverTimeoutMs);
       if (result.isConnected() || result.getException() != null || singleTask) {
         return result;
       }
@@ -118,7 +152,7 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
       final long remainingTimeMs = this.maxFailoverTimeoutMs - durationMs;
 
       if (remainingTimeMs > 0) {
-        result = getNextResult(executorService, completionService, remainingTimeMs);
+        result = getNextResult(completionService, remainingTimeMs);
         if (result.isConnected() || result.getException() != null) {
           return result;
         }
@@ -127,8 +161,8 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
       LOGGER.fine(() -> Messages.get("ClusterAwareWriterFailoverHandler.failedToConnectToWriterInstance"));
       return DEFAULT_RESULT;
     } finally {
-      if (!executorService.isTerminated()) {
-        executorService.shutdownNow(); // terminate all remaining tasks
+      for (final Future<WriterFailoverResult> future : futures) {
+        future.cancel(true); // terminate all remaining tasks
       }
     }
   }
@@ -146,22 +180,22 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
     return null;
   }
 
-  private void submitTasks(
-      final List<HostSpec> currentTopology, final ExecutorService executorService,
+  private List<Future<WriterFailoverResult>> submitTasks(
+      final List<HostSpec> currentTopology,
       final CompletionService<WriterFailoverResult> completionService,
       final boolean singleTask) {
+    final List<Future<WriterFailoverResult>> futures = new ArrayList<>(2);
     final HostSpec writerHost = this.getWriter(currentTopology);
     if (!singleTask) {
-      completionService.submit(new ReconnectToWriterHandler(writerHost));
+      futures.add(completionService.submit(new ReconnectToWriterHandler(writerHost)));
     }
-    completionService.submit(new WaitForNewWriterHandler(
+    futures.add(completionService.submit(new WaitForNewWriterHandler(
         currentTopology,
-        writerHost));
-    executorService.shutdown();
+        writerHost)));
+    return futures;
   }
 
   private WriterFailoverResult getNextResult(
-      final ExecutorService executorService,
       final CompletionService<WriterFailoverResult> completionService,
       final long timeoutMs) throws SQLException {
     try {
@@ -173,13 +207,11 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
       }
       final WriterFailoverResult result = firstCompleted.get();
       if (result.isConnected()) {
-        executorService.shutdownNow();
         logTaskSuccess(result);
         return result;
       }
 
       if (result.getException() != null) {
-        executorService.shutdownNow();
         return result;
       }
     } catch (final InterruptedException e) {
@@ -229,6 +261,11 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
         e);
   }
 
+  private Connection connect(final HostSpec host) throws SQLException {
+    final Connection conn = this.standbyConnectionPool == null ? null : this.standbyConnectionPool.take(host);
+    return conn != null ? conn : this.pluginService.forceConnect(host, this.initialConnectionProps);
+  }
+
   /**
    * Internal class responsible for re-connecting to the current writer (aka TaskA).
    */
@@ -252,12 +289,15 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
 
       try {
         while (Utils.isNullOrEmpty(latestTopology)) {
+          final TopologyChangeNotifier topologyChangeNotifier =
+              TopologyChangeNotifier.get(pluginService.getHostListProvider());
+          final long writerChangeCount = topologyChangeNotifier.getWriterChangeCount();
           try {
             if (conn != null && !conn.isClosed()) {
               conn.close();
             }
 
-            conn = pluginService.forceConnect(this.originalWriterHost, initialConnectionProps);
+            conn = connect(this.originalWriterHost);
             pluginService.forceRefreshHostList(conn);
             latestTopology = pluginService.getHosts();
 
@@ -273,7 +313,8 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
           }
 
           if (Utils.isNullOrEmpty(latestTopology)) {
-            TimeUnit.MILLISECONDS.sleep(reconnectWriterIntervalMs);
+            topologyChangeNotifier.awaitWriterChange(
+                writerChangeCount, TimeUnit.MILLISECONDS.toNanos(reconnectWriterIntervalMs));
           }
         }
 
@@ -366,6 +407,9 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
 
     private void connectToReader() throws InterruptedException {
       while (true) {
+        final TopologyChangeNotifier topologyChangeNotifier =
+            TopologyChangeNotifier.get(pluginService.getHostListProvider());
+        final long writerChangeCount = topologyChangeNotifier.getWriterChangeCount();
         try {
           final ReaderFailoverResult connResult = readerFailoverHandler.getReaderConnection(this.currentTopology);
           if (isValidReaderConnection(connResult)) {
@@ -381,7 +425,7 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
           // ignore
         }
         LOGGER.fine(() -> Messages.get("ClusterAwareWriterFailoverHandler.taskBFailedToConnectToAnyReader"));
-        TimeUnit.SECONDS.sleep(1);
+        topologyChangeNotifier.awaitWriterChange(writerChangeCount, TimeUnit.SECONDS.toNanos(1));
       }
     }
 
@@ -399,6 +443,9 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
      */
     private boolean refreshTopologyAndConnectToNewWriter() throws InterruptedException {
       while (true) {
+        final TopologyChangeNotifier topologyChangeNotifier =
+            TopologyChangeNotifier.get(pluginService.getHostListProvider());
+        final long writerChangeCount = topologyChangeNotifier.getWriterChangeCount();
         try {
           pluginService.forceRefreshHostList(this.currentReaderConnection);
           final List<HostSpec> topology = pluginService.getHosts();
@@ -436,7 +483,10 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
           return false;
         }
 
-        TimeUnit.MILLISECONDS.sleep(readTopologyIntervalMs);
+        if (topologyChangeNotifier.awaitWriterChange(
+            writerChangeCount, TimeUnit.MILLISECONDS.toNanos(readTopologyIntervalMs))) {
+          LOGGER.finest(() -> Messages.get("ClusterAwareWriterFailoverHandler.taskBWriterChangeDetected"));
+        }
       }
     }
 
@@ -460,7 +510,7 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
                 new Object[] {writerCandidate.getUrl()}));
         try {
           // connect to the new writer
-          this.currentConnection = pluginService.forceConnect(writerCandidate, initialConnectionProps);
+          this.currentConnection = connect(writerCandidate);
           pluginService.setAvailability(writerCandidate.asAliases(), HostAvailability.AVAILABLE);
           return true;
         } catch (final SQLException exception) {
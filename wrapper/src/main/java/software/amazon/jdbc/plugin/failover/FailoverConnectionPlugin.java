@@ -25,11 +25,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.AwsWrapperProperty;
+import software.amazon.jdbc.HostListProvider;
 import software.amazon.jdbc.HostListProviderService;
 import software.amazon.jdbc.HostRole;
 import software.amazon.jdbc.HostSpec;
@@ -39,7 +42,10 @@ import software.amazon.jdbc.OldConnectionSuggestedAction;
 import software.amazon.jdbc.PluginManagerService;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.PropertyDefinition;
+import software.amazon.jdbc.cleanup.CanReleaseResources;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostlistprovider.RdsHostListProvider;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
 import software.amazon.jdbc.plugin.AbstractConnectionPlugin;
 import software.amazon.jdbc.plugin.staledns.AuroraStaleDnsHelper;
 import software.amazon.jdbc.targetdriverdialect.TargetDriverDialect;
@@ -59,7 +65,7 @@ import software.amazon.jdbc.util.telemetry.TelemetryTraceLevel;
  * This plugin provides cluster-aware failover features. The plugin switches connections upon
  * detecting communication related exceptions and/or cluster topology changes.
  */
-public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
+public class FailoverConnectionPlugin extends AbstractConnectionPlugin implements CanReleaseResources {
 
   private static final Logger LOGGER = Logger.getLogger(FailoverConnectionPlugin.class.getName());
   private static final String TELEMETRY_WRITER_FAILOVER = "failover to writer node";
@@ -88,6 +94,10 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
   protected int failoverClusterTopologyRefreshRateMsSetting;
   protected int failoverWriterReconnectIntervalMsSetting;
   protected int failoverReaderConnectTimeoutMsSetting;
+  protected int failoverReaderConnectParallelismSetting;
+  protected boolean failoverCoordinationEnabledSetting;
+  protected boolean failoverStandbyConnectionsEnabledSetting;
+  protected int failoverStandbyConnectionsRefreshIntervalMsSetting;
   protected FailoverMode failoverMode;
   private boolean telemetryFailoverAdditionalTopTraceSetting;
 
@@ -97,12 +107,15 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
   private final RdsUtils rdsHelper;
   protected WriterFailoverHandler writerFailoverHandler = null;
   protected ReaderFailoverHandler readerFailoverHandler = null;
+  protected StandbyConnectionPool standbyConnectionPool = null;
   private Throwable lastExceptionDealtWith = null;
   private PluginManagerService pluginManagerService;
   private boolean isInTransaction = false;
   private RdsUrlType rdsUrlType;
   private HostListProviderService hostListProviderService;
   private final AuroraStaleDnsHelper staleDnsHelper;
+  // A lock rather than a monitor, so failover I/O doesn't pin the carriers of virtual threads.
+  private final ReentrantLock failoverLock = new ReentrantLock();
 
   public static final AwsWrapperProperty FAILOVER_CLUSTER_TOPOLOGY_REFRESH_RATE_MS =
       new AwsWrapperProperty(
@@ -132,6 +145,34 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
           "30000",
           "Reader connection attempt timeout during a reader failover process.");
 
+  public static final AwsWrapperProperty FAILOVER_READER_CONNECT_PARALLELISM =
+      new AwsWrapperProperty(
+          "failoverReaderConnectParallelism",
+          "0",
+          "Maximum number of reader connection attempts running at the same time during a reader "
+              + "failover process. If 0, readers are tried in pairs.");
+
+  public static final AwsWrapperProperty FAILOVER_COORDINATION_ENABLED =
+      new AwsWrapperProperty(
+          "failoverCoordinationEnabled",
+          "false",
+          "Let a single connection run the failover process for all connections to the same cluster. "
+              + "The other connections wait for its outcome and connect to the instance it has found.");
+
+  public static final AwsWrapperProperty FAILOVER_STANDBY_CONNECTIONS_ENABLED =
+      new AwsWrapperProperty(
+          "failoverStandbyConnectionsEnabled",
+          "false",
+          "Keep a spare connection open to each instance of the cluster other than the current one, so the "
+              + "failover process can use it instead of opening a new connection.");
+
+  public static final AwsWrapperProperty FAILOVER_STANDBY_CONNECTIONS_REFRESH_INTERVAL_MS =
+      new AwsWrapperProperty(
+          "failoverStandbyConnectionsRefreshIntervalMs",
+          "5000",
+          "Interval of time in millis between validations of spare connections. Spare connections that are "
+              + "invalid are replaced, and spare connections to instances that left the topology are closed.");
+
   public static final AwsWrapperProperty ENABLE_CLUSTER_AWARE_FAILOVER =
       new AwsWrapperProperty(
           "enableClusterAwareFailover", "true",
@@ -247,7 +288,9 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
                 this.properties,
                 this.failoverTimeoutMsSetting,
                 this.failoverReaderConnectTimeoutMsSetting,
-                this.failoverMode == FailoverMode.STRICT_READER),
+                this.failoverMode == FailoverMode.STRICT_READER,
+                this.failoverReaderConnectParallelismSetting,
+                this.standbyConnectionPool),
         () ->
             new ClusterAwareWriterFailoverHandler(
                 this.pluginService,
@@ -255,7 +298,8 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
                 this.properties,
                 this.failoverTimeoutMsSetting,
                 this.failoverClusterTopologyRefreshRateMsSetting,
-                this.failoverWriterReconnectIntervalMsSetting));
+                this.failoverWriterReconnectIntervalMsSetting,
+                this.standbyConnectionPool));
   }
 
   void initHostProvider(
@@ -270,11 +314,22 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
       return;
     }
 
+    initHostProviderFunc.call();
+
+    if (this.failoverStandbyConnectionsEnabledSetting) {
+      final HostListProvider hostListProvider = this.pluginService.getHostListProvider();
+      if (hostListProvider instanceof RdsHostListProvider) {
+        // Connections to the same cluster share their spare connections.
+        this.standbyConnectionPool = StandbyConnectionPool.acquire(
+            ((RdsHostListProvider) hostListProvider).getClusterId(),
+            this.pluginService,
+            this.properties,
+            this.failoverStandbyConnectionsRefreshIntervalMsSetting);
+      }
+    }
     this.readerFailoverHandler = readerFailoverHandlerSupplier.get();
     this.writerFailoverHandler = writerFailoverHandlerSupplier.get();
 
-    initHostProviderFunc.call();
-
     this.failoverMode = FailoverMode.fromValue(FAILOVER_MODE.getString(this.properties));
     this.rdsUrlType = this.rdsHelper.identifyRdsType(initialUrl);
 
@@ -294,6 +349,13 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
             new Object[]{"failoverMode", this.failoverMode}));
   }
 
+  @Override
+  public void releaseResources() {
+    if (this.standbyConnectionPool != null) {
+      this.standbyConnectionPool.release(this.pluginService);
+    }
+  }
+
   @Override
   public OldConnectionSuggestedAction notifyConnectionChanged(final EnumSet<NodeChangeOptions> changes) {
     return OldConnectionSuggestedAction.NO_OPINION;
@@ -358,6 +420,11 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
         FAILOVER_CLUSTER_TOPOLOGY_REFRESH_RATE_MS.getInteger(this.properties);
     this.failoverWriterReconnectIntervalMsSetting = FAILOVER_WRITER_RECONNECT_INTERVAL_MS.getInteger(this.properties);
     this.failoverReaderConnectTimeoutMsSetting = FAILOVER_READER_CONNECT_TIMEOUT_MS.getInteger(this.properties);
+    this.failoverReaderConnectParallelismSetting = FAILOVER_READER_CONNECT_PARALLELISM.getInteger(this.properties);
+    this.failoverCoordinationEnabledSetting = FAILOVER_COORDINATION_ENABLED.getBoolean(this.properties);
+    this.failoverStandbyConnectionsEnabledSetting = FAILOVER_STANDBY_CONNECTIONS_ENABLED.getBoolean(this.properties);
+    this.failoverStandbyConnectionsRefreshIntervalMsSetting =
+        FAILOVER_STANDBY_CONNECTIONS_REFRESH_INTERVAL_MS.getInteger(this.properties);
     this.telemetryFailoverAdditionalTopTraceSetting =
         TELEMETRY_FAILOVER_ADDITIONAL_TOP_TRACE.getBoolean(this.properties);
   }
@@ -390,12 +457,7 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
   }
 
   private HostSpec getWriter(final @NonNull List<HostSpec> hosts) {
-    for (final HostSpec hostSpec : hosts) {
-      if (hostSpec.getRole() == HostRole.WRITER) {
-        return hostSpec;
-      }
-    }
-    return null;
+    return TopologySnapshot.getWriter(hosts);
   }
 
   protected void updateTopology(final boolean forceUpdate) throws SQLException {
@@ -549,29 +611,34 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
    * @param failedHost The host with network errors.
    * @throws SQLException if an error occurs
    */
-  protected synchronized void failover(final HostSpec failedHost) throws SQLException {
-    this.pluginService.setAvailability(failedHost.asAliases(), HostAvailability.NOT_AVAILABLE);
+  protected void failover(final HostSpec failedHost) throws SQLException {
+    this.failoverLock.lock();
+    try {
+      this.pluginService.setAvailability(failedHost.asAliases(), HostAvailability.NOT_AVAILABLE);
 
-    if (this.failoverMode == FailoverMode.STRICT_WRITER) {
-      failoverWriter();
-    } else {
-      failoverReader(failedHost);
-    }
+      if (this.failoverMode == FailoverMode.STRICT_WRITER) {
+        failoverWriter();
+      } else {
+        failoverReader(failedHost);
+      }
 
-    if (isInTransaction || this.pluginService.isInTransaction()) {
-      if (this.pluginManagerService != null) {
-        this.pluginManagerService.setInTransaction(false);
+      if (isInTransaction || this.pluginService.isInTransaction()) {
+        if (this.pluginManagerService != null) {
+          this.pluginManagerService.setInTransaction(false);
+        }
+        // "Transaction resolution unknown. Please re-configure session state if required and try
+        // restarting transaction."
+        final String errorMessage = Messages.get("Failover.transactionResolutionUnknownError");
+        LOGGER.info(errorMessage);
+        throw new TransactionStateUnknownSQLException();
+      } else {
+        // "The active SQL connection has changed due to a connection failure. Please re-configure
+        // session state if required. "
+        LOGGER.severe(() -> Messages.get("Failover.connectionChangedError"));
+        throw new FailoverSuccessSQLException();
       }
-      // "Transaction resolution unknown. Please re-configure session state if required and try
-      // restarting transaction."
-      final String errorMessage = Messages.get("Failover.transactionResolutionUnknownError");
-      LOGGER.info(errorMessage);
-      throw new TransactionStateUnknownSQLException();
-    } else {
-      // "The active SQL connection has changed due to a connection failure. Please re-configure
-      // session state if required. "
-      LOGGER.severe(() -> Messages.get("Failover.connectionChangedError"));
-      throw new FailoverSuccessSQLException();
+    } finally {
+      this.failoverLock.unlock();
     }
   }
 
@@ -589,7 +656,7 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
       if (failedHostSpec != null && failedHostSpec.getRawAvailability() == HostAvailability.AVAILABLE) {
         failedHost = failedHostSpec;
       }
-      final ReaderFailoverResult result = readerFailoverHandler.failover(this.pluginService.getHosts(), failedHost);
+      final ReaderFailoverResult result = this.getReaderFailoverResult(failedHost);
 
       if (result != null) {
         final SQLException exception = result.getException();
@@ -609,6 +676,7 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
 
       this.pluginService.getCurrentHostSpec().removeAlias(oldAliases.toArray(new String[]{}));
       updateTopology(true);
+      this.refreshStandbyConnections();
 
       LOGGER.info(
           () -> Messages.get(
@@ -643,7 +711,7 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
 
     try {
       LOGGER.info(() -> Messages.get("Failover.startWriterFailover"));
-      final WriterFailoverResult failoverResult = this.writerFailoverHandler.failover(this.pluginService.getHosts());
+      final WriterFailoverResult failoverResult = this.getWriterFailoverResult();
       if (failoverResult != null) {
         final SQLException exception = failoverResult.getException();
         if (exception != null) {
@@ -667,6 +735,7 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
               new Object[]{this.pluginService.getCurrentHostSpec()}));
 
       this.pluginService.refreshHostList();
+      this.refreshStandbyConnections();
 
       this.failoverWriterSuccessCounter.inc();
     } catch (FailoverSuccessSQLException ex) {
@@ -687,6 +756,173 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
     }
   }
 
+  /**
+   * Runs the reader failover process, or joins the failover process of another connection to the
+   * same cluster if failover coordination is enabled.
+   *
+   * @param failedHost The host with network errors.
+   * @return the result of the failover process.
+   * @throws SQLException if an error occurs
+   */
+  protected ReaderFailoverResult getReaderFailoverResult(final HostSpec failedHost) throws SQLException {
+    final FailoverCoordinator coordinator = this.acquireFailoverCoordinator();
+    if (coordinator == null) {
+      return this.readerFailoverHandler.failover(this.pluginService.getHosts(), failedHost);
+    }
+    try {
+      return this.getReaderFailoverResult(coordinator, failedHost);
+    } finally {
+      coordinator.release();
+    }
+  }
+
+  private ReaderFailoverResult getReaderFailoverResult(
+      final FailoverCoordinator coordinator, final HostSpec failedHost) throws SQLException {
+    final long endTimeNano = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.failoverTimeoutMsSetting);
+    FailoverCoordinator.Outcome rejectedOutcome = null;
+    while (true) {
+      final FailoverCoordinator.Outcome outcome =
+          this.awaitFailoverOutcome(coordinator, rejectedOutcome, endTimeNano);
+      if (outcome == null) {
+        // This connection runs the failover process for the cluster.
+        ReaderFailoverResult result = null;
+        try {
+          result = this.readerFailoverHandler.failover(this.pluginService.getHosts(), failedHost);
+          return result;
+        } finally {
+          coordinator.complete(result != null && result.isConnected() ? result.getHost() : null, null);
+        }
+      }
+
+      if (outcome.isTimedOut() || outcome.getHost() == null) {
+        // The leader has failed, or the failover timeout has elapsed while waiting for it.
+        return ClusterAwareReaderFailoverHandler.FAILED_READER_FAILOVER_RESULT;
+      }
+
+      try {
+        final Connection conn = this.connectToFailoverOutcome(outcome);
+        return new ReaderFailoverResult(conn, outcome.getHost(), true);
+      } catch (final SQLException e) {
+        if (!this.pluginService.isNetworkException(e)) {
+          return new ReaderFailoverResult(null, null, false, e);
+        }
+        rejectedOutcome = outcome;
+      }
+    }
+  }
+
+  /**
+   * Runs the writer failover process, or joins the failover process of another connection to the
+   * same cluster if failover coordination is enabled.
+   *
+   * @return the result of the failover process.
+   * @throws SQLException if an error occurs
+   */
+  protected WriterFailoverResult getWriterFailoverResult() throws SQLException {
+    final FailoverCoordinator coordinator = this.acquireFailoverCoordinator();
+    if (coordinator == null) {
+      return this.writerFailoverHandler.failover(this.pluginService.getHosts());
+    }
+    try {
+      return this.getWriterFailoverResult(coordinator);
+    } finally {
+      coordinator.release();
+    }
+  }
+
+  private WriterFailoverResult getWriterFailoverResult(final FailoverCoordinator coordinator) throws SQLException {
+    final long endTimeNano = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.failoverTimeoutMsSetting);
+    FailoverCoordinator.Outcome rejectedOutcome = null;
+    while (true) {
+      final FailoverCoordinator.Outcome outcome =
+          this.awaitFailoverOutcome(coordinator, rejectedOutcome, endTimeNano);
+      if (outcome == null) {
+        // This connection runs the failover process for the cluster.
+        WriterFailoverResult result = null;
+        try {
+          result = this.writerFailoverHandler.failover(this.pluginService.getHosts());
+          return result;
+        } finally {
+          if (result != null && result.isConnected()) {
+            coordinator.complete(getWriter(result.getTopology()), result.getTopology());
+          } else {
+            coordinator.complete(null, null);
+          }
+        }
+      }
+
+      if (outcome.isTimedOut() || outcome.getHost() == null) {
+        // The leader has failed, or the failover timeout has elapsed while waiting for it.
+        return new WriterFailoverResult(false, false, null, null, "Coordinator");
+      }
+
+      try {
+        final Connection conn = this.connectToFailoverOutcome(outcome);
+        return new WriterFailoverResult(true, true, outcome.getTopology(), conn, "Coordinator");
+      } catch (final SQLException e) {
+        if (!this.pluginService.isNetworkException(e)) {
+          return new WriterFailoverResult(false, false, null, null, "Coordinator", e);
+        }
+        rejectedOutcome = outcome;
+      }
+    }
+  }
+
+  // The caller has to release the coordinator when it's done failing over.
+  protected FailoverCoordinator acquireFailoverCoordinator() throws SQLException {
+    if (!this.failoverCoordinationEnabledSetting) {
+      return null;
+    }
+    final HostListProvider hostListProvider = this.pluginService.getHostListProvider();
+    if (!(hostListProvider instanceof RdsHostListProvider)) {
+      return null;
+    }
+    // Connections with different failover modes look for different hosts.
+    return FailoverCoordinator.acquire(
+        ((RdsHostListProvider) hostListProvider).getClusterId() + "/" + this.failoverMode);
+  }
+
+  // Waits for the leader no longer than the remaining failover timeout of this connection. The wait
+  // counts towards the failover timeout, so a follower doesn't run its own failover process after it.
+  private FailoverCoordinator.Outcome awaitFailoverOutcome(
+      final FailoverCoordinator coordinator,
+      final FailoverCoordinator.Outcome rejectedOutcome,
+      final long endTimeNano) throws SQLException {
+    final long remainingNano = endTimeNano - System.nanoTime();
+    if (remainingNano <= 0) {
+      return FailoverCoordinator.Outcome.TIMED_OUT;
+    }
+    try {
+      return coordinator.awaitOutcome(rejectedOutcome, remainingNano);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException(Messages.get("Failover.interruptedThread"), "70100", e);
+    }
+  }
+
+  private Connection connectToFailoverOutcome(final FailoverCoordinator.Outcome outcome) throws SQLException {
+    final HostSpec host = outcome.getHost();
+    LOGGER.fine(() -> Messages.get("Failover.connectingToCoordinatedHost", new Object[] {host.getUrl()}));
+    try {
+      Connection conn = this.standbyConnectionPool == null ? null : this.standbyConnectionPool.take(host);
+      if (conn == null) {
+        conn = this.pluginService.forceConnect(host, this.properties);
+      }
+      this.pluginService.setAvailability(host.asAliases(), HostAvailability.AVAILABLE);
+      return conn;
+    } catch (final SQLException e) {
+      this.pluginService.setAvailability(host.asAliases(), HostAvailability.NOT_AVAILABLE);
+      throw e;
+    }
+  }
+
+  // Replaces the spare connections handed out by the failover process.
+  private void refreshStandbyConnections() {
+    if (this.standbyConnectionPool != null) {
+      this.standbyConnectionPool.refresh();
+    }
+  }
+
   protected void invalidateCurrentConnection() {
     final Connection conn = this.pluginService.getCurrentConnection();
     if (conn == null) {
@@ -711,20 +947,25 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
     }
   }
 
-  protected synchronized void pickNewConnection() throws SQLException {
-    if (this.isClosed && this.closedExplicitly) {
-      LOGGER.fine(() -> Messages.get("Failover.transactionResolutionUnknownError"));
-      return;
-    }
+  protected void pickNewConnection() throws SQLException {
+    this.failoverLock.lock();
+    try {
+      if (this.isClosed && this.closedExplicitly) {
+        LOGGER.fine(() -> Messages.get("Failover.transactionResolutionUnknownError"));
+        return;
+      }
 
-    if (this.pluginService.getCurrentConnection() == null && !shouldAttemptReaderConnection()) {
-      try {
-        connectTo(getCurrentWriter());
-      } catch (final SQLException e) {
-        failover(getCurrentWriter());
+      if (this.pluginService.getCurrentConnection() == null && !shouldAttemptReaderConnection()) {
+        try {
+          connectTo(getCurrentWriter());
+        } catch (final SQLException e) {
+          failover(getCurrentWriter());
+        }
+      } else {
+        failover(this.pluginService.getCurrentHostSpec());
       }
-    } else {
-      failover(this.pluginService.getCurrentHostSpec());
+    } finally {
+      this.failoverLock.unlock();
     }
   }
 
@@ -779,6 +1020,9 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
 
     if (isInitialConnection) {
       this.pluginService.refreshHostList(conn);
+      if (this.standbyConnectionPool != null) {
+        this.standbyConnectionPool.start();
+      }
     }
 
     return conn;
@@ -0,0 +1,198 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.failover;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.HostSpec;
+
+/**
+ * Coordinates the failover of connections to the same cluster. The first connection that starts
+ * failing over becomes the leader and runs the failover process. Connections that start failing
+ * over while the leader is running wait for its outcome, and then only connect to the host the
+ * leader has connected to, so the surviving instances aren't probed by every connection.
+ *
+ * <p>A successful outcome is also used by connections that start failing over shortly after the
+ * leader has completed, while other connections still use the coordinator. A connection that can't
+ * connect to the host of an outcome runs the failover process itself.
+ *
+ * <p>Connections acquire the coordinator of their cluster with {@link #acquire(String)} and release
+ * it with {@link #release()} when they're done failing over. The coordinator is removed when the
+ * last connection releases it.
+ *
+ * <p>All connections sharing an outcome connect to the same host. In reader failover mode, this
+ * concentrates the load of these connections on the single reader the leader has found, until they
+ * are moved by the application or by other plugins.
+ */
+public class FailoverCoordinator {
+
+  // How long the outcome of a failover process is used by connections that start failing over.
+  protected static final long OUTCOME_REUSE_NANO = TimeUnit.SECONDS.toNanos(10);
+
+  private static final ConcurrentHashMap<String, FailoverCoordinator> coordinators = new ConcurrentHashMap<>();
+
+  // A lock is used instead of an object monitor, so waiting virtual threads don't pin their
+  // carrier threads.
+  private final ReentrantLock lock = new ReentrantLock();
+  private final String key;
+  // The number of connections using the coordinator. Only changed while the entry of the
+  // coordinator is computed, so acquiring and releasing the coordinator are atomic.
+  private int userCount;
+  private final Condition outcomeReady = this.lock.newCondition();
+  private boolean isFailoverInProgress;
+  private @Nullable Outcome latestOutcome;
+
+  private FailoverCoordinator(final String key) {
+    this.key = key;
+  }
+
+  /**
+   * Returns the coordinator shared by connections with the same key, and registers the caller as a
+   * user of the coordinator. The coordinator is created if it doesn't exist yet.
+   *
+   * @param key the id of the cluster and the failover mode of the connection.
+   * @return the coordinator. The caller has to call {@link #release()} when it's done failing over.
+   */
+  public static FailoverCoordinator acquire(final String key) {
+    return coordinators.compute(key, (k, coordinator) -> {
+      final FailoverCoordinator result = coordinator == null ? new FailoverCoordinator(k) : coordinator;
+      result.userCount++;
+      return result;
+    });
+  }
+
+  /**
+   * Unregisters the caller as a user of the coordinator. The coordinator is removed when its last
+   * user releases it.
+   */
+  public void release() {
+    coordinators.computeIfPresent(this.key, (k, coordinator) -> {
+      if (coordinator != this) {
+        return coordinator;
+      }
+      return --this.userCount == 0 ? null : this;
+    });
+  }
+
+  static int getCoordinatorCount() {
+    return coordinators.size();
+  }
+
+  public static void clearCache() {
+    coordinators.clear();
+  }
+
+  /**
+   * Waits for the outcome of the failover process of another connection. If no failover process is
+   * running and there's no recent outcome to use, the caller becomes the leader and has to run the
+   * failover process and call {@link #complete(HostSpec, List)} afterwards.
+   *
+   * @param rejectedOutcome an outcome the caller couldn't use, or null.
+   * @param timeoutNano the maximum time to wait for a running failover process.
+   * @return the outcome to use, or null if the caller is the leader.
+   * @throws InterruptedException if the thread is interrupted while waiting.
+   */
+  public @Nullable Outcome awaitOutcome(final @Nullable Outcome rejectedOutcome, final long timeoutNano)
+      throws InterruptedException {
+    this.lock.lock();
+    try {
+      long remainingNano = timeoutNano;
+      boolean hasWaited = false;
+      while (this.isFailoverInProgress) {
+        if (remainingNano <= 0) {
+          // The leader takes too long. The caller fails over on its own without becoming the leader.
+          return Outcome.TIMED_OUT;
+        }
+        hasWaited = true;
+        remainingNano = this.outcomeReady.awaitNanos(remainingNano);
+      }
+
+      final Outcome outcome = this.latestOutcome;
+      if (hasWaited && outcome != null) {
+        // The outcome of the failover process the caller has waited for, even if it failed.
+        return outcome;
+      }
+      if (outcome != null
+          && outcome.host != null
+          && outcome != rejectedOutcome
+          && System.nanoTime() - outcome.completedTimeNano < OUTCOME_REUSE_NANO) {
+        return outcome;
+      }
+
+      this.isFailoverInProgress = true;
+      return null;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Publishes the outcome of the failover process of the leader.
+   *
+   * @param host the host the leader has connected to, or null if the failover process failed.
+   * @param topology the topology obtained by the failover process, or null.
+   */
+  public void complete(final @Nullable HostSpec host, final @Nullable List<HostSpec> topology) {
+    this.lock.lock();
+    try {
+      this.latestOutcome = new Outcome(host, topology, System.nanoTime());
+      this.isFailoverInProgress = false;
+      this.outcomeReady.signalAll();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * The outcome of a failover process.
+   */
+  public static class Outcome {
+
+    static final Outcome TIMED_OUT = new Outcome(null, null, 0);
+
+    private final @Nullable HostSpec host;
+    private final @Nullable List<HostSpec> topology;
+    private final long completedTimeNano;
+
+    Outcome(final @Nullable HostSpec host, final @Nullable List<HostSpec> topology, final long completedTimeNano) {
+      this.host = host;
+      this.topology = topology;
+      this.completedTimeNano = completedTimeNano;
+    }
+
+    /**
+     * Returns the host the leader has connected to.
+     *
+     * @return the host, or null if the failover process failed or timed out.
+     */
+    public @Nullable HostSpec getHost() {
+      return this.host;
+    }
+
+    public @Nullable List<HostSpec> getTopology() {
+      return this.topology;
+    }
+
+    public boolean isTimedOut() {
+      return this == TIMED_OUT;
+    }
+  }
+}
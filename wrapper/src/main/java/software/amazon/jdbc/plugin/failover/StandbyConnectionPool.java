@@ -0,0 +1,432 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.failover;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.util.ExecutorFactory;
+import software.amazon.jdbc.util.Messages;
+import software.amazon.jdbc.util.PropertyUtils;
+
+/**
+ * Keeps a spare connection open to the instances of a cluster that the failover process is likely
+ * to connect to, so it can use a spare connection instead of opening a new one. There is one spare
+ * connection to the writer and one to each available reader. Spare connections are validated in
+ * the background, and spare connections that are closed or invalid are replaced. A spare
+ * connection is validated again before it's handed out.
+ *
+ * <p>A single pool is shared by all connections to the same cluster with the same connection
+ * properties, including the credentials. Connections acquire the shared pool with
+ * {@link #acquire(String, PluginService, Properties, long)} and release it with
+ * {@link #release(PluginService)}. Spare connections are opened with the properties of the pool
+ * through the plugin service of one of the connections using the pool, which has the same
+ * properties, and they're closed when the last connection releases the pool.
+ */
+public class StandbyConnectionPool {
+
+  private static final Logger LOGGER = Logger.getLogger(StandbyConnectionPool.class.getName());
+  protected static final int VALIDATION_TIMEOUT_SEC = 1;
+
+  // A single thread schedules the refresh of all pools. Spare connections are validated and opened
+  // on virtual threads if they're supported, or on pooled threads that are terminated when they're
+  // idle.
+  protected static final ScheduledExecutorService scheduler =
+      ExecutorFactory.newSingleThreadScheduledExecutor("failover-standby-scheduler");
+  protected static final ExecutorService executor =
+      ExecutorFactory.newThreadPerTaskExecutor("failover-standby-");
+
+  // Shared pools by cluster id and connection properties.
+  private static final Map<PoolKey, StandbyConnectionPool> pools = new HashMap<>();
+  private static final ReentrantLock poolsLock = new ReentrantLock();
+
+  private final @Nullable PoolKey key;
+  // Plugin services of the connections using the pool. Guarded by lock.
+  private final List<PluginService> pluginServices = new ArrayList<>();
+  private final Properties properties;
+  private final long refreshIntervalMs;
+  private final ReentrantLock lock = new ReentrantLock();
+  // Spare connections by host URL.
+  private final Map<String, Connection> connections = new HashMap<>();
+  // URLs of hosts whose spare connections are being validated or opened.
+  private final Set<String> pendingHosts = new HashSet<>();
+  private boolean isClosed;
+  private @Nullable ScheduledFuture<?> scheduledRefresh;
+
+  /**
+   * StandbyConnectionPool constructor. The pool isn't shared with other connections.
+   *
+   * @param pluginService     A provider for creating new connections.
+   * @param properties        The properties of the connection that owns the pool.
+   * @param refreshIntervalMs Interval of time between validations of spare connections.
+   */
+  public StandbyConnectionPool(
+      final PluginService pluginService,
+      final Properties properties,
+      final long refreshIntervalMs) {
+    this((PoolKey) null, properties, refreshIntervalMs);
+    this.pluginServices.add(pluginService);
+  }
+
+  private StandbyConnectionPool(
+      final @Nullable PoolKey key,
+      final Properties properties,
+      final long refreshIntervalMs) {
+    this.key = key;
+    this.properties = properties;
+    this.refreshIntervalMs = refreshIntervalMs;
+  }
+
+  /**
+   * Returns the pool shared by connections to the given cluster with the same properties, and
+   * registers the given connection as a user of the pool. The pool is created if it doesn't exist
+   * yet. The properties are copied, so later changes to them don't affect the pool.
+   *
+   * @param clusterId         The id of the cluster.
+   * @param pluginService     A provider for creating new connections.
+   * @param properties        The properties of the connection.
+   * @param refreshIntervalMs Interval of time between validations of spare connections.
+   * @return the shared pool. The caller has to call {@link #release(PluginService)} when it no
+   *     longer uses the pool.
+   */
+  public static StandbyConnectionPool acquire(
+      final String clusterId,
+      final PluginService pluginService,
+      final Properties properties,
+      final long refreshIntervalMs) {
+    final PoolKey key = new PoolKey(clusterId, PropertyUtils.copyProperties(properties));
+    poolsLock.lock();
+    try {
+      final StandbyConnectionPool pool = pools.computeIfAbsent(
+          key, k -> new StandbyConnectionPool(k, k.properties, refreshIntervalMs));
+      pool.lock.lock();
+      try {
+        pool.pluginServices.add(pluginService);
+      } finally {
+        pool.lock.unlock();
+      }
+      return pool;
+    } finally {
+      poolsLock.unlock();
+    }
+  }
+
+  /**
+   * Unregisters the given connection as a user of the pool. The pool is closed when no connection
+   * uses it anymore.
+   *
+   * @param pluginService The plugin service the pool has been acquired with.
+   */
+  public void release(final PluginService pluginService) {
+    boolean isUnused;
+    poolsLock.lock();
+    try {
+      this.lock.lock();
+      try {
+        this.pluginServices.remove(pluginService);
+        isUnused = this.pluginServices.isEmpty();
+      } finally {
+        this.lock.unlock();
+      }
+      if (isUnused && this.key != null) {
+        pools.remove(this.key, this);
+      }
+    } finally {
+      poolsLock.unlock();
+    }
+
+    if (isUnused) {
+      this.close();
+    }
+  }
+
+  public static void clearCache() {
+    final List<StandbyConnectionPool> poolsToClose;
+    poolsLock.lock();
+    try {
+      poolsToClose = new ArrayList<>(pools.values());
+      pools.clear();
+    } finally {
+      poolsLock.unlock();
+    }
+    poolsToClose.forEach(StandbyConnectionPool::close);
+  }
+
+  private @Nullable PluginService getPluginService() {
+    this.lock.lock();
+    try {
+      return this.pluginServices.isEmpty() ? null : this.pluginServices.get(0);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Starts refreshing spare connections in the background. Does nothing if the pool has already
+   * been started or closed.
+   */
+  public void start() {
+    this.lock.lock();
+    try {
+      if (this.isClosed || this.scheduledRefresh != null) {
+        return;
+      }
+      this.scheduledRefresh = scheduler.scheduleWithFixedDelay(
+          () -> executor.execute(this::refresh), 0, this.refreshIntervalMs, TimeUnit.MILLISECONDS);
+    } catch (final RejectedExecutionException ex) {
+      // The scheduler is shut down.
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Closes spare connections to hosts that are no longer failover candidates, and validates or
+   * opens spare connections to the failover candidates in the background.
+   */
+  public void refresh() {
+    final PluginService pluginService = this.getPluginService();
+    if (pluginService == null) {
+      return;
+    }
+    final Map<String, HostSpec> targetHosts = new HashMap<>();
+    try {
+      for (final HostSpec host : pluginService.getHosts()) {
+        if (isFailoverCandidate(host)) {
+          targetHosts.put(host.getUrl(), host);
+        }
+      }
+    } catch (final RuntimeException ex) {
+      // The topology isn't available yet.
+      LOGGER.finest(() -> Messages.get("StandbyConnectionPool.refreshFailed", new Object[] {ex.getMessage()}));
+      return;
+    }
+
+    final List<Connection> obsoleteConnections = new ArrayList<>();
+    final List<HostSpec> hostsToMaintain = new ArrayList<>();
+    this.lock.lock();
+    try {
+      if (this.isClosed) {
+        return;
+      }
+      final Iterator<Map.Entry<String, Connection>> iterator = this.connections.entrySet().iterator();
+      while (iterator.hasNext()) {
+        final Map.Entry<String, Connection> entry = iterator.next();
+        if (!targetHosts.containsKey(entry.getKey())) {
+          obsoleteConnections.add(entry.getValue());
+          iterator.remove();
+        }
+      }
+      for (final HostSpec host : targetHosts.values()) {
+        if (this.pendingHosts.add(host.getUrl())) {
+          hostsToMaintain.add(host);
+        }
+      }
+    } finally {
+      this.lock.unlock();
+    }
+
+    obsoleteConnections.forEach(StandbyConnectionPool::closeConnection);
+    for (final HostSpec host : hostsToMaintain) {
+      try {
+        executor.execute(() -> this.maintain(host));
+      } catch (final RejectedExecutionException ex) {
+        this.removePendingHost(host.getUrl());
+      }
+    }
+  }
+
+  /**
+   * Hands out the spare connection to the given host. The spare connection is removed from the
+   * pool and replaced by the next refresh.
+   *
+   * @param host The host to connect to.
+   * @return a valid connection to the host, or null if there is no valid spare connection to it.
+   */
+  public @Nullable Connection take(final HostSpec host) {
+    final Connection conn;
+    this.lock.lock();
+    try {
+      conn = this.connections.remove(host.getUrl());
+    } finally {
+      this.lock.unlock();
+    }
+
+    if (conn == null) {
+      return null;
+    }
+    if (!isValid(conn)) {
+      closeConnection(conn);
+      return null;
+    }
+    LOGGER.fine(() -> Messages.get("StandbyConnectionPool.usingStandbyConnection", new Object[] {host.getUrl()}));
+    return conn;
+  }
+
+  /**
+   * Stops refreshing spare connections and closes them.
+   */
+  public void close() {
+    final List<Connection> connectionsToClose;
+    final ScheduledFuture<?> refresh;
+    this.lock.lock();
+    try {
+      this.isClosed = true;
+      connectionsToClose = new ArrayList<>(this.connections.values());
+      this.connections.clear();
+      refresh = this.scheduledRefresh;
+      this.scheduledRefresh = null;
+    } finally {
+      this.lock.unlock();
+    }
+
+    if (refresh != null) {
+      refresh.cancel(false);
+    }
+    connectionsToClose.forEach(StandbyConnectionPool::closeConnection);
+  }
+
+  // Validates the spare connection to the given host, or opens a new one.
+  void maintain(final HostSpec host) {
+    final String url = host.getUrl();
+    try {
+      Connection conn;
+      this.lock.lock();
+      try {
+        conn = this.connections.remove(url);
+      } finally {
+        this.lock.unlock();
+      }
+
+      if (conn != null && !isValid(conn)) {
+        closeConnection(conn);
+        conn = null;
+      }
+      if (conn == null) {
+        final PluginService pluginService = this.getPluginService();
+        if (pluginService == null) {
+          return;
+        }
+        final Properties copy = new Properties();
+        copy.putAll(this.properties);
+        try {
+          conn = pluginService.forceConnect(host, copy);
+        } catch (final SQLException ex) {
+          LOGGER.finest(() -> Messages.get(
+              "StandbyConnectionPool.failedToOpenStandbyConnection", new Object[] {url, ex.getMessage()}));
+          return;
+        }
+      }
+
+      boolean isAdded = false;
+      this.lock.lock();
+      try {
+        if (!this.isClosed) {
+          this.connections.put(url, conn);
+          isAdded = true;
+        }
+      } finally {
+        this.lock.unlock();
+      }
+      if (!isAdded) {
+        closeConnection(conn);
+      }
+    } finally {
+      this.removePendingHost(url);
+    }
+  }
+
+  private void removePendingHost(final String url) {
+    this.lock.lock();
+    try {
+      this.pendingHosts.remove(url);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  // The writer failover process reconnects to the writer or connects to a reader promoted to writer,
+  // and the reader failover process tries available readers first. Readers that are down are tried
+  // last, so they don't get a spare connection.
+  private static boolean isFailoverCandidate(final HostSpec host) {
+    return host.getRole() == HostRole.WRITER
+        || (host.getRole() == HostRole.READER && host.getRawAvailability() == HostAvailability.AVAILABLE);
+  }
+
+  private static boolean isValid(final Connection conn) {
+    try {
+      return !conn.isClosed() && conn.isValid(VALIDATION_TIMEOUT_SEC);
+    } catch (final SQLException ex) {
+      return false;
+    }
+  }
+
+  private static void closeConnection(final Connection conn) {
+    try {
+      conn.close();
+    } catch (final SQLException ex) {
+      // ignore
+    }
+  }
+
+  private static class PoolKey {
+    private final String clusterId;
+    private final Properties properties;
+
+    PoolKey(final String clusterId, final Properties properties) {
+      this.clusterId = clusterId;
+      this.properties = properties;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof PoolKey)) {
+        return false;
+      }
+      final PoolKey other = (PoolKey) obj;
+      return this.clusterId.equals(other.clusterId) && this.properties.equals(other.properties);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.clusterId, this.properties);
+    }
+  }
+}
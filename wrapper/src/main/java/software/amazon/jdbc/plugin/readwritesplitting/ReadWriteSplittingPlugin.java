@@ -24,6 +24,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.AwsWrapperProperty;
@@ -65,6 +66,8 @@ public class ReadWriteSplittingPlugin extends AbstractConnectionPlugin
   private final Properties properties;
   private final String readerSelectorStrategy;
   private final ConnectionProviderManager connProviderManager;
+  // A lock rather than a monitor, so switching connections doesn't pin the carriers of virtual threads.
+  private final ReentrantLock switchLock = new ReentrantLock();
   private volatile boolean inReadWriteSplit = false;
   private HostListProviderService hostListProviderService;
   private Connection writerConnection;
@@ -374,29 +377,34 @@ public class ReadWriteSplittingPlugin extends AbstractConnectionPlugin
     throw new ReadWriteSplittingSQLException(logMessage, sqlState.getState(), cause);
   }
 
-  private synchronized void switchToWriterConnection(
+  private void switchToWriterConnection(
       final List<HostSpec> hosts)
       throws SQLException {
-    final Connection currentConnection = this.pluginService.getCurrentConnection();
-    final HostSpec currentHost = this.pluginService.getCurrentHostSpec();
-    if (isWriter(currentHost) && isConnectionUsable(currentConnection)) {
-      return;
-    }
+    this.switchLock.lock();
+    try {
+      final Connection currentConnection = this.pluginService.getCurrentConnection();
+      final HostSpec currentHost = this.pluginService.getCurrentHostSpec();
+      if (isWriter(currentHost) && isConnectionUsable(currentConnection)) {
+        return;
+      }
 
-    this.inReadWriteSplit = true;
-    final HostSpec writerHost = getWriter(hosts);
-    if (!isConnectionUsable(this.writerConnection)) {
-      getNewWriterConnection(writerHost);
-    } else {
-      switchCurrentConnectionTo(this.writerConnection, writerHost);
-    }
+      this.inReadWriteSplit = true;
+      final HostSpec writerHost = getWriter(hosts);
+      if (!isConnectionUsable(this.writerConnection)) {
+        getNewWriterConnection(writerHost);
+      } else {
+        switchCurrentConnectionTo(this.writerConnection, writerHost);
+      }
 
-    if (this.isReaderConnFromInternalPool) {
-      this.closeConnectionIfIdle(this.readerConnection);
-    }
+      if (this.isReaderConnFromInternalPool) {
+        this.closeConnectionIfIdle(this.readerConnection);
+      }
 
-    LOGGER.finer(() -> Messages.get("ReadWriteSplittingPlugin.switchedFromReaderToWriter",
-        new Object[] {writerHost.getUrl()}));
+      LOGGER.finer(() -> Messages.get("ReadWriteSplittingPlugin.switchedFromReaderToWriter",
+          new Object[] {writerHost.getUrl()}));
+    } finally {
+      this.switchLock.unlock();
+    }
   }
 
   private void switchCurrentConnectionTo(
@@ -415,41 +423,46 @@ public class ReadWriteSplittingPlugin extends AbstractConnectionPlugin
             newConnectionHost.getUrl()}));
   }
 
-  private synchronized void switchToReaderConnection(final List<HostSpec> hosts)
+  private void switchToReaderConnection(final List<HostSpec> hosts)
       throws SQLException {
-    final Connection currentConnection = this.pluginService.getCurrentConnection();
-    final HostSpec currentHost = this.pluginService.getCurrentHostSpec();
-    if (isReader(currentHost) && isConnectionUsable(currentConnection)) {
-      return;
-    }
+    this.switchLock.lock();
+    try {
+      final Connection currentConnection = this.pluginService.getCurrentConnection();
+      final HostSpec currentHost = this.pluginService.getCurrentHostSpec();
+      if (isReader(currentHost) && isConnectionUsable(currentConnection)) {
+        return;
+      }
 
-    this.inReadWriteSplit = true;
-    if (!isConnectionUsable(this.readerConnection)) {
-      initializeReaderConnection(hosts);
-    } else {
-      try {
-        switchCurrentConnectionTo(this.readerConnection, this.readerHostSpec);
-        LOGGER.finer(() -> Messages.get("ReadWriteSplittingPlugin.switchedFromWriterToReader",
-            new Object[] {this.readerHostSpec.getUrl()}));
-      } catch (SQLException e) {
-        if (e.getMessage() != null) {
-          LOGGER.warning(
-              () -> Messages.get("ReadWriteSplittingPlugin.errorSwitchingToCachedReaderWithCause",
-                  new Object[] {this.readerHostSpec.getUrl(), e.getMessage()}));
-        } else {
-          LOGGER.warning(() -> Messages.get("ReadWriteSplittingPlugin.errorSwitchingToCachedReader",
+      this.inReadWriteSplit = true;
+      if (!isConnectionUsable(this.readerConnection)) {
+        initializeReaderConnection(hosts);
+      } else {
+        try {
+          switchCurrentConnectionTo(this.readerConnection, this.readerHostSpec);
+          LOGGER.finer(() -> Messages.get("ReadWriteSplittingPlugin.switchedFromWriterToReader",
               new Object[] {this.readerHostSpec.getUrl()}));
-        }
+        } catch (SQLException e) {
+          if (e.getMessage() != null) {
+            LOGGER.warning(
+                () -> Messages.get("ReadWriteSplittingPlugin.errorSwitchingToCachedReaderWithCause",
+                    new Object[] {this.readerHostSpec.getUrl(), e.getMessage()}));
+          } else {
+            LOGGER.warning(() -> Messages.get("ReadWriteSplittingPlugin.errorSwitchingToCachedReader",
+                new Object[] {this.readerHostSpec.getUrl()}));
+          }
 
-        this.readerConnection.close();
-        this.readerConnection = null;
-        this.readerHostSpec = null;
-        initializeReaderConnection(hosts);
+          this.readerConnection.close();
+          this.readerConnection = null;
+          this.readerHostSpec = null;
+          initializeReaderConnection(hosts);
+        }
       }
-    }
 
-    if (this.isWriterConnFromInternalPool) {
-      this.closeConnectionIfIdle(this.writerConnection);
+      if (this.isWriterConnFromInternalPool) {
+        this.closeConnectionIfIdle(this.writerConnection);
+      }
+    } finally {
+      this.switchLock.unlock();
     }
   }
 
@@ -0,0 +1,180 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.strategy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.util.LatencyHistogram;
+
+/**
+ * Tracks the load of database hosts observed by connections of the driver: the number of requests
+ * that are in flight, an exponentially weighted moving average (EWMA) of request latency and a
+ * histogram of recent request latencies. Each host selection strategy keeps its own tracker, so
+ * requests are recorded once per tracker even if several strategies are in use.
+ */
+public class HostLoadTracker {
+
+  // Latency samples older than this are ignored, so hosts that were slow can be selected again.
+  public static final long SAMPLE_EXPIRATION_NANO = TimeUnit.SECONDS.toNanos(30);
+  // Each sample moves the average by 1/EWMA_DIVISOR of its difference from the average.
+  private static final long EWMA_DIVISOR = 5;
+  // Latencies are recorded into a histogram per window, and the histograms of the latest two
+  // windows are kept.
+  private static final long HISTOGRAM_WINDOW_NANO = SAMPLE_EXPIRATION_NANO / 2;
+  private static final long NO_SAMPLE = -1;
+
+  private final Map<String, HostLoad> hostLoads = new ConcurrentHashMap<>();
+
+  public HostLoad getHostLoad(final @NonNull String host) {
+    final HostLoad hostLoad = this.hostLoads.get(host);
+    return hostLoad != null ? hostLoad : this.hostLoads.computeIfAbsent(host, (key) -> new HostLoad());
+  }
+
+  /**
+   * Returns true if all the given hosts have recent latency samples. Latencies of executed
+   * statements depend on the statements, so hosts should only be compared by them if every host
+   * has them.
+   *
+   * @param hosts the hosts to check.
+   * @return true if every host has recent latency samples.
+   */
+  public boolean hasRecentSamples(final @NonNull List<HostSpec> hosts) {
+    if (hosts.isEmpty()) {
+      return false;
+    }
+    final long currentTimeNano = System.nanoTime();
+    for (final HostSpec hostSpec : hosts) {
+      final HostLoad hostLoad = this.hostLoads.get(hostSpec.getHost());
+      if (hostLoad == null || hostLoad.getLatencyNano(currentTimeNano) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // For testing purposes only
+  public void clear() {
+    this.hostLoads.clear();
+  }
+
+  public static class HostLoad {
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private final AtomicLong latencyEwmaNano = new AtomicLong(NO_SAMPLE);
+    private volatile long lastSampleTimeNano;
+    private final LatencyHistogram[] latencyHistograms = {new LatencyHistogram(), new LatencyHistogram()};
+    // The histogram window of the latest sample.
+    private final AtomicLong histogramWindow =
+        new AtomicLong(Math.floorDiv(System.nanoTime(), HISTOGRAM_WINDOW_NANO) - 2);
+
+    /**
+     * Records the start of a request.
+     *
+     * @return the start time of the request in nanoseconds.
+     */
+    public long start() {
+      this.inFlightCount.incrementAndGet();
+      return System.nanoTime();
+    }
+
+    /**
+     * Records the completion of a request and its latency.
+     *
+     * @param startTimeNano the start time returned by {@link #start()}.
+     */
+    public void complete(final long startTimeNano) {
+      final long currentTimeNano = System.nanoTime();
+      this.inFlightCount.decrementAndGet();
+      this.addSample(currentTimeNano - startTimeNano, currentTimeNano);
+    }
+
+    /**
+     * Records the latency of a request that isn't tracked by {@link #start()} and
+     * {@link #complete(long)}.
+     *
+     * @param latencyNano the latency of the request in nanoseconds.
+     * @param currentTimeNano the current time in nanoseconds.
+     */
+    public void addSample(final long latencyNano, final long currentTimeNano) {
+      final boolean isExpired = currentTimeNano - this.lastSampleTimeNano > SAMPLE_EXPIRATION_NANO;
+      long ewma;
+      long newEwma;
+      do {
+        ewma = this.latencyEwmaNano.get();
+        newEwma = ewma == NO_SAMPLE || isExpired ? latencyNano : ewma + (latencyNano - ewma) / EWMA_DIVISOR;
+      } while (!this.latencyEwmaNano.compareAndSet(ewma, newEwma));
+      this.lastSampleTimeNano = currentTimeNano;
+
+      final long window = Math.floorDiv(currentTimeNano, HISTOGRAM_WINDOW_NANO);
+      final long current = this.histogramWindow.get();
+      if (window > current && this.histogramWindow.compareAndSet(current, window)) {
+        this.latencyHistograms[(int) (window & 1)].reset();
+        if (window - current > 1) {
+          this.latencyHistograms[(int) ((window - 1) & 1)].reset();
+        }
+      }
+      this.latencyHistograms[(int) (window & 1)].record(TimeUnit.NANOSECONDS.toMicros(latencyNano));
+    }
+
+    public int getInFlightCount() {
+      return this.inFlightCount.get();
+    }
+
+    /**
+     * Returns the average latency of recent requests.
+     *
+     * @param currentTimeNano the current time in nanoseconds.
+     * @return the average latency in nanoseconds, or -1 if there are no recent samples.
+     */
+    public long getLatencyNano(final long currentTimeNano) {
+      final long ewma = this.latencyEwmaNano.get();
+      if (ewma == NO_SAMPLE || currentTimeNano - this.lastSampleTimeNano > SAMPLE_EXPIRATION_NANO) {
+        return NO_SAMPLE;
+      }
+      return ewma;
+    }
+
+    /**
+     * Returns the latency at the given percentile of requests recorded in the current and the
+     * previous histogram windows. Unlike the average latency, high percentiles reflect the tail
+     * latency of the host.
+     *
+     * @param percentile the percentile, between 0 and 100.
+     * @param currentTimeNano the current time in nanoseconds.
+     * @return the latency in nanoseconds, or -1 if there are no recent samples.
+     */
+    public long getLatencyNanoAtPercentile(final double percentile, final long currentTimeNano) {
+      final long window = Math.floorDiv(currentTimeNano, HISTOGRAM_WINDOW_NANO);
+      final long current = this.histogramWindow.get();
+      final long latencyMicros;
+      if (window <= current) {
+        latencyMicros = LatencyHistogram.getValueAtPercentile(percentile, this.latencyHistograms);
+      } else if (window - current == 1) {
+        // The histogram of the window before the latest one is outdated.
+        latencyMicros = this.latencyHistograms[(int) (current & 1)].getValueAtPercentile(percentile);
+      } else {
+        return NO_SAMPLE;
+      }
+      return latencyMicros < 0 ? NO_SAMPLE : TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+    }
+  }
+}
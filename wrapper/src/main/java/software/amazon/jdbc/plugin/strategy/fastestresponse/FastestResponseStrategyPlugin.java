@@ -29,6 +29,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.AwsWrapperProperty;
 import software.amazon.jdbc.HostRole;
@@ -39,7 +40,10 @@ import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.PropertyDefinition;
 import software.amazon.jdbc.RandomHostSelector;
 import software.amazon.jdbc.plugin.AbstractConnectionPlugin;
+import software.amazon.jdbc.plugin.strategy.HostLoadTracker;
+import software.amazon.jdbc.plugin.strategy.HostLoadTracker.HostLoad;
 import software.amazon.jdbc.util.CacheMap;
+import software.amazon.jdbc.util.SubscribedMethodHelper;
 
 public class FastestResponseStrategyPlugin extends AbstractConnectionPlugin {
 
@@ -54,6 +58,12 @@ public class FastestResponseStrategyPlugin extends AbstractConnectionPlugin {
           add("notifyNodeListChanged");
           add("acceptsStrategy");
           add("getHostSpecByStrategy");
+          // Response times of executed statements are recorded.
+          for (final String method : SubscribedMethodHelper.NETWORK_BOUND_METHODS) {
+            if (method.contains(".execute")) {
+              add(method);
+            }
+          }
         }
       });
 
@@ -65,6 +75,8 @@ public class FastestResponseStrategyPlugin extends AbstractConnectionPlugin {
 
   protected static final CacheMap<String, HostSpec> cachedFastestResponseHostByRole = new CacheMap<>();
   protected static final RandomHostSelector randomHostSelector = new RandomHostSelector();
+  // Percentile of latencies of executed statements that hosts are compared by.
+  protected static final double TAIL_LATENCY_PERCENTILE = 90;
 
   protected final @NonNull PluginService pluginService;
   protected final @NonNull Properties properties;
@@ -136,6 +148,30 @@ public class FastestResponseStrategyPlugin extends AbstractConnectionPlugin {
     return conn;
   }
 
+  @Override
+  public <T, E extends Exception> T execute(
+      final Class<T> resultClass,
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    final HostSpec hostSpec = this.pluginService.getCurrentHostSpec();
+    if (hostSpec == null) {
+      return jdbcMethodFunc.call();
+    }
+
+    final HostLoad hostLoad = this.hostResponseTimeService.getHostLoadTracker().getHostLoad(hostSpec.getHost());
+    final long startTimeNano = hostLoad.start();
+    try {
+      return jdbcMethodFunc.call();
+    } finally {
+      hostLoad.complete(startTimeNano);
+    }
+  }
+
   @Override
   public boolean acceptsStrategy(HostRole role, String strategy) {
     return FASTEST_RESPONSE_STRATEGY_NAME.equalsIgnoreCase(strategy);
@@ -171,13 +207,29 @@ public class FastestResponseStrategyPlugin extends AbstractConnectionPlugin {
 
     // Cached result isn't available. Need to find the fastest response time host.
 
-    final HostSpec calculatedFastestResponseHost = this.pluginService.getHosts().stream()
+    final List<HostSpec> candidates = this.pluginService.getHosts().stream()
         .filter(x -> role.equals(x.getRole()))
-        .map(x -> new ResponseTimeTuple(x, this.hostResponseTimeService.getResponseTime(x)))
-        .sorted(Comparator.comparingInt(x -> x.responseTime))
-        .map(x -> x.hostSpec)
-        .findFirst()
-        .orElse(null);
+        .collect(Collectors.toList());
+
+    // Latencies of executed statements include the execution time of the statements, so they are
+    // only used if every candidate has them. Otherwise, response times measured by monitoring
+    // connections are compared. Hosts are compared by their tail latency, so a host with
+    // occasional slow responses isn't preferred over a host with steady responses.
+    final HostLoadTracker hostLoadTracker = this.hostResponseTimeService.getHostLoadTracker();
+    final HostSpec calculatedFastestResponseHost;
+    if (hostLoadTracker.hasRecentSamples(candidates)) {
+      final long currentTimeNano = System.nanoTime();
+      calculatedFastestResponseHost = candidates.stream()
+          .min(Comparator.comparingLong(x -> this.getTailLatencyNano(hostLoadTracker, x, currentTimeNano)))
+          .orElse(null);
+    } else {
+      calculatedFastestResponseHost = candidates.stream()
+          .map(x -> new ResponseTimeTuple(x, this.hostResponseTimeService.getResponseTime(x)))
+          .sorted(Comparator.comparingInt(x -> x.responseTime))
+          .map(x -> x.hostSpec)
+          .findFirst()
+          .orElse(null);
+    }
 
     if (calculatedFastestResponseHost == null) {
       // Unable to identify the fastest response host.
@@ -190,6 +242,13 @@ public class FastestResponseStrategyPlugin extends AbstractConnectionPlugin {
     return calculatedFastestResponseHost;
   }
 
+  private long getTailLatencyNano(
+      final HostLoadTracker hostLoadTracker, final HostSpec hostSpec, final long currentTimeNano) {
+    final long latencyNano = hostLoadTracker.getHostLoad(hostSpec.getHost())
+        .getLatencyNanoAtPercentile(TAIL_LATENCY_PERCENTILE, currentTimeNano);
+    return latencyNano < 0 ? Long.MAX_VALUE : latencyNano;
+  }
+
   @Override
   public void notifyNodeListChanged(final Map<String, EnumSet<NodeChangeOptions>> changes) {
     this.hosts = this.pluginService.getHosts();
@@ -19,6 +19,7 @@ package software.amazon.jdbc.plugin.strategy.fastestresponse;
 import java.util.List;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.plugin.strategy.HostLoadTracker;
 
 public interface HostResponseTimeService {
 
@@ -32,6 +33,14 @@ public interface HostResponseTimeService {
    */
   int getResponseTime(final HostSpec hostSpec);
 
+  /**
+   * Returns the tracker of latencies of statements executed against the hosts. The tracker is
+   * shared by all connections of the driver that use the fastest response strategy.
+   *
+   * @return the host load tracker
+   */
+  HostLoadTracker getHostLoadTracker();
+
   /**
    * Provides an updated host list to a service.
    */
@@ -17,6 +17,7 @@
 package software.amazon.jdbc.plugin.strategy.fastestresponse;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
@@ -27,6 +28,7 @@ import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.plugin.strategy.HostLoadTracker;
 import software.amazon.jdbc.util.SlidingExpirationCacheWithCleanupThread;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
 import software.amazon.jdbc.util.telemetry.TelemetryGauge;
@@ -51,6 +53,7 @@ public class HostResponseTimeServiceImpl implements HostResponseTimeService {
           },
           CACHE_CLEANUP_NANO);
   protected static final ReentrantLock cacheLock = new ReentrantLock();
+  protected static final HostLoadTracker hostLoadTracker = new HostLoadTracker();
 
   protected int intervalMs;
 
@@ -88,6 +91,11 @@ public class HostResponseTimeServiceImpl implements HostResponseTimeService {
     return monitor.getResponseTime();
   }
 
+  @Override
+  public HostLoadTracker getHostLoadTracker() {
+    return hostLoadTracker;
+  }
+
   @Override
   public void setHosts(final @NonNull List<HostSpec> hosts) {
     Set<String> oldHosts = this.hosts.stream().map(HostSpec::getUrl).collect(Collectors.toSet());
@@ -102,7 +110,12 @@ public class HostResponseTimeServiceImpl implements HostResponseTimeService {
           try {
             monitoringNodes.computeIfAbsent(
                 hostSpec.getUrl(),
-                (key) -> new NodeResponseTimeMonitor(this.pluginService, hostSpec, this.props, this.intervalMs),
+                (key) -> new NodeResponseTimeMonitor(
+                    this.pluginService,
+                    hostSpec,
+                    this.props,
+                    this.intervalMs,
+                    () -> hostLoadTracker.hasRecentSamples(Collections.singletonList(hostSpec))),
                 CACHE_EXPIRATION_NANO);
           } finally {
             cacheLock.unlock();
@@ -20,16 +20,17 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Properties;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.util.ExecutorFactory;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.PropertyUtils;
 import software.amazon.jdbc.util.StringUtils;
@@ -55,6 +56,7 @@ public class NodeResponseTimeMonitor implements AutoCloseable, Runnable {
 
   private final @NonNull Properties props;
   private final @NonNull PluginService pluginService;
+  private final @NonNull BooleanSupplier hasRecentTraffic;
 
   private final TelemetryFactory telemetryFactory;
   private final TelemetryGauge responseTimeMsGauge;
@@ -62,22 +64,28 @@ public class NodeResponseTimeMonitor implements AutoCloseable, Runnable {
 
   private Connection monitoringConn = null;
 
-  private final ExecutorService threadPool = Executors.newFixedThreadPool(1, runnableTarget -> {
-    final Thread monitoringThread = new Thread(runnableTarget);
-    monitoringThread.setDaemon(true);
-    return monitoringThread;
-  });
+  private final ExecutorService threadPool = ExecutorFactory.newThreadPerTaskExecutor("node-response-time-monitor-");
 
   public NodeResponseTimeMonitor(
       final @NonNull PluginService pluginService,
       final @NonNull HostSpec hostSpec,
       final @NonNull Properties props,
       int intervalMs) {
+    this(pluginService, hostSpec, props, intervalMs, () -> false);
+  }
+
+  public NodeResponseTimeMonitor(
+      final @NonNull PluginService pluginService,
+      final @NonNull HostSpec hostSpec,
+      final @NonNull Properties props,
+      int intervalMs,
+      final @NonNull BooleanSupplier hasRecentTraffic) {
 
     this.pluginService = pluginService;
     this.hostSpec = hostSpec;
     this.props = props;
     this.intervalMs = intervalMs;
+    this.hasRecentTraffic = hasRecentTraffic;
     this.telemetryFactory = this.pluginService.getTelemetryFactory();
 
     final String nodeId = StringUtils.isNullOrEmpty(this.hostSpec.getHostId())
@@ -133,6 +141,15 @@ public class NodeResponseTimeMonitor implements AutoCloseable, Runnable {
 
     try {
       while (!this.stopped.get()) {
+        // Response times of the host are taken from executed statements while it has recent
+        // traffic, so the monitoring connection isn't needed. The latest measured response time is
+        // kept, so the host can still be compared with hosts without traffic.
+        if (this.responseTime.get() != Integer.MAX_VALUE && this.hasRecentTraffic.getAsBoolean()) {
+          this.closeConnection();
+          TimeUnit.MILLISECONDS.sleep(this.intervalMs);
+          continue;
+        }
+
         this.openConnection();
 
         if (this.monitoringConn != null) {
@@ -183,19 +200,24 @@ public class NodeResponseTimeMonitor implements AutoCloseable, Runnable {
       }
     } finally {
       this.stopped.set(true);
-      if (this.monitoringConn != null) {
-        try {
-          this.monitoringConn.close();
-        } catch (final SQLException ex) {
-          // ignore
-        }
-      }
+      this.closeConnection();
       if (telemetryContext != null) {
         telemetryContext.closeContext();
       }
     }
   }
 
+  private void closeConnection() {
+    if (this.monitoringConn != null) {
+      try {
+        this.monitoringConn.close();
+      } catch (final SQLException ex) {
+        // ignore
+      }
+      this.monitoringConn = null;
+    }
+  }
+
   private void openConnection() {
     try {
       if (this.monitoringConn == null || this.monitoringConn.isClosed()) {
@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.strategy.leastlatency;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSelector;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.hostlistprovider.TopologySnapshot;
+import software.amazon.jdbc.plugin.strategy.HostLoadTracker;
+import software.amazon.jdbc.plugin.strategy.HostLoadTracker.HostLoad;
+import software.amazon.jdbc.util.Messages;
+
+/**
+ * Picks two random eligible hosts and selects the one with the lower load (power of two choices).
+ * The load of a host is its average request latency multiplied by the number of its requests in
+ * flight plus one. Comparing two random hosts spreads connections over all hosts while avoiding
+ * slow or busy ones, unlike always selecting the fastest host.
+ */
+public class LeastLatencyHostSelector implements HostSelector {
+
+  public static final String STRATEGY_LEAST_LATENCY = "leastLatency";
+
+  private final HostLoadTracker hostLoadTracker;
+
+  public LeastLatencyHostSelector(final @NonNull HostLoadTracker hostLoadTracker) {
+    this.hostLoadTracker = hostLoadTracker;
+  }
+
+  @Override
+  public HostSpec getHost(
+      final @NonNull List<HostSpec> hosts,
+      final @NonNull HostRole role,
+      final @Nullable Properties props) throws SQLException {
+    final List<HostSpec> eligibleHosts = TopologySnapshot.getAvailableHosts(hosts, role);
+    if (eligibleHosts.isEmpty()) {
+      throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
+    }
+    if (eligibleHosts.size() == 1) {
+      return eligibleHosts.get(0);
+    }
+
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final int firstIndex = random.nextInt(eligibleHosts.size());
+    int secondIndex = random.nextInt(eligibleHosts.size() - 1);
+    if (secondIndex >= firstIndex) {
+      secondIndex++;
+    }
+    final HostSpec firstHost = eligibleHosts.get(firstIndex);
+    final HostSpec secondHost = eligibleHosts.get(secondIndex);
+    return this.isLessLoaded(secondHost, firstHost) ? secondHost : firstHost;
+  }
+
+  boolean isLessLoaded(final HostSpec host, final HostSpec otherHost) {
+    final long currentTimeNano = System.nanoTime();
+    final HostLoad load = this.hostLoadTracker.getHostLoad(host.getHost());
+    final HostLoad otherLoad = this.hostLoadTracker.getHostLoad(otherHost.getHost());
+    long latencyNano = load.getLatencyNano(currentTimeNano);
+    long otherLatencyNano = otherLoad.getLatencyNano(currentTimeNano);
+
+    // A host without recent samples is assumed to be as fast as the other host, so hosts are
+    // compared by the number of requests in flight.
+    if (latencyNano < 0) {
+      latencyNano = otherLatencyNano < 0 ? 1 : otherLatencyNano;
+    }
+    if (otherLatencyNano < 0) {
+      otherLatencyNano = latencyNano;
+    }
+
+    final double score = (double) latencyNano * (load.getInFlightCount() + 1);
+    final double otherScore = (double) otherLatencyNano * (otherLoad.getInFlightCount() + 1);
+    return score < otherScore;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.strategy.leastlatency;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.JdbcCallable;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.plugin.AbstractConnectionPlugin;
+import software.amazon.jdbc.plugin.strategy.HostLoadTracker;
+import software.amazon.jdbc.plugin.strategy.HostLoadTracker.HostLoad;
+import software.amazon.jdbc.util.SubscribedMethodHelper;
+
+/**
+ * Tracks the latency and the number of in-flight requests of each host from the statements
+ * executed through the plugin, and provides the {@code leastLatency} host selection strategy that
+ * uses them.
+ */
+public class LeastLatencyStrategyPlugin extends AbstractConnectionPlugin {
+
+  private static final Set<String> subscribedMethods;
+  private static final HostLoadTracker defaultHostLoadTracker = new HostLoadTracker();
+
+  static {
+    final Set<String> methods = new HashSet<>();
+    for (final String method : SubscribedMethodHelper.NETWORK_BOUND_METHODS) {
+      if (method.contains(".execute")) {
+        methods.add(method);
+      }
+    }
+    methods.add("acceptsStrategy");
+    methods.add("getHostSpecByStrategy");
+    subscribedMethods = Collections.unmodifiableSet(methods);
+  }
+
+  protected final @NonNull PluginService pluginService;
+  protected final @NonNull Properties properties;
+  protected final @NonNull HostLoadTracker hostLoadTracker;
+  protected final @NonNull LeastLatencyHostSelector hostSelector;
+
+  public LeastLatencyStrategyPlugin(final PluginService pluginService, final @NonNull Properties properties) {
+    this(pluginService, properties, defaultHostLoadTracker);
+  }
+
+  public LeastLatencyStrategyPlugin(
+      final PluginService pluginService,
+      final @NonNull Properties properties,
+      final @NonNull HostLoadTracker hostLoadTracker) {
+    this.pluginService = pluginService;
+    this.properties = properties;
+    this.hostLoadTracker = hostLoadTracker;
+    this.hostSelector = new LeastLatencyHostSelector(hostLoadTracker);
+  }
+
+  @Override
+  public Set<String> getSubscribedMethods() {
+    return subscribedMethods;
+  }
+
+  @Override
+  public <T, E extends Exception> T execute(
+      final Class<T> resultClass,
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    final HostSpec hostSpec = this.pluginService.getCurrentHostSpec();
+    if (hostSpec == null) {
+      return jdbcMethodFunc.call();
+    }
+
+    final HostLoad hostLoad = this.hostLoadTracker.getHostLoad(hostSpec.getHost());
+    final long startTimeNano = hostLoad.start();
+    try {
+      return jdbcMethodFunc.call();
+    } finally {
+      hostLoad.complete(startTimeNano);
+    }
+  }
+
+  @Override
+  public boolean acceptsStrategy(final HostRole role, final String strategy) {
+    return LeastLatencyHostSelector.STRATEGY_LEAST_LATENCY.equalsIgnoreCase(strategy);
+  }
+
+  @Override
+  public HostSpec getHostSpecByStrategy(final HostRole role, final String strategy)
+      throws SQLException, UnsupportedOperationException {
+    if (!acceptsStrategy(role, strategy)) {
+      return null;
+    }
+    return this.hostSelector.getHost(this.pluginService.getHosts(), role, this.properties);
+  }
+}
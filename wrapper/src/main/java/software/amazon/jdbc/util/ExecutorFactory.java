@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Creates executors for background tasks of the driver. Platform threads created by these
+ * executors are daemon threads, so they don't prevent the JVM from exiting.
+ */
+public class ExecutorFactory {
+
+  private static final Logger LOGGER = Logger.getLogger(ExecutorFactory.class.getName());
+
+  // Executors.newVirtualThreadPerTaskExecutor() is available since Java 21.
+  private static final Method newVirtualThreadPerTaskExecutorMethod = getNewVirtualThreadPerTaskExecutorMethod();
+
+  public static boolean isVirtualThreadSupported() {
+    return newVirtualThreadPerTaskExecutorMethod != null;
+  }
+
+  public static ThreadFactory newDaemonThreadFactory(final String threadNamePrefix) {
+    final AtomicLong threadCount = new AtomicLong();
+    return runnableTarget -> {
+      final Thread thread = new Thread(runnableTarget, threadNamePrefix + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Creates an executor that runs each task on a new virtual thread if virtual threads are
+   * supported by the JVM. Otherwise, tasks run on a pool of daemon threads that are created on
+   * demand and terminated after being idle for 60 seconds.
+   *
+   * @param threadNamePrefix the name prefix of platform threads
+   * @return the executor
+   */
+  public static ExecutorService newThreadPerTaskExecutor(final String threadNamePrefix) {
+    if (newVirtualThreadPerTaskExecutorMethod != null) {
+      try {
+        return (ExecutorService) newVirtualThreadPerTaskExecutorMethod.invoke(null);
+      } catch (final ReflectiveOperationException ex) {
+        LOGGER.finest(() -> Messages.get(
+            "ExecutorFactory.virtualThreadsUnavailable", new Object[] {ex.getMessage()}));
+      }
+    }
+    return Executors.newCachedThreadPool(newDaemonThreadFactory(threadNamePrefix));
+  }
+
+  /**
+   * Creates a scheduled executor with a single daemon thread. Cancelled tasks are removed from the
+   * queue of the executor immediately.
+   *
+   * @param threadName the name of the thread
+   * @return the executor
+   */
+  public static ScheduledExecutorService newSingleThreadScheduledExecutor(final String threadName) {
+    final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnableTarget -> {
+      final Thread thread = new Thread(runnableTarget, threadName);
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
+  private static Method getNewVirtualThreadPerTaskExecutorMethod() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (final NoSuchMethodException ex) {
+      return null;
+    }
+  }
+}
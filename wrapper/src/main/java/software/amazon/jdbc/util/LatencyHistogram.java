@@ -0,0 +1,121 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package software.amazon.jdbc.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of non-negative values with log-linear buckets, similar to an HDR
+ * histogram. Each power of two range of values is split into 16 buckets, so values are recorded
+ * with a relative error of at most 1/16. Values greater than the maximum trackable value are
+ * recorded as the maximum.
+ *
+ * <p>Recording a value increments a single counter. Reading the histogram while values are
+ * recorded returns an approximate result.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_VALUE_BITS = 40;
+  private static final int BUCKET_COUNT = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+  public static final long MAX_TRACKABLE_VALUE = (1L << MAX_VALUE_BITS) - 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+  public void record(final long value) {
+    this.counts.incrementAndGet(getBucketIndex(Math.min(Math.max(value, 0), MAX_TRACKABLE_VALUE)));
+  }
+
+  public long getTotalCount() {
+    long totalCount = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      totalCount += this.counts.get(i);
+    }
+    return totalCount;
+  }
+
+  /**
+   * Returns the value at the given percentile of the recorded values.
+   *
+   * @param percentile the percentile, between 0 and 100.
+   * @return the middle of the bucket that holds the value at the percentile, or -1 if no values
+   *     were recorded.
+   */
+  public long getValueAtPercentile(final double percentile) {
+    return getValueAtPercentile(percentile, this);
+  }
+
+  /**
+   * Returns the value at the given percentile of the values recorded by all the given histograms.
+   *
+   * @param percentile the percentile, between 0 and 100.
+   * @param histograms the histograms to combine.
+   * @return the middle of the bucket that holds the value at the percentile, or -1 if no values
+   *     were recorded.
+   */
+  public static long getValueAtPercentile(final double percentile, final LatencyHistogram... histograms) {
+    final long[] snapshot = new long[BUCKET_COUNT];
+    long totalCount = 0;
+    for (final LatencyHistogram histogram : histograms) {
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        final long count = histogram.counts.get(i);
+        snapshot[i] += count;
+        totalCount += count;
+      }
+    }
+    if (totalCount == 0) {
+      return -1;
+    }
+
+    final long targetCount = Math.max(1, (long) Math.ceil(totalCount * Math.min(percentile, 100) / 100));
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      count += snapshot[i];
+      if (count >= targetCount) {
+        return getBucketValue(i);
+      }
+    }
+    return getBucketValue(BUCKET_COUNT - 1);
+  }
+
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      this.counts.set(i, 0);
+    }
+  }
+
+  static int getBucketIndex(final long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    final int highestBit = 63 - Long.numberOfLeadingZeros(value);
+    final int shift = highestBit - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+  }
+
+  static long getBucketValue(final int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    final int shift = index / SUB_BUCKET_COUNT - 1;
+    final long lowestValue = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    return lowestValue + ((1L << shift) >>> 1);
+  }
+}
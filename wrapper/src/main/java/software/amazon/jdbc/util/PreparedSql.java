@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.JdbcCallable;
+
+/**
+ * The SQL of a prepared or callable statement, captured when the statement is created and
+ * classified once. Wrappers of such statements make it available to plugins while the statement
+ * is executed, since the SQL isn't passed to the execute methods as an argument.
+ */
+public final class PreparedSql {
+
+  // The prepared SQL of the statement executed by the current thread.
+  private static final ThreadLocal<PreparedSql> executingSql = new ThreadLocal<>();
+
+  private final Object statement;
+  private final String sql;
+  private final SqlStatementType statementType;
+
+  public PreparedSql(final @NonNull Object statement, final @NonNull String sql) {
+    this.statement = statement;
+    this.sql = sql;
+    this.statementType = SqlStatementClassifier.classify(sql);
+  }
+
+  public String getSql() {
+    return this.sql;
+  }
+
+  public SqlStatementType getStatementType() {
+    return this.statementType;
+  }
+
+  /**
+   * Returns the prepared SQL of the given statement if the statement is being executed by the
+   * current thread.
+   *
+   * @param statement the target driver statement a JDBC method is invoked on
+   * @return the prepared SQL, or null if the SQL of the statement hasn't been captured
+   */
+  public static @Nullable PreparedSql getExecuting(final @Nullable Object statement) {
+    final PreparedSql preparedSql = executingSql.get();
+    return preparedSql != null && preparedSql.statement == statement ? preparedSql : null;
+  }
+
+  /**
+   * Executes the given function with the given prepared SQL available to
+   * {@link #getExecuting(Object)}.
+   *
+   * @param preparedSql the prepared SQL of the executed statement, or null if it isn't known
+   * @param func the function to execute
+   * @return the result of the function
+   */
+  public static <T, E extends Exception> T execute(
+      final @Nullable PreparedSql preparedSql, final JdbcCallable<T, E> func) throws E {
+    if (preparedSql == null) {
+      return func.call();
+    }
+
+    final PreparedSql previous = executingSql.get();
+    executingSql.set(preparedSql);
+    try {
+      return func.call();
+    } finally {
+      if (previous == null) {
+        executingSql.remove();
+      } else {
+        executingSql.set(previous);
+      }
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A cache with expiring items that limits the total size of its items. Each item is put with its
+ * size in bytes. When the total size exceeds the maximum size, the least recently used items are
+ * evicted.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of cached items
+ */
+public class SizeLimitedCacheMap<K, V> {
+
+  // Iterates from the least recently used item to the most recently used one.
+  protected final LinkedHashMap<K, CacheItem<V>> cache = new LinkedHashMap<>(16, 0.75f, true);
+  protected final ReentrantLock lock = new ReentrantLock();
+  protected volatile long maxSizeBytes;
+  protected volatile long sizeBytes;
+  protected volatile int size;
+
+  public SizeLimitedCacheMap(final long maxSizeBytes) {
+    this.maxSizeBytes = maxSizeBytes;
+  }
+
+  public V get(final K key) {
+    lock.lock();
+    try {
+      final CacheItem<V> cacheItem = this.cache.get(key);
+      if (cacheItem == null) {
+        return null;
+      }
+      if (cacheItem.isExpired()) {
+        this.removeItem(key, cacheItem);
+        return null;
+      }
+      return cacheItem.item;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Put an item to the cache. Items that don't fit the maximum size of the cache are not stored.
+   *
+   * @param key the key of the item
+   * @param item the item to store
+   * @param itemSizeBytes the size of the item in bytes
+   * @param itemExpirationNano the time in nanoseconds the item expires after
+   * @return the number of evicted items, either expired or evicted to make room for the item
+   */
+  public int put(final K key, final V item, final long itemSizeBytes, final long itemExpirationNano) {
+    lock.lock();
+    try {
+      final CacheItem<V> previousItem = this.cache.remove(key);
+      if (previousItem != null) {
+        this.sizeBytes -= previousItem.sizeBytes;
+      }
+
+      if (itemSizeBytes > this.maxSizeBytes) {
+        this.size = this.cache.size();
+        return 0;
+      }
+
+      this.cache.put(key, new CacheItem<>(item, itemSizeBytes, System.nanoTime() + itemExpirationNano));
+      this.sizeBytes += itemSizeBytes;
+      this.size = this.cache.size();
+      return this.evict();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void remove(final K key) {
+    lock.lock();
+    try {
+      final CacheItem<V> cacheItem = this.cache.get(key);
+      if (cacheItem != null) {
+        this.removeItem(key, cacheItem);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void clear() {
+    lock.lock();
+    try {
+      this.cache.clear();
+      this.sizeBytes = 0;
+      this.size = 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  public long getSizeBytes() {
+    return this.sizeBytes;
+  }
+
+  public long getMaxSizeBytes() {
+    return this.maxSizeBytes;
+  }
+
+  /**
+   * Set the maximum size of the cache. Items exceeding the new maximum size are evicted with the
+   * next put.
+   *
+   * @param maxSizeBytes the maximum size of the cache in bytes
+   */
+  public void setMaxSizeBytes(final long maxSizeBytes) {
+    this.maxSizeBytes = maxSizeBytes;
+  }
+
+  // Evicts the least recently used items until the cache fits its maximum size, and expired items
+  // from the least recently used end of the cache. The scan stops at the first item that is neither
+  // expired nor needs to be evicted, so it doesn't iterate over the whole cache. Other expired items
+  // are removed when they're accessed or when they become the least recently used ones.
+  // The lock is expected to be held by the current thread.
+  protected int evict() {
+    int evictedCount = 0;
+    final Iterator<Map.Entry<K, CacheItem<V>>> iterator = this.cache.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final CacheItem<V> cacheItem = iterator.next().getValue();
+      if (this.sizeBytes <= this.maxSizeBytes && !cacheItem.isExpired()) {
+        break;
+      }
+      iterator.remove();
+      this.sizeBytes -= cacheItem.sizeBytes;
+      evictedCount++;
+    }
+    this.size = this.cache.size();
+    return evictedCount;
+  }
+
+  private void removeItem(final K key, final CacheItem<V> cacheItem) {
+    this.cache.remove(key);
+    this.sizeBytes -= cacheItem.sizeBytes;
+    this.size = this.cache.size();
+  }
+
+  static class CacheItem<V> {
+    final V item;
+    final long sizeBytes;
+    final long expirationTime;
+
+    public CacheItem(final V item, final long sizeBytes, final long expirationTime) {
+      this.item = item;
+      this.sizeBytes = sizeBytes;
+      this.expirationTime = expirationTime;
+    }
+
+    boolean isExpired() {
+      return System.nanoTime() > expirationTime;
+    }
+
+    @Override
+    public String toString() {
+      return "CacheItem [item=" + item + ", sizeBytes=" + sizeBytes + ", expirationTime=" + expirationTime + "]";
+    }
+  }
+}
@@ -18,21 +18,57 @@ package software.amazon.jdbc.util;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class SqlMethodAnalyzer {
 
+  /**
+   * Classifies the SQL statement executed by the given method. The result can be passed to the
+   * methods of this class that accept a statement type, so the statement is classified once.
+   *
+   * @param methodName the name of the JDBC method
+   * @param args the arguments of the JDBC method
+   * @return the type of the first SQL statement, or null if the method doesn't execute an SQL
+   *     statement passed as an argument
+   */
+  public @Nullable SqlStatementType getStatementType(final String methodName, final Object[] args) {
+    if (!(methodName.contains("execute") && args != null && args.length >= 1)) {
+      return null;
+    }
+    final Object sql = args[0];
+    return SqlStatementClassifier.classify(sql instanceof CharSequence ? (CharSequence) sql : String.valueOf(sql));
+  }
+
+  /**
+   * Classifies the SQL statement executed by the given method. Prepared and callable statements
+   * are classified by the SQL captured when they were created.
+   *
+   * @param methodInvokeOn the object the JDBC method is invoked on
+   * @param methodName the name of the JDBC method
+   * @param args the arguments of the JDBC method
+   * @return the type of the first SQL statement, or null if the method doesn't execute an SQL
+   *     statement
+   */
+  public @Nullable SqlStatementType getStatementType(
+      final @Nullable Object methodInvokeOn, final String methodName, final Object[] args) {
+    final SqlStatementType statementType = getStatementType(methodName, args);
+    if (statementType != null || !methodName.contains("execute")) {
+      return statementType;
+    }
+    final PreparedSql preparedSql = PreparedSql.getExecuting(methodInvokeOn);
+    return preparedSql == null ? null : preparedSql.getStatementType();
+  }
+
   public boolean doesOpenTransaction(final Connection conn, final String methodName,
       final Object[] args) {
-    if (!(methodName.contains("execute") && args != null && args.length >= 1)) {
+    return doesOpenTransaction(conn, getStatementType(methodName, args));
+  }
+
+  public boolean doesOpenTransaction(final Connection conn, final @Nullable SqlStatementType statementType) {
+    if (statementType == null) {
       return false;
     }
-
-    final String statement = getFirstSqlStatement(String.valueOf(args[0]));
-    if (isStatementStartingTransaction(statement)) {
+    if (statementType == SqlStatementType.START_TRANSACTION) {
       return true;
     }
 
@@ -43,86 +79,54 @@ public class SqlMethodAnalyzer {
       return false;
     }
 
-    return !autocommit && isStatementDml(statement);
+    return !autocommit && statementType.isDml();
   }
 
-  private String getFirstSqlStatement(final String sql) {
-    List<String> statementList = parseMultiStatementQueries(sql);
-    if (statementList.isEmpty()) {
-      return sql;
-    }
-    String statement = statementList.get(0);
-    statement = statement.toUpperCase();
-    statement = statement.replaceAll("\\s*/\\*(.*?)\\*/\\s*", " ").trim();
-    return statement;
-  }
-
-  private List<String> parseMultiStatementQueries(String query) {
-    if (StringUtils.isNullOrEmpty(query)) {
-      return new ArrayList<>();
-    }
-
-    query = query.replaceAll("\\s+", " ");
-
-    // Check to see if string only has blank spaces.
-    if (query.trim().isEmpty()) {
-      return new ArrayList<>();
-    }
-
-    return Arrays.stream(query.split(";")).collect(Collectors.toList());
+  public boolean doesCloseTransaction(final Connection conn, final String methodName,
+      final Object[] args) {
+    return doesCloseTransaction(conn, methodName, args, getStatementType(methodName, args));
   }
 
   public boolean doesCloseTransaction(final Connection conn, final String methodName,
-      final Object[] args) {
+      final Object[] args, final @Nullable SqlStatementType statementType) {
     if (methodName.equals("Connection.commit") || methodName.equals("Connection.rollback")
         || methodName.equals("Connection.close") || methodName.equals("Connection.abort")) {
       return true;
     }
 
-    if (doesSwitchAutoCommitFalseTrue(conn, methodName, args)) {
+    if (doesSwitchAutoCommitFalseTrue(conn, methodName, args, statementType)) {
       return true;
     }
 
-    if (!(methodName.contains("execute") && args != null && args.length >= 1)) {
-      return false;
-    }
-
-    final String statement = getFirstSqlStatement(String.valueOf(args[0]));
-    return isStatementClosingTransaction(statement);
+    return statementType == SqlStatementType.CLOSE_TRANSACTION;
   }
 
   public boolean isStatementDml(final String statement) {
-    return !isStatementStartingTransaction(statement)
-        && !isStatementClosingTransaction(statement)
-        && !statement.startsWith("SET ")
-        && !statement.startsWith("USE ")
-        && !statement.startsWith("SHOW ");
+    return SqlStatementClassifier.classify(statement).isDml();
   }
 
   public boolean isStatementStartingTransaction(final String statement) {
-    return statement.startsWith("BEGIN") || statement.startsWith("START TRANSACTION");
+    return SqlStatementClassifier.classify(statement) == SqlStatementType.START_TRANSACTION;
   }
 
   public boolean isStatementClosingTransaction(final String statement) {
-    return statement.startsWith("COMMIT")
-        || statement.startsWith("ROLLBACK")
-        || statement.startsWith("END")
-        || statement.startsWith("ABORT");
+    return SqlStatementClassifier.classify(statement) == SqlStatementType.CLOSE_TRANSACTION;
   }
 
   public boolean isStatementSettingAutoCommit(final String methodName, final Object[] args) {
-    if (!(methodName.contains("execute") && args != null && args.length >= 1)) {
-      return false;
-    }
-
-    final String statement = getFirstSqlStatement(String.valueOf(args[0]));
-    return statement.startsWith("SET AUTOCOMMIT");
+    final SqlStatementType statementType = getStatementType(methodName, args);
+    return statementType != null && statementType.isSettingAutoCommit();
   }
 
   public boolean doesSwitchAutoCommitFalseTrue(final Connection conn, final String methodName,
       final Object[] jdbcMethodArgs) {
-    final boolean isStatementSettingAutoCommit = isStatementSettingAutoCommit(
-        methodName, jdbcMethodArgs);
+    return doesSwitchAutoCommitFalseTrue(
+        conn, methodName, jdbcMethodArgs, getStatementType(methodName, jdbcMethodArgs));
+  }
+
+  public boolean doesSwitchAutoCommitFalseTrue(final Connection conn, final String methodName,
+      final Object[] jdbcMethodArgs, final @Nullable SqlStatementType statementType) {
+    final boolean isStatementSettingAutoCommit = statementType != null && statementType.isSettingAutoCommit();
     if (!methodName.contains("setAutoCommit") && !isStatementSettingAutoCommit) {
       return false;
     }
@@ -138,7 +142,7 @@ public class SqlMethodAnalyzer {
     if (methodName.contains("setAutoCommit") && jdbcMethodArgs.length > 0) {
       newAutoCommitVal = (Boolean) jdbcMethodArgs[0];
     } else if (isStatementSettingAutoCommit) {
-      newAutoCommitVal = getAutoCommitValueFromSqlStatement(jdbcMethodArgs);
+      newAutoCommitVal = statementType.getAutoCommitValue();
     }
 
     return !oldAutoCommitVal && Boolean.TRUE.equals(newAutoCommitVal);
@@ -149,35 +153,19 @@ public class SqlMethodAnalyzer {
       return null;
     }
 
-    String sql = getFirstSqlStatement(String.valueOf(args[0]));
-
-    final int valueIndex;
-    int separatorIndex = sql.indexOf("=");
-
-    if (separatorIndex != -1) {
-      valueIndex = separatorIndex + 1;
-    } else {
-      separatorIndex = sql.indexOf(" TO ");
-      if (separatorIndex == -1) {
-        return null;
-      } else {
-        valueIndex = separatorIndex + 3;
-      }
-    }
-
-    sql = sql.substring(valueIndex);
-    if (sql.contains(";")) {
-      sql = sql.substring(0, sql.indexOf(";"));
-    }
+    return SqlStatementClassifier.classify(String.valueOf(args[0])).getAutoCommitValue();
+  }
 
-    sql = sql.trim();
-    if ("FALSE".equals(sql) || "0".equals(sql) || "OFF".equals(sql)) {
-      return false;
-    } else if ("TRUE".equals(sql) || "1".equals(sql) || "ON".equals(sql)) {
-      return true;
-    } else {
-      return null;
-    }
+  /**
+   * Checks whether the given method may change the transaction or autocommit state of a connection.
+   * Only connection methods and methods executing SQL statements are analyzed by {@link
+   * #doesOpenTransaction}, {@link #doesCloseTransaction} and {@link #doesSwitchAutoCommitFalseTrue}.
+   *
+   * @param methodName the name of the JDBC method
+   * @return true if the method may change the transaction or autocommit state
+   */
+  public boolean canChangeTransactionState(final String methodName) {
+    return methodName.startsWith("Connection.") || methodName.contains("execute");
   }
 
   public boolean isMethodClosingSqlObject(final String methodName) {
@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Classifies the first statement of an SQL string by its leading keywords. The string is scanned
+ * once from the start, skipping whitespace and comments, and scanning stops as soon as the type
+ * is known, so the cost doesn't depend on the length of the SQL and nothing is copied.
+ */
+public class SqlStatementClassifier {
+
+  private SqlStatementClassifier() {
+  }
+
+  public static SqlStatementType classify(final @Nullable CharSequence sql) {
+    if (sql == null) {
+      return SqlStatementType.OTHER;
+    }
+
+    int start = skipWhitespaceAndComments(sql, 0);
+    int end = skipWord(sql, start);
+    if (isKeyword(sql, start, end, "BEGIN")) {
+      return SqlStatementType.START_TRANSACTION;
+    }
+    if (isKeyword(sql, start, end, "COMMIT")
+        || isKeyword(sql, start, end, "ROLLBACK")
+        || isKeyword(sql, start, end, "END")
+        || isKeyword(sql, start, end, "ABORT")) {
+      return SqlStatementType.CLOSE_TRANSACTION;
+    }
+    if (isKeyword(sql, start, end, "USE")) {
+      return SqlStatementType.USE;
+    }
+    if (isKeyword(sql, start, end, "SHOW")) {
+      return SqlStatementType.SHOW;
+    }
+
+    if (isKeyword(sql, start, end, "START")) {
+      start = skipWhitespaceAndComments(sql, end);
+      end = skipWord(sql, start);
+      return isKeyword(sql, start, end, "TRANSACTION")
+          ? SqlStatementType.START_TRANSACTION
+          : SqlStatementType.OTHER;
+    }
+
+    if (isKeyword(sql, start, end, "SET")) {
+      start = skipWhitespaceAndComments(sql, end);
+      end = skipWord(sql, start);
+      return isKeyword(sql, start, end, "AUTOCOMMIT")
+          ? classifyAutoCommitValue(sql, end)
+          : SqlStatementType.SET;
+    }
+
+    return SqlStatementType.OTHER;
+  }
+
+  // Parses the value of "SET AUTOCOMMIT = <value>" or "SET AUTOCOMMIT TO <value>".
+  private static SqlStatementType classifyAutoCommitValue(final CharSequence sql, final int position) {
+    int start = skipWhitespaceAndComments(sql, position);
+    if (start < sql.length() && sql.charAt(start) == '=') {
+      start++;
+    } else {
+      final int end = skipWord(sql, start);
+      if (!isKeyword(sql, start, end, "TO")) {
+        return SqlStatementType.SET_AUTOCOMMIT;
+      }
+      start = end;
+    }
+
+    start = skipWhitespaceAndComments(sql, start);
+    final int end = skipWord(sql, start);
+    final int next = skipWhitespaceAndComments(sql, end);
+    if (next < sql.length() && sql.charAt(next) != ';') {
+      return SqlStatementType.SET_AUTOCOMMIT;
+    }
+
+    if (isKeyword(sql, start, end, "ON") || isKeyword(sql, start, end, "TRUE") || isKeyword(sql, start, end, "1")) {
+      return SqlStatementType.SET_AUTOCOMMIT_ON;
+    }
+    if (isKeyword(sql, start, end, "OFF") || isKeyword(sql, start, end, "FALSE") || isKeyword(sql, start, end, "0")) {
+      return SqlStatementType.SET_AUTOCOMMIT_OFF;
+    }
+    return SqlStatementType.SET_AUTOCOMMIT;
+  }
+
+  // Returns the position of the first character that isn't whitespace or part of a comment.
+  static int skipWhitespaceAndComments(final CharSequence sql, int position) {
+    final int length = sql.length();
+    while (position < length) {
+      final char c = sql.charAt(position);
+      if (Character.isWhitespace(c)) {
+        position++;
+      } else if (c == '/' && position + 1 < length && sql.charAt(position + 1) == '*') {
+        position += 2;
+        while (position < length
+            && !(sql.charAt(position) == '*' && position + 1 < length && sql.charAt(position + 1) == '/')) {
+          position++;
+        }
+        position = Math.min(position + 2, length);
+      } else if (c == '-' && position + 1 < length && sql.charAt(position + 1) == '-') {
+        while (position < length && sql.charAt(position) != '\n') {
+          position++;
+        }
+      } else {
+        break;
+      }
+    }
+    return position;
+  }
+
+  private static int skipWord(final CharSequence sql, int position) {
+    final int length = sql.length();
+    while (position < length && Character.isLetterOrDigit(sql.charAt(position))) {
+      position++;
+    }
+    return position;
+  }
+
+  private static boolean isKeyword(final CharSequence sql, final int start, final int end, final String keyword) {
+    if (end - start != keyword.length()) {
+      return false;
+    }
+    for (int i = 0; i < keyword.length(); i++) {
+      if (Character.toUpperCase(sql.charAt(start + i)) != keyword.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+/**
+ * The type of an SQL statement as far as transaction and autocommit state are concerned.
+ */
+public enum SqlStatementType {
+  START_TRANSACTION,
+  CLOSE_TRANSACTION,
+  SET_AUTOCOMMIT_ON,
+  SET_AUTOCOMMIT_OFF,
+  // Sets autocommit to a value that couldn't be recognized.
+  SET_AUTOCOMMIT,
+  SET,
+  USE,
+  SHOW,
+  // Any other statement, including data manipulation statements and empty statements.
+  OTHER;
+
+  public boolean isSettingAutoCommit() {
+    return this == SET_AUTOCOMMIT_ON || this == SET_AUTOCOMMIT_OFF || this == SET_AUTOCOMMIT;
+  }
+
+  /**
+   * Returns the autocommit value set by the statement.
+   *
+   * @return the autocommit value, or null if the statement doesn't set autocommit or the value
+   *     couldn't be recognized.
+   */
+  public Boolean getAutoCommitValue() {
+    if (this == SET_AUTOCOMMIT_ON) {
+      return true;
+    } else if (this == SET_AUTOCOMMIT_OFF) {
+      return false;
+    }
+    return null;
+  }
+
+  public boolean isDml() {
+    return this == OTHER;
+  }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel. Entries are added with a deadline and passed to a consumer by
+ * {@link #advance(long, Consumer)} once their deadline is reached. Adding and removing an entry
+ * take constant time, and entries are linked in place, so no objects are allocated for them.
+ *
+ * <p>Each level of the wheel has 64 buckets. A bucket of the first level spans one tick, and a
+ * bucket of each next level spans all buckets of the previous level. Entries of higher levels are
+ * moved to lower levels as time advances. Deadlines are rounded up to whole ticks, so entries are
+ * never expired early.
+ *
+ * <p>This class isn't thread-safe.
+ *
+ * @param <E> the type of entries
+ */
+public class TimingWheel<E extends TimingWheel.Entry> {
+
+  private static final int WHEEL_BITS = 6;
+  private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+  private static final int LEVEL_COUNT = 4;
+  private static final long MAX_DELAY_TICKS = (1L << (WHEEL_BITS * LEVEL_COUNT)) - 1;
+
+  private final long tickNano;
+  private final long startTimeNano;
+  private final EntryList<E>[][] wheels;
+  // The next tick to process.
+  private long currentTick;
+  // Updated by the buckets of the wheel when entries are linked or unlinked.
+  private int size;
+
+  @SuppressWarnings("unchecked")
+  public TimingWheel(final long tickNano, final long currentTimeNano) {
+    this.tickNano = tickNano;
+    this.startTimeNano = currentTimeNano;
+    this.wheels = new EntryList[LEVEL_COUNT][WHEEL_SIZE];
+    for (int level = 0; level < LEVEL_COUNT; level++) {
+      for (int i = 0; i < WHEEL_SIZE; i++) {
+        this.wheels[level][i] = new EntryList<>();
+      }
+    }
+  }
+
+  /**
+   * Adds an entry to the wheel. An entry that is already linked to a list is removed from it first.
+   *
+   * @param entry the entry to add
+   * @param deadlineNano the time in nanoseconds the entry expires at
+   */
+  public void add(final E entry, final long deadlineNano) {
+    entry.unlink();
+    final long elapsedNano = Math.max(0, deadlineNano - this.startTimeNano);
+    final long deadlineTick = (elapsedNano + this.tickNano - 1) / this.tickNano;
+    entry.deadlineTick = Math.min(
+        Math.max(deadlineTick, this.currentTick), this.currentTick + MAX_DELAY_TICKS);
+    this.place(entry);
+  }
+
+  /**
+   * Removes an entry from the wheel.
+   *
+   * @param entry the entry to remove
+   * @return true if the entry was in the wheel
+   */
+  public boolean remove(final E entry) {
+    if (!entry.isLinkedTo(this)) {
+      return false;
+    }
+    entry.unlink();
+    return true;
+  }
+
+  /**
+   * Removes all entries that expired by the given time from the wheel and passes them to the
+   * consumer. The consumer may add the entries to another list.
+   *
+   * @param currentTimeNano the current time in nanoseconds
+   * @param expiredEntryConsumer the consumer of expired entries
+   */
+  public void advance(final long currentTimeNano, final Consumer<E> expiredEntryConsumer) {
+    final long targetTick = (currentTimeNano - this.startTimeNano) / this.tickNano;
+    if (this.size == 0) {
+      this.currentTick = Math.max(this.currentTick, targetTick + 1);
+      return;
+    }
+
+    while (this.currentTick <= targetTick) {
+      this.cascade();
+      final EntryList<E> bucket = this.wheels[0][(int) (this.currentTick & WHEEL_MASK)];
+      E entry;
+      while ((entry = bucket.poll()) != null) {
+        expiredEntryConsumer.accept(entry);
+      }
+      this.currentTick++;
+      if (this.size == 0) {
+        this.currentTick = Math.max(this.currentTick, targetTick + 1);
+      }
+    }
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  public void clear() {
+    for (final EntryList<E>[] wheel : this.wheels) {
+      for (final EntryList<E> bucket : wheel) {
+        bucket.clear();
+      }
+    }
+  }
+
+  // Moves entries of higher level buckets that start at the current tick to lower levels.
+  private void cascade() {
+    int level = 1;
+    while (level < LEVEL_COUNT
+        && (this.currentTick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+      level++;
+    }
+    for (level--; level > 0; level--) {
+      final EntryList<E> bucket =
+          this.wheels[level][(int) ((this.currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK)];
+      E entry;
+      while ((entry = bucket.poll()) != null) {
+        this.place(entry);
+      }
+    }
+  }
+
+  private void place(final E entry) {
+    final long delayTicks = entry.deadlineTick - this.currentTick;
+    int level = 0;
+    while (level < LEVEL_COUNT - 1 && delayTicks >= (1L << (WHEEL_BITS * (level + 1)))) {
+      level++;
+    }
+    final int index = (int) ((entry.deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+    this.wheels[level][index].add(entry, this);
+  }
+
+  /**
+   * An entry that can be linked to a {@link TimingWheel} or an {@link EntryList}. An entry is
+   * linked to a single list at a time.
+   */
+  public abstract static class Entry {
+    Entry prev;
+    Entry next;
+    EntryList<?> list;
+    Object owner;
+    long deadlineTick;
+
+    public boolean isLinked() {
+      return this.list != null;
+    }
+
+    boolean isLinkedTo(final Object owner) {
+      return this.list != null && this.owner == owner;
+    }
+
+    void unlink() {
+      if (this.list != null) {
+        this.list.unlink(this);
+      }
+    }
+  }
+
+  /**
+   * A doubly linked list of entries. Adding and removing an entry take constant time.
+   *
+   * @param <E> the type of entries
+   */
+  public static class EntryList<E extends Entry> {
+
+    private Entry head;
+    private Entry tail;
+    private int size;
+
+    /**
+     * Adds an entry to the end of the list. An entry that is already linked to a list is removed
+     * from it first.
+     *
+     * @param entry the entry to add
+     */
+    public void add(final E entry) {
+      this.add(entry, this);
+    }
+
+    /**
+     * Removes an entry from the list.
+     *
+     * @param entry the entry to remove
+     * @return true if the entry was in the list
+     */
+    public boolean remove(final E entry) {
+      if (entry.list != this) {
+        return false;
+      }
+      this.unlink(entry);
+      return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E poll() {
+      final Entry entry = this.head;
+      if (entry != null) {
+        this.unlink(entry);
+      }
+      return (E) entry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E first() {
+      return (E) this.head;
+    }
+
+    /**
+     * Returns the entry that follows the given entry. Get the next entry before removing the given
+     * one to iterate and remove entries at the same time.
+     *
+     * @param entry an entry of the list
+     * @return the next entry, or null if it's the last entry
+     */
+    @SuppressWarnings("unchecked")
+    public E next(final E entry) {
+      return entry.list == this ? (E) entry.next : null;
+    }
+
+    public boolean isEmpty() {
+      return this.head == null;
+    }
+
+    public int size() {
+      return this.size;
+    }
+
+    public void clear() {
+      while (this.head != null) {
+        this.unlink(this.head);
+      }
+    }
+
+    private void add(final E entry, final Object owner) {
+      entry.unlink();
+      entry.list = this;
+      entry.owner = owner;
+      entry.prev = this.tail;
+      entry.next = null;
+      if (this.tail == null) {
+        this.head = entry;
+      } else {
+        this.tail.next = entry;
+      }
+      this.tail = entry;
+      this.size++;
+      if (owner instanceof TimingWheel) {
+        ((TimingWheel<?>) owner).size++;
+      }
+    }
+
+    private void unlink(final Entry entry) {
+      if (entry.prev == null) {
+        this.head = entry.next;
+      } else {
+        entry.prev.next = entry.next;
+      }
+      if (entry.next == null) {
+        this.tail = entry.prev;
+      } else {
+        entry.next.prev = entry.prev;
+      }
+      if (entry.owner instanceof TimingWheel) {
+        ((TimingWheel<?>) entry.owner).size--;
+      }
+      entry.prev = null;
+      entry.next = null;
+      entry.list = null;
+      entry.owner = null;
+      this.size--;
+    }
+  }
+}
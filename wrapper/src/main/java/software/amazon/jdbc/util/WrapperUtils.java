@@ -54,6 +54,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.ConnectionPluginManager;
 import software.amazon.jdbc.JdbcCallable;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.JdbcRunnable;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
@@ -85,30 +86,65 @@ public class WrapperUtils {
   private static final ConcurrentMap<Class<?>, Boolean> isJdbcInterfaceCache =
       new ConcurrentHashMap<>();
 
-  private static final Map<Class<?>, Class<?>> availableWrappers =
-      new HashMap<Class<?>, Class<?>>() {
+  private static final Map<Class<?>, WrapperFactory> wrapperFactories =
+      new HashMap<Class<?>, WrapperFactory>() {
         {
-          put(CallableStatement.class, CallableStatementWrapper.class);
-          put(PreparedStatement.class, PreparedStatementWrapper.class);
-          put(Statement.class, StatementWrapper.class);
-          put(ResultSet.class, ResultSetWrapper.class);
-          put(Array.class, ArrayWrapper.class);
-          put(Blob.class, BlobWrapper.class);
-          put(NClob.class, NClobWrapper.class);
-          put(Clob.class, ClobWrapper.class);
-          put(Ref.class, RefWrapper.class);
-          put(Struct.class, StructWrapper.class);
-          put(Savepoint.class, SavepointWrapper.class);
-          put(DatabaseMetaData.class, DatabaseMetaDataWrapper.class);
-          put(ParameterMetaData.class, ParameterMetaDataWrapper.class);
-          put(ResultSetMetaData.class, ResultSetMetaDataWrapper.class);
-          put(SQLData.class, SQLDataWrapper.class);
-          put(SQLInput.class, SQLInputWrapper.class);
-          put(SQLOutput.class, SQLOutputWrapper.class);
-          put(SQLType.class, SQLTypeWrapper.class);
+          put(CallableStatement.class,
+              (target, pluginManager) -> new CallableStatementWrapper((CallableStatement) target, pluginManager));
+          put(PreparedStatement.class,
+              (target, pluginManager) -> new PreparedStatementWrapper((PreparedStatement) target, pluginManager));
+          put(Statement.class,
+              (target, pluginManager) -> new StatementWrapper((Statement) target, pluginManager));
+          put(ResultSet.class,
+              (target, pluginManager) -> new ResultSetWrapper((ResultSet) target, pluginManager));
+          put(Array.class,
+              (target, pluginManager) -> new ArrayWrapper((Array) target, pluginManager));
+          put(Blob.class,
+              (target, pluginManager) -> new BlobWrapper((Blob) target, pluginManager));
+          put(NClob.class,
+              (target, pluginManager) -> new NClobWrapper((NClob) target, pluginManager));
+          put(Clob.class,
+              (target, pluginManager) -> new ClobWrapper((Clob) target, pluginManager));
+          put(Ref.class,
+              (target, pluginManager) -> new RefWrapper((Ref) target, pluginManager));
+          put(Struct.class,
+              (target, pluginManager) -> new StructWrapper((Struct) target, pluginManager));
+          put(Savepoint.class,
+              (target, pluginManager) -> new SavepointWrapper((Savepoint) target, pluginManager));
+          put(DatabaseMetaData.class,
+              (target, pluginManager) -> new DatabaseMetaDataWrapper((DatabaseMetaData) target, pluginManager));
+          put(ParameterMetaData.class,
+              (target, pluginManager) -> new ParameterMetaDataWrapper((ParameterMetaData) target, pluginManager));
+          put(ResultSetMetaData.class,
+              (target, pluginManager) -> new ResultSetMetaDataWrapper((ResultSetMetaData) target, pluginManager));
+          put(SQLData.class,
+              (target, pluginManager) -> new SQLDataWrapper((SQLData) target, pluginManager));
+          put(SQLInput.class,
+              (target, pluginManager) -> new SQLInputWrapper((SQLInput) target, pluginManager));
+          put(SQLOutput.class,
+              (target, pluginManager) -> new SQLOutputWrapper((SQLOutput) target, pluginManager));
+          put(SQLType.class,
+              (target, pluginManager) -> new SQLTypeWrapper((SQLType) target, pluginManager));
         }
       };
 
+  // The factory of the wrapper of each target driver class, resolved from the interfaces the class
+  // implements directly. It's null for classes that implement no wrapped interface.
+  private static final ClassValue<WrapperFactory> wrapperFactoryByClass = new ClassValue<WrapperFactory>() {
+    @Override
+    protected @Nullable WrapperFactory computeValue(final Class<?> type) {
+      for (final Class<?> iface : type.getInterfaces()) {
+        if (isJdbcInterface(iface)) {
+          final WrapperFactory factory = wrapperFactories.get(iface);
+          if (factory != null) {
+            return factory;
+          }
+        }
+      }
+      return null;
+    }
+  };
+
   private static final Set<Class<?>> allWrapperClasses = new HashSet<Class<?>>() {
     {
       add(ArrayWrapper.class);
@@ -204,12 +240,7 @@ public class WrapperUtils {
 
       context.setSuccess(true);
 
-      try {
-        return wrapWithProxyIfNeeded(resultClass, result, pluginManager);
-      } catch (final InstantiationException e) {
-        context.setSuccess(false);
-        throw new RuntimeException(e);
-      }
+      return wrapWithProxyIfNeeded(resultClass, result, pluginManager);
     } finally {
       if (pluginManager.isHeldByCurrentThread()) {
         pluginManager.unlock();
@@ -250,12 +281,7 @@ public class WrapperUtils {
 
       context.setSuccess(true);
 
-      try {
-        return wrapWithProxyIfNeeded(resultClass, result, pluginManager);
-      } catch (final InstantiationException e) {
-        context.setSuccess(false);
-        throw new RuntimeException(e);
-      }
+      return wrapWithProxyIfNeeded(resultClass, result, pluginManager);
 
     } finally {
       if (pluginManager.isHeldByCurrentThread()) {
@@ -267,9 +293,205 @@ public class WrapperUtils {
     }
   }
 
+  public static void runWithPlugins(
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final JdbcRunnable<RuntimeException> jdbcMethodFunc,
+      final Object... jdbcMethodArgs) {
+
+    runWithPlugins(
+        RuntimeException.class,
+        pluginManager,
+        methodInvokeOn,
+        jdbcMethod,
+        jdbcMethodFunc,
+        jdbcMethodArgs);
+  }
+
+  public static <E extends Exception> void runWithPlugins(
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final JdbcRunnable<E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
+    executeWithPlugins(
+        Void.TYPE,
+        exceptionClass,
+        pluginManager,
+        methodInvokeOn,
+        jdbcMethod,
+        () -> {
+          jdbcMethodFunc.call();
+          return null;
+        },
+        jdbcMethodArgs);
+  }
+
+  public static <T> T executeWithPlugins(
+      final Class<T> resultClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final JdbcCallable<T, RuntimeException> jdbcMethodFunc,
+      final Object... jdbcMethodArgs) {
+
+    return executeWithPlugins(
+        resultClass,
+        RuntimeException.class,
+        pluginManager,
+        methodInvokeOn,
+        jdbcMethod,
+        jdbcMethodFunc,
+        jdbcMethodArgs);
+  }
+
+  /**
+   * Executes a JDBC method through the plugin chain. Unlike the overloads accepting a method name,
+   * the plugin chain is resolved by the {@link JdbcMethod#id} of the method.
+   */
+  public static <T, E extends Exception> T executeWithPlugins(
+      final Class<T> resultClass,
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
+    return executeJdbcMethod(
+        resultClass,
+        pluginManager,
+        jdbcMethod,
+        () -> pluginManager.execute(resultClass,
+            exceptionClass,
+            methodInvokeOn,
+            jdbcMethod,
+            jdbcMethodFunc,
+            jdbcMethodArgs),
+        () -> pluginManager.checkInvokedAgainstCurrentConnection(
+            exceptionClass, methodInvokeOn, jdbcMethod.methodName));
+  }
+
+  public static <E extends Exception> void runWithPlugins(
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final @Nullable Connection boundConnection,
+      final JdbcMethod jdbcMethod,
+      final JdbcRunnable<E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
+    executeWithPlugins(
+        Void.TYPE,
+        exceptionClass,
+        pluginManager,
+        methodInvokeOn,
+        boundConnection,
+        jdbcMethod,
+        () -> {
+          jdbcMethodFunc.call();
+          return null;
+        },
+        jdbcMethodArgs);
+  }
+
+  /**
+   * Executes a JDBC method through the plugin chain. The given bound connection is the physical
+   * connection the object the method is invoked on has been created with. It's used to reject calls
+   * against objects of an old connection without querying the target driver.
+   */
+  public static <T, E extends Exception> T executeWithPlugins(
+      final Class<T> resultClass,
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final @Nullable Connection boundConnection,
+      final JdbcMethod jdbcMethod,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
+    return executeJdbcMethod(
+        resultClass,
+        pluginManager,
+        jdbcMethod,
+        () -> pluginManager.execute(resultClass,
+            exceptionClass,
+            methodInvokeOn,
+            boundConnection,
+            jdbcMethod,
+            jdbcMethodFunc,
+            jdbcMethodArgs),
+        () -> pluginManager.checkBoundConnection(
+            exceptionClass, methodInvokeOn, boundConnection, jdbcMethod.methodName));
+  }
+
+  /**
+   * Executes the plugin chain of a JDBC method holding the connection lock. Methods that don't
+   * require the lock (see {@link JdbcMethod#shouldLockConnection}) are executed optimistically
+   * instead. If the current connection has been switched in the meantime, the object the method has
+   * been invoked on is checked again holding the lock, as if the method had waited for the switch.
+   * The plugin chain isn't executed again, so plugins see each call once.
+   */
+  protected static <T, E extends Exception> T executeJdbcMethod(
+      final Class<T> resultClass,
+      final ConnectionPluginManager pluginManager,
+      final JdbcMethod jdbcMethod,
+      final JdbcCallable<T, E> pluginChainFunc,
+      final JdbcRunnable<E> connectionCheckFunc)
+      throws E {
+
+    final String methodName = jdbcMethod.methodName;
+    boolean isLocked = false;
+    long connectionSwitchStamp = 0;
+    if (!jdbcMethod.shouldLockConnection) {
+      connectionSwitchStamp = pluginManager.getConnectionSwitchStamp();
+    }
+    if ((jdbcMethod.shouldLockConnection || (connectionSwitchStamp & 1) != 0)
+        && !AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)) {
+      pluginManager.lock();
+      isLocked = true;
+    }
+    TelemetryFactory telemetryFactory = pluginManager.getTelemetryFactory();
+    TelemetryContext context = null;
+
+    try {
+      context = telemetryFactory.openTelemetryContext(methodName, TelemetryTraceLevel.TOP_LEVEL);
+      context.setAttribute("jdbcCall", methodName);
+
+      final T result = pluginChainFunc.call();
+
+      if (!isLocked && !jdbcMethod.shouldLockConnection
+          && !pluginManager.validateConnectionSwitchStamp(connectionSwitchStamp)) {
+        // The current connection has been switched while the method was executed. The result is
+        // only returned if the object is still allowed to be used with the current connection.
+        pluginManager.lock();
+        isLocked = true;
+        connectionCheckFunc.call();
+      }
+
+      context.setSuccess(true);
+
+      return wrapWithProxyIfNeeded(resultClass, result, pluginManager);
+
+    } finally {
+      if (isLocked) {
+        pluginManager.unlock();
+      }
+      if (context != null) {
+        context.closeContext();
+      }
+    }
+  }
+
   protected static @Nullable <T> T wrapWithProxyIfNeeded(
-      final Class<T> resultClass, @Nullable final T toProxy, final ConnectionPluginManager pluginManager)
-      throws InstantiationException {
+      final Class<T> resultClass, @Nullable final T toProxy, final ConnectionPluginManager pluginManager) {
 
     if (toProxy == null) {
       return null;
@@ -284,29 +506,13 @@ public class WrapperUtils {
       return toProxy;
     }
 
-    Class<?> wrapperClass = availableWrappers.get(resultClass);
-
-    if (wrapperClass != null) {
-      return createInstance(
-          wrapperClass,
-          resultClass,
-          new Class<?>[] {resultClass, ConnectionPluginManager.class},
-          toProxy,
-          pluginManager);
+    WrapperFactory factory = wrapperFactories.get(resultClass);
+    if (factory == null) {
+      factory = wrapperFactoryByClass.get(toProxy.getClass());
     }
 
-    for (final Class<?> iface : toProxy.getClass().getInterfaces()) {
-      if (isJdbcInterface(iface)) {
-        wrapperClass = availableWrappers.get(iface);
-        if (wrapperClass != null) {
-          return createInstance(
-              wrapperClass,
-              resultClass,
-              new Class<?>[] {iface, ConnectionPluginManager.class},
-              toProxy,
-              pluginManager);
-        }
-      }
+    if (factory != null) {
+      return resultClass.cast(factory.create(toProxy, pluginManager));
     }
 
     if (isJdbcInterface(toProxy.getClass())) {
@@ -576,6 +782,28 @@ public class WrapperUtils {
     return null;
   }
 
+  /**
+   * Checks whether the statement of the given SQL object is closed. Closed statements and result
+   * sets of closed statements are no longer bound to a connection, so
+   * {@link #getConnectionFromSqlObject(Object)} returns null for them.
+   *
+   * @param obj a statement or result set
+   * @return true if the statement of the object is closed or unknown
+   */
+  public static boolean isSqlObjectClosed(final Object obj) {
+    try {
+      if (obj instanceof Statement) {
+        return ((Statement) obj).isClosed();
+      } else if (obj instanceof ResultSet) {
+        final Statement stmt = ((ResultSet) obj).getStatement();
+        return stmt == null || stmt.isClosed();
+      }
+    } catch (final SQLException | UnsupportedOperationException e) {
+      return true;
+    }
+    return false;
+  }
+
   /**
    * Check if the throwable is an instance of the given exception and throw it as the required
    * exception class, otherwise throw it as a runtime exception.
@@ -604,4 +832,9 @@ public class WrapperUtils {
 
     return exceptionClass.cast(result);
   }
+
+  private interface WrapperFactory {
+
+    Object create(Object target, ConnectionPluginManager pluginManager);
+  }
 }
@@ -22,6 +22,7 @@ import java.sql.SQLException;
 import java.util.Map;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class ArrayWrapper implements Array {
@@ -41,7 +42,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getBaseTypeName",
+        JdbcMethod.ARRAY_GETBASETYPENAME,
         () -> this.array.getBaseTypeName());
   }
 
@@ -52,7 +53,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getBaseType",
+        JdbcMethod.ARRAY_GETBASETYPE,
         () -> this.array.getBaseType());
   }
 
@@ -63,7 +64,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getArray",
+        JdbcMethod.ARRAY_GETARRAY,
         () -> this.array.getArray());
   }
 
@@ -74,7 +75,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getArray",
+        JdbcMethod.ARRAY_GETARRAY,
         () -> this.array.getArray());
   }
 
@@ -85,7 +86,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getArray",
+        JdbcMethod.ARRAY_GETARRAY,
         () -> this.array.getArray());
   }
 
@@ -96,7 +97,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getArray",
+        JdbcMethod.ARRAY_GETARRAY,
         () -> this.array.getArray());
   }
 
@@ -107,7 +108,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getResultSet",
+        JdbcMethod.ARRAY_GETRESULTSET,
         () -> this.array.getResultSet());
   }
 
@@ -118,7 +119,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getResultSet",
+        JdbcMethod.ARRAY_GETRESULTSET,
         () -> this.array.getResultSet());
   }
 
@@ -129,7 +130,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getResultSet",
+        JdbcMethod.ARRAY_GETRESULTSET,
         () -> this.array.getResultSet());
   }
 
@@ -141,7 +142,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getResultSet",
+        JdbcMethod.ARRAY_GETRESULTSET,
         () -> this.array.getResultSet(index, count, map),
         index,
         count,
@@ -151,7 +152,7 @@ public class ArrayWrapper implements Array {
   @Override
   public void free() throws SQLException {
     WrapperUtils.runWithPlugins(
-        SQLException.class, this.pluginManager, this.array, "Array.free", () -> this.array.free());
+        SQLException.class, this.pluginManager, this.array, JdbcMethod.ARRAY_FREE, () -> this.array.free());
   }
 
   @Override
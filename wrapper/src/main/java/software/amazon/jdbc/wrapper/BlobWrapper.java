@@ -22,6 +22,7 @@ import java.sql.Blob;
 import java.sql.SQLException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class BlobWrapper implements Blob {
@@ -41,7 +42,7 @@ public class BlobWrapper implements Blob {
         SQLException.class,
         this.pluginManager,
         this.blob,
-        "Blob.length",
+        JdbcMethod.BLOB_LENGTH,
         () -> this.blob.length());
   }
 
@@ -52,7 +53,7 @@ public class BlobWrapper implements Blob {
         SQLException.class,
         this.pluginManager,
         this.blob,
-        "Blob.getBytes",
+        JdbcMethod.BLOB_GETBYTES,
         () -> this.blob.getBytes(pos, length),
         pos,
         length);
@@ -65,7 +66,7 @@ public class BlobWrapper implements Blob {
         SQLException.class,
         this.pluginManager,
         this.blob,
-        "Blob.getBinaryStream",
+        JdbcMethod.BLOB_GETBINARYSTREAM,
         () -> this.blob.getBinaryStream());
   }
 
@@ -76,7 +77,7 @@ public class BlobWrapper implements Blob {
         SQLException.class,
         this.pluginManager,
         this.blob,
-        "Blob.getBinaryStream",
+        JdbcMethod.BLOB_GETBINARYSTREAM,
         () -> this.blob.getBinaryStream(pos, length),
         pos,
         length);
@@ -89,7 +90,7 @@ public class BlobWrapper implements Blob {
         SQLException.class,
         this.pluginManager,
         this.blob,
-        "Blob.position",
+        JdbcMethod.BLOB_POSITION,
         () -> this.blob.position(pattern, start),
         pattern,
         start);
@@ -102,7 +103,7 @@ public class BlobWrapper implements Blob {
         SQLException.class,
         this.pluginManager,
         this.blob,
-        "Blob.position",
+        JdbcMethod.BLOB_POSITION,
         () -> this.blob.position(pattern, start),
         pattern,
         start);
@@ -115,7 +116,7 @@ public class BlobWrapper implements Blob {
         SQLException.class,
         this.pluginManager,
         this.blob,
-        "Blob.setBytes",
+        JdbcMethod.BLOB_SETBYTES,
         () -> this.blob.setBytes(pos, bytes),
         pos,
         bytes);
@@ -128,7 +129,7 @@ public class BlobWrapper implements Blob {
         SQLException.class,
         this.pluginManager,
         this.blob,
-        "Blob.setBytes",
+        JdbcMethod.BLOB_SETBYTES,
         () -> this.blob.setBytes(pos, bytes, offset, len),
         pos,
         bytes,
@@ -143,7 +144,7 @@ public class BlobWrapper implements Blob {
         SQLException.class,
         this.pluginManager,
         this.blob,
-        "Blob.setBinaryStream",
+        JdbcMethod.BLOB_SETBINARYSTREAM,
         () -> this.blob.setBinaryStream(pos),
         pos);
   }
@@ -154,7 +155,7 @@ public class BlobWrapper implements Blob {
         SQLException.class,
         this.pluginManager,
         this.blob,
-        "Blob.truncate",
+        JdbcMethod.BLOB_TRUNCATE,
         () -> this.blob.truncate(len),
         len);
   }
@@ -162,7 +163,7 @@ public class BlobWrapper implements Blob {
   @Override
   public void free() throws SQLException {
     WrapperUtils.runWithPlugins(
-        SQLException.class, this.pluginManager, this.blob, "Blob.free", () -> this.blob.free());
+        SQLException.class, this.pluginManager, this.blob, JdbcMethod.BLOB_FREE, () -> this.blob.free());
   }
 
   @Override
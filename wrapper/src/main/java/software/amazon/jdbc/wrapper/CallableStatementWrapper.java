@@ -42,17 +42,33 @@ import java.util.Calendar;
 import java.util.Map;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
+import software.amazon.jdbc.util.PreparedSql;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class CallableStatementWrapper implements CallableStatement {
 
   protected CallableStatement statement;
   protected ConnectionPluginManager pluginManager;
+  protected Connection boundConnection;
+  protected PreparedSql preparedSql;
 
   public CallableStatementWrapper(
       @NonNull CallableStatement statement, @NonNull ConnectionPluginManager pluginManager) {
     this.statement = statement;
     this.pluginManager = pluginManager;
+    // The physical connection is resolved once so that each call doesn't need to query the target driver for it.
+    this.boundConnection = WrapperUtils.getConnectionFromSqlObject(statement);
+  }
+
+  /**
+   * Sets the SQL the statement has been prepared with, so plugins can inspect it when the statement
+   * is executed.
+   *
+   * @param sql the SQL of the statement
+   */
+  public void setPreparedSql(final String sql) {
+    this.preparedSql = sql == null ? null : new PreparedSql(this.statement, sql);
   }
 
   @Override
@@ -61,7 +77,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.addBatch",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_ADDBATCH,
         () -> this.statement.addBatch());
   }
 
@@ -71,7 +88,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.addBatch",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_ADDBATCH,
         () -> this.statement.addBatch(sql),
         sql);
   }
@@ -82,7 +100,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.cancel",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_CANCEL,
         () -> this.statement.cancel());
   }
 
@@ -92,7 +111,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.clearBatch",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_CLEARBATCH,
         () -> this.statement.clearBatch());
   }
 
@@ -102,7 +122,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.clearParameters",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_CLEARPARAMETERS,
         () -> this.statement.clearParameters());
   }
 
@@ -112,7 +133,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.clearWarnings",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_CLEARWARNINGS,
         () -> this.statement.clearWarnings());
   }
 
@@ -122,7 +144,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.close",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_CLOSE,
         () -> this.statement.close());
   }
 
@@ -132,19 +155,23 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.closeOnCompletion",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_CLOSEONCOMPLETION,
         () -> this.statement.closeOnCompletion());
   }
 
   @Override
   public boolean execute() throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        boolean.class,
-        SQLException.class,
-        this.pluginManager,
-        this.statement,
-        "CallableStatement.execute",
-        () -> this.statement.execute());
+    return PreparedSql.execute(
+        this.preparedSql,
+        () -> WrapperUtils.executeWithPlugins(
+            boolean.class,
+            SQLException.class,
+            this.pluginManager,
+            this.statement,
+            this.boundConnection,
+            JdbcMethod.CALLABLESTATEMENT_EXECUTE,
+            () -> this.statement.execute()));
   }
 
   @Override
@@ -154,7 +181,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.execute",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTE,
         () -> this.statement.execute(sql),
         sql);
   }
@@ -166,7 +194,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.execute",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTE,
         () -> this.statement.execute(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -179,7 +208,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.execute",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -192,7 +222,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.execute",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnNames),
         sql,
         columnNames);
@@ -200,35 +231,44 @@ public class CallableStatementWrapper implements CallableStatement {
 
   @Override
   public int[] executeBatch() throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        int[].class,
-        SQLException.class,
-        this.pluginManager,
-        this.statement,
-        "CallableStatement.executeBatch",
-        () -> this.statement.executeBatch());
+    return PreparedSql.execute(
+        this.preparedSql,
+        () -> WrapperUtils.executeWithPlugins(
+            int[].class,
+            SQLException.class,
+            this.pluginManager,
+            this.statement,
+            this.boundConnection,
+            JdbcMethod.CALLABLESTATEMENT_EXECUTEBATCH,
+            () -> this.statement.executeBatch()));
   }
 
   @Override
   public long executeLargeUpdate() throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        long.class,
-        SQLException.class,
-        this.pluginManager,
-        this.statement,
-        "CallableStatement.executeLargeUpdate",
-        () -> this.statement.executeLargeUpdate());
+    return PreparedSql.execute(
+        this.preparedSql,
+        () -> WrapperUtils.executeWithPlugins(
+            long.class,
+            SQLException.class,
+            this.pluginManager,
+            this.statement,
+            this.boundConnection,
+            JdbcMethod.CALLABLESTATEMENT_EXECUTELARGEUPDATE,
+            () -> this.statement.executeLargeUpdate()));
   }
 
   @Override
   public ResultSet executeQuery() throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        ResultSet.class,
-        SQLException.class,
-        this.pluginManager,
-        this.statement,
-        "CallableStatement.executeQuery",
-        () -> this.statement.executeQuery());
+    return PreparedSql.execute(
+        this.preparedSql,
+        () -> WrapperUtils.executeWithPlugins(
+            ResultSet.class,
+            SQLException.class,
+            this.pluginManager,
+            this.statement,
+            this.boundConnection,
+            JdbcMethod.CALLABLESTATEMENT_EXECUTEQUERY,
+            () -> this.statement.executeQuery()));
   }
 
   @Override
@@ -238,20 +278,24 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeQuery",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTEQUERY,
         () -> this.statement.executeQuery(sql),
         sql);
   }
 
   @Override
   public int executeUpdate() throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        int.class,
-        SQLException.class,
-        this.pluginManager,
-        this.statement,
-        "CallableStatement.executeUpdate",
-        () -> this.statement.executeUpdate());
+    return PreparedSql.execute(
+        this.preparedSql,
+        () -> WrapperUtils.executeWithPlugins(
+            int.class,
+            SQLException.class,
+            this.pluginManager,
+            this.statement,
+            this.boundConnection,
+            JdbcMethod.CALLABLESTATEMENT_EXECUTEUPDATE,
+            () -> this.statement.executeUpdate()));
   }
 
   @Override
@@ -261,7 +305,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeUpdate",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql),
         sql);
   }
@@ -273,7 +318,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeUpdate",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -286,7 +332,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeUpdate",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -299,7 +346,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeUpdate",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, columnNames),
         sql,
         columnNames);
@@ -312,7 +360,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getArray",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETARRAY,
         () -> this.statement.getArray(parameterIndex),
         parameterIndex);
   }
@@ -324,7 +373,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getArray",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETARRAY,
         () -> this.statement.getArray(parameterName),
         parameterName);
   }
@@ -337,7 +387,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBigDecimal",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETBIGDECIMAL,
         () -> this.statement.getBigDecimal(parameterIndex, scale),
         parameterIndex,
         scale);
@@ -350,7 +401,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBigDecimal",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETBIGDECIMAL,
         () -> this.statement.getBigDecimal(parameterIndex),
         parameterIndex);
   }
@@ -362,7 +414,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBigDecimal",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETBIGDECIMAL,
         () -> this.statement.getBigDecimal(parameterName),
         parameterName);
   }
@@ -374,7 +427,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBlob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETBLOB,
         () -> this.statement.getBlob(parameterIndex),
         parameterIndex);
   }
@@ -386,7 +440,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBlob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETBLOB,
         () -> this.statement.getBlob(parameterName),
         parameterName);
   }
@@ -398,7 +453,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBoolean",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETBOOLEAN,
         () -> this.statement.getBoolean(parameterIndex),
         parameterIndex);
   }
@@ -410,7 +466,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBoolean",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETBOOLEAN,
         () -> this.statement.getBoolean(parameterName),
         parameterName);
   }
@@ -422,7 +479,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getByte",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETBYTE,
         () -> this.statement.getByte(parameterIndex),
         parameterIndex);
   }
@@ -434,7 +492,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getByte",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETBYTE,
         () -> this.statement.getByte(parameterName),
         parameterName);
   }
@@ -446,7 +505,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBytes",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETBYTES,
         () -> this.statement.getBytes(parameterIndex),
         parameterIndex);
   }
@@ -458,7 +518,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBytes",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETBYTES,
         () -> this.statement.getBytes(parameterName),
         parameterName);
   }
@@ -470,7 +531,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getCharacterStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETCHARACTERSTREAM,
         () -> this.statement.getCharacterStream(parameterIndex),
         parameterIndex);
   }
@@ -482,7 +544,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getCharacterStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETCHARACTERSTREAM,
         () -> this.statement.getCharacterStream(parameterName),
         parameterName);
   }
@@ -494,7 +557,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETCLOB,
         () -> this.statement.getClob(parameterIndex),
         parameterIndex);
   }
@@ -506,7 +570,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETCLOB,
         () -> this.statement.getClob(parameterName),
         parameterName);
   }
@@ -518,7 +583,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getConnection",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETCONNECTION,
         () -> this.pluginManager.getConnectionWrapper());
   }
 
@@ -529,7 +595,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDate",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETDATE,
         () -> this.statement.getDate(parameterIndex),
         parameterIndex);
   }
@@ -541,7 +608,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDate",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETDATE,
         () -> this.statement.getDate(parameterIndex, cal),
         parameterIndex,
         cal);
@@ -554,7 +622,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDate",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETDATE,
         () -> this.statement.getDate(parameterName),
         parameterName);
   }
@@ -566,7 +635,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDate",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETDATE,
         () -> this.statement.getDate(parameterName, cal),
         parameterName,
         cal);
@@ -579,7 +649,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDouble",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETDOUBLE,
         () -> this.statement.getDouble(parameterIndex),
         parameterIndex);
   }
@@ -591,7 +662,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDouble",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETDOUBLE,
         () -> this.statement.getDouble(parameterName),
         parameterName);
   }
@@ -604,7 +676,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getFetchDirection",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETFETCHDIRECTION,
         () -> this.statement.getFetchDirection());
   }
 
@@ -615,7 +688,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getFetchSize",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETFETCHSIZE,
         () -> this.statement.getFetchSize());
   }
 
@@ -626,7 +700,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getFloat",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETFLOAT,
         () -> this.statement.getFloat(parameterIndex),
         parameterIndex);
   }
@@ -638,7 +713,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getFloat",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETFLOAT,
         () -> this.statement.getFloat(parameterName),
         parameterName);
   }
@@ -650,7 +726,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getGeneratedKeys",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETGENERATEDKEYS,
         () -> this.statement.getGeneratedKeys());
   }
 
@@ -661,7 +738,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getInt",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETINT,
         () -> this.statement.getInt(parameterIndex),
         parameterIndex);
   }
@@ -673,7 +751,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getInt",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETINT,
         () -> this.statement.getInt(parameterName),
         parameterName);
   }
@@ -685,7 +764,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getLong",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETLONG,
         () -> this.statement.getLong(parameterIndex),
         parameterIndex);
   }
@@ -697,7 +777,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getLong",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETLONG,
         () -> this.statement.getLong(parameterName),
         parameterName);
   }
@@ -709,7 +790,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMaxFieldSize",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETMAXFIELDSIZE,
         () -> this.statement.getMaxFieldSize());
   }
 
@@ -720,7 +802,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMaxRows",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETMAXROWS,
         () -> this.statement.getMaxRows());
   }
 
@@ -731,7 +814,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMetaData",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETMETADATA,
         () -> this.statement.getMetaData());
   }
 
@@ -742,7 +826,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMoreResults",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETMORERESULTS,
         () -> this.statement.getMoreResults());
   }
 
@@ -753,7 +838,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMoreResults",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETMORERESULTS,
         () -> this.statement.getMoreResults(current),
         current);
   }
@@ -765,7 +851,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNCharacterStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETNCHARACTERSTREAM,
         () -> this.statement.getNCharacterStream(parameterIndex),
         parameterIndex);
   }
@@ -777,7 +864,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNCharacterStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETNCHARACTERSTREAM,
         () -> this.statement.getNCharacterStream(parameterName),
         parameterName);
   }
@@ -789,7 +877,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETNCLOB,
         () -> this.statement.getNClob(parameterIndex),
         parameterIndex);
   }
@@ -801,7 +890,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETNCLOB,
         () -> this.statement.getNClob(parameterName),
         parameterName);
   }
@@ -813,7 +903,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNString",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETNSTRING,
         () -> this.statement.getNString(parameterIndex),
         parameterIndex);
   }
@@ -825,7 +916,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNString",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETNSTRING,
         () -> this.statement.getNString(parameterName),
         parameterName);
   }
@@ -837,7 +929,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETOBJECT,
         () -> this.statement.getObject(parameterIndex),
         parameterIndex);
   }
@@ -849,7 +942,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETOBJECT,
         () -> this.statement.getObject(parameterIndex, map),
         parameterIndex,
         map);
@@ -862,7 +956,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETOBJECT,
         () -> this.statement.getObject(parameterName),
         parameterName);
   }
@@ -874,7 +969,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETOBJECT,
         () -> this.statement.getObject(parameterName, map),
         parameterName,
         map);
@@ -887,7 +983,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETOBJECT,
         () -> this.statement.getObject(parameterIndex, type),
         parameterIndex,
         type);
@@ -900,7 +997,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETOBJECT,
         () -> this.statement.getObject(parameterName, type),
         parameterName,
         type);
@@ -913,7 +1011,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getParameterMetaData",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETPARAMETERMETADATA,
         () -> this.statement.getParameterMetaData());
   }
 
@@ -924,7 +1023,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getQueryTimeout",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETQUERYTIMEOUT,
         () -> this.statement.getQueryTimeout());
   }
 
@@ -935,7 +1035,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getRef",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETREF,
         () -> this.statement.getRef(parameterIndex),
         parameterIndex);
   }
@@ -947,7 +1048,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getRef",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETREF,
         () -> this.statement.getRef(parameterName),
         parameterName);
   }
@@ -959,7 +1061,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getResultSet",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETRESULTSET,
         () -> this.statement.getResultSet());
   }
 
@@ -971,7 +1074,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getResultSetConcurrency",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETRESULTSETCONCURRENCY,
         () -> this.statement.getResultSetConcurrency());
   }
 
@@ -982,7 +1086,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getResultSetHoldability",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETRESULTSETHOLDABILITY,
         () -> this.statement.getResultSetHoldability());
   }
 
@@ -994,7 +1099,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getResultSetType",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETRESULTSETTYPE,
         () -> this.statement.getResultSetType());
   }
 
@@ -1005,7 +1111,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getRowId",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETROWID,
         () -> this.statement.getRowId(parameterIndex),
         parameterIndex);
   }
@@ -1017,7 +1124,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getRowId",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETROWID,
         () -> this.statement.getRowId(parameterName),
         parameterName);
   }
@@ -1030,7 +1138,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getSQLXML",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETSQLXML,
         () -> this.statement.getSQLXML(parameterIndex),
         parameterIndex);
   }
@@ -1043,7 +1152,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getSQLXML",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETSQLXML,
         () -> this.statement.getSQLXML(parameterName),
         parameterName);
   }
@@ -1055,7 +1165,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getShort",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETSHORT,
         () -> this.statement.getShort(parameterIndex),
         parameterIndex);
   }
@@ -1067,7 +1178,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getShort",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETSHORT,
         () -> this.statement.getShort(parameterName),
         parameterName);
   }
@@ -1079,7 +1191,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getString",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETSTRING,
         () -> this.statement.getString(parameterIndex),
         parameterIndex);
   }
@@ -1091,7 +1204,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getString",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETSTRING,
         () -> this.statement.getString(parameterName),
         parameterName);
   }
@@ -1103,7 +1217,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTime",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETTIME,
         () -> this.statement.getTime(parameterIndex),
         parameterIndex);
   }
@@ -1115,7 +1230,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTime",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETTIME,
         () -> this.statement.getTime(parameterIndex, cal),
         parameterIndex,
         cal);
@@ -1128,7 +1244,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTime",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETTIME,
         () -> this.statement.getTime(parameterName),
         parameterName);
   }
@@ -1140,7 +1257,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTime",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETTIME,
         () -> this.statement.getTime(parameterName, cal),
         parameterName,
         cal);
@@ -1153,7 +1271,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTimestamp",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETTIMESTAMP,
         () -> this.statement.getTimestamp(parameterIndex),
         parameterIndex);
   }
@@ -1165,7 +1284,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTimestamp",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETTIMESTAMP,
         () -> this.statement.getTimestamp(parameterIndex, cal),
         parameterIndex,
         cal);
@@ -1178,7 +1298,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTimestamp",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETTIMESTAMP,
         () -> this.statement.getTimestamp(parameterName),
         parameterName);
   }
@@ -1190,7 +1311,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTimestamp",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETTIMESTAMP,
         () -> this.statement.getTimestamp(parameterName, cal),
         parameterName,
         cal);
@@ -1203,7 +1325,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getURL",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETURL,
         () -> this.statement.getURL(parameterIndex),
         parameterIndex);
   }
@@ -1215,7 +1338,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getURL",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETURL,
         () -> this.statement.getURL(parameterName),
         parameterName);
   }
@@ -1227,7 +1351,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getUpdateCount",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETUPDATECOUNT,
         () -> this.statement.getUpdateCount());
   }
 
@@ -1238,7 +1363,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getWarnings",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_GETWARNINGS,
         () -> this.statement.getWarnings());
   }
 
@@ -1249,7 +1375,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.isCloseOnCompletion",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_ISCLOSEONCOMPLETION,
         () -> this.statement.isCloseOnCompletion());
   }
 
@@ -1260,7 +1387,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.isClosed",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_ISCLOSED,
         () -> this.statement.isClosed());
   }
 
@@ -1272,7 +1400,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.isPoolable",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_ISPOOLABLE,
         () -> this.statement.isPoolable());
   }
 
@@ -1287,7 +1416,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType),
         parameterIndex,
         sqlType);
@@ -1299,7 +1429,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType, scale),
         parameterIndex,
         sqlType,
@@ -1313,7 +1444,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType, typeName),
         parameterIndex,
         sqlType,
@@ -1326,7 +1458,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType),
         parameterName,
         sqlType);
@@ -1339,7 +1472,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType, scale),
         parameterName,
         sqlType,
@@ -1353,7 +1487,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType, typeName),
         parameterName,
         sqlType,
@@ -1366,7 +1501,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType),
         parameterIndex,
         sqlType);
@@ -1379,7 +1515,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType, scale),
         parameterIndex,
         sqlType,
@@ -1393,7 +1530,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType, typeName),
         parameterIndex,
         sqlType,
@@ -1406,7 +1544,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType),
         parameterName,
         sqlType);
@@ -1419,7 +1558,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType, scale),
         parameterName,
         sqlType,
@@ -1433,7 +1573,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType, typeName),
         parameterName,
         sqlType,
@@ -1446,7 +1587,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setArray",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETARRAY,
         () -> this.statement.setArray(parameterIndex, x),
         parameterIndex,
         x);
@@ -1458,7 +1600,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterName, x, length),
         parameterName,
         x,
@@ -1471,7 +1614,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterName, x, length),
         parameterName,
         x,
@@ -1484,7 +1628,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterName, x),
         parameterName,
         x);
@@ -1496,7 +1641,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -1509,7 +1655,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -1522,7 +1669,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x),
         parameterIndex,
         x);
@@ -1534,7 +1682,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBigDecimal",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBIGDECIMAL,
         () -> this.statement.setBigDecimal(parameterName, x),
         parameterName,
         x);
@@ -1546,7 +1695,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBigDecimal",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBIGDECIMAL,
         () -> this.statement.setBigDecimal(parameterIndex, x),
         parameterIndex,
         x);
@@ -1558,7 +1708,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterName, x, length),
         parameterName,
         x,
@@ -1572,7 +1723,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterName, x, length),
         parameterName,
         x,
@@ -1585,7 +1737,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterName, x),
         parameterName,
         x);
@@ -1597,7 +1750,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -1610,7 +1764,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -1623,7 +1778,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x),
         parameterIndex,
         x);
@@ -1636,7 +1792,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterName, inputStream, length),
         parameterName,
         inputStream,
@@ -1649,7 +1806,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterName, x),
         parameterName,
         x);
@@ -1661,7 +1819,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterName, inputStream),
         parameterName,
         inputStream);
@@ -1673,7 +1832,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterIndex, x),
         parameterIndex,
         x);
@@ -1686,7 +1846,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterIndex, inputStream, length),
         parameterIndex,
         inputStream,
@@ -1699,7 +1860,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterIndex, inputStream),
         parameterIndex,
         inputStream);
@@ -1711,7 +1873,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBoolean",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBOOLEAN,
         () -> this.statement.setBoolean(parameterName, x),
         parameterName,
         x);
@@ -1723,7 +1886,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBoolean",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBOOLEAN,
         () -> this.statement.setBoolean(parameterIndex, x),
         parameterIndex,
         x);
@@ -1735,7 +1899,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setByte",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBYTE,
         () -> this.statement.setByte(parameterName, x),
         parameterName,
         x);
@@ -1747,7 +1912,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setByte",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBYTE,
         () -> this.statement.setByte(parameterIndex, x),
         parameterIndex,
         x);
@@ -1759,7 +1925,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBytes",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBYTES,
         () -> this.statement.setBytes(parameterName, x),
         parameterName,
         x);
@@ -1771,7 +1938,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBytes",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETBYTES,
         () -> this.statement.setBytes(parameterIndex, x),
         parameterIndex,
         x);
@@ -1784,7 +1952,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterName, reader, length),
         parameterName,
         reader,
@@ -1798,7 +1967,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterName, reader, length),
         parameterName,
         reader,
@@ -1811,7 +1981,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterName, reader),
         parameterName,
         reader);
@@ -1824,7 +1995,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -1838,7 +2010,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -1851,7 +2024,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -1863,7 +2037,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterName, reader, length),
         parameterName,
         reader,
@@ -1876,7 +2051,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterName, x),
         parameterName,
         x);
@@ -1888,7 +2064,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterName, reader),
         parameterName,
         reader);
@@ -1900,7 +2077,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterIndex, x),
         parameterIndex,
         x);
@@ -1912,7 +2090,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -1925,7 +2104,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -1937,7 +2117,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCursorName",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETCURSORNAME,
         () -> this.statement.setCursorName(name),
         name);
   }
@@ -1948,7 +2129,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDate",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETDATE,
         () -> this.statement.setDate(parameterName, x),
         parameterName,
         x);
@@ -1960,7 +2142,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDate",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETDATE,
         () -> this.statement.setDate(parameterName, x, cal),
         parameterName,
         x,
@@ -1973,7 +2156,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDate",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETDATE,
         () -> this.statement.setDate(parameterIndex, x),
         parameterIndex,
         x);
@@ -1985,7 +2169,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDate",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETDATE,
         () -> this.statement.setDate(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -1998,7 +2183,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDouble",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETDOUBLE,
         () -> this.statement.setDouble(parameterName, x),
         parameterName,
         x);
@@ -2010,7 +2196,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDouble",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETDOUBLE,
         () -> this.statement.setDouble(parameterIndex, x),
         parameterIndex,
         x);
@@ -2022,7 +2209,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setEscapeProcessing",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETESCAPEPROCESSING,
         () -> this.statement.setEscapeProcessing(enable),
         enable);
   }
@@ -2033,7 +2221,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setFetchDirection",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETFETCHDIRECTION,
         () -> this.statement.setFetchDirection(direction),
         direction);
   }
@@ -2044,7 +2233,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setFetchSize",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETFETCHSIZE,
         () -> this.statement.setFetchSize(rows),
         rows);
   }
@@ -2055,7 +2245,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setFloat",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETFLOAT,
         () -> this.statement.setFloat(parameterName, x),
         parameterName,
         x);
@@ -2067,7 +2258,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setFloat",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETFLOAT,
         () -> this.statement.setFloat(parameterIndex, x),
         parameterIndex,
         x);
@@ -2079,7 +2271,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setInt",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETINT,
         () -> this.statement.setInt(parameterName, x),
         parameterName,
         x);
@@ -2091,7 +2284,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setInt",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETINT,
         () -> this.statement.setInt(parameterIndex, x),
         parameterIndex,
         x);
@@ -2103,7 +2297,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setLong",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETLONG,
         () -> this.statement.setLong(parameterName, x),
         parameterName,
         x);
@@ -2115,7 +2310,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setLong",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETLONG,
         () -> this.statement.setLong(parameterIndex, x),
         parameterIndex,
         x);
@@ -2127,7 +2323,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setMaxFieldSize",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETMAXFIELDSIZE,
         () -> this.statement.setMaxFieldSize(max),
         max);
   }
@@ -2138,7 +2335,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setMaxRows",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETMAXROWS,
         () -> this.statement.setMaxRows(max),
         max);
   }
@@ -2150,7 +2348,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNCharacterStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNCHARACTERSTREAM,
         () -> this.statement.setNCharacterStream(parameterName, value, length),
         parameterName,
         value,
@@ -2163,7 +2362,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNCharacterStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNCHARACTERSTREAM,
         () -> this.statement.setNCharacterStream(parameterName, value),
         parameterName,
         value);
@@ -2176,7 +2376,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNCharacterStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNCHARACTERSTREAM,
         () -> this.statement.setNCharacterStream(parameterIndex, value, length),
         parameterIndex,
         value,
@@ -2189,7 +2390,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNCharacterStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNCHARACTERSTREAM,
         () -> this.statement.setNCharacterStream(parameterIndex, value),
         parameterIndex,
         value);
@@ -2201,7 +2403,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterName, value),
         parameterName,
         value);
@@ -2213,7 +2416,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterName, reader, length),
         parameterName,
         reader,
@@ -2226,7 +2430,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterName, reader),
         parameterName,
         reader);
@@ -2238,7 +2443,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterIndex, value),
         parameterIndex,
         value);
@@ -2250,7 +2456,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -2263,7 +2470,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -2275,7 +2483,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNString",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNSTRING,
         () -> this.statement.setNString(parameterName, value),
         parameterName,
         value);
@@ -2287,7 +2496,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNString",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNSTRING,
         () -> this.statement.setNString(parameterIndex, value),
         parameterIndex,
         value);
@@ -2299,7 +2509,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNull",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNULL,
         () -> this.statement.setNull(parameterName, sqlType),
         parameterName,
         sqlType);
@@ -2311,7 +2522,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNull",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNULL,
         () -> this.statement.setNull(parameterName, sqlType, typeName),
         parameterName,
         sqlType,
@@ -2324,7 +2536,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNull",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNULL,
         () -> this.statement.setNull(parameterIndex, sqlType),
         parameterIndex,
         sqlType);
@@ -2336,7 +2549,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNull",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETNULL,
         () -> this.statement.setNull(parameterIndex, sqlType, typeName),
         parameterIndex,
         sqlType,
@@ -2350,7 +2564,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterName, x, targetSqlType, scale),
         parameterName,
         x,
@@ -2364,7 +2579,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterName, x, targetSqlType),
         parameterName,
         x,
@@ -2377,7 +2593,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterName, x),
         parameterName,
         x);
@@ -2390,7 +2607,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterName, x, targetSqlType, scaleOrLength),
         parameterName,
         x,
@@ -2404,7 +2622,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterName, x, targetSqlType),
         parameterName,
         x,
@@ -2417,7 +2636,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType),
         parameterIndex,
         x,
@@ -2430,7 +2650,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x),
         parameterIndex,
         x);
@@ -2443,7 +2664,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType, scaleOrLength),
         parameterIndex,
         x,
@@ -2458,7 +2680,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType, scaleOrLength),
         parameterIndex,
         x,
@@ -2472,7 +2695,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType),
         parameterIndex,
         x,
@@ -2486,7 +2710,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setPoolable",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETPOOLABLE,
         () -> this.statement.setPoolable(poolable),
         poolable);
   }
@@ -2497,7 +2722,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setQueryTimeout",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETQUERYTIMEOUT,
         () -> this.statement.setQueryTimeout(seconds),
         seconds);
   }
@@ -2508,7 +2734,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setRef",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETREF,
         () -> this.statement.setRef(parameterIndex, x),
         parameterIndex,
         x);
@@ -2520,7 +2747,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setRowId",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETROWID,
         () -> this.statement.setRowId(parameterName, x),
         parameterName,
         x);
@@ -2532,7 +2760,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setRowId",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETROWID,
         () -> this.statement.setRowId(parameterIndex, x),
         parameterIndex,
         x);
@@ -2545,7 +2774,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setSQLXML",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETSQLXML,
         () -> this.statement.setSQLXML(parameterName, xmlObject),
         parameterName,
         xmlObject);
@@ -2558,7 +2788,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setSQLXML",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETSQLXML,
         () -> this.statement.setSQLXML(parameterIndex, xmlObject),
         parameterIndex,
         xmlObject);
@@ -2570,7 +2801,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setShort",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETSHORT,
         () -> this.statement.setShort(parameterName, x),
         parameterName,
         x);
@@ -2582,7 +2814,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setShort",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETSHORT,
         () -> this.statement.setShort(parameterIndex, x),
         parameterIndex,
         x);
@@ -2594,7 +2827,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setString",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETSTRING,
         () -> this.statement.setString(parameterName, x),
         parameterName,
         x);
@@ -2606,7 +2840,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setString",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETSTRING,
         () -> this.statement.setString(parameterIndex, x),
         parameterIndex,
         x);
@@ -2618,7 +2853,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTime",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETTIME,
         () -> this.statement.setTime(parameterName, x),
         parameterName,
         x);
@@ -2630,7 +2866,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTime",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETTIME,
         () -> this.statement.setTime(parameterName, x, cal),
         parameterName,
         x,
@@ -2643,7 +2880,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTime",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETTIME,
         () -> this.statement.setTime(parameterIndex, x),
         parameterIndex,
         x);
@@ -2655,7 +2893,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTime",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETTIME,
         () -> this.statement.setTime(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -2668,7 +2907,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTimestamp",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETTIMESTAMP,
         () -> this.statement.setTimestamp(parameterName, x),
         parameterName,
         x);
@@ -2680,7 +2920,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTimestamp",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETTIMESTAMP,
         () -> this.statement.setTimestamp(parameterName, x, cal),
         parameterName,
         x,
@@ -2693,7 +2934,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTimestamp",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETTIMESTAMP,
         () -> this.statement.setTimestamp(parameterIndex, x),
         parameterIndex,
         x);
@@ -2705,7 +2947,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTimestamp",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETTIMESTAMP,
         () -> this.statement.setTimestamp(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -2718,7 +2961,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setURL",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETURL,
         () -> this.statement.setURL(parameterName, val),
         parameterName,
         val);
@@ -2730,7 +2974,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setURL",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETURL,
         () -> this.statement.setURL(parameterIndex, x),
         parameterIndex,
         x);
@@ -2743,7 +2988,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setUnicodeStream",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_SETUNICODESTREAM,
         () -> this.statement.setUnicodeStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -2762,7 +3008,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.wasNull",
+        this.boundConnection,
+        JdbcMethod.CALLABLESTATEMENT_WASNULL,
         () -> this.statement.wasNull());
   }
 
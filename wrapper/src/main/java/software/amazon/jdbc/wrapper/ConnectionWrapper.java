@@ -42,6 +42,7 @@ import software.amazon.jdbc.ConnectionPluginManager;
 import software.amazon.jdbc.ConnectionProvider;
 import software.amazon.jdbc.HostListProvider;
 import software.amazon.jdbc.HostListProviderService;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.PluginManagerService;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.PluginServiceImpl;
@@ -181,7 +182,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.abort",
+        JdbcMethod.CONNECTION_ABORT,
         () -> {
           this.pluginService.getCurrentConnection().abort(executor);
           this.pluginManagerService.setInTransaction(false);
@@ -191,12 +192,12 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
   }
 
   @Override
-  public synchronized void clearWarnings() throws SQLException {
+  public void clearWarnings() throws SQLException {
     WrapperUtils.runWithPlugins(
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.clearWarnings",
+        JdbcMethod.CONNECTION_CLEARWARNINGS,
         () -> this.pluginService.getCurrentConnection().clearWarnings());
   }
 
@@ -206,7 +207,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.close",
+        JdbcMethod.CONNECTION_CLOSE,
         () -> {
           this.pluginService.getSessionStateService().begin();
           try {
@@ -229,7 +230,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.commit",
+        JdbcMethod.CONNECTION_COMMIT,
         () -> {
           this.pluginService.getCurrentConnection().commit();
           this.pluginManagerService.setInTransaction(false);
@@ -247,7 +248,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createArrayOf",
+        JdbcMethod.CONNECTION_CREATEARRAYOF,
         () -> this.pluginService.getCurrentConnection().createArrayOf(typeName, elements),
         typeName,
         elements);
@@ -260,7 +261,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createBlob",
+        JdbcMethod.CONNECTION_CREATEBLOB,
         () -> this.pluginService.getCurrentConnection().createBlob());
   }
 
@@ -271,7 +272,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createClob",
+        JdbcMethod.CONNECTION_CREATECLOB,
         () -> this.pluginService.getCurrentConnection().createClob());
   }
 
@@ -282,7 +283,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createNClob",
+        JdbcMethod.CONNECTION_CREATENCLOB,
         () -> this.pluginService.getCurrentConnection().createNClob());
   }
 
@@ -293,7 +294,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createSQLXML",
+        JdbcMethod.CONNECTION_CREATESQLXML,
         () -> this.pluginService.getCurrentConnection().createSQLXML());
   }
 
@@ -304,7 +305,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createStatement",
+        JdbcMethod.CONNECTION_CREATESTATEMENT,
         () -> this.pluginService.getCurrentConnection().createStatement());
   }
 
@@ -316,7 +317,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createStatement",
+        JdbcMethod.CONNECTION_CREATESTATEMENT,
         () ->
             this.pluginService
                 .getCurrentConnection()
@@ -333,7 +334,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createStatement",
+        JdbcMethod.CONNECTION_CREATESTATEMENT,
         () -> this.pluginService
           .getCurrentConnection()
           .createStatement(resultSetType, resultSetConcurrency, resultSetHoldability),
@@ -349,7 +350,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.createStruct",
+        JdbcMethod.CONNECTION_CREATESTRUCT,
         () -> this.pluginService.getCurrentConnection().createStruct(typeName, attributes),
         typeName,
         attributes);
@@ -361,7 +362,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setReadOnly",
+        JdbcMethod.CONNECTION_SETREADONLY,
         () -> {
           this.pluginService.getSessionStateService().setupPristineReadOnly();
           this.pluginService.getCurrentConnection().setReadOnly(readOnly);
@@ -377,7 +378,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getCatalog",
+        JdbcMethod.CONNECTION_GETCATALOG,
         () -> {
           final String catalog = this.pluginService.getCurrentConnection().getCatalog();
           this.pluginService.getSessionStateService().setupPristineCatalog(catalog);
@@ -392,7 +393,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getClientInfo",
+        JdbcMethod.CONNECTION_GETCLIENTINFO,
         () -> this.pluginService.getCurrentConnection().getClientInfo(name),
         name);
   }
@@ -404,7 +405,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getClientInfo",
+        JdbcMethod.CONNECTION_GETCLIENTINFO,
         () -> this.pluginService.getCurrentConnection().getClientInfo());
   }
 
@@ -415,7 +416,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getHoldability",
+        JdbcMethod.CONNECTION_GETHOLDABILITY,
         () -> {
           final int holdability = this.pluginService.getCurrentConnection().getHoldability();
           this.pluginService.getSessionStateService().setupPristineHoldability(holdability);
@@ -430,7 +431,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getMetaData",
+        JdbcMethod.CONNECTION_GETMETADATA,
         () -> this.pluginService.getCurrentConnection().getMetaData());
   }
 
@@ -441,7 +442,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getNetworkTimeout",
+        JdbcMethod.CONNECTION_GETNETWORKTIMEOUT,
         () -> {
           final int milliseconds = this.pluginService.getCurrentConnection().getNetworkTimeout();
           this.pluginService.getSessionStateService().setupPristineNetworkTimeout(milliseconds);
@@ -456,7 +457,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getSchema",
+        JdbcMethod.CONNECTION_GETSCHEMA,
         () -> {
           final String schema = this.pluginService.getCurrentConnection().getSchema();
           this.pluginService.getSessionStateService().setupPristineSchema(schema);
@@ -472,7 +473,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getTransactionIsolation",
+        JdbcMethod.CONNECTION_GETTRANSACTIONISOLATION,
         () -> {
           final int level = this.pluginService.getCurrentConnection().getTransactionIsolation();
           this.pluginService.getSessionStateService().setupPristineTransactionIsolation(level);
@@ -489,7 +490,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getTypeMap",
+        JdbcMethod.CONNECTION_GETTYPEMAP,
         () -> {
           final Map<String, Class<?>> map = this.pluginService.getCurrentConnection().getTypeMap();
           this.pluginService.getSessionStateService().setupPristineTypeMap(map);
@@ -498,13 +499,13 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
   }
 
   @Override
-  public synchronized SQLWarning getWarnings() throws SQLException {
+  public SQLWarning getWarnings() throws SQLException {
     return WrapperUtils.executeWithPlugins(
         SQLWarning.class,
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getWarnings",
+        JdbcMethod.CONNECTION_GETWARNINGS,
         () -> this.pluginService.getCurrentConnection().getWarnings());
   }
 
@@ -515,7 +516,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.isClosed",
+        JdbcMethod.CONNECTION_ISCLOSED,
         () -> this.pluginService.getCurrentConnection().isClosed());
   }
 
@@ -526,7 +527,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.isReadOnly",
+        JdbcMethod.CONNECTION_ISREADONLY,
         () -> {
           final boolean isReadOnly = this.pluginService.getCurrentConnection().isReadOnly();
           this.pluginService.getSessionStateService().setupPristineReadOnly(isReadOnly);
@@ -541,7 +542,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.isValid",
+        JdbcMethod.CONNECTION_ISVALID,
         () -> this.pluginService.getCurrentConnection().isValid(timeout),
         timeout);
   }
@@ -553,148 +554,175 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.nativeSQL",
+        JdbcMethod.CONNECTION_NATIVESQL,
         () -> this.pluginService.getCurrentConnection().nativeSQL(sql),
         sql);
   }
 
+  protected <T extends PreparedStatement> T withPreparedSql(final T statement, final String sql) {
+    if (statement instanceof PreparedStatementWrapper) {
+      ((PreparedStatementWrapper) statement).setPreparedSql(sql);
+    } else if (statement instanceof CallableStatementWrapper) {
+      ((CallableStatementWrapper) statement).setPreparedSql(sql);
+    }
+    return statement;
+  }
+
   @Override
   public CallableStatement prepareCall(final String sql) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        CallableStatement.class,
-        SQLException.class,
-        this.pluginManager,
-        this.pluginService.getCurrentConnection(),
-        "Connection.prepareCall",
-        () -> this.pluginService.getCurrentConnection().prepareCall(sql),
+    return withPreparedSql(
+        WrapperUtils.executeWithPlugins(
+            CallableStatement.class,
+            SQLException.class,
+            this.pluginManager,
+            this.pluginService.getCurrentConnection(),
+            JdbcMethod.CONNECTION_PREPARECALL,
+            () -> this.pluginService.getCurrentConnection().prepareCall(sql),
+            sql),
         sql);
   }
 
   @Override
   public CallableStatement prepareCall(final String sql, final int resultSetType, final int resultSetConcurrency)
       throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        CallableStatement.class,
-        SQLException.class,
-        this.pluginManager,
-        this.pluginService.getCurrentConnection(),
-        "Connection.prepareCall",
-        () ->
-            this.pluginService
-                .getCurrentConnection()
-                .prepareCall(sql, resultSetType, resultSetConcurrency),
-        sql,
-        resultSetType,
-        resultSetConcurrency);
+    return withPreparedSql(
+        WrapperUtils.executeWithPlugins(
+            CallableStatement.class,
+            SQLException.class,
+            this.pluginManager,
+            this.pluginService.getCurrentConnection(),
+            JdbcMethod.CONNECTION_PREPARECALL,
+            () ->
+                this.pluginService
+                    .getCurrentConnection()
+                    .prepareCall(sql, resultSetType, resultSetConcurrency),
+            sql,
+            resultSetType,
+            resultSetConcurrency),
+        sql);
   }
 
   @Override
   public CallableStatement prepareCall(
       final String sql, final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability)
       throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        CallableStatement.class,
-        SQLException.class,
-        this.pluginManager,
-        this.pluginService.getCurrentConnection(),
-        "Connection.prepareCall",
-        () ->
-            this.pluginService
-                .getCurrentConnection()
-                .prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
-        sql,
-        resultSetType,
-        resultSetConcurrency,
-        resultSetHoldability);
+    return withPreparedSql(
+        WrapperUtils.executeWithPlugins(
+            CallableStatement.class,
+            SQLException.class,
+            this.pluginManager,
+            this.pluginService.getCurrentConnection(),
+            JdbcMethod.CONNECTION_PREPARECALL,
+            () ->
+                this.pluginService
+                    .getCurrentConnection()
+                    .prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
+            sql,
+            resultSetType,
+            resultSetConcurrency,
+            resultSetHoldability),
+        sql);
   }
 
   @Override
   public PreparedStatement prepareStatement(final String sql) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        PreparedStatement.class,
-        SQLException.class,
-        this.pluginManager,
-        this.pluginService.getCurrentConnection(),
-        "Connection.prepareStatement",
-        () -> this.pluginService.getCurrentConnection().prepareStatement(sql),
+    return withPreparedSql(
+        WrapperUtils.executeWithPlugins(
+            PreparedStatement.class,
+            SQLException.class,
+            this.pluginManager,
+            this.pluginService.getCurrentConnection(),
+            JdbcMethod.CONNECTION_PREPARESTATEMENT,
+            () -> this.pluginService.getCurrentConnection().prepareStatement(sql),
+            sql),
         sql);
   }
 
   @Override
   public PreparedStatement prepareStatement(final String sql, final int resultSetType, final int resultSetConcurrency)
       throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        PreparedStatement.class,
-        SQLException.class,
-        this.pluginManager,
-        this.pluginService.getCurrentConnection(),
-        "Connection.prepareStatement",
-        () ->
-            this.pluginService
-                .getCurrentConnection()
-                .prepareStatement(sql, resultSetType, resultSetConcurrency),
-        sql,
-        resultSetType,
-        resultSetConcurrency);
+    return withPreparedSql(
+        WrapperUtils.executeWithPlugins(
+            PreparedStatement.class,
+            SQLException.class,
+            this.pluginManager,
+            this.pluginService.getCurrentConnection(),
+            JdbcMethod.CONNECTION_PREPARESTATEMENT,
+            () ->
+                this.pluginService
+                    .getCurrentConnection()
+                    .prepareStatement(sql, resultSetType, resultSetConcurrency),
+            sql,
+            resultSetType,
+            resultSetConcurrency),
+        sql);
   }
 
   @Override
   public PreparedStatement prepareStatement(
       final String sql, final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability)
       throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        PreparedStatement.class,
-        SQLException.class,
-        this.pluginManager,
-        this.pluginService.getCurrentConnection(),
-        "Connection.prepareStatement",
-        () ->
-            this.pluginService
-                .getCurrentConnection()
-                .prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
-        sql,
-        resultSetType,
-        resultSetConcurrency,
-        resultSetHoldability);
+    return withPreparedSql(
+        WrapperUtils.executeWithPlugins(
+            PreparedStatement.class,
+            SQLException.class,
+            this.pluginManager,
+            this.pluginService.getCurrentConnection(),
+            JdbcMethod.CONNECTION_PREPARESTATEMENT,
+            () ->
+                this.pluginService
+                    .getCurrentConnection()
+                    .prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
+            sql,
+            resultSetType,
+            resultSetConcurrency,
+            resultSetHoldability),
+        sql);
   }
 
   @Override
   public PreparedStatement prepareStatement(final String sql, final int autoGeneratedKeys) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        PreparedStatement.class,
-        SQLException.class,
-        this.pluginManager,
-        this.pluginService.getCurrentConnection(),
-        "Connection.prepareStatement",
-        () -> this.pluginService.getCurrentConnection().prepareStatement(sql, autoGeneratedKeys),
-        sql,
-        autoGeneratedKeys);
+    return withPreparedSql(
+        WrapperUtils.executeWithPlugins(
+            PreparedStatement.class,
+            SQLException.class,
+            this.pluginManager,
+            this.pluginService.getCurrentConnection(),
+            JdbcMethod.CONNECTION_PREPARESTATEMENT,
+            () -> this.pluginService.getCurrentConnection().prepareStatement(sql, autoGeneratedKeys),
+            sql,
+            autoGeneratedKeys),
+        sql);
   }
 
   @Override
   public PreparedStatement prepareStatement(final String sql, final int[] columnIndexes) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        PreparedStatement.class,
-        SQLException.class,
-        this.pluginManager,
-        this.pluginService.getCurrentConnection(),
-        "Connection.prepareStatement",
-        () -> this.pluginService.getCurrentConnection().prepareStatement(sql, columnIndexes),
-        sql,
-        columnIndexes);
+    return withPreparedSql(
+        WrapperUtils.executeWithPlugins(
+            PreparedStatement.class,
+            SQLException.class,
+            this.pluginManager,
+            this.pluginService.getCurrentConnection(),
+            JdbcMethod.CONNECTION_PREPARESTATEMENT,
+            () -> this.pluginService.getCurrentConnection().prepareStatement(sql, columnIndexes),
+            sql,
+            columnIndexes),
+        sql);
   }
 
   @Override
   public PreparedStatement prepareStatement(final String sql, final String[] columnNames) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        PreparedStatement.class,
-        SQLException.class,
-        this.pluginManager,
-        this.pluginService.getCurrentConnection(),
-        "Connection.prepareStatement",
-        () -> this.pluginService.getCurrentConnection().prepareStatement(sql, columnNames),
-        sql,
-        columnNames);
+    return withPreparedSql(
+        WrapperUtils.executeWithPlugins(
+            PreparedStatement.class,
+            SQLException.class,
+            this.pluginManager,
+            this.pluginService.getCurrentConnection(),
+            JdbcMethod.CONNECTION_PREPARESTATEMENT,
+            () -> this.pluginService.getCurrentConnection().prepareStatement(sql, columnNames),
+            sql,
+            columnNames),
+        sql);
   }
 
   @Override
@@ -703,7 +731,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.releaseSavepoint",
+        JdbcMethod.CONNECTION_RELEASESAVEPOINT,
         () -> {
           if (savepoint instanceof SavepointWrapper) {
             this.pluginService.getCurrentConnection().releaseSavepoint(((SavepointWrapper) savepoint).savepoint);
@@ -720,7 +748,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.rollback",
+        JdbcMethod.CONNECTION_ROLLBACK,
         () -> {
           this.pluginService.getCurrentConnection().rollback();
           this.pluginManagerService.setInTransaction(false);
@@ -737,7 +765,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.rollback",
+        JdbcMethod.CONNECTION_ROLLBACK,
         () -> {
           if (savepoint instanceof SavepointWrapper) {
             this.pluginService.getCurrentConnection().rollback(((SavepointWrapper) savepoint).savepoint);
@@ -755,7 +783,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setAutoCommit",
+        JdbcMethod.CONNECTION_SETAUTOCOMMIT,
         () -> {
           this.pluginService.getSessionStateService().setupPristineAutoCommit();
           this.pluginService.getCurrentConnection().setAutoCommit(autoCommit);
@@ -771,7 +799,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.getAutoCommit",
+        JdbcMethod.CONNECTION_GETAUTOCOMMIT,
         () -> {
           final boolean autoCommit = this.pluginService.getCurrentConnection().getAutoCommit();
           this.pluginService.getSessionStateService().setupPristineAutoCommit(autoCommit);
@@ -785,7 +813,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setCatalog",
+        JdbcMethod.CONNECTION_SETCATALOG,
         () -> {
           this.pluginService.getSessionStateService().setupPristineCatalog();
           this.pluginService.getCurrentConnection().setCatalog(catalog);
@@ -800,7 +828,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLClientInfoException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setClientInfo",
+        JdbcMethod.CONNECTION_SETCLIENTINFO,
         () -> this.pluginService.getCurrentConnection().setClientInfo(name, value),
         name,
         value);
@@ -812,7 +840,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLClientInfoException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setClientInfo",
+        JdbcMethod.CONNECTION_SETCLIENTINFO,
         () -> this.pluginService.getCurrentConnection().setClientInfo(properties),
         properties);
   }
@@ -823,7 +851,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setHoldability",
+        JdbcMethod.CONNECTION_SETHOLDABILITY,
         () -> {
           this.pluginService.getSessionStateService().setupPristineHoldability();
           this.pluginService.getCurrentConnection().setHoldability(holdability);
@@ -838,7 +866,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setNetworkTimeout",
+        JdbcMethod.CONNECTION_SETNETWORKTIMEOUT,
         () -> {
           this.pluginService.getSessionStateService().setupPristineNetworkTimeout();
           this.pluginService.getCurrentConnection().setNetworkTimeout(executor, milliseconds);
@@ -855,7 +883,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setSavepoint",
+        JdbcMethod.CONNECTION_SETSAVEPOINT,
         () -> this.pluginService.getCurrentConnection().setSavepoint());
   }
 
@@ -866,7 +894,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setSavepoint",
+        JdbcMethod.CONNECTION_SETSAVEPOINT,
         () -> this.pluginService.getCurrentConnection().setSavepoint(name),
         name);
   }
@@ -877,7 +905,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setSchema",
+        JdbcMethod.CONNECTION_SETSCHEMA,
         () -> {
           this.pluginService.getSessionStateService().setupPristineSchema();
           this.pluginService.getCurrentConnection().setSchema(schema);
@@ -892,7 +920,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setTransactionIsolation",
+        JdbcMethod.CONNECTION_SETTRANSACTIONISOLATION,
         () -> {
           this.pluginService.getSessionStateService().setupPristineTransactionIsolation();
           this.pluginService.getCurrentConnection().setTransactionIsolation(level);
@@ -907,7 +935,7 @@ public class ConnectionWrapper implements Connection, CanReleaseResources {
         SQLException.class,
         this.pluginManager,
         this.pluginService.getCurrentConnection(),
-        "Connection.setTypeMap",
+        JdbcMethod.CONNECTION_SETTYPEMAP,
         () -> {
           this.pluginService.getSessionStateService().setupPristineTypeMap();
           this.pluginService.getCurrentConnection().setTypeMap(map);
@@ -25,6 +25,7 @@ import java.sql.NClob;
 import java.sql.SQLException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class NClobWrapper implements NClob {
@@ -44,7 +45,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.length",
+        JdbcMethod.NCLOB_LENGTH,
         () -> this.nclob.length());
   }
 
@@ -55,7 +56,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.getSubString",
+        JdbcMethod.NCLOB_GETSUBSTRING,
         () -> this.nclob.getSubString(pos, length),
         pos,
         length);
@@ -68,7 +69,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.getCharacterStream",
+        JdbcMethod.NCLOB_GETCHARACTERSTREAM,
         () -> this.nclob.getCharacterStream());
   }
 
@@ -79,7 +80,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.getCharacterStream",
+        JdbcMethod.NCLOB_GETCHARACTERSTREAM,
         () -> this.nclob.getCharacterStream(pos, length),
         pos,
         length);
@@ -92,7 +93,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.getAsciiStream",
+        JdbcMethod.NCLOB_GETASCIISTREAM,
         () -> this.nclob.getAsciiStream());
   }
 
@@ -103,7 +104,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.position",
+        JdbcMethod.NCLOB_POSITION,
         () -> this.nclob.position(searchStr, start),
         searchStr,
         start);
@@ -116,7 +117,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.position",
+        JdbcMethod.NCLOB_POSITION,
         () -> this.nclob.position(searchStr, start),
         searchStr,
         start);
@@ -129,7 +130,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.setString",
+        JdbcMethod.NCLOB_SETSTRING,
         () -> this.nclob.setString(pos, str),
         pos,
         str);
@@ -142,7 +143,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.setString",
+        JdbcMethod.NCLOB_SETSTRING,
         () -> this.nclob.setString(pos, str, offset, len),
         pos,
         str,
@@ -157,7 +158,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.setAsciiStream",
+        JdbcMethod.NCLOB_SETASCIISTREAM,
         () -> this.nclob.setAsciiStream(pos),
         pos);
   }
@@ -169,7 +170,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.setCharacterStream",
+        JdbcMethod.NCLOB_SETCHARACTERSTREAM,
         () -> this.nclob.setCharacterStream(pos),
         pos);
   }
@@ -180,7 +181,7 @@ public class NClobWrapper implements NClob {
         SQLException.class,
         this.pluginManager,
         this.nclob,
-        "NClob.truncate",
+        JdbcMethod.NCLOB_TRUNCATE,
         () -> this.nclob.truncate(len),
         len);
   }
@@ -188,7 +189,7 @@ public class NClobWrapper implements NClob {
   @Override
   public void free() throws SQLException {
     WrapperUtils.runWithPlugins(
-        SQLException.class, this.pluginManager, this.nclob, "NClob.free", () -> this.nclob.free());
+        SQLException.class, this.pluginManager, this.nclob, JdbcMethod.NCLOB_FREE, () -> this.nclob.free());
   }
 
   @Override
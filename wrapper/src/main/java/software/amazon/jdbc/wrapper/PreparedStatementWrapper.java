@@ -41,17 +41,33 @@ import java.sql.Timestamp;
 import java.util.Calendar;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
+import software.amazon.jdbc.util.PreparedSql;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class PreparedStatementWrapper implements PreparedStatement {
 
   protected PreparedStatement statement;
   protected ConnectionPluginManager pluginManager;
+  protected Connection boundConnection;
+  protected PreparedSql preparedSql;
 
   public PreparedStatementWrapper(
       @NonNull PreparedStatement statement, @NonNull ConnectionPluginManager pluginManager) {
     this.statement = statement;
     this.pluginManager = pluginManager;
+    // The physical connection is resolved once so that each call doesn't need to query the target driver for it.
+    this.boundConnection = WrapperUtils.getConnectionFromSqlObject(statement);
+  }
+
+  /**
+   * Sets the SQL the statement has been prepared with, so plugins can inspect it when the statement
+   * is executed.
+   *
+   * @param sql the SQL of the statement
+   */
+  public void setPreparedSql(final String sql) {
+    this.preparedSql = sql == null ? null : new PreparedSql(this.statement, sql);
   }
 
   @Override
@@ -60,7 +76,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.addBatch",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_ADDBATCH,
         () -> this.statement.addBatch());
   }
 
@@ -70,7 +87,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.addBatch",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_ADDBATCH,
         () -> this.statement.addBatch(sql),
         sql);
   }
@@ -81,7 +99,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.cancel",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_CANCEL,
         () -> this.statement.cancel());
   }
 
@@ -91,7 +110,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.clearBatch",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_CLEARBATCH,
         () -> this.statement.clearBatch());
   }
 
@@ -101,7 +121,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.clearParameters",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_CLEARPARAMETERS,
         () -> this.statement.clearParameters());
   }
 
@@ -111,7 +132,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.clearWarnings",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_CLEARWARNINGS,
         () -> this.statement.clearWarnings());
   }
 
@@ -121,7 +143,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.close",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_CLOSE,
         () -> this.statement.close());
   }
 
@@ -131,19 +154,23 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.closeOnCompletion",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_CLOSEONCOMPLETION,
         () -> this.statement.closeOnCompletion());
   }
 
   @Override
   public boolean execute() throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        boolean.class,
-        SQLException.class,
-        this.pluginManager,
-        this.statement,
-        "PreparedStatement.execute",
-        () -> this.statement.execute());
+    return PreparedSql.execute(
+        this.preparedSql,
+        () -> WrapperUtils.executeWithPlugins(
+            boolean.class,
+            SQLException.class,
+            this.pluginManager,
+            this.statement,
+            this.boundConnection,
+            JdbcMethod.PREPAREDSTATEMENT_EXECUTE,
+            () -> this.statement.execute()));
   }
 
   @Override
@@ -153,7 +180,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.execute",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTE,
         () -> this.statement.execute(sql),
         sql);
   }
@@ -165,7 +193,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.execute",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTE,
         () -> this.statement.execute(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -178,7 +207,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.execute",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -191,7 +221,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.execute",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnNames),
         sql,
         columnNames);
@@ -199,35 +230,44 @@ public class PreparedStatementWrapper implements PreparedStatement {
 
   @Override
   public int[] executeBatch() throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        int[].class,
-        SQLException.class,
-        this.pluginManager,
-        this.statement,
-        "PreparedStatement.executeBatch",
-        () -> this.statement.executeBatch());
+    return PreparedSql.execute(
+        this.preparedSql,
+        () -> WrapperUtils.executeWithPlugins(
+            int[].class,
+            SQLException.class,
+            this.pluginManager,
+            this.statement,
+            this.boundConnection,
+            JdbcMethod.PREPAREDSTATEMENT_EXECUTEBATCH,
+            () -> this.statement.executeBatch()));
   }
 
   @Override
   public long executeLargeUpdate() throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        long.class,
-        SQLException.class,
-        this.pluginManager,
-        this.statement,
-        "PreparedStatement.executeLargeUpdate",
-        () -> this.statement.executeLargeUpdate());
+    return PreparedSql.execute(
+        this.preparedSql,
+        () -> WrapperUtils.executeWithPlugins(
+            long.class,
+            SQLException.class,
+            this.pluginManager,
+            this.statement,
+            this.boundConnection,
+            JdbcMethod.PREPAREDSTATEMENT_EXECUTELARGEUPDATE,
+            () -> this.statement.executeLargeUpdate()));
   }
 
   @Override
   public ResultSet executeQuery() throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        ResultSet.class,
-        SQLException.class,
-        this.pluginManager,
-        this.statement,
-        "PreparedStatement.executeQuery",
-        () -> this.statement.executeQuery());
+    return PreparedSql.execute(
+        this.preparedSql,
+        () -> WrapperUtils.executeWithPlugins(
+            ResultSet.class,
+            SQLException.class,
+            this.pluginManager,
+            this.statement,
+            this.boundConnection,
+            JdbcMethod.PREPAREDSTATEMENT_EXECUTEQUERY,
+            () -> this.statement.executeQuery()));
   }
 
   @Override
@@ -237,20 +277,24 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeQuery",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTEQUERY,
         () -> this.statement.executeQuery(sql),
         sql);
   }
 
   @Override
   public int executeUpdate() throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        int.class,
-        SQLException.class,
-        this.pluginManager,
-        this.statement,
-        "PreparedStatement.executeUpdate",
-        () -> this.statement.executeUpdate());
+    return PreparedSql.execute(
+        this.preparedSql,
+        () -> WrapperUtils.executeWithPlugins(
+            int.class,
+            SQLException.class,
+            this.pluginManager,
+            this.statement,
+            this.boundConnection,
+            JdbcMethod.PREPAREDSTATEMENT_EXECUTEUPDATE,
+            () -> this.statement.executeUpdate()));
   }
 
   @Override
@@ -260,7 +304,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeUpdate",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql),
         sql);
   }
@@ -272,7 +317,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeUpdate",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -285,7 +331,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeUpdate",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -298,7 +345,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeUpdate",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, columnNames),
         sql,
         columnNames);
@@ -311,7 +359,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getConnection",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETCONNECTION,
         () -> this.pluginManager.getConnectionWrapper());
   }
 
@@ -323,7 +372,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getFetchDirection",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETFETCHDIRECTION,
         () -> this.statement.getFetchDirection());
   }
 
@@ -334,7 +384,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getFetchSize",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETFETCHSIZE,
         () -> this.statement.getFetchSize());
   }
 
@@ -345,7 +396,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getGeneratedKeys",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETGENERATEDKEYS,
         () -> this.statement.getGeneratedKeys());
   }
 
@@ -356,7 +408,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMaxFieldSize",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETMAXFIELDSIZE,
         () -> this.statement.getMaxFieldSize());
   }
 
@@ -367,7 +420,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMaxRows",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETMAXROWS,
         () -> this.statement.getMaxRows());
   }
 
@@ -378,7 +432,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMetaData",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETMETADATA,
         () -> this.statement.getMetaData());
   }
 
@@ -389,7 +444,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMoreResults",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETMORERESULTS,
         () -> this.statement.getMoreResults());
   }
 
@@ -400,7 +456,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMoreResults",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETMORERESULTS,
         () -> this.statement.getMoreResults(current),
         current);
   }
@@ -412,7 +469,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getParameterMetaData",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETPARAMETERMETADATA,
         () -> this.statement.getParameterMetaData());
   }
 
@@ -423,7 +481,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getQueryTimeout",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETQUERYTIMEOUT,
         () -> this.statement.getQueryTimeout());
   }
 
@@ -434,7 +493,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getResultSet",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETRESULTSET,
         () -> this.statement.getResultSet());
   }
 
@@ -446,7 +506,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getResultSetConcurrency",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETRESULTSETCONCURRENCY,
         () -> this.statement.getResultSetConcurrency());
   }
 
@@ -457,7 +518,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getResultSetHoldability",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETRESULTSETHOLDABILITY,
         () -> this.statement.getResultSetHoldability());
   }
 
@@ -469,7 +531,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getResultSetType",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETRESULTSETTYPE,
         () -> this.statement.getResultSetType());
   }
 
@@ -480,7 +543,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getUpdateCount",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETUPDATECOUNT,
         () -> this.statement.getUpdateCount());
   }
 
@@ -491,7 +555,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getWarnings",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_GETWARNINGS,
         () -> this.statement.getWarnings());
   }
 
@@ -502,7 +567,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.isCloseOnCompletion",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_ISCLOSEONCOMPLETION,
         () -> this.statement.isCloseOnCompletion());
   }
 
@@ -513,7 +579,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.isClosed",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_ISCLOSED,
         () -> this.statement.isClosed());
   }
 
@@ -525,7 +592,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.isPoolable",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_ISPOOLABLE,
         () -> this.statement.isPoolable());
   }
 
@@ -540,7 +608,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setArray",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETARRAY,
         () -> this.statement.setArray(parameterIndex, x),
         parameterIndex,
         x);
@@ -552,7 +621,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setAsciiStream",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -565,7 +635,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setAsciiStream",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -578,7 +649,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setAsciiStream",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x),
         parameterIndex,
         x);
@@ -590,7 +662,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBigDecimal",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETBIGDECIMAL,
         () -> this.statement.setBigDecimal(parameterIndex, x),
         parameterIndex,
         x);
@@ -602,7 +675,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBinaryStream",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -615,7 +689,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBinaryStream",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -628,7 +703,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBinaryStream",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x),
         parameterIndex,
         x);
@@ -640,7 +716,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBlob",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterIndex, x),
         parameterIndex,
         x);
@@ -653,7 +730,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBlob",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterIndex, inputStream, length),
         parameterIndex,
         inputStream,
@@ -666,7 +744,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBlob",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterIndex, inputStream),
         parameterIndex,
         inputStream);
@@ -678,7 +757,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBoolean",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETBOOLEAN,
         () -> this.statement.setBoolean(parameterIndex, x),
         parameterIndex,
         x);
@@ -690,7 +770,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setByte",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETBYTE,
         () -> this.statement.setByte(parameterIndex, x),
         parameterIndex,
         x);
@@ -702,7 +783,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBytes",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETBYTES,
         () -> this.statement.setBytes(parameterIndex, x),
         parameterIndex,
         x);
@@ -715,7 +797,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setCharacterStream",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -729,7 +812,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setCharacterStream",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -742,7 +826,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setCharacterStream",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -754,7 +839,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setClob",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterIndex, x),
         parameterIndex,
         x);
@@ -766,7 +852,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setClob",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -779,7 +866,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setClob",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -791,7 +879,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setCursorName",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETCURSORNAME,
         () -> this.statement.setCursorName(name),
         name);
   }
@@ -802,7 +891,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setDate",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETDATE,
         () -> this.statement.setDate(parameterIndex, x),
         parameterIndex,
         x);
@@ -814,7 +904,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setDate",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETDATE,
         () -> this.statement.setDate(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -827,7 +918,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setDouble",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETDOUBLE,
         () -> this.statement.setDouble(parameterIndex, x),
         parameterIndex,
         x);
@@ -839,7 +931,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setEscapeProcessing",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETESCAPEPROCESSING,
         () -> this.statement.setEscapeProcessing(enable),
         enable);
   }
@@ -850,7 +943,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setFetchDirection",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETFETCHDIRECTION,
         () -> this.statement.setFetchDirection(direction),
         direction);
   }
@@ -861,7 +955,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setFetchSize",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETFETCHSIZE,
         () -> this.statement.setFetchSize(rows),
         rows);
   }
@@ -872,7 +967,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setFloat",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETFLOAT,
         () -> this.statement.setFloat(parameterIndex, x),
         parameterIndex,
         x);
@@ -884,7 +980,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setInt",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETINT,
         () -> this.statement.setInt(parameterIndex, x),
         parameterIndex,
         x);
@@ -896,7 +993,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setLong",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETLONG,
         () -> this.statement.setLong(parameterIndex, x),
         parameterIndex,
         x);
@@ -908,7 +1006,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setMaxFieldSize",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETMAXFIELDSIZE,
         () -> this.statement.setMaxFieldSize(max),
         max);
   }
@@ -919,7 +1018,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setMaxRows",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETMAXROWS,
         () -> this.statement.setMaxRows(max),
         max);
   }
@@ -931,7 +1031,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNCharacterStream",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETNCHARACTERSTREAM,
         () -> this.statement.setNCharacterStream(parameterIndex, value, length),
         parameterIndex,
         value,
@@ -944,7 +1045,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNCharacterStream",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETNCHARACTERSTREAM,
         () -> this.statement.setNCharacterStream(parameterIndex, value),
         parameterIndex,
         value);
@@ -956,7 +1058,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNClob",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterIndex, value),
         parameterIndex,
         value);
@@ -968,7 +1071,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNClob",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -981,7 +1085,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNClob",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -993,7 +1098,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNString",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETNSTRING,
         () -> this.statement.setNString(parameterIndex, value),
         parameterIndex,
         value);
@@ -1005,7 +1111,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNull",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETNULL,
         () -> this.statement.setNull(parameterIndex, sqlType),
         parameterIndex,
         sqlType);
@@ -1017,7 +1124,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNull",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETNULL,
         () -> this.statement.setNull(parameterIndex, sqlType, typeName),
         parameterIndex,
         sqlType,
@@ -1030,7 +1138,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType),
         parameterIndex,
         x,
@@ -1043,7 +1152,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x),
         parameterIndex,
         x);
@@ -1056,7 +1166,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType, scaleOrLength),
         parameterIndex,
         x,
@@ -1071,7 +1182,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType, scaleOrLength),
         parameterIndex,
         x,
@@ -1085,7 +1197,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType),
         parameterIndex,
         x,
@@ -1099,7 +1212,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setPoolable",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETPOOLABLE,
         () -> this.statement.setPoolable(poolable),
         poolable);
   }
@@ -1110,7 +1224,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setQueryTimeout",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETQUERYTIMEOUT,
         () -> this.statement.setQueryTimeout(seconds),
         seconds);
   }
@@ -1121,7 +1236,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setRef",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETREF,
         () -> this.statement.setRef(parameterIndex, x),
         parameterIndex,
         x);
@@ -1133,7 +1249,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setRowId",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETROWID,
         () -> this.statement.setRowId(parameterIndex, x),
         parameterIndex,
         x);
@@ -1146,7 +1263,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setSQLXML",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETSQLXML,
         () -> this.statement.setSQLXML(parameterIndex, xmlObject),
         parameterIndex,
         xmlObject);
@@ -1158,7 +1276,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setShort",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETSHORT,
         () -> this.statement.setShort(parameterIndex, x),
         parameterIndex,
         x);
@@ -1170,7 +1289,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setString",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETSTRING,
         () -> this.statement.setString(parameterIndex, x),
         parameterIndex,
         x);
@@ -1182,7 +1302,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setTime",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETTIME,
         () -> this.statement.setTime(parameterIndex, x),
         parameterIndex,
         x);
@@ -1194,7 +1315,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setTime",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETTIME,
         () -> this.statement.setTime(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -1207,7 +1329,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setTimestamp",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETTIMESTAMP,
         () -> this.statement.setTimestamp(parameterIndex, x),
         parameterIndex,
         x);
@@ -1219,7 +1342,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setTimestamp",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETTIMESTAMP,
         () -> this.statement.setTimestamp(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -1232,7 +1356,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setURL",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETURL,
         () -> this.statement.setURL(parameterIndex, x),
         parameterIndex,
         x);
@@ -1245,7 +1370,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setUnicodeStream",
+        this.boundConnection,
+        JdbcMethod.PREPAREDSTATEMENT_SETUNICODESTREAM,
         () -> this.statement.setUnicodeStream(parameterIndex, x, length),
         parameterIndex,
         x,
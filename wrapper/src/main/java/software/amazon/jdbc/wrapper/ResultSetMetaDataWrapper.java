@@ -20,6 +20,7 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class ResultSetMetaDataWrapper implements ResultSetMetaData {
@@ -41,7 +42,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getColumnCount",
+        JdbcMethod.RESULTSETMETADATA_GETCOLUMNCOUNT,
         () -> this.resultSetMetaData.getColumnCount());
   }
 
@@ -52,7 +53,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isAutoIncrement",
+        JdbcMethod.RESULTSETMETADATA_ISAUTOINCREMENT,
         () -> this.resultSetMetaData.isAutoIncrement(column),
         column);
   }
@@ -64,7 +65,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isCaseSensitive",
+        JdbcMethod.RESULTSETMETADATA_ISCASESENSITIVE,
         () -> this.resultSetMetaData.isCaseSensitive(column),
         column);
   }
@@ -76,7 +77,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isSearchable",
+        JdbcMethod.RESULTSETMETADATA_ISSEARCHABLE,
         () -> this.resultSetMetaData.isSearchable(column),
         column);
   }
@@ -88,7 +89,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isCurrency",
+        JdbcMethod.RESULTSETMETADATA_ISCURRENCY,
         () -> this.resultSetMetaData.isCurrency(column),
         column);
   }
@@ -101,7 +102,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isNullable",
+        JdbcMethod.RESULTSETMETADATA_ISNULLABLE,
         () -> this.resultSetMetaData.isNullable(column),
         column);
   }
@@ -113,7 +114,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isSigned",
+        JdbcMethod.RESULTSETMETADATA_ISSIGNED,
         () -> this.resultSetMetaData.isSigned(column),
         column);
   }
@@ -125,7 +126,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getColumnDisplaySize",
+        JdbcMethod.RESULTSETMETADATA_GETCOLUMNDISPLAYSIZE,
         () -> this.resultSetMetaData.getColumnDisplaySize(column),
         column);
   }
@@ -137,7 +138,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getColumnLabel",
+        JdbcMethod.RESULTSETMETADATA_GETCOLUMNLABEL,
         () -> this.resultSetMetaData.getColumnLabel(column),
         column);
   }
@@ -149,7 +150,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getColumnName",
+        JdbcMethod.RESULTSETMETADATA_GETCOLUMNNAME,
         () -> this.resultSetMetaData.getColumnName(column),
         column);
   }
@@ -161,7 +162,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getSchemaName",
+        JdbcMethod.RESULTSETMETADATA_GETSCHEMANAME,
         () -> this.resultSetMetaData.getSchemaName(column),
         column);
   }
@@ -173,7 +174,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getPrecision",
+        JdbcMethod.RESULTSETMETADATA_GETPRECISION,
         () -> this.resultSetMetaData.getPrecision(column),
         column);
   }
@@ -185,7 +186,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getScale",
+        JdbcMethod.RESULTSETMETADATA_GETSCALE,
         () -> this.resultSetMetaData.getScale(column),
         column);
   }
@@ -197,7 +198,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getTableName",
+        JdbcMethod.RESULTSETMETADATA_GETTABLENAME,
         () -> this.resultSetMetaData.getTableName(column),
         column);
   }
@@ -209,7 +210,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getCatalogName",
+        JdbcMethod.RESULTSETMETADATA_GETCATALOGNAME,
         () -> this.resultSetMetaData.getCatalogName(column),
         column);
   }
@@ -221,7 +222,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getColumnType",
+        JdbcMethod.RESULTSETMETADATA_GETCOLUMNTYPE,
         () -> this.resultSetMetaData.getColumnType(column),
         column);
   }
@@ -233,7 +234,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getColumnTypeName",
+        JdbcMethod.RESULTSETMETADATA_GETCOLUMNTYPENAME,
         () -> this.resultSetMetaData.getColumnTypeName(column),
         column);
   }
@@ -245,7 +246,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isReadOnly",
+        JdbcMethod.RESULTSETMETADATA_ISREADONLY,
         () -> this.resultSetMetaData.isReadOnly(column),
         column);
   }
@@ -257,7 +258,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isWritable",
+        JdbcMethod.RESULTSETMETADATA_ISWRITABLE,
         () -> this.resultSetMetaData.isWritable(column),
         column);
   }
@@ -269,7 +270,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.isDefinitelyWritable",
+        JdbcMethod.RESULTSETMETADATA_ISDEFINITELYWRITABLE,
         () -> this.resultSetMetaData.isDefinitelyWritable(column),
         column);
   }
@@ -281,7 +282,7 @@ public class ResultSetMetaDataWrapper implements ResultSetMetaData {
         SQLException.class,
         this.pluginManager,
         this.resultSetMetaData,
-        "ResultSetMetaData.getColumnClassName",
+        JdbcMethod.RESULTSETMETADATA_GETCOLUMNCLASSNAME,
         () -> this.resultSetMetaData.getColumnClassName(column),
         column);
   }
@@ -23,6 +23,7 @@ import java.net.URL;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
+import java.sql.Connection;
 import java.sql.Date;
 import java.sql.NClob;
 import java.sql.Ref;
@@ -40,17 +41,21 @@ import java.util.Calendar;
 import java.util.Map;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class ResultSetWrapper implements ResultSet {
 
   protected ResultSet resultSet;
   protected ConnectionPluginManager pluginManager;
+  protected Connection boundConnection;
 
   public ResultSetWrapper(
       @NonNull ResultSet resultSet, @NonNull ConnectionPluginManager pluginManager) {
     this.resultSet = resultSet;
     this.pluginManager = pluginManager;
+    // The physical connection is resolved once so that each call doesn't need to query the target driver for it.
+    this.boundConnection = WrapperUtils.getConnectionFromSqlObject(resultSet);
   }
 
   @Override
@@ -60,7 +65,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.absolute",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_ABSOLUTE,
         () -> this.resultSet.absolute(row),
         row);
   }
@@ -71,7 +77,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.afterLast",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_AFTERLAST,
         () -> this.resultSet.afterLast());
   }
 
@@ -81,7 +88,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.beforeFirst",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_BEFOREFIRST,
         () -> this.resultSet.beforeFirst());
   }
 
@@ -91,7 +99,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.cancelRowUpdates",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_CANCELROWUPDATES,
         () -> this.resultSet.cancelRowUpdates());
   }
 
@@ -101,7 +110,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.clearWarnings",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_CLEARWARNINGS,
         () -> this.resultSet.clearWarnings());
   }
 
@@ -111,7 +121,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.close",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_CLOSE,
         () -> this.resultSet.close());
   }
 
@@ -121,18 +132,23 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.deleteRow",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_DELETEROW,
         () -> this.resultSet.deleteRow());
   }
 
   @Override
   public int findColumn(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_FINDCOLUMN)) {
+      return this.resultSet.findColumn(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         int.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.findColumn",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_FINDCOLUMN,
         () -> this.resultSet.findColumn(columnLabel),
         columnLabel);
   }
@@ -144,7 +160,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.first",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_FIRST,
         () -> this.resultSet.first());
   }
 
@@ -155,7 +172,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getArray",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETARRAY,
         () -> this.resultSet.getArray(columnIndex),
         columnIndex);
   }
@@ -167,31 +185,40 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getArray",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETARRAY,
         () -> this.resultSet.getArray(columnLabel),
         columnLabel);
   }
 
   @Override
   public InputStream getAsciiStream(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETASCIISTREAM)) {
+      return this.resultSet.getAsciiStream(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         InputStream.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getAsciiStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETASCIISTREAM,
         () -> this.resultSet.getAsciiStream(columnIndex),
         columnIndex);
   }
 
   @Override
   public InputStream getAsciiStream(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETASCIISTREAM)) {
+      return this.resultSet.getAsciiStream(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         InputStream.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getAsciiStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETASCIISTREAM,
         () -> this.resultSet.getAsciiStream(columnLabel),
         columnLabel);
   }
@@ -199,12 +226,16 @@ public class ResultSetWrapper implements ResultSet {
   @Override
   @Deprecated
   public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETBIGDECIMAL)) {
+      return this.resultSet.getBigDecimal(columnIndex, scale);
+    }
     return WrapperUtils.executeWithPlugins(
         BigDecimal.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBigDecimal",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETBIGDECIMAL,
         () -> this.resultSet.getBigDecimal(columnIndex, scale),
         columnIndex,
         scale);
@@ -213,12 +244,16 @@ public class ResultSetWrapper implements ResultSet {
   @Override
   @Deprecated
   public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETBIGDECIMAL)) {
+      return this.resultSet.getBigDecimal(columnLabel, scale);
+    }
     return WrapperUtils.executeWithPlugins(
         BigDecimal.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBigDecimal",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETBIGDECIMAL,
         () -> this.resultSet.getBigDecimal(columnLabel, scale),
         columnLabel,
         scale);
@@ -226,48 +261,64 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETBIGDECIMAL)) {
+      return this.resultSet.getBigDecimal(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         BigDecimal.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBigDecimal",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETBIGDECIMAL,
         () -> this.resultSet.getBigDecimal(columnIndex),
         columnIndex);
   }
 
   @Override
   public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETBIGDECIMAL)) {
+      return this.resultSet.getBigDecimal(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         BigDecimal.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBigDecimal",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETBIGDECIMAL,
         () -> this.resultSet.getBigDecimal(columnLabel),
         columnLabel);
   }
 
   @Override
   public InputStream getBinaryStream(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETBINARYSTREAM)) {
+      return this.resultSet.getBinaryStream(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         InputStream.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBinaryStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETBINARYSTREAM,
         () -> this.resultSet.getBinaryStream(columnIndex),
         columnIndex);
   }
 
   @Override
   public InputStream getBinaryStream(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETBINARYSTREAM)) {
+      return this.resultSet.getBinaryStream(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         InputStream.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBinaryStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETBINARYSTREAM,
         () -> this.resultSet.getBinaryStream(columnLabel),
         columnLabel);
   }
@@ -279,7 +330,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBlob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETBLOB,
         () -> this.resultSet.getBlob(columnIndex),
         columnIndex);
   }
@@ -291,103 +343,136 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBlob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETBLOB,
         () -> this.resultSet.getBlob(columnLabel),
         columnLabel);
   }
 
   @Override
   public boolean getBoolean(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETBOOLEAN)) {
+      return this.resultSet.getBoolean(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         boolean.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBoolean",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETBOOLEAN,
         () -> this.resultSet.getBoolean(columnIndex),
         columnIndex);
   }
 
   @Override
   public boolean getBoolean(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETBOOLEAN)) {
+      return this.resultSet.getBoolean(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         boolean.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBoolean",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETBOOLEAN,
         () -> this.resultSet.getBoolean(columnLabel),
         columnLabel);
   }
 
   @Override
   public byte getByte(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETBYTE)) {
+      return this.resultSet.getByte(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         byte.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getByte",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETBYTE,
         () -> this.resultSet.getByte(columnIndex),
         columnIndex);
   }
 
   @Override
   public byte getByte(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETBYTE)) {
+      return this.resultSet.getByte(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         byte.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getByte",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETBYTE,
         () -> this.resultSet.getByte(columnLabel),
         columnLabel);
   }
 
   @Override
   public byte[] getBytes(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETBYTES)) {
+      return this.resultSet.getBytes(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         byte[].class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBytes",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETBYTES,
         () -> this.resultSet.getBytes(columnIndex),
         columnIndex);
   }
 
   @Override
   public byte[] getBytes(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETBYTES)) {
+      return this.resultSet.getBytes(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         byte[].class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBytes",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETBYTES,
         () -> this.resultSet.getBytes(columnLabel),
         columnLabel);
   }
 
   @Override
   public Reader getCharacterStream(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETCHARACTERSTREAM)) {
+      return this.resultSet.getCharacterStream(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         Reader.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getCharacterStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETCHARACTERSTREAM,
         () -> this.resultSet.getCharacterStream(columnIndex),
         columnIndex);
   }
 
   @Override
   public Reader getCharacterStream(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETCHARACTERSTREAM)) {
+      return this.resultSet.getCharacterStream(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         Reader.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getCharacterStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETCHARACTERSTREAM,
         () -> this.resultSet.getCharacterStream(columnLabel),
         columnLabel);
   }
@@ -399,7 +484,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETCLOB,
         () -> this.resultSet.getClob(columnIndex),
         columnIndex);
   }
@@ -411,7 +497,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETCLOB,
         () -> this.resultSet.getClob(columnLabel),
         columnLabel);
   }
@@ -424,7 +511,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getConcurrency",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETCONCURRENCY,
         () -> this.resultSet.getConcurrency());
   }
 
@@ -435,42 +523,55 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getCursorName",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETCURSORNAME,
         () -> this.resultSet.getCursorName());
   }
 
   @Override
   public Date getDate(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETDATE)) {
+      return this.resultSet.getDate(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         Date.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getDate",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETDATE,
         () -> this.resultSet.getDate(columnIndex),
         columnIndex);
   }
 
   @Override
   public Date getDate(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETDATE)) {
+      return this.resultSet.getDate(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         Date.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getDate",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETDATE,
         () -> this.resultSet.getDate(columnLabel),
         columnLabel);
   }
 
   @Override
   public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETDATE)) {
+      return this.resultSet.getDate(columnIndex, cal);
+    }
     return WrapperUtils.executeWithPlugins(
         Date.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getDate",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETDATE,
         () -> this.resultSet.getDate(columnIndex, cal),
         columnIndex,
         cal);
@@ -478,12 +579,16 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETDATE)) {
+      return this.resultSet.getDate(columnLabel, cal);
+    }
     return WrapperUtils.executeWithPlugins(
         Date.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getDate",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETDATE,
         () -> this.resultSet.getDate(columnLabel, cal),
         columnLabel,
         cal);
@@ -491,24 +596,32 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public double getDouble(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETDOUBLE)) {
+      return this.resultSet.getDouble(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         double.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getDouble",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETDOUBLE,
         () -> this.resultSet.getDouble(columnIndex),
         columnIndex);
   }
 
   @Override
   public double getDouble(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETDOUBLE)) {
+      return this.resultSet.getDouble(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         double.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getDouble",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETDOUBLE,
         () -> this.resultSet.getDouble(columnLabel),
         columnLabel);
   }
@@ -521,7 +634,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getFetchDirection",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETFETCHDIRECTION,
         () -> this.resultSet.getFetchDirection());
   }
 
@@ -532,30 +646,39 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getFetchSize",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETFETCHSIZE,
         () -> this.resultSet.getFetchSize());
   }
 
   @Override
   public float getFloat(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETFLOAT)) {
+      return this.resultSet.getFloat(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         float.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getFloat",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETFLOAT,
         () -> this.resultSet.getFloat(columnIndex),
         columnIndex);
   }
 
   @Override
   public float getFloat(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETFLOAT)) {
+      return this.resultSet.getFloat(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         float.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getFloat",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETFLOAT,
         () -> this.resultSet.getFloat(columnLabel),
         columnLabel);
   }
@@ -568,54 +691,71 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getHoldability",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETHOLDABILITY,
         () -> this.resultSet.getHoldability());
   }
 
   @Override
   public int getInt(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETINT)) {
+      return this.resultSet.getInt(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         int.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getInt",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETINT,
         () -> this.resultSet.getInt(columnIndex),
         columnIndex);
   }
 
   @Override
   public int getInt(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETINT)) {
+      return this.resultSet.getInt(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         int.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getInt",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETINT,
         () -> this.resultSet.getInt(columnLabel),
         columnLabel);
   }
 
   @Override
   public long getLong(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETLONG)) {
+      return this.resultSet.getLong(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         long.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getLong",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETLONG,
         () -> this.resultSet.getLong(columnIndex),
         columnIndex);
   }
 
   @Override
   public long getLong(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETLONG)) {
+      return this.resultSet.getLong(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         long.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getLong",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETLONG,
         () -> this.resultSet.getLong(columnLabel),
         columnLabel);
   }
@@ -627,30 +767,39 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getMetaData",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETMETADATA,
         () -> this.resultSet.getMetaData());
   }
 
   @Override
   public Reader getNCharacterStream(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETNCHARACTERSTREAM)) {
+      return this.resultSet.getNCharacterStream(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         Reader.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNCharacterStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETNCHARACTERSTREAM,
         () -> this.resultSet.getNCharacterStream(columnIndex),
         columnIndex);
   }
 
   @Override
   public Reader getNCharacterStream(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETNCHARACTERSTREAM)) {
+      return this.resultSet.getNCharacterStream(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         Reader.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNCharacterStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETNCHARACTERSTREAM,
         () -> this.resultSet.getNCharacterStream(columnLabel),
         columnLabel);
   }
@@ -662,7 +811,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETNCLOB,
         () -> this.resultSet.getNClob(columnIndex),
         columnIndex);
   }
@@ -674,31 +824,40 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETNCLOB,
         () -> this.resultSet.getNClob(columnLabel),
         columnLabel);
   }
 
   @Override
   public String getNString(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETNSTRING)) {
+      return this.resultSet.getNString(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         String.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNString",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETNSTRING,
         () -> this.resultSet.getNString(columnIndex),
         columnIndex);
   }
 
   @Override
   public String getNString(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETNSTRING)) {
+      return this.resultSet.getNString(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         String.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNString",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETNSTRING,
         () -> this.resultSet.getNString(columnLabel),
         columnLabel);
   }
@@ -710,7 +869,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETOBJECT,
         () -> this.resultSet.getObject(columnIndex),
         columnIndex);
   }
@@ -722,7 +882,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETOBJECT,
         () -> this.resultSet.getObject(columnLabel),
         columnLabel);
   }
@@ -734,7 +895,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETOBJECT,
         () -> this.resultSet.getObject(columnIndex, map),
         columnIndex,
         map);
@@ -747,7 +909,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETOBJECT,
         () -> this.resultSet.getObject(columnLabel, map),
         columnLabel,
         map);
@@ -760,7 +923,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETOBJECT,
         () -> this.resultSet.getObject(columnIndex, type),
         columnIndex,
         type);
@@ -773,7 +937,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETOBJECT,
         () -> this.resultSet.getObject(columnLabel, type),
         columnLabel,
         type);
@@ -786,7 +951,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getRef",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETREF,
         () -> this.resultSet.getRef(columnIndex),
         columnIndex);
   }
@@ -798,7 +964,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getRef",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETREF,
         () -> this.resultSet.getRef(columnLabel),
         columnLabel);
   }
@@ -810,7 +977,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getRow",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETROW,
         () -> this.resultSet.getRow());
   }
 
@@ -821,7 +989,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getRowId",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETROWID,
         () -> this.resultSet.getRowId(columnIndex),
         columnIndex);
   }
@@ -833,7 +1002,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getRowId",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETROWID,
         () -> this.resultSet.getRowId(columnLabel),
         columnLabel);
   }
@@ -846,7 +1016,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getSQLXML",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETSQLXML,
         () -> this.resultSet.getSQLXML(columnIndex),
         columnIndex);
   }
@@ -859,31 +1030,40 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getSQLXML",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETSQLXML,
         () -> this.resultSet.getSQLXML(columnLabel),
         columnLabel);
   }
 
   @Override
   public short getShort(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETSHORT)) {
+      return this.resultSet.getShort(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         short.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getShort",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETSHORT,
         () -> this.resultSet.getShort(columnIndex),
         columnIndex);
   }
 
   @Override
   public short getShort(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETSHORT)) {
+      return this.resultSet.getShort(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         short.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getShort",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETSHORT,
         () -> this.resultSet.getShort(columnLabel),
         columnLabel);
   }
@@ -895,66 +1075,87 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getStatement",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETSTATEMENT,
         () -> this.resultSet.getStatement());
   }
 
   @Override
   public String getString(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETSTRING)) {
+      return this.resultSet.getString(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         String.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getString",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETSTRING,
         () -> this.resultSet.getString(columnIndex),
         columnIndex);
   }
 
   @Override
   public String getString(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETSTRING)) {
+      return this.resultSet.getString(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         String.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getString",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETSTRING,
         () -> this.resultSet.getString(columnLabel),
         columnLabel);
   }
 
   @Override
   public Time getTime(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETTIME)) {
+      return this.resultSet.getTime(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         Time.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTime",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETTIME,
         () -> this.resultSet.getTime(columnIndex),
         columnIndex);
   }
 
   @Override
   public Time getTime(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETTIME)) {
+      return this.resultSet.getTime(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         Time.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTime",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETTIME,
         () -> this.resultSet.getTime(columnLabel),
         columnLabel);
   }
 
   @Override
   public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETTIME)) {
+      return this.resultSet.getTime(columnIndex, cal);
+    }
     return WrapperUtils.executeWithPlugins(
         Time.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTime",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETTIME,
         () -> this.resultSet.getTime(columnIndex, cal),
         columnIndex,
         cal);
@@ -962,12 +1163,16 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETTIME)) {
+      return this.resultSet.getTime(columnLabel, cal);
+    }
     return WrapperUtils.executeWithPlugins(
         Time.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTime",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETTIME,
         () -> this.resultSet.getTime(columnLabel, cal),
         columnLabel,
         cal);
@@ -975,36 +1180,48 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public Timestamp getTimestamp(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETTIMESTAMP)) {
+      return this.resultSet.getTimestamp(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         Timestamp.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTimestamp",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETTIMESTAMP,
         () -> this.resultSet.getTimestamp(columnIndex),
         columnIndex);
   }
 
   @Override
   public Timestamp getTimestamp(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETTIMESTAMP)) {
+      return this.resultSet.getTimestamp(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         Timestamp.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTimestamp",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETTIMESTAMP,
         () -> this.resultSet.getTimestamp(columnLabel),
         columnLabel);
   }
 
   @Override
   public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETTIMESTAMP)) {
+      return this.resultSet.getTimestamp(columnIndex, cal);
+    }
     return WrapperUtils.executeWithPlugins(
         Timestamp.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTimestamp",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETTIMESTAMP,
         () -> this.resultSet.getTimestamp(columnIndex, cal),
         columnIndex,
         cal);
@@ -1012,12 +1229,16 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETTIMESTAMP)) {
+      return this.resultSet.getTimestamp(columnLabel, cal);
+    }
     return WrapperUtils.executeWithPlugins(
         Timestamp.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getTimestamp",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETTIMESTAMP,
         () -> this.resultSet.getTimestamp(columnLabel, cal),
         columnLabel,
         cal);
@@ -1031,30 +1252,39 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getType",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETTYPE,
         () -> this.resultSet.getType());
   }
 
   @Override
   public URL getURL(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETURL)) {
+      return this.resultSet.getURL(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         URL.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getURL",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETURL,
         () -> this.resultSet.getURL(columnIndex),
         columnIndex);
   }
 
   @Override
   public URL getURL(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETURL)) {
+      return this.resultSet.getURL(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         URL.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getURL",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETURL,
         () -> this.resultSet.getURL(columnLabel),
         columnLabel);
   }
@@ -1062,12 +1292,16 @@ public class ResultSetWrapper implements ResultSet {
   @Override
   @Deprecated
   public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETUNICODESTREAM)) {
+      return this.resultSet.getUnicodeStream(columnIndex);
+    }
     return WrapperUtils.executeWithPlugins(
         InputStream.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getUnicodeStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETUNICODESTREAM,
         () -> this.resultSet.getUnicodeStream(columnIndex),
         columnIndex);
   }
@@ -1075,12 +1309,16 @@ public class ResultSetWrapper implements ResultSet {
   @Override
   @Deprecated
   public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_GETUNICODESTREAM)) {
+      return this.resultSet.getUnicodeStream(columnLabel);
+    }
     return WrapperUtils.executeWithPlugins(
         InputStream.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getUnicodeStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETUNICODESTREAM,
         () -> this.resultSet.getUnicodeStream(columnLabel),
         columnLabel);
   }
@@ -1092,7 +1330,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getWarnings",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_GETWARNINGS,
         () -> this.resultSet.getWarnings());
   }
 
@@ -1102,7 +1341,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.insertRow",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_INSERTROW,
         () -> this.resultSet.insertRow());
   }
 
@@ -1113,7 +1353,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isAfterLast",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_ISAFTERLAST,
         () -> this.resultSet.isAfterLast());
   }
 
@@ -1124,7 +1365,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isBeforeFirst",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_ISBEFOREFIRST,
         () -> this.resultSet.isBeforeFirst());
   }
 
@@ -1135,7 +1377,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isClosed",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_ISCLOSED,
         () -> this.resultSet.isClosed());
   }
 
@@ -1146,7 +1389,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isFirst",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_ISFIRST,
         () -> this.resultSet.isFirst());
   }
 
@@ -1157,7 +1401,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isLast",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_ISLAST,
         () -> this.resultSet.isLast());
   }
 
@@ -1173,7 +1418,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.last",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_LAST,
         () -> this.resultSet.last());
   }
 
@@ -1183,7 +1429,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.moveToCurrentRow",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_MOVETOCURRENTROW,
         () -> this.resultSet.moveToCurrentRow());
   }
 
@@ -1193,18 +1440,23 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.moveToInsertRow",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_MOVETOINSERTROW,
         () -> this.resultSet.moveToInsertRow());
   }
 
   @Override
   public boolean next() throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_NEXT)) {
+      return this.resultSet.next();
+    }
     return WrapperUtils.executeWithPlugins(
         boolean.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.next",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_NEXT,
         () -> this.resultSet.next());
   }
 
@@ -1215,7 +1467,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.previous",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_PREVIOUS,
         () -> this.resultSet.previous());
   }
 
@@ -1225,7 +1478,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.refreshRow",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_REFRESHROW,
         () -> this.resultSet.refreshRow());
   }
 
@@ -1236,7 +1490,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.relative",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_RELATIVE,
         () -> this.resultSet.relative(rows),
         rows);
   }
@@ -1248,7 +1503,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.rowDeleted",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_ROWDELETED,
         () -> this.resultSet.rowDeleted());
   }
 
@@ -1259,7 +1515,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.rowInserted",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_ROWINSERTED,
         () -> this.resultSet.rowInserted());
   }
 
@@ -1270,7 +1527,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.rowUpdated",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_ROWUPDATED,
         () -> this.resultSet.rowUpdated());
   }
 
@@ -1280,7 +1538,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.setFetchDirection",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_SETFETCHDIRECTION,
         () -> this.resultSet.setFetchDirection(direction),
         direction);
   }
@@ -1291,7 +1550,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.setFetchSize",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_SETFETCHSIZE,
         () -> this.resultSet.setFetchSize(rows),
         rows);
   }
@@ -1307,7 +1567,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateArray",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEARRAY,
         () -> this.resultSet.updateArray(columnIndex, x),
         columnIndex,
         x);
@@ -1319,7 +1580,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateArray",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEARRAY,
         () -> this.resultSet.updateArray(columnLabel, x),
         columnLabel,
         x);
@@ -1331,7 +1593,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEASCIISTREAM,
         () -> this.resultSet.updateAsciiStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1344,7 +1607,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEASCIISTREAM,
         () -> this.resultSet.updateAsciiStream(columnLabel, x, length),
         columnLabel,
         x,
@@ -1357,7 +1621,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEASCIISTREAM,
         () -> this.resultSet.updateAsciiStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1371,7 +1636,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEASCIISTREAM,
         () -> this.resultSet.updateAsciiStream(columnLabel, x, length),
         columnLabel,
         x,
@@ -1384,7 +1650,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEASCIISTREAM,
         () -> this.resultSet.updateAsciiStream(columnIndex, x),
         columnIndex,
         x);
@@ -1396,7 +1663,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEASCIISTREAM,
         () -> this.resultSet.updateAsciiStream(columnLabel, x),
         columnLabel,
         x);
@@ -1408,7 +1676,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBigDecimal",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBIGDECIMAL,
         () -> this.resultSet.updateBigDecimal(columnIndex, x),
         columnIndex,
         x);
@@ -1420,7 +1689,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBigDecimal",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBIGDECIMAL,
         () -> this.resultSet.updateBigDecimal(columnLabel, x),
         columnLabel,
         x);
@@ -1432,7 +1702,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBINARYSTREAM,
         () -> this.resultSet.updateBinaryStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1446,7 +1717,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBINARYSTREAM,
         () -> this.resultSet.updateBinaryStream(columnLabel, x, length),
         columnLabel,
         x,
@@ -1459,7 +1731,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBINARYSTREAM,
         () -> this.resultSet.updateBinaryStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1473,7 +1746,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBINARYSTREAM,
         () -> this.resultSet.updateBinaryStream(columnLabel, x, length),
         columnLabel,
         x,
@@ -1486,7 +1760,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBINARYSTREAM,
         () -> this.resultSet.updateBinaryStream(columnIndex, x),
         columnIndex,
         x);
@@ -1498,7 +1773,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBINARYSTREAM,
         () -> this.resultSet.updateBinaryStream(columnLabel, x),
         columnLabel,
         x);
@@ -1510,7 +1786,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBLOB,
         () -> this.resultSet.updateBlob(columnIndex, x),
         columnIndex,
         x);
@@ -1522,7 +1799,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBLOB,
         () -> this.resultSet.updateBlob(columnLabel, x),
         columnLabel,
         x);
@@ -1535,7 +1813,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBLOB,
         () -> this.resultSet.updateBlob(columnIndex, inputStream, length),
         columnIndex,
         inputStream,
@@ -1549,7 +1828,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBLOB,
         () -> this.resultSet.updateBlob(columnLabel, inputStream, length),
         columnLabel,
         inputStream,
@@ -1562,7 +1842,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBLOB,
         () -> this.resultSet.updateBlob(columnIndex, inputStream),
         columnIndex,
         inputStream);
@@ -1574,7 +1855,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBLOB,
         () -> this.resultSet.updateBlob(columnLabel, inputStream),
         columnLabel,
         inputStream);
@@ -1586,7 +1868,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBoolean",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBOOLEAN,
         () -> this.resultSet.updateBoolean(columnIndex, x),
         columnIndex,
         x);
@@ -1598,7 +1881,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBoolean",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBOOLEAN,
         () -> this.resultSet.updateBoolean(columnLabel, x),
         columnLabel,
         x);
@@ -1610,7 +1894,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateByte",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBYTE,
         () -> this.resultSet.updateByte(columnIndex, x),
         columnIndex,
         x);
@@ -1622,7 +1907,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateByte",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBYTE,
         () -> this.resultSet.updateByte(columnLabel, x),
         columnLabel,
         x);
@@ -1634,7 +1920,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBytes",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBYTES,
         () -> this.resultSet.updateBytes(columnIndex, x),
         columnIndex,
         x);
@@ -1646,7 +1933,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBytes",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEBYTES,
         () -> this.resultSet.updateBytes(columnLabel, x),
         columnLabel,
         x);
@@ -1658,7 +1946,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATECHARACTERSTREAM,
         () -> this.resultSet.updateCharacterStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1672,7 +1961,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATECHARACTERSTREAM,
         () -> this.resultSet.updateCharacterStream(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -1685,7 +1975,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATECHARACTERSTREAM,
         () -> this.resultSet.updateCharacterStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1699,7 +1990,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATECHARACTERSTREAM,
         () -> this.resultSet.updateCharacterStream(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -1712,7 +2004,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATECHARACTERSTREAM,
         () -> this.resultSet.updateCharacterStream(columnIndex, x),
         columnIndex,
         x);
@@ -1724,7 +2017,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATECHARACTERSTREAM,
         () -> this.resultSet.updateCharacterStream(columnLabel, reader),
         columnLabel,
         reader);
@@ -1736,7 +2030,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATECLOB,
         () -> this.resultSet.updateClob(columnIndex, x),
         columnIndex,
         x);
@@ -1748,7 +2043,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATECLOB,
         () -> this.resultSet.updateClob(columnLabel, x),
         columnLabel,
         x);
@@ -1760,7 +2056,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATECLOB,
         () -> this.resultSet.updateClob(columnIndex, reader, length),
         columnIndex,
         reader,
@@ -1773,7 +2070,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATECLOB,
         () -> this.resultSet.updateClob(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -1786,7 +2084,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATECLOB,
         () -> this.resultSet.updateClob(columnIndex, reader),
         columnIndex,
         reader);
@@ -1798,7 +2097,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATECLOB,
         () -> this.resultSet.updateClob(columnLabel, reader),
         columnLabel,
         reader);
@@ -1810,7 +2110,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateDate",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEDATE,
         () -> this.resultSet.updateDate(columnIndex, x),
         columnIndex,
         x);
@@ -1822,7 +2123,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateDate",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEDATE,
         () -> this.resultSet.updateDate(columnLabel, x),
         columnLabel,
         x);
@@ -1834,7 +2136,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateDouble",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEDOUBLE,
         () -> this.resultSet.updateDouble(columnIndex, x),
         columnIndex,
         x);
@@ -1846,7 +2149,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateDouble",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEDOUBLE,
         () -> this.resultSet.updateDouble(columnLabel, x),
         columnLabel,
         x);
@@ -1858,7 +2162,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateFloat",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEFLOAT,
         () -> this.resultSet.updateFloat(columnIndex, x),
         columnIndex,
         x);
@@ -1870,7 +2175,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateFloat",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEFLOAT,
         () -> this.resultSet.updateFloat(columnLabel, x),
         columnLabel,
         x);
@@ -1882,7 +2188,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateInt",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEINT,
         () -> this.resultSet.updateInt(columnIndex, x),
         columnIndex,
         x);
@@ -1894,7 +2201,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateInt",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEINT,
         () -> this.resultSet.updateInt(columnLabel, x),
         columnLabel,
         x);
@@ -1906,7 +2214,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateLong",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATELONG,
         () -> this.resultSet.updateLong(columnIndex, x),
         columnIndex,
         x);
@@ -1918,7 +2227,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateLong",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATELONG,
         () -> this.resultSet.updateLong(columnLabel, x),
         columnLabel,
         x);
@@ -1930,7 +2240,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNCharacterStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATENCHARACTERSTREAM,
         () -> this.resultSet.updateNCharacterStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1944,7 +2255,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNCharacterStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATENCHARACTERSTREAM,
         () -> this.resultSet.updateNCharacterStream(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -1957,7 +2269,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNCharacterStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATENCHARACTERSTREAM,
         () -> this.resultSet.updateNCharacterStream(columnIndex, x),
         columnIndex,
         x);
@@ -1969,7 +2282,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNCharacterStream",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATENCHARACTERSTREAM,
         () -> this.resultSet.updateNCharacterStream(columnLabel, reader),
         columnLabel,
         reader);
@@ -1982,7 +2296,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATENCLOB,
         () -> this.resultSet.updateNClob(columnIndex, nClob),
         columnIndex,
         nClob);
@@ -1995,7 +2310,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATENCLOB,
         () -> this.resultSet.updateNClob(columnLabel, nClob),
         columnLabel,
         nClob);
@@ -2007,7 +2323,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATENCLOB,
         () -> this.resultSet.updateNClob(columnIndex, reader, length),
         columnIndex,
         reader,
@@ -2020,7 +2337,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATENCLOB,
         () -> this.resultSet.updateNClob(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -2033,7 +2351,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATENCLOB,
         () -> this.resultSet.updateNClob(columnIndex, reader),
         columnIndex,
         reader);
@@ -2045,7 +2364,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATENCLOB,
         () -> this.resultSet.updateNClob(columnLabel, reader),
         columnLabel,
         reader);
@@ -2058,7 +2378,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNString",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATENSTRING,
         () -> this.resultSet.updateNString(columnIndex, nString),
         columnIndex,
         nString);
@@ -2071,7 +2392,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNString",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATENSTRING,
         () -> this.resultSet.updateNString(columnLabel, nString),
         columnLabel,
         nString);
@@ -2083,7 +2405,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNull",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATENULL,
         () -> this.resultSet.updateNull(columnIndex),
         columnIndex);
   }
@@ -2094,7 +2417,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNull",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATENULL,
         () -> this.resultSet.updateNull(columnLabel),
         columnLabel);
   }
@@ -2105,7 +2429,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnIndex, x, scaleOrLength),
         columnIndex,
         x,
@@ -2118,7 +2443,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnIndex, x),
         columnIndex,
         x);
@@ -2130,7 +2456,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnLabel, x, scaleOrLength),
         columnLabel,
         x,
@@ -2143,7 +2470,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnLabel, x),
         columnLabel,
         x);
@@ -2156,7 +2484,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnIndex, x, targetSqlType, scaleOrLength),
         columnIndex,
         x,
@@ -2171,7 +2500,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnLabel, x, targetSqlType, scaleOrLength),
         columnLabel,
         x,
@@ -2185,7 +2515,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnIndex, x, targetSqlType),
         columnIndex,
         x,
@@ -2199,7 +2530,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnLabel, x, targetSqlType),
         columnLabel,
         x,
@@ -2212,7 +2544,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRef",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEREF,
         () -> this.resultSet.updateRef(columnIndex, x),
         columnIndex,
         x);
@@ -2224,7 +2557,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRef",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEREF,
         () -> this.resultSet.updateRef(columnLabel, x),
         columnLabel,
         x);
@@ -2236,7 +2570,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRow",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEROW,
         () -> this.resultSet.updateRow());
   }
 
@@ -2246,7 +2581,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRowId",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEROWID,
         () -> this.resultSet.updateRowId(columnIndex, x),
         columnIndex,
         x);
@@ -2258,7 +2594,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRowId",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATEROWID,
         () -> this.resultSet.updateRowId(columnLabel, x),
         columnLabel,
         x);
@@ -2270,7 +2607,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateSQLXML",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATESQLXML,
         () -> this.resultSet.updateSQLXML(columnIndex, xmlObject),
         columnIndex,
         xmlObject);
@@ -2282,7 +2620,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateSQLXML",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATESQLXML,
         () -> this.resultSet.updateSQLXML(columnLabel, xmlObject),
         columnLabel,
         xmlObject);
@@ -2294,7 +2633,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateShort",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATESHORT,
         () -> this.resultSet.updateShort(columnIndex, x),
         columnIndex,
         x);
@@ -2306,7 +2646,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateShort",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATESHORT,
         () -> this.resultSet.updateShort(columnLabel, x),
         columnLabel,
         x);
@@ -2318,7 +2659,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateString",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATESTRING,
         () -> this.resultSet.updateString(columnIndex, x),
         columnIndex,
         x);
@@ -2330,7 +2672,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateString",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATESTRING,
         () -> this.resultSet.updateString(columnLabel, x),
         columnLabel,
         x);
@@ -2342,7 +2685,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateTime",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATETIME,
         () -> this.resultSet.updateTime(columnIndex, x),
         columnIndex,
         x);
@@ -2354,7 +2698,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateTime",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATETIME,
         () -> this.resultSet.updateTime(columnLabel, x),
         columnLabel,
         x);
@@ -2366,7 +2711,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateTimestamp",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATETIMESTAMP,
         () -> this.resultSet.updateTimestamp(columnIndex, x),
         columnIndex,
         x);
@@ -2378,7 +2724,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateTimestamp",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_UPDATETIMESTAMP,
         () -> this.resultSet.updateTimestamp(columnLabel, x),
         columnLabel,
         x);
@@ -2386,12 +2733,16 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public boolean wasNull() throws SQLException {
+    if (this.pluginManager.canBypassPlugins(JdbcMethod.RESULTSET_WASNULL)) {
+      return this.resultSet.wasNull();
+    }
     return WrapperUtils.executeWithPlugins(
         boolean.class,
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.wasNull",
+        this.boundConnection,
+        JdbcMethod.RESULTSET_WASNULL,
         () -> this.resultSet.wasNull());
   }
 
@@ -22,6 +22,7 @@ import java.sql.SQLInput;
 import java.sql.SQLOutput;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class SQLDataWrapper implements SQLData {
@@ -41,7 +42,7 @@ public class SQLDataWrapper implements SQLData {
         SQLException.class,
         this.pluginManager,
         this.sqlData,
-        "SQLData.getSQLTypeName",
+        JdbcMethod.SQLDATA_GETSQLTYPENAME,
         () -> this.sqlData.getSQLTypeName());
   }
 
@@ -51,7 +52,7 @@ public class SQLDataWrapper implements SQLData {
         SQLException.class,
         this.pluginManager,
         this.sqlData,
-        "SQLData.readSQL",
+        JdbcMethod.SQLDATA_READSQL,
         () -> this.sqlData.readSQL(stream, typeName),
         stream,
         typeName);
@@ -63,7 +64,7 @@ public class SQLDataWrapper implements SQLData {
         SQLException.class,
         this.pluginManager,
         this.sqlData,
-        "SQLData.writeSQL",
+        JdbcMethod.SQLDATA_WRITESQL,
         () -> this.sqlData.writeSQL(stream),
         stream);
   }
@@ -37,6 +37,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class SQLOutputWrapper implements SQLOutput {
@@ -56,7 +57,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeString",
+        JdbcMethod.SQLOUTPUT_WRITESTRING,
         () -> this.sqlOutput.writeString(x),
         x);
   }
@@ -67,7 +68,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeBoolean",
+        JdbcMethod.SQLOUTPUT_WRITEBOOLEAN,
         () -> this.sqlOutput.writeBoolean(x),
         x);
   }
@@ -78,7 +79,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeByte",
+        JdbcMethod.SQLOUTPUT_WRITEBYTE,
         () -> this.sqlOutput.writeByte(x),
         x);
   }
@@ -89,7 +90,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeShort",
+        JdbcMethod.SQLOUTPUT_WRITESHORT,
         () -> this.sqlOutput.writeShort(x),
         x);
   }
@@ -100,7 +101,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeInt",
+        JdbcMethod.SQLOUTPUT_WRITEINT,
         () -> this.sqlOutput.writeInt(x),
         x);
   }
@@ -111,7 +112,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeLong",
+        JdbcMethod.SQLOUTPUT_WRITELONG,
         () -> this.sqlOutput.writeLong(x),
         x);
   }
@@ -122,7 +123,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeFloat",
+        JdbcMethod.SQLOUTPUT_WRITEFLOAT,
         () -> this.sqlOutput.writeFloat(x),
         x);
   }
@@ -133,7 +134,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeDouble",
+        JdbcMethod.SQLOUTPUT_WRITEDOUBLE,
         () -> this.sqlOutput.writeDouble(x),
         x);
   }
@@ -144,7 +145,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeBigDecimal",
+        JdbcMethod.SQLOUTPUT_WRITEBIGDECIMAL,
         () -> this.sqlOutput.writeBigDecimal(x),
         x);
   }
@@ -155,7 +156,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeBytes",
+        JdbcMethod.SQLOUTPUT_WRITEBYTES,
         () -> this.sqlOutput.writeBytes(x),
         x);
   }
@@ -166,7 +167,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeDate",
+        JdbcMethod.SQLOUTPUT_WRITEDATE,
         () -> this.sqlOutput.writeDate(x),
         x);
   }
@@ -177,7 +178,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeTime",
+        JdbcMethod.SQLOUTPUT_WRITETIME,
         () -> this.sqlOutput.writeTime(x),
         x);
   }
@@ -188,7 +189,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeTimestamp",
+        JdbcMethod.SQLOUTPUT_WRITETIMESTAMP,
         () -> this.sqlOutput.writeTimestamp(x),
         x);
   }
@@ -199,7 +200,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeCharacterStream",
+        JdbcMethod.SQLOUTPUT_WRITECHARACTERSTREAM,
         () -> this.sqlOutput.writeCharacterStream(x),
         x);
   }
@@ -210,7 +211,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeAsciiStream",
+        JdbcMethod.SQLOUTPUT_WRITEASCIISTREAM,
         () -> this.sqlOutput.writeAsciiStream(x),
         x);
   }
@@ -221,7 +222,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeBinaryStream",
+        JdbcMethod.SQLOUTPUT_WRITEBINARYSTREAM,
         () -> this.sqlOutput.writeBinaryStream(x),
         x);
   }
@@ -232,7 +233,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeObject",
+        JdbcMethod.SQLOUTPUT_WRITEOBJECT,
         () -> this.sqlOutput.writeObject(x),
         x);
   }
@@ -243,7 +244,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeObject",
+        JdbcMethod.SQLOUTPUT_WRITEOBJECT,
         () -> this.sqlOutput.writeObject(x, targetSqlType),
         x,
         targetSqlType);
@@ -255,7 +256,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeRef",
+        JdbcMethod.SQLOUTPUT_WRITEREF,
         () -> this.sqlOutput.writeRef(x),
         x);
   }
@@ -266,7 +267,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeBlob",
+        JdbcMethod.SQLOUTPUT_WRITEBLOB,
         () -> this.sqlOutput.writeBlob(x),
         x);
   }
@@ -277,7 +278,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeClob",
+        JdbcMethod.SQLOUTPUT_WRITECLOB,
         () -> this.sqlOutput.writeClob(x),
         x);
   }
@@ -288,7 +289,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeStruct",
+        JdbcMethod.SQLOUTPUT_WRITESTRUCT,
         () -> this.sqlOutput.writeStruct(x),
         x);
   }
@@ -299,7 +300,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeArray",
+        JdbcMethod.SQLOUTPUT_WRITEARRAY,
         () -> this.sqlOutput.writeArray(x),
         x);
   }
@@ -310,7 +311,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeURL",
+        JdbcMethod.SQLOUTPUT_WRITEURL,
         () -> this.sqlOutput.writeURL(x),
         x);
   }
@@ -321,7 +322,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeNString",
+        JdbcMethod.SQLOUTPUT_WRITENSTRING,
         () -> this.sqlOutput.writeNString(x),
         x);
   }
@@ -332,7 +333,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeNClob",
+        JdbcMethod.SQLOUTPUT_WRITENCLOB,
         () -> this.sqlOutput.writeNClob(x),
         x);
   }
@@ -343,7 +344,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeRowId",
+        JdbcMethod.SQLOUTPUT_WRITEROWID,
         () -> this.sqlOutput.writeRowId(x),
         x);
   }
@@ -354,7 +355,7 @@ public class SQLOutputWrapper implements SQLOutput {
         SQLException.class,
         this.pluginManager,
         this.sqlOutput,
-        "SQLOutput.writeSQLXML",
+        JdbcMethod.SQLOUTPUT_WRITESQLXML,
         () -> this.sqlOutput.writeSQLXML(x),
         x);
   }
@@ -23,17 +23,21 @@ import java.sql.SQLWarning;
 import java.sql.Statement;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class StatementWrapper implements Statement {
 
   protected Statement statement;
   protected ConnectionPluginManager pluginManager;
+  protected Connection boundConnection;
 
   public StatementWrapper(
       @NonNull Statement statement, @NonNull ConnectionPluginManager pluginManager) {
     this.statement = statement;
     this.pluginManager = pluginManager;
+    // The physical connection is resolved once so that each call doesn't need to query the target driver for it.
+    this.boundConnection = WrapperUtils.getConnectionFromSqlObject(statement);
   }
 
   @Override
@@ -43,7 +47,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeQuery",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_EXECUTEQUERY,
         () -> this.statement.executeQuery(sql),
         sql);
   }
@@ -55,7 +60,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeUpdate",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql),
         sql);
   }
@@ -67,7 +73,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeUpdate",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -80,7 +87,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeUpdate",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -93,7 +101,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeUpdate",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, columnNames),
         sql,
         columnNames);
@@ -105,7 +114,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.close",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_CLOSE,
         () -> this.statement.close());
   }
 
@@ -116,7 +126,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getMaxFieldSize",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETMAXFIELDSIZE,
         () -> this.statement.getMaxFieldSize());
   }
 
@@ -126,7 +137,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setMaxFieldSize",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_SETMAXFIELDSIZE,
         () -> this.statement.setMaxFieldSize(max),
         max);
   }
@@ -138,7 +150,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getMaxRows",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETMAXROWS,
         () -> this.statement.getMaxRows());
   }
 
@@ -148,7 +161,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setMaxRows",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_SETMAXROWS,
         () -> this.statement.setMaxRows(max),
         max);
   }
@@ -159,7 +173,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setEscapeProcessing",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_SETESCAPEPROCESSING,
         () -> this.statement.setEscapeProcessing(enable),
         enable);
   }
@@ -171,7 +186,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getQueryTimeout",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETQUERYTIMEOUT,
         () -> this.statement.getQueryTimeout());
   }
 
@@ -181,7 +197,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setQueryTimeout",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_SETQUERYTIMEOUT,
         () -> this.statement.setQueryTimeout(seconds),
         seconds);
   }
@@ -192,7 +209,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.cancel",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_CANCEL,
         () -> this.statement.cancel());
   }
 
@@ -203,7 +221,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getWarnings",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETWARNINGS,
         () -> this.statement.getWarnings());
   }
 
@@ -213,7 +232,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.clearWarnings",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_CLEARWARNINGS,
         () -> this.statement.clearWarnings());
   }
 
@@ -223,7 +243,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setCursorName",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_SETCURSORNAME,
         () -> this.statement.setCursorName(name),
         name);
   }
@@ -235,7 +256,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.execute",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_EXECUTE,
         () -> this.statement.execute(sql),
         sql);
   }
@@ -247,7 +269,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.execute",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -260,7 +283,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.execute",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -273,7 +297,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.execute",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnNames),
         sql,
         columnNames);
@@ -286,7 +311,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getResultSet",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETRESULTSET,
         () -> this.statement.getResultSet());
   }
 
@@ -297,7 +323,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getUpdateCount",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETUPDATECOUNT,
         () -> this.statement.getUpdateCount());
   }
 
@@ -308,7 +335,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getMoreResults",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETMORERESULTS,
         () -> this.statement.getMoreResults());
   }
 
@@ -319,7 +347,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getMoreResults",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETMORERESULTS,
         () -> this.statement.getMoreResults(current),
         current);
   }
@@ -332,7 +361,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getFetchDirection",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETFETCHDIRECTION,
         () -> this.statement.getFetchDirection());
   }
 
@@ -342,7 +372,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setFetchDirection",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_SETFETCHDIRECTION,
         () -> this.statement.setFetchDirection(direction),
         direction);
   }
@@ -354,7 +385,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getFetchSize",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETFETCHSIZE,
         () -> this.statement.getFetchSize());
   }
 
@@ -364,7 +396,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setFetchSize",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_SETFETCHSIZE,
         () -> this.statement.setFetchSize(rows),
         rows);
   }
@@ -377,7 +410,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getResultSetConcurrency",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETRESULTSETCONCURRENCY,
         () -> this.statement.getResultSetConcurrency());
   }
 
@@ -389,7 +423,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getResultSetType",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETRESULTSETTYPE,
         () -> this.statement.getResultSetType());
   }
 
@@ -399,7 +434,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.addBatch",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_ADDBATCH,
         () -> this.statement.addBatch(sql),
         sql);
   }
@@ -410,7 +446,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.clearBatch",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_CLEARBATCH,
         () -> this.statement.clearBatch());
   }
 
@@ -421,7 +458,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeBatch",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_EXECUTEBATCH,
         () -> this.statement.executeBatch());
   }
 
@@ -432,7 +470,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getConnection",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETCONNECTION,
         () -> this.pluginManager.getConnectionWrapper());
   }
 
@@ -443,7 +482,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getGeneratedKeys",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETGENERATEDKEYS,
         () -> this.statement.getGeneratedKeys());
   }
 
@@ -454,7 +494,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getResultSetHoldability",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_GETRESULTSETHOLDABILITY,
         () -> this.statement.getResultSetHoldability());
   }
 
@@ -465,7 +506,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.isClosed",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_ISCLOSED,
         () -> this.statement.isClosed());
   }
 
@@ -477,7 +519,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.isPoolable",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_ISPOOLABLE,
         () -> this.statement.isPoolable());
   }
 
@@ -488,7 +531,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setPoolable",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_SETPOOLABLE,
         () -> this.statement.setPoolable(poolable),
         poolable);
   }
@@ -499,7 +543,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.closeOnCompletion",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_CLOSEONCOMPLETION,
         () -> this.statement.closeOnCompletion());
   }
 
@@ -510,7 +555,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.isCloseOnCompletion",
+        this.boundConnection,
+        JdbcMethod.STATEMENT_ISCLOSEONCOMPLETION,
         () -> this.statement.isCloseOnCompletion());
   }
 
@@ -18,6 +18,8 @@ package software.amazon.jdbc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -134,4 +136,31 @@ public class ConnectionPluginChainBuilderTests {
     assertTrue(result.get(5) instanceof ConnectTimeConnectionPlugin);
     assertTrue(result.get(6) instanceof DefaultConnectionPlugin);
   }
+
+  @Test
+  public void testPluginChainTemplateIsShared() throws SQLException {
+    Properties props = new Properties();
+    props.put(PropertyDefinition.PLUGINS.name, "iam,efm2");
+    Properties otherProps = new Properties();
+    otherProps.put(PropertyDefinition.PLUGINS.name, "iam,efm2");
+    otherProps.put(PropertyDefinition.AUTO_SORT_PLUGIN_ORDER.name, "false");
+
+    PluginChainTemplate template = new ConnectionPluginChainBuilder().getPluginChainTemplate(props, null);
+
+    assertSame(template, new ConnectionPluginChainBuilder().getPluginChainTemplate(props, null));
+    assertNotSame(template, new ConnectionPluginChainBuilder().getPluginChainTemplate(otherProps, null));
+
+    List<ConnectionPlugin> result = template.createPlugins(
+        mockPluginService,
+        mockConnectionProvider,
+        null,
+        mockPluginManagerService,
+        props);
+
+    assertEquals(3, result.size());
+    assertTrue(result.get(0) instanceof HostMonitoringConnectionPlugin);
+    assertTrue(result.get(1) instanceof IamAuthConnectionPlugin);
+    assertTrue(result.get(2) instanceof DefaultConnectionPlugin);
+    assertTrue(template.hasSameSubscriptions(result));
+  }
 }
@@ -18,11 +18,13 @@ package software.amazon.jdbc;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -31,6 +33,7 @@ import static org.mockito.Mockito.when;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Properties;
@@ -427,6 +430,82 @@ public class ConnectionPluginManagerTests {
     assertEquals("TestPluginOne:after", calls.get(6));
   }
 
+  @Test
+  public void testExecuteCachedJdbcMethod() throws Exception {
+
+    final ArrayList<String> calls = new ArrayList<>();
+
+    final ArrayList<ConnectionPlugin> testPlugins = new ArrayList<>();
+    testPlugins.add(new TestPluginOne(calls));
+    testPlugins.add(new TestPluginTwo(calls));
+    testPlugins.add(new TestPluginThree(calls));
+
+    final Properties testProperties = new Properties();
+
+    final Object[] testArgs = new Object[] {10, "arg2", 3.33};
+
+    final ConnectionPluginManager target = Mockito.spy(
+        new ConnectionPluginManager(mockConnectionProvider,
+            null, testProperties, testPlugins, mockConnectionWrapper, mockTelemetryFactory));
+
+    for (int i = 0; i < 2; i++) {
+      calls.clear();
+
+      final Object result =
+          target.execute(
+              String.class,
+              Exception.class,
+              Connection.class,
+              JdbcMethod.STATEMENT_EXECUTE,
+              () -> {
+                calls.add("targetCall");
+                return "resulTestValue";
+              },
+              testArgs);
+
+      assertEquals("resulTestValue", result);
+
+      // Only TestPluginOne is subscribed to Statement.execute.
+      assertEquals(3, calls.size());
+      assertEquals("TestPluginOne:before", calls.get(0));
+      assertEquals("targetCall", calls.get(1));
+      assertEquals("TestPluginOne:after", calls.get(2));
+    }
+
+    // The plugin chain has been built just once and reused for the second call.
+    verify(target, times(1)).makePluginChain(eq("Statement.execute"));
+  }
+
+  @Test
+  public void testCanBypassPlugins() {
+    final ArrayList<String> calls = new ArrayList<>();
+    final DefaultConnectionPlugin defaultPlugin = new DefaultConnectionPlugin(
+        mockPluginService, mockConnectionProvider, null, mockPluginManagerService);
+
+    final ArrayList<ConnectionPlugin> testPlugins = new ArrayList<>();
+    testPlugins.add(new TestPluginTwo(calls));
+    testPlugins.add(defaultPlugin);
+
+    final Properties testProperties = new Properties();
+    testProperties.setProperty(PropertyDefinition.ENABLE_RESULT_SET_FAST_PATH.name, "true");
+
+    final ConnectionPluginManager target = new ConnectionPluginManager(mockConnectionProvider,
+        null, testProperties, testPlugins, mockConnectionWrapper, mockTelemetryFactory);
+    assertTrue(target.canBypassPlugins(JdbcMethod.RESULTSET_GETINT));
+
+    final ArrayList<ConnectionPlugin> testPluginsSubscribedToAll = new ArrayList<>();
+    testPluginsSubscribedToAll.add(new TestPluginOne(calls));
+    testPluginsSubscribedToAll.add(defaultPlugin);
+
+    final ConnectionPluginManager targetSubscribedToAll = new ConnectionPluginManager(mockConnectionProvider,
+        null, testProperties, testPluginsSubscribedToAll, mockConnectionWrapper, mockTelemetryFactory);
+    assertFalse(targetSubscribedToAll.canBypassPlugins(JdbcMethod.RESULTSET_GETINT));
+
+    final ConnectionPluginManager targetFastPathDisabled = new ConnectionPluginManager(mockConnectionProvider,
+        null, new Properties(), testPlugins, mockConnectionWrapper, mockTelemetryFactory);
+    assertFalse(targetFastPathDisabled.canBypassPlugins(JdbcMethod.RESULTSET_GETINT));
+  }
+
   @Test
   public void testExecuteAgainstOldConnection() throws Exception {
     final ArrayList<String> calls = new ArrayList<>();
@@ -473,6 +552,75 @@ public class ConnectionPluginManagerTests {
             null));
   }
 
+  @Test
+  public void testExecuteAgainstOldBoundConnection() throws Exception {
+    final ArrayList<String> calls = new ArrayList<>();
+
+    final ArrayList<ConnectionPlugin> testPlugins = new ArrayList<>();
+    testPlugins.add(new TestPluginOne(calls));
+
+    final Properties testProperties = new Properties();
+
+    final Connection mockOldConnection = mock(Connection.class);
+    final Connection mockCurrentConnection = mock(Connection.class);
+    final Statement mockStatement = mock(Statement.class);
+
+    when(mockPluginService.getCurrentConnection()).thenReturn(mockCurrentConnection);
+
+    final ConnectionPluginManager target =
+        new ConnectionPluginManager(mockConnectionProvider,
+            null, testProperties, testPlugins, mockConnectionWrapper,
+            mockPluginService, mockTelemetryFactory);
+
+    assertThrows(SQLException.class,
+        () -> target.execute(String.class, SQLException.class, mockStatement, mockOldConnection,
+            JdbcMethod.STATEMENT_EXECUTE, () -> "result", null));
+    assertDoesNotThrow(
+        () -> target.execute(Void.class, SQLException.class, mockStatement, mockOldConnection,
+            JdbcMethod.STATEMENT_CLOSE, mockSqlFunction, null));
+    assertEquals("result",
+        target.execute(String.class, SQLException.class, mockStatement, mockCurrentConnection,
+            JdbcMethod.STATEMENT_EXECUTE, () -> "result", null));
+
+    // The bound connection is provided by the caller, so the target statement is never asked for it.
+    verify(mockStatement, times(0)).getConnection();
+  }
+
+  @Test
+  public void testExecuteAgainstClosedObjectOfOldBoundConnection() throws Exception {
+    final ArrayList<String> calls = new ArrayList<>();
+
+    final ArrayList<ConnectionPlugin> testPlugins = new ArrayList<>();
+    testPlugins.add(new TestPluginOne(calls));
+
+    final Properties testProperties = new Properties();
+
+    final Connection mockOldConnection = mock(Connection.class);
+    final Connection mockCurrentConnection = mock(Connection.class);
+    final Statement mockStatement = mock(Statement.class);
+    final ResultSet mockResultSet = mock(ResultSet.class);
+
+    when(mockPluginService.getCurrentConnection()).thenReturn(mockCurrentConnection);
+    when(mockStatement.isClosed()).thenReturn(true);
+    when(mockResultSet.getStatement()).thenReturn(mockStatement);
+
+    final ConnectionPluginManager target =
+        new ConnectionPluginManager(mockConnectionProvider,
+            null, testProperties, testPlugins, mockConnectionWrapper,
+            mockPluginService, mockTelemetryFactory);
+
+    // Objects closed after a failover can still be queried, as before they were bound at creation.
+    assertEquals(true,
+        target.execute(Boolean.class, SQLException.class, mockStatement, mockOldConnection,
+            JdbcMethod.STATEMENT_ISCLOSED, () -> true, null));
+    assertDoesNotThrow(
+        () -> target.execute(SQLWarning.class, SQLException.class, mockStatement, mockOldConnection,
+            JdbcMethod.STATEMENT_GETWARNINGS, () -> null, null));
+    assertEquals(true,
+        target.execute(Boolean.class, SQLException.class, mockResultSet, mockOldConnection,
+            JdbcMethod.RESULTSET_ISCLOSED, () -> true, null));
+  }
+
   @Test
   public void testDefaultPlugins() throws SQLException {
     final Properties testProperties = new Properties();
@@ -640,4 +788,33 @@ public class ConnectionPluginManagerTests {
     assertTrue(dbResourceReleased.get());
     assertTrue(acquireDbResourceLockSuccessful.get());
   }
+
+  @Test
+  public void testLockDeliversPendingAvailabilityChanges() {
+    final PluginServiceImpl mockPluginServiceImpl = mock(PluginServiceImpl.class);
+    final ConnectionPluginManager target =
+        new ConnectionPluginManager(mockConnectionProvider,
+            null, new Properties(), new ArrayList<>(), mockConnectionWrapper,
+            mockPluginServiceImpl, mockTelemetryFactory);
+
+    target.lock();
+    try {
+      verify(mockPluginServiceImpl, times(1)).notifyPendingAvailabilityChanges();
+    } finally {
+      target.unlock();
+    }
+  }
+
+  @Test
+  public void testLockReleasedWhenPendingAvailabilityChangesFail() {
+    final PluginServiceImpl mockPluginServiceImpl = mock(PluginServiceImpl.class);
+    doThrow(new IllegalStateException()).when(mockPluginServiceImpl).notifyPendingAvailabilityChanges();
+    final ConnectionPluginManager target =
+        new ConnectionPluginManager(mockConnectionProvider,
+            null, new Properties(), new ArrayList<>(), mockConnectionWrapper,
+            mockPluginServiceImpl, mockTelemetryFactory);
+
+    assertThrows(IllegalStateException.class, target::lock);
+    assertFalse(target.isHeldByCurrentThread());
+  }
 }
@@ -92,6 +92,7 @@ public class PluginServiceImplTests {
   @BeforeEach
   void setUp() throws SQLException {
     closeable = MockitoAnnotations.openMocks(this);
+    when(pluginManager.isHeldByCurrentThread()).thenReturn(true);
     when(oldConnection.isClosed()).thenReturn(false);
     when(newConnection.createStatement()).thenReturn(statement);
     when(statement.executeQuery(any())).thenReturn(resultSet);
@@ -705,6 +706,120 @@ public class PluginServiceImplTests {
     assertTrue(hostBChanges.contains(NodeChangeOptions.WENT_UP));
   }
 
+  @Test
+  public void testNodeAvailabilityChanged_Coalesced() throws SQLException {
+    doNothing().when(pluginManager).notifyNodeListChanged(argumentChangesMap.capture());
+
+    final HostSpec hostA = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host("hostA").port(HostSpec.NO_PORT).role(HostRole.READER).availability(HostAvailability.AVAILABLE)
+        .build();
+    final HostSpec hostB = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host("hostB").port(HostSpec.NO_PORT).role(HostRole.READER).availability(HostAvailability.AVAILABLE)
+        .build();
+
+    PluginServiceImpl target = spy(
+        new PluginServiceImpl(
+            pluginManager,
+            new ExceptionManager(),
+            PROPERTIES,
+            URL,
+            DRIVER_PROTOCOL,
+            dialectManager,
+            mockTargetDriverDialect,
+            configurationProfile,
+            sessionStateService));
+    target.hosts = Arrays.asList(hostA, hostB);
+
+    // The first change is delivered right away.
+    target.setAvailability(Collections.singleton("hostA"), HostAvailability.NOT_AVAILABLE);
+    verify(pluginManager, times(1)).notifyNodeListChanged(any());
+
+    // Changes within the notification window are applied right away and delivered together by the
+    // next locked call of the connection.
+    target.setAvailability(Collections.singleton("hostB"), HostAvailability.NOT_AVAILABLE);
+    target.setAvailability(Collections.singleton("hostA"), HostAvailability.AVAILABLE);
+    assertEquals(HostAvailability.AVAILABLE, hostA.getAvailability());
+    assertEquals(HostAvailability.NOT_AVAILABLE, hostB.getAvailability());
+    verify(pluginManager, times(1)).notifyNodeListChanged(any());
+
+    target.notifyPendingAvailabilityChanges();
+    verify(pluginManager, times(2)).notifyNodeListChanged(any());
+    // Nothing is pending anymore.
+    target.notifyPendingAvailabilityChanges();
+    verify(pluginManager, times(2)).notifyNodeListChanged(any());
+    Map<String, EnumSet<NodeChangeOptions>> notifiedChanges = argumentChangesMap.getValue();
+    assertEquals(2, notifiedChanges.size());
+    assertTrue(notifiedChanges.get("hostA/").contains(NodeChangeOptions.WENT_UP));
+    assertTrue(notifiedChanges.get("hostB/").contains(NodeChangeOptions.WENT_DOWN));
+  }
+
+  @Test
+  public void testNodeAvailabilityChanged_NotHoldingConnectionLock() throws SQLException {
+    doNothing().when(pluginManager).notifyNodeListChanged(argumentChangesMap.capture());
+    when(pluginManager.isHeldByCurrentThread()).thenReturn(false);
+
+    final HostSpec hostA = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host("hostA").port(HostSpec.NO_PORT).role(HostRole.READER).availability(HostAvailability.AVAILABLE)
+        .build();
+
+    PluginServiceImpl target = spy(
+        new PluginServiceImpl(
+            pluginManager,
+            new ExceptionManager(),
+            PROPERTIES,
+            URL,
+            DRIVER_PROTOCOL,
+            dialectManager,
+            mockTargetDriverDialect,
+            configurationProfile,
+            sessionStateService));
+    target.hosts = Collections.singletonList(hostA);
+
+    // A change made by a thread that doesn't hold the connection lock, such as a failover thread, is
+    // applied right away but isn't delivered on that thread.
+    target.setAvailability(Collections.singleton("hostA"), HostAvailability.NOT_AVAILABLE);
+    assertEquals(HostAvailability.NOT_AVAILABLE, hostA.getAvailability());
+    verify(pluginManager, never()).notifyNodeListChanged(any());
+
+    // The change is delivered when the connection is locked next.
+    target.notifyPendingAvailabilityChanges();
+    verify(pluginManager, times(1)).notifyNodeListChanged(any());
+    assertTrue(argumentChangesMap.getValue().get("hostA/").contains(NodeChangeOptions.WENT_DOWN));
+  }
+
+  @Test
+  public void testNodeAvailabilityChanged_AliasAddedAfterLookup() throws SQLException {
+    final HostSpec hostA = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host("hostA").port(HostSpec.NO_PORT).role(HostRole.READER).availability(HostAvailability.AVAILABLE)
+        .build();
+    hostA.addAlias("ip-10-10-10-10");
+
+    PluginServiceImpl target = spy(
+        new PluginServiceImpl(
+            pluginManager,
+            new ExceptionManager(),
+            PROPERTIES,
+            URL,
+            DRIVER_PROTOCOL,
+            dialectManager,
+            mockTargetDriverDialect,
+            configurationProfile,
+            sessionStateService));
+    target.hosts = Collections.singletonList(hostA);
+
+    target.setAvailability(Collections.singleton("ip-10-10-10-10"), HostAvailability.NOT_AVAILABLE);
+    assertEquals(HostAvailability.NOT_AVAILABLE, hostA.getAvailability());
+
+    hostA.removeAlias("ip-10-10-10-10");
+    hostA.addAlias("hostA.custom.domain.com");
+
+    target.setAvailability(Collections.singleton("ip-10-10-10-10"), HostAvailability.AVAILABLE);
+    assertEquals(HostAvailability.NOT_AVAILABLE, hostA.getAvailability());
+
+    target.setAvailability(Collections.singleton("hostA.custom.domain.com"), HostAvailability.AVAILABLE);
+    assertEquals(HostAvailability.AVAILABLE, hostA.getAvailability());
+  }
+
   @Test
   void testRefreshHostList_withCachedHostAvailability() throws SQLException {
     final List<HostSpec> newHostSpecs = Arrays.asList(
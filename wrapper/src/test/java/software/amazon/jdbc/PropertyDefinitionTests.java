@@ -18,10 +18,13 @@ package software.amazon.jdbc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Properties;
 import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.plugin.efm2.HostMonitoringSettings;
 import software.amazon.jdbc.util.PropertyUtils;
 
 public class PropertyDefinitionTests {
@@ -100,4 +103,24 @@ public class PropertyDefinitionTests {
     final Properties maskedProperties = PropertyUtils.maskProperties(properties);
     assertEquals("***", maskedProperties.getProperty(PropertyDefinition.PASSWORD.name));
   }
+
+  @Test
+  public void testSnapshotIsSharedByIdenticalProperties() {
+    final Properties props = new Properties();
+    props.setProperty("failureDetectionTime", "1000");
+    props.setProperty("someOtherProperty", "someValue");
+    final Properties otherProps = new Properties();
+    otherProps.setProperty("failureDetectionTime", "1000");
+
+    final HostMonitoringSettings settings = HostMonitoringSettings.get(props);
+    assertEquals(1000, settings.getFailureDetectionTimeMillis());
+    assertEquals(5000, settings.getFailureDetectionIntervalMillis());
+    assertTrue(settings.isEnabled());
+    assertSame(settings, HostMonitoringSettings.get(otherProps));
+
+    otherProps.setProperty("failureDetectionTime", "2000");
+    final HostMonitoringSettings otherSettings = HostMonitoringSettings.get(otherProps);
+    assertNotSame(settings, otherSettings);
+    assertEquals(2000, otherSettings.getFailureDetectionTimeMillis());
+  }
 }
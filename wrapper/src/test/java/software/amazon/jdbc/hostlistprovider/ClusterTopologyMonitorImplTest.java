@@ -0,0 +1,169 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.hostlistprovider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+
+class ClusterTopologyMonitorImplTest {
+
+  private static final long REFRESH_RATE_NANO = TimeUnit.MINUTES.toNanos(1);
+  private static final long HIGH_REFRESH_RATE_NANO = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long TIMEOUT_NANO = TimeUnit.SECONDS.toNanos(5);
+
+  @Mock RdsHostListProvider mockHostListProvider;
+  @Mock PluginService mockPluginService;
+  @Mock Connection mockConnection;
+
+  private final HostSpec initialHostSpec = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("cluster-endpoint").build();
+  private final List<HostSpec> hosts = Arrays.asList(
+      new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("host1").role(HostRole.READER).build(),
+      new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("host2").role(HostRole.WRITER).build());
+
+  private AutoCloseable closeable;
+  private ClusterTopologyMonitorImpl monitor;
+
+  @BeforeEach
+  void init() throws SQLException {
+    closeable = MockitoAnnotations.openMocks(this);
+    when(mockHostListProvider.getPluginService()).thenReturn(mockPluginService);
+    when(mockPluginService.forceConnect(any(HostSpec.class), any(Properties.class))).thenReturn(mockConnection);
+    when(mockHostListProvider.queryForTopology(mockConnection)).thenReturn(hosts);
+  }
+
+  @AfterEach
+  void cleanUp() throws Exception {
+    if (monitor != null) {
+      monitor.close();
+    }
+    RdsHostListProvider.clearAll();
+    closeable.close();
+  }
+
+  private ClusterTopologyMonitorImpl createMonitor(final long highRefreshRateNano) {
+    final ClusterTopologyMonitorImpl monitor = new ClusterTopologyMonitorImpl(
+        "cluster-id",
+        new Properties(),
+        initialHostSpec,
+        REFRESH_RATE_NANO,
+        highRefreshRateNano);
+    monitor.registerHostListProvider(mockHostListProvider);
+    return monitor;
+  }
+
+  @Test
+  void testForceRefresh_returnsFetchedTopology() throws SQLException {
+    monitor = createMonitor(HIGH_REFRESH_RATE_NANO);
+
+    final List<HostSpec> result = monitor.forceRefresh(TIMEOUT_NANO);
+
+    assertEquals(hosts, result);
+    assertEquals(hosts, monitor.getTopology());
+    assertEquals(hosts, RdsHostListProvider.topologyCache.get("cluster-id"));
+    assertThrows(UnsupportedOperationException.class, () -> result.add(initialHostSpec));
+    // The monitoring connection is opened through the plugins of a connection using the monitor.
+    verify(mockPluginService, times(1)).forceConnect(initialHostSpec, new Properties());
+  }
+
+  @Test
+  void testForceRefresh_concurrentRequestsShareTopologyQuery() throws SQLException {
+    when(mockHostListProvider.queryForTopology(mockConnection)).thenAnswer(invocation -> {
+      TimeUnit.MILLISECONDS.sleep(200);
+      return hosts;
+    });
+    // Refreshes are only made on request.
+    monitor = createMonitor(REFRESH_RATE_NANO);
+
+    final ExecutorService executorService = Executors.newFixedThreadPool(10);
+    final CompletableFuture<?>[] requests = new CompletableFuture<?>[10];
+    for (int i = 0; i < requests.length; i++) {
+      requests[i] = CompletableFuture.runAsync(
+          () -> assertEquals(hosts, monitor.forceRefresh(TIMEOUT_NANO)), executorService);
+    }
+    CompletableFuture.allOf(requests).join();
+    executorService.shutdown();
+
+    // The initial refresh, a refresh that may be in progress when the requests are made, and the refresh after it.
+    verify(mockHostListProvider, atMost(3)).queryForTopology(mockConnection);
+  }
+
+  @Test
+  void testFetchTopology_reconnectsAfterError() throws SQLException {
+    when(mockHostListProvider.queryForTopology(mockConnection))
+        .thenThrow(new SQLException("connection lost"))
+        .thenReturn(hosts);
+    monitor = createMonitor(HIGH_REFRESH_RATE_NANO);
+
+    assertEquals(hosts, monitor.forceRefresh(TIMEOUT_NANO));
+    verify(mockConnection, times(1)).close();
+    verify(mockPluginService, times(2)).forceConnect(any(HostSpec.class), any(Properties.class));
+  }
+
+  @Test
+  void testCanDispose_whenNoHostListProviderIsLeft() throws InterruptedException {
+    monitor = new ClusterTopologyMonitorImpl(
+        "cluster-id",
+        new Properties(),
+        initialHostSpec,
+        REFRESH_RATE_NANO,
+        REFRESH_RATE_NANO);
+    assertTrue(monitor.canDispose());
+
+    RdsHostListProvider hostListProvider = new RdsHostListProvider(
+        new Properties(), "jdbc:aws-wrapper:postgresql://cluster-endpoint/", null, "", "", "");
+    final WeakReference<RdsHostListProvider> hostListProviderRef = new WeakReference<>(hostListProvider);
+    monitor.registerHostListProvider(hostListProvider);
+    assertFalse(monitor.canDispose());
+
+    hostListProvider = null;
+    for (int i = 0; i < 50 && hostListProviderRef.get() != null; i++) {
+      System.gc();
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+
+    assertTrue(monitor.canDispose());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.hostlistprovider;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.HostListProvider;
+
+public class TopologyChangeNotifierTest {
+
+  private static final String CLUSTER_ID = "cluster-1";
+  private static final String OTHER_CLUSTER_ID = "cluster-2";
+
+  @AfterEach
+  public void cleanUp() {
+    TopologyChangeNotifier.clearCache();
+  }
+
+  @Test
+  public void testGetReturnsNotifierPerCluster() {
+    assertSame(TopologyChangeNotifier.get(CLUSTER_ID), TopologyChangeNotifier.get(CLUSTER_ID));
+    assertNotSame(TopologyChangeNotifier.get(CLUSTER_ID), TopologyChangeNotifier.get(OTHER_CLUSTER_ID));
+  }
+
+  @Test
+  public void testAwaitWriterChangeTimesOut() throws InterruptedException {
+    final TopologyChangeNotifier notifier = TopologyChangeNotifier.get(CLUSTER_ID);
+    final long writerChangeCount = notifier.getWriterChangeCount();
+    assertFalse(notifier.awaitWriterChange(writerChangeCount, TimeUnit.MILLISECONDS.toNanos(100)));
+  }
+
+  @Test
+  public void testAwaitWriterChangeWakesUpOnNotification() throws Exception {
+    final TopologyChangeNotifier notifier = TopologyChangeNotifier.get(CLUSTER_ID);
+    final long writerChangeCount = notifier.getWriterChangeCount();
+    final CompletableFuture<Long> waitDurationNano = CompletableFuture.supplyAsync(() -> {
+      final long startTimeNano = System.nanoTime();
+      try {
+        assertTrue(notifier.awaitWriterChange(writerChangeCount, TimeUnit.SECONDS.toNanos(30)));
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+      return System.nanoTime() - startTimeNano;
+    });
+
+    TimeUnit.MILLISECONDS.sleep(100);
+    TopologyChangeNotifier.get(CLUSTER_ID).notifyWriterChanged();
+
+    assertTrue(TimeUnit.NANOSECONDS.toSeconds(waitDurationNano.get(10, TimeUnit.SECONDS)) < 5);
+  }
+
+  @Test
+  public void testWriterChangeBeforeAwaitIsNotMissed() throws InterruptedException {
+    final TopologyChangeNotifier notifier = TopologyChangeNotifier.get(CLUSTER_ID);
+    final long writerChangeCount = notifier.getWriterChangeCount();
+    notifier.notifyWriterChanged();
+    assertTrue(notifier.awaitWriterChange(writerChangeCount, 0));
+  }
+
+  @Test
+  public void testWriterChangeOfOtherClusterIsIgnored() throws InterruptedException {
+    final TopologyChangeNotifier notifier = TopologyChangeNotifier.get(CLUSTER_ID);
+    final long writerChangeCount = notifier.getWriterChangeCount();
+    TopologyChangeNotifier.get(OTHER_CLUSTER_ID).notifyWriterChanged();
+    assertFalse(notifier.awaitWriterChange(writerChangeCount, TimeUnit.MILLISECONDS.toNanos(100)));
+  }
+
+  @Test
+  public void testNotifierOfProviderWithoutClusterIsNotShared() {
+    final HostListProvider provider = mock(HostListProvider.class);
+    assertNotSame(TopologyChangeNotifier.get(provider), TopologyChangeNotifier.get(provider));
+  }
+}
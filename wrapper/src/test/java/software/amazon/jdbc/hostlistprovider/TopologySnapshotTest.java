@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.hostlistprovider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+
+public class TopologySnapshotTest {
+
+  private final HostSpec readerC = createHost("instance-c", HostRole.READER);
+  private final HostSpec writer = createHost("instance-b", HostRole.WRITER);
+  private final HostSpec readerA = createHost("instance-a", HostRole.READER);
+  private final List<HostSpec> hosts = Arrays.asList(readerC, writer, readerA);
+
+  @Test
+  public void testIndexesByRole() {
+    final TopologySnapshot snapshot = TopologySnapshot.of(hosts);
+
+    assertEquals(hosts, snapshot.getHosts());
+    assertSame(writer, snapshot.getWriter());
+    assertEquals(Arrays.asList(readerA, readerC), snapshot.getHosts(HostRole.READER));
+    assertEquals(Collections.singletonList(writer), snapshot.getHosts(HostRole.WRITER));
+    assertEquals(Collections.emptyList(), snapshot.getHosts(HostRole.UNKNOWN));
+  }
+
+  @Test
+  public void testAvailableHostsFollowAvailabilityChanges() {
+    final TopologySnapshot snapshot = TopologySnapshot.of(hosts);
+    assertEquals(Arrays.asList(readerA, readerC), snapshot.getAvailableHosts(HostRole.READER));
+
+    readerA.setAvailability(HostAvailability.NOT_AVAILABLE);
+    assertEquals(Collections.singletonList(readerC), snapshot.getAvailableHosts(HostRole.READER));
+
+    readerA.setAvailability(HostAvailability.AVAILABLE);
+    assertEquals(Arrays.asList(readerA, readerC), snapshot.getAvailableHosts(HostRole.READER));
+  }
+
+  @Test
+  public void testAvailableHostsAreIndexedOnce() {
+    final TopologySnapshot snapshot = TopologySnapshot.of(hosts);
+    final List<HostSpec> availableReaders = snapshot.getAvailableHosts(HostRole.READER);
+    assertSame(availableReaders, snapshot.getAvailableHosts(HostRole.READER));
+  }
+
+  @Test
+  public void testAvailableHostsIgnoreChangesOfOtherHosts() {
+    final TopologySnapshot snapshot = TopologySnapshot.of(hosts);
+    final List<HostSpec> availableReaders = snapshot.getAvailableHosts(HostRole.READER);
+
+    createHost("instance-d", HostRole.READER).setAvailability(HostAvailability.NOT_AVAILABLE);
+    assertEquals(availableReaders, snapshot.getAvailableHosts(HostRole.READER));
+  }
+
+  @Test
+  public void testStaticLookupsOfPlainHostList() {
+    final List<HostSpec> plainHosts = new ArrayList<>(hosts);
+    readerC.setAvailability(HostAvailability.NOT_AVAILABLE);
+
+    assertSame(writer, TopologySnapshot.getWriter(plainHosts));
+    assertNull(TopologySnapshot.getWriter(Collections.singletonList(readerA)));
+    assertEquals(Collections.singletonList(readerA), TopologySnapshot.getAvailableHosts(plainHosts, HostRole.READER));
+
+    readerC.setAvailability(HostAvailability.AVAILABLE);
+    assertEquals(Arrays.asList(readerC, readerA), TopologySnapshot.getAvailableHosts(plainHosts, HostRole.READER));
+    assertEquals(
+        Arrays.asList(readerA, readerC),
+        TopologySnapshot.getAvailableHostsSortedByHostName(plainHosts, HostRole.READER));
+
+    final TopologySnapshot snapshot = TopologySnapshot.of(hosts);
+    assertSame(writer, TopologySnapshot.getWriter(snapshot.getHosts()));
+    assertSame(
+        snapshot.getAvailableHosts(HostRole.READER),
+        TopologySnapshot.getAvailableHosts(snapshot.getHosts(), HostRole.READER));
+    assertSame(
+        snapshot.getAvailableHosts(HostRole.READER),
+        TopologySnapshot.getAvailableHostsSortedByHostName(snapshot.getHosts(), HostRole.READER));
+  }
+
+  @Test
+  public void testSnapshotOfSnapshotHostList() {
+    final TopologySnapshot snapshot = TopologySnapshot.of(hosts);
+
+    assertSame(snapshot, TopologySnapshot.of(snapshot.getHosts()));
+    assertTrue(snapshot.isSnapshotOf(hosts));
+    assertTrue(snapshot.isSnapshotOf(snapshot.getHosts()));
+    assertFalse(snapshot.isSnapshotOf(new ArrayList<>(hosts)));
+    assertTrue(TopologySnapshot.of(new ArrayList<>(hosts)).getVersion() > snapshot.getVersion());
+  }
+
+  @Test
+  public void testHostListIsImmutable() {
+    final TopologySnapshot snapshot = TopologySnapshot.of(hosts);
+
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.getHosts().add(readerA));
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.getHosts().remove(0));
+    assertThrows(UnsupportedOperationException.class,
+        () -> snapshot.getAvailableHosts(HostRole.READER).clear());
+  }
+
+  @Test
+  public void testLookupByAliasAndId() {
+    readerA.addAlias("instance-a.cluster.example.com");
+    final TopologySnapshot snapshot = TopologySnapshot.of(hosts);
+
+    assertEquals(Collections.singletonList(readerA), snapshot.getHostsByAlias("instance-a.cluster.example.com"));
+    assertEquals(Collections.singletonList(writer), snapshot.getHostsByAlias("instance-b:5432"));
+    assertEquals(Collections.emptyList(), snapshot.getHostsByAlias("instance-d:5432"));
+    assertSame(readerC, snapshot.getHostById("instance-c"));
+    assertNull(snapshot.getHostById("instance-d"));
+  }
+
+  private static HostSpec createHost(final String host, final HostRole role) {
+    return new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host(host).hostId(host).port(5432).role(role).build();
+  }
+}
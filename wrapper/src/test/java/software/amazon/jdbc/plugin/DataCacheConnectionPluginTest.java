@@ -16,16 +16,36 @@
 
 package software.amazon.jdbc.plugin;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +53,8 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import software.amazon.jdbc.JdbcCallable;
 import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.plugin.DataCacheConnectionPlugin.CachedResultSet;
+import software.amazon.jdbc.plugin.DataCacheConnectionPlugin.CachedResultSetData;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
 
@@ -49,6 +71,9 @@ class DataCacheConnectionPluginTest {
   @Mock ResultSet mockResult2;
   @Mock Statement mockStatement;
   @Mock ResultSetMetaData mockMetaData;
+  @Mock Blob mockBlob;
+  @Mock Clob mockClob;
+  @Mock NClob mockNClob;
 
   @Mock JdbcCallable mockCallable;
 
@@ -125,6 +150,274 @@ class DataCacheConnectionPluginTest {
     verify(mockCallable).call();
   }
 
+  @Test
+  void test_execute_withCache_returnsIndependentCursors() throws Exception {
+    final String methodName = "Statement.executeQuery";
+
+    final DataCacheConnectionPlugin plugin = new DataCacheConnectionPlugin(mockPluginService, props);
+
+    when(mockCallable.call()).thenReturn(mockResult1);
+
+    final ResultSet rs1 = plugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        mockStatement, methodName,
+        mockCallable,
+        new String[]{"foo"}
+    );
+    final ResultSet rs2 = plugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        mockStatement, methodName,
+        mockCallable,
+        new String[]{"foo"}
+    );
+
+    assertNotSame(rs1, rs2);
+    assertTrue(rs1.next());
+    assertEquals("bar1", rs1.getObject("fooName"));
+    assertFalse(rs1.next());
+
+    // Reading the first result set doesn't move the cursor of the second one.
+    assertTrue(rs2.next());
+    assertEquals("bar1", rs2.getObject(1));
+    assertEquals(1, rs2.findColumn("fooName"));
+    verify(mockCallable).call();
+  }
+
+  @Test
+  void test_execute_withCacheExceedingMaxSize() throws Exception {
+    final String methodName = "Statement.executeQuery";
+    final Properties smallCacheProps = new Properties();
+    smallCacheProps.putAll(props);
+    smallCacheProps.setProperty(DataCacheConnectionPlugin.DATA_CACHE_MAX_SIZE_BYTES.name, "1");
+
+    final DataCacheConnectionPlugin plugin = new DataCacheConnectionPlugin(mockPluginService, smallCacheProps);
+
+    when(mockCallable.call()).thenReturn(mockResult1, mockResult2);
+
+    final ResultSet rs1 = plugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        mockStatement, methodName,
+        mockCallable,
+        new String[]{"foo"}
+    );
+    assertTrue(rs1.next());
+    assertEquals("bar1", rs1.getObject(1));
+
+    // The result is too large to be cached, so the query is executed again.
+    final ResultSet rs2 = plugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        mockStatement, methodName,
+        mockCallable,
+        new String[]{"foo"}
+    );
+    assertTrue(rs2.next());
+    assertEquals("bar2", rs2.getObject(1));
+    assertEquals(0, plugin.dataCache.size());
+  }
+
+  @Test
+  void test_execute_withDifferentMaxSizes() throws Exception {
+    final Properties smallCacheProps = new Properties();
+    smallCacheProps.putAll(props);
+    smallCacheProps.setProperty(DataCacheConnectionPlugin.DATA_CACHE_MAX_SIZE_BYTES.name, "1");
+
+    final DataCacheConnectionPlugin plugin = new DataCacheConnectionPlugin(mockPluginService, props);
+    final DataCacheConnectionPlugin smallCachePlugin =
+        new DataCacheConnectionPlugin(mockPluginService, smallCacheProps);
+    final DataCacheConnectionPlugin otherPlugin = new DataCacheConnectionPlugin(mockPluginService, props);
+
+    // A connection with a different maximum size doesn't change the size of the other connections' cache.
+    assertNotSame(plugin.dataCache, smallCachePlugin.dataCache);
+    assertSame(plugin.dataCache, otherPlugin.dataCache);
+    assertEquals(
+        Long.parseLong(DataCacheConnectionPlugin.DATA_CACHE_MAX_SIZE_BYTES.defaultValue),
+        plugin.dataCache.getMaxSizeBytes());
+    assertEquals(1, smallCachePlugin.dataCache.getMaxSizeBytes());
+  }
+
+  @Test
+  void test_cachedResultSet_typedGetters() throws SQLException {
+    final Timestamp timestamp = Timestamp.valueOf("2024-01-02 03:04:05.123456789");
+    when(mockMetaData.getColumnCount()).thenReturn(5);
+    when(mockMetaData.getColumnLabel(1)).thenReturn("id");
+    when(mockMetaData.getColumnLabel(2)).thenReturn("name");
+    when(mockMetaData.getColumnLabel(3)).thenReturn("price");
+    when(mockMetaData.getColumnLabel(4)).thenReturn("active");
+    when(mockMetaData.getColumnLabel(5)).thenReturn("created");
+    when(mockMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+    when(mockResult1.next()).thenReturn(true, true, false);
+    when(mockResult1.getObject(1)).thenReturn(1, (Object) null);
+    when(mockResult1.getObject(2)).thenReturn("a", "b");
+    when(mockResult1.getObject(3)).thenReturn(1.5d, 2.25d);
+    when(mockResult1.getObject(4)).thenReturn(true, (Object) null);
+    when(mockResult1.getObject(5)).thenReturn(timestamp, (Object) null);
+
+    final CachedResultSet rs = new CachedResultSet(mockResult1);
+
+    assertEquals(Types.INTEGER, rs.getMetaData().getColumnType(1));
+    assertEquals("price", rs.getMetaData().getColumnLabel(3));
+
+    assertTrue(rs.next());
+    assertEquals(1, rs.getInt("id"));
+    assertFalse(rs.wasNull());
+    assertEquals(1L, rs.getLong(1));
+    assertEquals("1", rs.getString(1));
+    assertEquals(1, rs.getObject(1));
+    assertEquals("a", rs.getString("NAME"));
+    assertEquals(1.5d, rs.getDouble(3));
+    assertEquals(new BigDecimal("1.5"), rs.getBigDecimal("price"));
+    assertTrue(rs.getBoolean(4));
+    assertEquals(timestamp, rs.getTimestamp(5));
+    assertEquals(Date.valueOf("2024-01-02"), rs.getDate(5));
+
+    // Cached values can't be modified by callers.
+    rs.getTimestamp(5).setTime(0);
+    assertEquals(timestamp, rs.getObject(5));
+
+    assertTrue(rs.next());
+    assertEquals(0, rs.getInt(1));
+    assertTrue(rs.wasNull());
+    assertNull(rs.getObject(1));
+    assertEquals(2.25f, rs.getFloat(3));
+    assertFalse(rs.wasNull());
+    assertFalse(rs.getBoolean(4));
+    assertTrue(rs.wasNull());
+    assertNull(rs.getTimestamp(5));
+    assertThrows(SQLException.class, () -> rs.getInt(6));
+    assertThrows(SQLException.class, () -> rs.getInt("unknown"));
+
+    assertFalse(rs.next());
+    assertThrows(SQLException.class, () -> rs.getInt(1));
+  }
+
+  @Test
+  void test_cachedResultSetData_columnTypes() throws SQLException {
+    final int rowCount = 20;
+    final Object[] ids = new Object[rowCount];
+    final Object[] names = new Object[rowCount];
+    final Object[] values = new Object[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      ids[i] = (long) i;
+      names[i] = i % 2 == 0 ? "even" : "odd";
+      // Values of different types in the same column.
+      values[i] = i % 2 == 0 ? (Object) i : (Object) Integer.toString(i);
+    }
+    final AtomicInteger row = new AtomicInteger();
+    when(mockMetaData.getColumnCount()).thenReturn(3);
+    when(mockResult1.next()).thenAnswer(invocation -> row.incrementAndGet() <= rowCount);
+    when(mockResult1.getObject(1)).thenAnswer(invocation -> ids[row.get() - 1]);
+    when(mockResult1.getObject(2)).thenAnswer(invocation -> names[row.get() - 1]);
+    when(mockResult1.getObject(3)).thenAnswer(invocation -> values[row.get() - 1]);
+
+    final CachedResultSetData data = new CachedResultSetData(mockResult1);
+
+    assertEquals(rowCount, data.getRowCount());
+    assertInstanceOf(DataCacheConnectionPlugin.LongColumn.class, data.columns[0]);
+    assertInstanceOf(DataCacheConnectionPlugin.DictionaryColumn.class, data.columns[1]);
+    assertInstanceOf(DataCacheConnectionPlugin.ObjectColumn.class, data.columns[2]);
+
+    final CachedResultSet rs = new CachedResultSet(data);
+    assertTrue(rs.absolute(3));
+    assertEquals(2L, rs.getObject(1));
+    assertEquals("even", rs.getString(2));
+    assertEquals(2, rs.getObject(3));
+    assertTrue(rs.absolute(4));
+    assertEquals(3, rs.getInt(1));
+    assertEquals("odd", rs.getObject(2));
+    assertEquals("3", rs.getObject(3));
+    assertEquals(3, rs.getInt(3));
+  }
+
+  @Test
+  void test_cachedResultSet_narrowingGettersRejectOverflow() throws SQLException {
+    when(mockMetaData.getColumnCount()).thenReturn(3);
+    when(mockResult1.getObject(1)).thenReturn(3_000_000_000L);
+    when(mockResult1.getObject(2)).thenReturn(1e10d);
+    when(mockResult1.getObject(3)).thenReturn(300);
+
+    final CachedResultSet rs = new CachedResultSet(mockResult1);
+
+    assertTrue(rs.next());
+    assertEquals(3_000_000_000L, rs.getLong(1));
+    assertThrows(SQLException.class, () -> rs.getInt(1));
+    assertThrows(SQLException.class, () -> rs.getInt(2));
+    assertEquals(300, rs.getInt(3));
+    assertEquals(300, rs.getShort(3));
+    assertThrows(SQLException.class, () -> rs.getByte(3));
+  }
+
+  @Test
+  void test_cachedResultSet_getLongRejectsOverflow() throws SQLException {
+    when(mockMetaData.getColumnCount()).thenReturn(6);
+    when(mockResult1.getObject(1)).thenReturn(1e19d);
+    when(mockResult1.getObject(2)).thenReturn(new BigDecimal("9223372036854775808"));
+    when(mockResult1.getObject(3)).thenReturn(new BigInteger("-9223372036854775809"));
+    when(mockResult1.getObject(4)).thenReturn("9223372036854775808");
+    when(mockResult1.getObject(5)).thenReturn(Double.NaN);
+    when(mockResult1.getObject(6)).thenReturn(new BigDecimal("9223372036854775807"));
+
+    final CachedResultSet rs = new CachedResultSet(mockResult1);
+
+    assertTrue(rs.next());
+    assertThrows(SQLException.class, () -> rs.getLong(1));
+    assertThrows(SQLException.class, () -> rs.getLong(2));
+    assertThrows(SQLException.class, () -> rs.getLong(3));
+    assertThrows(SQLException.class, () -> rs.getLong(4));
+    assertThrows(SQLException.class, () -> rs.getLong(5));
+    assertEquals(Long.MAX_VALUE, rs.getLong(6));
+  }
+
+  @Test
+  void test_cachedResultSetData_copiesLargeObjects() throws SQLException {
+    final byte[] bytes = {1, 2, 3};
+    when(mockMetaData.getColumnCount()).thenReturn(3);
+    when(mockResult1.getObject(1)).thenReturn(mockBlob);
+    when(mockResult1.getObject(2)).thenReturn(mockClob);
+    when(mockResult1.getObject(3)).thenReturn(mockNClob);
+    when(mockBlob.length()).thenReturn((long) bytes.length);
+    when(mockBlob.getBytes(1, bytes.length)).thenReturn(bytes);
+    when(mockClob.length()).thenReturn(3L);
+    when(mockClob.getSubString(1, 3)).thenReturn("foo");
+    when(mockNClob.length()).thenReturn(3L);
+    when(mockNClob.getSubString(1, 3)).thenReturn("bar");
+
+    final CachedResultSetData data = new CachedResultSetData(mockResult1);
+    verify(mockBlob).getBytes(1, bytes.length);
+    verify(mockClob).getSubString(1, 3);
+    verify(mockNClob).getSubString(1, 3);
+    clearInvocations(mockBlob, mockClob, mockNClob);
+
+    // The large objects of the driver aren't read after the row is cached.
+    final CachedResultSet rs = new CachedResultSet(data);
+    assertTrue(rs.next());
+    assertArrayEquals(bytes, rs.getBytes(1));
+    assertArrayEquals(bytes, rs.getBlob(1).getBytes(1, bytes.length));
+    assertEquals("foo", rs.getString(2));
+    assertEquals("foo", rs.getClob(2).getSubString(1, 3));
+    assertEquals("bar", rs.getNClob(3).getSubString(1, 3));
+    verifyNoInteractions(mockBlob, mockClob, mockNClob);
+  }
+
+  @Test
+  void test_cachedResultSet_statementAndFetchSize() throws SQLException {
+    final CachedResultSet rs = new CachedResultSet(mockResult1);
+
+    assertNull(rs.getStatement());
+    assertEquals(0, rs.getFetchSize());
+    rs.setFetchSize(100);
+    assertThrows(SQLException.class, () -> rs.setFetchSize(-1));
+    assertThrows(SQLFeatureNotSupportedException.class, rs::getCursorName);
+
+    assertFalse(rs.isClosed());
+    rs.close();
+    assertTrue(rs.isClosed());
+    assertFalse(rs.next());
+  }
+
   void compareResults(final ResultSet expected, final ResultSet actual) throws SQLException {
     int i = 1;
     while (expected.next() && actual.next()) {
@@ -17,6 +17,7 @@
 package software.amazon.jdbc.plugin;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.beans.Statement;
 import java.util.Arrays;
@@ -26,11 +27,13 @@ import java.util.Properties;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import software.amazon.jdbc.util.PreparedSql;
 
 class LogQueryConnectionPluginTest {
 
@@ -62,6 +65,18 @@ class LogQueryConnectionPluginTest {
     assertEquals(expected, query);
   }
 
+  @Test
+  void test_getQuery_preparedStatement() {
+    final LogQueryConnectionPlugin plugin = new LogQueryConnectionPlugin(props);
+    final PreparedSql preparedSql = new PreparedSql(mockStatement, "SELECT ?");
+
+    final String methodName = "PreparedStatement.executeQuery";
+
+    assertNull(plugin.getQuery(mockStatement, methodName, new Object[] {}));
+    assertEquals("SELECT ?", PreparedSql.execute(
+        preparedSql, () -> plugin.getQuery(mockStatement, methodName, new Object[] {})));
+  }
+
   static Stream<Arguments> jdbcMethodArgs() {
     return Stream.of(
         Arguments.of(Collections.emptyList(), null),
@@ -258,20 +258,44 @@ public class RoundRobinHostSelectorTest {
     assertEquals(
         readerHostSpec1.getHost(),
         roundRobinHostSelector.getHost(hostsList123, HostRole.READER, weightedProps).getHost());
+    assertEquals(
+        readerHostSpec2.getHost(),
+        roundRobinHostSelector.getHost(hostsList123, HostRole.READER, weightedProps).getHost());
+    assertEquals(
+        readerHostSpec1.getHost(),
+        roundRobinHostSelector.getHost(hostsList123, HostRole.READER, weightedProps).getHost());
+    assertEquals(
+        readerHostSpec3.getHost(),
+        roundRobinHostSelector.getHost(hostsList123, HostRole.READER, weightedProps).getHost());
+    assertEquals(
+        readerHostSpec2.getHost(),
+        roundRobinHostSelector.getHost(hostsList123, HostRole.READER, weightedProps).getHost());
     assertEquals(
         readerHostSpec1.getHost(),
         roundRobinHostSelector.getHost(hostsList123, HostRole.READER, weightedProps).getHost());
     assertEquals(
         readerHostSpec1.getHost(),
         roundRobinHostSelector.getHost(hostsList123, HostRole.READER, weightedProps).getHost());
+  }
+
+  @Test
+  public void testGetHost_WeightsChanged() throws SQLException {
+    assertEquals(
+        readerHostSpec1.getHost(),
+        roundRobinHostSelector.getHost(hostsList123, HostRole.READER, defaultProps).getHost());
     assertEquals(
         readerHostSpec2.getHost(),
+        roundRobinHostSelector.getHost(hostsList123, HostRole.READER, defaultProps).getHost());
+
+    // The selection continues after the last host with the new weights.
+    assertEquals(
+        readerHostSpec3.getHost(),
         roundRobinHostSelector.getHost(hostsList123, HostRole.READER, weightedProps).getHost());
     assertEquals(
         readerHostSpec2.getHost(),
         roundRobinHostSelector.getHost(hostsList123, HostRole.READER, weightedProps).getHost());
     assertEquals(
-        readerHostSpec3.getHost(),
+        readerHostSpec1.getHost(),
         roundRobinHostSelector.getHost(hostsList123, HostRole.READER, weightedProps).getHost());
     assertEquals(
         readerHostSpec1.getHost(),
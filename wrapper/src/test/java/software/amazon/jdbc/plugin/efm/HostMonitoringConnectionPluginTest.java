@@ -17,8 +17,10 @@
 package software.amazon.jdbc.plugin.efm;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
@@ -31,6 +33,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -42,6 +45,7 @@ import java.util.HashSet;
 import java.util.Properties;
 import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,6 +57,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import software.amazon.jdbc.ConnectionPlugin;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.JdbcCallable;
 import software.amazon.jdbc.NodeChangeOptions;
@@ -63,6 +68,7 @@ import software.amazon.jdbc.hostavailability.HostAvailability;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.RdsUrlType;
 import software.amazon.jdbc.util.RdsUtils;
+import software.amazon.jdbc.util.SubscribedMethodHelper;
 
 class HostMonitoringConnectionPluginTest {
 
@@ -225,6 +231,56 @@ class HostMonitoringConnectionPluginTest {
     verify(sqlFunction, times(1)).call();
   }
 
+  @Test
+  void test_reloadSettings() throws Exception {
+    initializePlugin();
+
+    // Settings are resolved when the plugin is created, changing the properties has no effect yet.
+    properties.put("failureDetectionEnabled", Boolean.FALSE.toString());
+    plugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        MONITOR_METHOD_INVOKE_ON,
+        MONITOR_METHOD_NAME,
+        sqlFunction,
+        EMPTY_ARGS);
+    verify(monitorService, times(1))
+        .startMonitoring(any(), any(), any(), any(), anyInt(), anyInt(), anyInt());
+
+    plugin.reloadSettings();
+    plugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        MONITOR_METHOD_INVOKE_ON,
+        MONITOR_METHOD_NAME,
+        sqlFunction,
+        EMPTY_ARGS);
+    verify(monitorService, times(1))
+        .startMonitoring(any(), any(), any(), any(), anyInt(), anyInt(), anyInt());
+    verify(sqlFunction, times(2)).call();
+  }
+
+  @Test
+  void test_subscribedMethods_includeAllMonitoredMethods() {
+    initializePlugin();
+    final Set<String> subscribedMethods = plugin.getSubscribedMethods();
+
+    // Only network bound methods are monitored, other JDBC methods don't need to go through the plugin.
+    assertTrue(subscribedMethods.containsAll(SubscribedMethodHelper.NETWORK_BOUND_METHODS));
+    assertFalse(subscribedMethods.contains("ResultSet.getString"));
+
+    // The connection plugin hooks implemented by the plugin are only called if it subscribes to them.
+    final Set<String> hooks = Arrays.stream(ConnectionPlugin.class.getMethods())
+        .map(Method::getName)
+        .filter(name -> !name.equals("getSubscribedMethods") && !name.equals("execute"))
+        .collect(Collectors.toSet());
+    for (final Method method : HostMonitoringConnectionPlugin.class.getDeclaredMethods()) {
+      if (hooks.contains(method.getName())) {
+        assertTrue(subscribedMethods.contains(method.getName()), method.getName());
+      }
+    }
+  }
+
   /**
    * Tests exception being thrown in the finally block when checking connection status in the execute method.
    */
@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.amazon.jdbc.plugin.efm2;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import software.amazon.jdbc.ConnectionPlugin;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.JdbcCallable;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.util.RdsUrlType;
+import software.amazon.jdbc.util.RdsUtils;
+import software.amazon.jdbc.util.SubscribedMethodHelper;
+
+class HostMonitoringConnectionPluginTest {
+
+  private static final String MONITOR_METHOD_NAME = "Statement.executeQuery";
+  private static final Object[] EMPTY_ARGS = {};
+
+  @Mock PluginService pluginService;
+  @Mock Connection connection;
+  @Mock HostSpec hostSpec;
+  @Mock Supplier<MonitorService> supplier;
+  @Mock MonitorService monitorService;
+  @Mock MonitorConnectionContext context;
+  @Mock RdsUtils rdsUtils;
+  @Mock JdbcCallable<ResultSet, SQLException> sqlFunction;
+  private final Properties properties = new Properties();
+  private AutoCloseable closeable;
+
+  @BeforeEach
+  void init() {
+    closeable = MockitoAnnotations.openMocks(this);
+    when(supplier.get()).thenReturn(monitorService);
+    when(monitorService.startMonitoring(any(), any(), any(), anyInt(), anyInt(), anyInt())).thenReturn(context);
+    when(pluginService.getCurrentConnection()).thenReturn(connection);
+    when(pluginService.getCurrentHostSpec()).thenReturn(hostSpec);
+    when(rdsUtils.identifyRdsType(any())).thenReturn(RdsUrlType.RDS_INSTANCE);
+    properties.setProperty(HostMonitoringConnectionPlugin.FAILURE_DETECTION_ENABLED.name, "true");
+  }
+
+  @AfterEach
+  void cleanUp() throws Exception {
+    closeable.close();
+  }
+
+  @Test
+  void test_reloadSettings() throws SQLException {
+    final HostMonitoringConnectionPlugin plugin =
+        new HostMonitoringConnectionPlugin(pluginService, properties, supplier, rdsUtils);
+
+    // Settings are resolved when the plugin is created, changing the properties has no effect yet.
+    properties.setProperty(HostMonitoringConnectionPlugin.FAILURE_DETECTION_ENABLED.name, "false");
+    plugin.execute(
+        ResultSet.class, SQLException.class, Connection.class, MONITOR_METHOD_NAME, sqlFunction, EMPTY_ARGS);
+    verify(monitorService, times(1)).startMonitoring(any(), any(), any(), anyInt(), anyInt(), anyInt());
+
+    plugin.reloadSettings();
+    plugin.execute(
+        ResultSet.class, SQLException.class, Connection.class, MONITOR_METHOD_NAME, sqlFunction, EMPTY_ARGS);
+    verify(monitorService, times(1)).startMonitoring(any(), any(), any(), anyInt(), anyInt(), anyInt());
+    verify(sqlFunction, times(2)).call();
+  }
+
+  @Test
+  void test_reloadSettings_deferredActivation() throws SQLException {
+    when(monitorService.startDeferredMonitoring(any(), any(), any(), anyInt(), anyInt(), anyInt()))
+        .thenReturn(context);
+    final HostMonitoringConnectionPlugin plugin =
+        new HostMonitoringConnectionPlugin(pluginService, properties, supplier, rdsUtils);
+
+    properties.setProperty(HostMonitoringConnectionPlugin.FAILURE_DETECTION_DEFERRED_ACTIVATION.name, "true");
+    plugin.reloadSettings();
+    plugin.execute(
+        ResultSet.class, SQLException.class, Connection.class, MONITOR_METHOD_NAME, sqlFunction, EMPTY_ARGS);
+
+    verify(monitorService, never()).startMonitoring(any(), any(), any(), anyInt(), anyInt(), anyInt());
+    verify(monitorService, times(1)).startDeferredMonitoring(any(), any(), any(), anyInt(), anyInt(), anyInt());
+  }
+
+  @Test
+  void test_subscribedMethods_includeAllMonitoredMethods() {
+    final HostMonitoringConnectionPlugin plugin =
+        new HostMonitoringConnectionPlugin(pluginService, properties, supplier, rdsUtils);
+    final Set<String> subscribedMethods = plugin.getSubscribedMethods();
+
+    // Only network bound methods are monitored, other JDBC methods don't need to go through the plugin.
+    assertTrue(subscribedMethods.containsAll(SubscribedMethodHelper.NETWORK_BOUND_METHODS));
+    assertFalse(subscribedMethods.contains("ResultSet.getString"));
+
+    // The connection plugin hooks implemented by the plugin are only called if it subscribes to them.
+    final Set<String> hooks = Arrays.stream(ConnectionPlugin.class.getMethods())
+        .map(Method::getName)
+        .filter(name -> !name.equals("getSubscribedMethods") && !name.equals("execute"))
+        .collect(Collectors.toSet());
+    for (final Method method : HostMonitoringConnectionPlugin.class.getDeclaredMethods()) {
+      if (hooks.contains(method.getName())) {
+        assertTrue(subscribedMethods.contains(method.getName()), method.getName());
+      }
+    }
+  }
+}
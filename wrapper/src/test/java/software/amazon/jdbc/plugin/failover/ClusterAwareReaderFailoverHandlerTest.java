@@ -25,6 +25,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -56,6 +57,7 @@ class ClusterAwareReaderFailoverHandlerTest {
 
   @Mock PluginService mockPluginService;
   @Mock Connection mockConnection;
+  @Mock Connection mockSlowConnection;
 
   private AutoCloseable closeable;
   private final Properties properties = new Properties();
@@ -274,6 +276,56 @@ class ClusterAwareReaderFailoverHandlerTest {
     assertNull(result.getHost());
   }
 
+  @Test
+  public void testGetReader_parallelConnectionAttempts() throws SQLException {
+    // all readers are tried at the same time
+    // the fast reader connects first, the slow reader connects later and its connection is closed
+    // expected test result: successful connection for the fast reader without waiting for the others
+    final List<HostSpec> hosts = defaultHosts.subList(0, 5); // 4 connection attempts (writer not attempted)
+    final HostSpec fastHost = hosts.get(3);
+    final HostSpec slowHost = hosts.get(4);
+    when(mockPluginService.forceConnect(any(), eq(properties)))
+        .thenAnswer(
+            (Answer<Connection>)
+                invocation -> {
+                  Thread.sleep(20000);
+                  return mockConnection;
+                });
+    when(mockPluginService.forceConnect(eq(fastHost), eq(properties))).thenReturn(mockConnection);
+    when(mockPluginService.forceConnect(eq(slowHost), eq(properties)))
+        .thenAnswer(
+            (Answer<Connection>)
+                invocation -> {
+                  try {
+                    Thread.sleep(500);
+                  } catch (InterruptedException exception) {
+                    // ignore
+                  }
+                  return mockSlowConnection;
+                });
+
+    final ClusterAwareReaderFailoverHandler target =
+        new ClusterAwareReaderFailoverHandler(
+            mockPluginService,
+            properties,
+            DEFAULT_FAILOVER_TIMEOUT,
+            DEFAULT_READER_CONNECT_TIMEOUT,
+            false,
+            4);
+
+    final long startTimeNano = System.nanoTime();
+    final ReaderFailoverResult result = target.getReaderConnection(hosts);
+    final long durationNano = System.nanoTime() - startTimeNano;
+
+    assertTrue(result.isConnected());
+    assertSame(mockConnection, result.getConnection());
+    assertEquals(fastHost, result.getHost());
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(durationNano) < 5000);
+
+    verify(mockSlowConnection, timeout(5000)).close();
+    verify(mockConnection, never()).close();
+  }
+
   @Test
   public void testGetHostTuplesByPriority() {
     final List<HostSpec> originalHosts = defaultHosts;
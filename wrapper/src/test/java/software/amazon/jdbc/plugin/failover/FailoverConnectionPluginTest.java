@@ -18,6 +18,9 @@ package software.amazon.jdbc.plugin.failover;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -43,6 +46,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -98,6 +102,7 @@ class FailoverConnectionPluginTest {
 
   @AfterEach
   void cleanUp() throws Exception {
+    FailoverCoordinator.clearCache();
     closeable.close();
   }
 
@@ -275,6 +280,46 @@ class FailoverConnectionPluginTest {
     verify(mockReaderFailoverHandler).failover(eq(hosts), eq(null));
   }
 
+  @Test
+  void test_getReaderFailoverResult_followerDoesNotFailOverAfterTimeout() throws SQLException, InterruptedException {
+    properties.setProperty(FailoverConnectionPlugin.FAILOVER_COORDINATION_ENABLED.name, "true");
+    properties.setProperty(FailoverConnectionPlugin.FAILOVER_TIMEOUT_MS.name, "100");
+    when(mockHostListProvider.getClusterId()).thenReturn("cluster");
+
+    initializePlugin();
+    plugin.initHostProvider(
+        "initialUrl",
+        mockHostListProviderService,
+        mockInitHostProviderFunc,
+        () -> mockReaderFailoverHandler,
+        () -> mockWriterFailoverHandler);
+
+    // Another connection leads a failover process that doesn't complete in time.
+    assertNull(plugin.acquireFailoverCoordinator().awaitOutcome(null, TimeUnit.SECONDS.toNanos(5)));
+
+    final ReaderFailoverResult result = plugin.getReaderFailoverResult(mockHostSpec);
+
+    assertFalse(result.isConnected());
+    verify(mockReaderFailoverHandler, never()).failover(any(), any());
+  }
+
+  @Test
+  void test_getReaderFailoverResult_releasesCoordinator() throws SQLException {
+    properties.setProperty(FailoverConnectionPlugin.FAILOVER_COORDINATION_ENABLED.name, "true");
+    when(mockHostListProvider.getClusterId()).thenReturn("cluster");
+
+    initializePlugin();
+    plugin.initHostProvider(
+        "initialUrl",
+        mockHostListProviderService,
+        mockInitHostProviderFunc,
+        () -> mockReaderFailoverHandler,
+        () -> mockWriterFailoverHandler);
+
+    assertSame(mockReaderResult, plugin.getReaderFailoverResult(mockHostSpec));
+    assertEquals(0, FailoverCoordinator.getCoordinatorCount());
+  }
+
   @Test
   void test_failoverWriter_failedFailover_throwsException() throws SQLException {
     final HostSpec hostSpec = new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("hostA")
@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.failover;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+
+class FailoverCoordinatorTest {
+
+  private static final long TIMEOUT_NANO = TimeUnit.SECONDS.toNanos(30);
+
+  private final HostSpec writer = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("writer").port(1234).role(HostRole.WRITER).build();
+
+  @AfterEach
+  void tearDown() {
+    FailoverCoordinator.clearCache();
+  }
+
+  @Test
+  public void testFollowerWaitsForLeaderOutcome() throws Exception {
+    final FailoverCoordinator coordinator = FailoverCoordinator.acquire("cluster/STRICT_WRITER");
+    assertSame(coordinator, FailoverCoordinator.acquire("cluster/STRICT_WRITER"));
+
+    // The first connection leads the failover process.
+    assertNull(coordinator.awaitOutcome(null, TIMEOUT_NANO));
+
+    final CompletableFuture<FailoverCoordinator.Outcome> follower = CompletableFuture.supplyAsync(() -> {
+      try {
+        return coordinator.awaitOutcome(null, TIMEOUT_NANO);
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+
+    TimeUnit.MILLISECONDS.sleep(100);
+    coordinator.complete(writer, Collections.singletonList(writer));
+
+    final FailoverCoordinator.Outcome outcome = follower.get(10, TimeUnit.SECONDS);
+    assertNotNull(outcome);
+    assertEquals(writer, outcome.getHost());
+    assertEquals(Collections.singletonList(writer), outcome.getTopology());
+
+    // A connection that starts failing over shortly after uses the same outcome.
+    assertSame(outcome, coordinator.awaitOutcome(null, TIMEOUT_NANO));
+  }
+
+  @Test
+  public void testCoordinatorIsRemovedWhenLastUserReleasesIt() throws InterruptedException {
+    final FailoverCoordinator coordinator = FailoverCoordinator.acquire("cluster/STRICT_WRITER");
+    assertSame(coordinator, FailoverCoordinator.acquire("cluster/STRICT_WRITER"));
+    assertNull(coordinator.awaitOutcome(null, TIMEOUT_NANO));
+    coordinator.complete(writer, Collections.singletonList(writer));
+
+    coordinator.release();
+    assertEquals(1, FailoverCoordinator.getCoordinatorCount());
+    coordinator.release();
+    assertEquals(0, FailoverCoordinator.getCoordinatorCount());
+
+    // Connections that fail over later use a new coordinator.
+    assertNotSame(coordinator, FailoverCoordinator.acquire("cluster/STRICT_WRITER"));
+  }
+
+  @Test
+  public void testRejectedOutcomeStartsNewFailover() throws InterruptedException {
+    final FailoverCoordinator coordinator = FailoverCoordinator.acquire("cluster/STRICT_WRITER");
+    assertNull(coordinator.awaitOutcome(null, TIMEOUT_NANO));
+    coordinator.complete(writer, Collections.singletonList(writer));
+
+    final FailoverCoordinator.Outcome outcome = coordinator.awaitOutcome(null, TIMEOUT_NANO);
+    assertNotNull(outcome);
+    assertNull(coordinator.awaitOutcome(outcome, TIMEOUT_NANO));
+  }
+
+  @Test
+  public void testFailedOutcomeIsNotReused() throws InterruptedException {
+    final FailoverCoordinator coordinator = FailoverCoordinator.acquire("cluster/STRICT_WRITER");
+    assertNull(coordinator.awaitOutcome(null, TIMEOUT_NANO));
+    coordinator.complete(null, null);
+
+    assertNull(coordinator.awaitOutcome(null, TIMEOUT_NANO));
+  }
+
+  @Test
+  public void testFollowerTimesOut() throws InterruptedException {
+    final FailoverCoordinator coordinator = FailoverCoordinator.acquire("cluster/STRICT_WRITER");
+    assertNull(coordinator.awaitOutcome(null, TIMEOUT_NANO));
+
+    final FailoverCoordinator.Outcome outcome =
+        coordinator.awaitOutcome(null, TimeUnit.MILLISECONDS.toNanos(100));
+    assertNotNull(outcome);
+    assertTrue(outcome.isTimedOut());
+    assertNull(outcome.getHost());
+  }
+}
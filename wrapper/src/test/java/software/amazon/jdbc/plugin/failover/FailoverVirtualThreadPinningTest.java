@@ -0,0 +1,190 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.failover;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import software.amazon.jdbc.HostListProviderService;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.JdbcCallable;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.util.ExecutorFactory;
+import software.amazon.jdbc.util.telemetry.GaugeCallable;
+import software.amazon.jdbc.util.telemetry.TelemetryContext;
+import software.amazon.jdbc.util.telemetry.TelemetryCounter;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryGauge;
+
+/**
+ * Verifies that connections failing over concurrently on virtual threads don't pin the carriers
+ * while one of them waits for a new connection. Run with the "test-virtual-thread-pinning" Gradle
+ * task, see {@link software.amazon.jdbc.util.VirtualThreadPinningTest}.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "jdk.tracePinnedThreads", matches = ".+")
+class FailoverVirtualThreadPinningTest {
+
+  private static final long IO_DELAY_MS = 50;
+  private static final int THREAD_COUNT = 3;
+
+  private final HostSpec writer = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("writer-host").role(HostRole.WRITER).build();
+  private final HostSpec reader = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("reader-host").role(HostRole.READER).build();
+  private final List<HostSpec> hosts = Arrays.asList(writer, reader);
+
+  @Mock PluginService mockPluginService;
+  @Mock Connection mockConnection;
+  @Mock HostListProviderService mockHostListProviderService;
+  @Mock JdbcCallable<Void, SQLException> mockInitHostProviderFunc;
+  @Mock ClusterAwareReaderFailoverHandler mockReaderFailoverHandler;
+  @Mock ClusterAwareWriterFailoverHandler mockWriterFailoverHandler;
+  @Mock TelemetryFactory mockTelemetryFactory;
+  @Mock TelemetryContext mockTelemetryContext;
+  @Mock TelemetryCounter mockTelemetryCounter;
+  @Mock TelemetryGauge mockTelemetryGauge;
+
+  private final Properties properties = new Properties();
+  private final ByteArrayOutputStream pinnedThreadTraces = new ByteArrayOutputStream();
+  private PrintStream systemOut;
+  private ExecutorService executorService;
+  private AutoCloseable closeable;
+
+  @BeforeEach
+  void init() throws SQLException {
+    closeable = MockitoAnnotations.openMocks(this);
+
+    when(mockPluginService.getHosts()).thenReturn(hosts);
+    when(mockPluginService.getCurrentHostSpec()).thenReturn(reader);
+    when(mockPluginService.getTelemetryFactory()).thenReturn(mockTelemetryFactory);
+    when(mockTelemetryFactory.openTelemetryContext(anyString(), any())).thenReturn(mockTelemetryContext);
+    when(mockTelemetryFactory.createCounter(anyString())).thenReturn(mockTelemetryCounter);
+    // noinspection unchecked
+    when(mockTelemetryFactory.createGauge(anyString(), any(GaugeCallable.class))).thenReturn(mockTelemetryGauge);
+
+    // Connecting to a new host takes a while, as it would over the network.
+    when(mockReaderFailoverHandler.failover(any(), any())).thenAnswer(invocation -> {
+      TimeUnit.MILLISECONDS.sleep(IO_DELAY_MS);
+      return new ReaderFailoverResult(mockConnection, reader, true);
+    });
+    when(mockPluginService.connect(eq(writer), any(Properties.class))).thenAnswer(invocation -> {
+      TimeUnit.MILLISECONDS.sleep(IO_DELAY_MS);
+      return mockConnection;
+    });
+
+    assertTrue(ExecutorFactory.isVirtualThreadSupported());
+    systemOut = System.out;
+    System.setOut(new PrintStream(pinnedThreadTraces, true));
+    executorService = ExecutorFactory.newThreadPerTaskExecutor("failover-pinning-test-");
+  }
+
+  @AfterEach
+  void cleanUp() throws Exception {
+    executorService.shutdownNow();
+    System.setOut(systemOut);
+    closeable.close();
+  }
+
+  @Test
+  void testFailoverDoesNotPin() throws Exception {
+    when(mockPluginService.getCurrentConnection()).thenReturn(mockConnection);
+    final FailoverConnectionPlugin plugin = createPlugin("reader-or-writer");
+
+    final List<Future<Void>> tasks = new ArrayList<>();
+    for (int i = 0; i < THREAD_COUNT; i++) {
+      final boolean pickNewConnection = i % 2 == 0;
+      tasks.add(executorService.submit(() -> {
+        if (pickNewConnection) {
+          plugin.pickNewConnection();
+        } else {
+          plugin.failover(reader);
+        }
+        return null;
+      }));
+    }
+    for (final Future<Void> task : tasks) {
+      final ExecutionException exception = assertThrows(ExecutionException.class, task::get);
+      assertTrue(exception.getCause() instanceof FailoverSuccessSQLException);
+    }
+
+    verify(mockReaderFailoverHandler, times(THREAD_COUNT)).failover(any(), any());
+    assertEquals("", pinnedThreadTraces.toString());
+  }
+
+  @Test
+  void testPickNewConnectionToWriterDoesNotPin() throws Exception {
+    when(mockPluginService.getCurrentConnection()).thenReturn(null);
+    final FailoverConnectionPlugin plugin = createPlugin("strict-writer");
+
+    final List<Future<Void>> tasks = new ArrayList<>();
+    for (int i = 0; i < THREAD_COUNT; i++) {
+      tasks.add(executorService.submit(() -> {
+        plugin.pickNewConnection();
+        return null;
+      }));
+    }
+    for (final Future<Void> task : tasks) {
+      task.get();
+    }
+
+    verify(mockPluginService, times(THREAD_COUNT)).setCurrentConnection(eq(mockConnection), eq(writer));
+    assertEquals("", pinnedThreadTraces.toString());
+  }
+
+  private FailoverConnectionPlugin createPlugin(final String failoverMode) throws SQLException {
+    properties.setProperty(FailoverConnectionPlugin.FAILOVER_MODE.name, failoverMode);
+    final FailoverConnectionPlugin plugin = new FailoverConnectionPlugin(mockPluginService, properties);
+    plugin.initHostProvider(
+        "initialUrl",
+        mockHostListProviderService,
+        mockInitHostProviderFunc,
+        () -> mockReaderFailoverHandler,
+        () -> mockWriterFailoverHandler);
+    return plugin;
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.failover;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.PropertyDefinition;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+
+class StandbyConnectionPoolTest {
+
+  @Mock PluginService mockPluginService;
+  @Mock Connection mockConnection1;
+  @Mock Connection mockConnection2;
+
+  private AutoCloseable closeable;
+  private final Properties properties = new Properties();
+  private final HostSpec writer = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("writer").port(1234).role(HostRole.WRITER).build();
+  private final HostSpec reader1 = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("reader1").port(1234).role(HostRole.READER).build();
+  private final HostSpec reader2 = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("reader2").port(1234).role(HostRole.READER).build();
+  private StandbyConnectionPool pool;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    closeable = MockitoAnnotations.openMocks(this);
+    when(mockPluginService.getHosts()).thenReturn(Arrays.asList(writer, reader1, reader2));
+    when(mockConnection1.isValid(anyInt())).thenReturn(true);
+    when(mockConnection2.isValid(anyInt())).thenReturn(true);
+    pool = new StandbyConnectionPool(mockPluginService, properties, 60000);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    pool.close();
+    StandbyConnectionPool.clearCache();
+    closeable.close();
+  }
+
+  @Test
+  public void testRefreshOpensSpareConnectionsToWriterAndReaders() throws SQLException {
+    when(mockPluginService.forceConnect(any(HostSpec.class), any(Properties.class))).thenReturn(mockConnection1);
+
+    pool.refresh();
+
+    verify(mockPluginService, timeout(5000)).forceConnect(eq(writer), any(Properties.class));
+    verify(mockPluginService, timeout(5000)).forceConnect(eq(reader1), any(Properties.class));
+    verify(mockPluginService, timeout(5000)).forceConnect(eq(reader2), any(Properties.class));
+  }
+
+  @Test
+  public void testRefreshOpensSpareConnectionsToFailoverCandidatesOnly() throws SQLException {
+    final HostSpec unknownHost = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host("unknown").port(1234).role(HostRole.UNKNOWN).build();
+    when(mockPluginService.getHosts()).thenReturn(Arrays.asList(writer, reader1, reader2, unknownHost));
+    when(mockPluginService.forceConnect(any(HostSpec.class), any(Properties.class))).thenReturn(mockConnection1);
+    reader2.setAvailability(HostAvailability.NOT_AVAILABLE);
+
+    pool.refresh();
+
+    verify(mockPluginService, timeout(5000)).forceConnect(eq(writer), any(Properties.class));
+    verify(mockPluginService, timeout(5000)).forceConnect(eq(reader1), any(Properties.class));
+    verify(mockPluginService, never()).forceConnect(eq(reader2), any(Properties.class));
+    verify(mockPluginService, never()).forceConnect(eq(unknownHost), any(Properties.class));
+  }
+
+  @Test
+  public void testTakeSpareConnection() throws SQLException {
+    when(mockPluginService.forceConnect(eq(reader1), any(Properties.class))).thenReturn(mockConnection1);
+    pool.maintain(reader1);
+
+    assertSame(mockConnection1, pool.take(reader1));
+    // The spare connection is handed out only once.
+    assertNull(pool.take(reader1));
+    assertNull(pool.take(reader2));
+    verify(mockConnection1, never()).close();
+  }
+
+  @Test
+  public void testInvalidSpareConnectionIsNotHandedOut() throws SQLException {
+    when(mockPluginService.forceConnect(eq(reader1), any(Properties.class))).thenReturn(mockConnection1);
+    pool.maintain(reader1);
+    when(mockConnection1.isValid(anyInt())).thenReturn(false);
+
+    assertNull(pool.take(reader1));
+    verify(mockConnection1).close();
+  }
+
+  @Test
+  public void testInvalidSpareConnectionIsReplaced() throws SQLException {
+    when(mockPluginService.forceConnect(eq(reader1), any(Properties.class)))
+        .thenReturn(mockConnection1, mockConnection2);
+    pool.maintain(reader1);
+    when(mockConnection1.isValid(anyInt())).thenReturn(false);
+
+    pool.maintain(reader1);
+
+    verify(mockConnection1).close();
+    verify(mockPluginService, times(2)).forceConnect(eq(reader1), any(Properties.class));
+    assertSame(mockConnection2, pool.take(reader1));
+  }
+
+  @Test
+  public void testRefreshClosesSpareConnectionToRemovedHost() throws SQLException {
+    when(mockPluginService.forceConnect(eq(reader1), any(Properties.class))).thenReturn(mockConnection1);
+    pool.maintain(reader1);
+
+    // reader1 has been removed from the cluster.
+    when(mockPluginService.getHosts()).thenReturn(Collections.singletonList(writer));
+    pool.refresh();
+
+    verify(mockConnection1).close();
+    assertNull(pool.take(reader1));
+  }
+
+  @Test
+  public void testAcquireSharesPoolByCluster() throws SQLException {
+    final PluginService otherPluginService = mock(PluginService.class);
+    when(mockPluginService.forceConnect(eq(reader1), any(Properties.class))).thenReturn(mockConnection1);
+
+    final StandbyConnectionPool sharedPool =
+        StandbyConnectionPool.acquire("cluster", mockPluginService, properties, 60000);
+    assertSame(sharedPool, StandbyConnectionPool.acquire("cluster", otherPluginService, properties, 60000));
+    assertNotSame(sharedPool, StandbyConnectionPool.acquire("other-cluster", otherPluginService, properties, 60000));
+    sharedPool.maintain(reader1);
+
+    // The pool is closed when the last connection releases it.
+    sharedPool.release(mockPluginService);
+    verify(mockConnection1, never()).close();
+    sharedPool.release(otherPluginService);
+    verify(mockConnection1).close();
+    assertNotSame(sharedPool, StandbyConnectionPool.acquire("cluster", mockPluginService, properties, 60000));
+  }
+
+  @Test
+  public void testAcquireSharesPoolBySettings() throws SQLException {
+    final PluginService otherPluginService = mock(PluginService.class);
+    properties.setProperty(PropertyDefinition.USER.name, "user");
+    properties.setProperty(PropertyDefinition.PASSWORD.name, "password");
+    final Properties otherProperties = new Properties();
+    otherProperties.putAll(properties);
+    otherProperties.setProperty(PropertyDefinition.PASSWORD.name, "new-password");
+    when(mockPluginService.forceConnect(eq(reader1), any(Properties.class))).thenReturn(mockConnection1);
+
+    final StandbyConnectionPool sharedPool =
+        StandbyConnectionPool.acquire("cluster", mockPluginService, properties, 60000);
+    assertNotSame(sharedPool, StandbyConnectionPool.acquire("cluster", otherPluginService, otherProperties, 60000));
+
+    // Changes to the properties of a connection after acquiring the pool don't affect spare connections.
+    properties.setProperty(PropertyDefinition.PASSWORD.name, "token");
+    sharedPool.maintain(reader1);
+    verify(mockPluginService).forceConnect(
+        eq(reader1), argThat(props -> "password".equals(props.getProperty(PropertyDefinition.PASSWORD.name))));
+  }
+
+  @Test
+  public void testClose() throws SQLException {
+    when(mockPluginService.forceConnect(eq(reader1), any(Properties.class))).thenReturn(mockConnection1);
+    when(mockPluginService.forceConnect(eq(reader2), any(Properties.class))).thenReturn(mockConnection2);
+    pool.maintain(reader1);
+
+    pool.close();
+    verify(mockConnection1).close();
+
+    // Connections opened after the pool is closed are closed as well.
+    pool.maintain(reader2);
+    verify(mockConnection2).close();
+    assertNull(pool.take(reader2));
+  }
+}
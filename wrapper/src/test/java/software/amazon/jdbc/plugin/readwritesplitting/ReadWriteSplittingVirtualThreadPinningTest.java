@@ -0,0 +1,153 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.readwritesplitting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import software.amazon.jdbc.HostListProviderService;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.util.ExecutorFactory;
+
+/**
+ * Verifies that switching connections concurrently on virtual threads doesn't pin the carriers
+ * while one of the switches opens a new connection. Run with the "test-virtual-thread-pinning"
+ * Gradle task, see {@link software.amazon.jdbc.util.VirtualThreadPinningTest}.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "jdk.tracePinnedThreads", matches = ".+")
+public class ReadWriteSplittingVirtualThreadPinningTest {
+
+  private static final long IO_DELAY_MS = 50;
+  private static final int THREAD_COUNT = 3;
+
+  private final HostSpec writer = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("instance-0").role(HostRole.WRITER).build();
+  private final HostSpec reader = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("instance-1").role(HostRole.READER).build();
+  private final Properties properties = new Properties();
+
+  @Mock private PluginService mockPluginService;
+  @Mock private HostListProviderService mockHostListProviderService;
+  @Mock private Connection mockWriterConn;
+  @Mock private Connection mockReaderConn;
+
+  private final ByteArrayOutputStream pinnedThreadTraces = new ByteArrayOutputStream();
+  private PrintStream systemOut;
+  private ExecutorService executorService;
+  private AutoCloseable closeable;
+
+  @BeforeEach
+  public void init() throws SQLException {
+    closeable = MockitoAnnotations.openMocks(this);
+
+    when(mockPluginService.getHosts()).thenReturn(Arrays.asList(writer, reader));
+    when(mockPluginService.acceptsStrategy(any(), eq("random"))).thenReturn(true);
+    when(mockPluginService.getHostSpecByStrategy(eq(HostRole.READER), eq("random"))).thenReturn(reader);
+
+    // Opening a connection takes a while, as it would over the network.
+    when(mockPluginService.connect(eq(writer), any(Properties.class))).thenAnswer(invocation -> {
+      TimeUnit.MILLISECONDS.sleep(IO_DELAY_MS);
+      return mockWriterConn;
+    });
+    when(mockPluginService.connect(eq(reader), any(Properties.class))).thenAnswer(invocation -> {
+      TimeUnit.MILLISECONDS.sleep(IO_DELAY_MS);
+      return mockReaderConn;
+    });
+
+    assertTrue(ExecutorFactory.isVirtualThreadSupported());
+    systemOut = System.out;
+    System.setOut(new PrintStream(pinnedThreadTraces, true));
+    executorService = ExecutorFactory.newThreadPerTaskExecutor("rw-splitting-pinning-test-");
+  }
+
+  @AfterEach
+  void cleanUp() throws Exception {
+    executorService.shutdownNow();
+    System.setOut(systemOut);
+    closeable.close();
+  }
+
+  @Test
+  public void testSwitchToReaderDoesNotPin() throws Exception {
+    when(mockPluginService.getCurrentConnection()).thenReturn(mockWriterConn);
+    when(mockPluginService.getCurrentHostSpec()).thenReturn(writer);
+    final ReadWriteSplittingPlugin plugin = new ReadWriteSplittingPlugin(
+        mockPluginService, properties, mockHostListProviderService, mockWriterConn, null);
+
+    switchConcurrently(plugin, true);
+
+    verify(mockPluginService, times(1)).connect(eq(reader), any(Properties.class));
+    verify(mockPluginService, times(THREAD_COUNT)).setCurrentConnection(eq(mockReaderConn), eq(reader));
+    assertEquals("", pinnedThreadTraces.toString());
+  }
+
+  @Test
+  public void testSwitchToWriterDoesNotPin() throws Exception {
+    when(mockPluginService.getCurrentConnection()).thenReturn(mockReaderConn);
+    when(mockPluginService.getCurrentHostSpec()).thenReturn(reader);
+    final ReadWriteSplittingPlugin plugin = new ReadWriteSplittingPlugin(
+        mockPluginService, properties, mockHostListProviderService, null, mockReaderConn);
+
+    switchConcurrently(plugin, false);
+
+    verify(mockPluginService, times(1)).connect(eq(writer), any(Properties.class));
+    verify(mockPluginService, times(THREAD_COUNT)).setCurrentConnection(eq(mockWriterConn), eq(writer));
+    assertEquals("", pinnedThreadTraces.toString());
+  }
+
+  private void switchConcurrently(final ReadWriteSplittingPlugin plugin, final boolean readOnly) throws Exception {
+    final List<Future<Void>> tasks = new ArrayList<>();
+    for (int i = 0; i < THREAD_COUNT; i++) {
+      tasks.add(executorService.submit(() -> {
+        plugin.switchConnectionIfRequired(readOnly);
+        return null;
+      }));
+    }
+    for (final Future<Void> task : tasks) {
+      task.get();
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.amazon.jdbc.plugin.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.plugin.strategy.HostLoadTracker.HostLoad;
+
+public class HostLoadTrackerTest {
+
+  private static final long LATENCY_NANO = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final HostSpec reader1 = createHost("instance-1");
+  private final HostSpec reader2 = createHost("instance-2");
+  private final HostLoadTracker tracker = new HostLoadTracker();
+
+  @Test
+  public void testHostLoad() {
+    final HostLoad hostLoad = tracker.getHostLoad("instance-1");
+    final long currentTimeNano = System.nanoTime();
+    assertEquals(-1, hostLoad.getLatencyNano(currentTimeNano));
+
+    hostLoad.addSample(LATENCY_NANO, currentTimeNano);
+    assertEquals(LATENCY_NANO, hostLoad.getLatencyNano(currentTimeNano));
+    hostLoad.addSample(LATENCY_NANO * 6, currentTimeNano);
+    assertEquals(LATENCY_NANO * 2, hostLoad.getLatencyNano(currentTimeNano));
+
+    // Samples expire, so a host that was slow can be selected again.
+    assertEquals(-1, hostLoad.getLatencyNano(currentTimeNano + HostLoadTracker.SAMPLE_EXPIRATION_NANO + 1));
+
+    final long startTimeNano = hostLoad.start();
+    assertEquals(1, hostLoad.getInFlightCount());
+    hostLoad.complete(startTimeNano);
+    assertEquals(0, hostLoad.getInFlightCount());
+  }
+
+  @Test
+  public void testLatencyAtPercentile() {
+    final HostLoad hostLoad = tracker.getHostLoad("instance-1");
+    final long currentTimeNano = System.nanoTime();
+    assertEquals(-1, hostLoad.getLatencyNanoAtPercentile(50, currentTimeNano));
+
+    for (int i = 0; i < 9; i++) {
+      hostLoad.addSample(LATENCY_NANO, currentTimeNano);
+    }
+    hostLoad.addSample(LATENCY_NANO * 100, currentTimeNano);
+
+    // The average hides the slow request, the tail latency doesn't.
+    assertTrue(hostLoad.getLatencyNano(currentTimeNano) < LATENCY_NANO * 100 / 2);
+    assertEquals(LATENCY_NANO, hostLoad.getLatencyNanoAtPercentile(50, currentTimeNano), LATENCY_NANO / 16);
+    assertEquals(
+        LATENCY_NANO * 100, hostLoad.getLatencyNanoAtPercentile(100, currentTimeNano), LATENCY_NANO * 100 / 16);
+
+    // Latencies of old windows are dropped.
+    assertEquals(-1, hostLoad.getLatencyNanoAtPercentile(
+        50, currentTimeNano + HostLoadTracker.SAMPLE_EXPIRATION_NANO * 2));
+    final long laterTimeNano = currentTimeNano + HostLoadTracker.SAMPLE_EXPIRATION_NANO * 2;
+    hostLoad.addSample(LATENCY_NANO * 2, laterTimeNano);
+    assertEquals(LATENCY_NANO * 2, hostLoad.getLatencyNanoAtPercentile(100, laterTimeNano), LATENCY_NANO * 2 / 16);
+  }
+
+  @Test
+  public void testHasRecentSamples() {
+    final List<HostSpec> readers = Arrays.asList(reader1, reader2);
+    assertFalse(tracker.hasRecentSamples(readers));
+    assertFalse(tracker.hasRecentSamples(Collections.emptyList()));
+
+    tracker.getHostLoad("instance-1").addSample(LATENCY_NANO, System.nanoTime());
+    assertFalse(tracker.hasRecentSamples(readers));
+    assertTrue(tracker.hasRecentSamples(Collections.singletonList(reader1)));
+
+    tracker.getHostLoad("instance-2").addSample(LATENCY_NANO, System.nanoTime());
+    assertTrue(tracker.hasRecentSamples(readers));
+    assertFalse(tracker.hasRecentSamples(Arrays.asList(reader1, reader2, createHost("instance-3"))));
+  }
+
+  private static HostSpec createHost(final String host) {
+    return new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host(host).role(HostRole.READER).build();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.strategy.leastlatency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.plugin.strategy.HostLoadTracker;
+
+public class LeastLatencyHostSelectorTest {
+
+  private static final long LATENCY_NANO = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final HostSpec writer = createHost("instance-0", HostRole.WRITER);
+  private final HostSpec reader1 = createHost("instance-1", HostRole.READER);
+  private final HostSpec reader2 = createHost("instance-2", HostRole.READER);
+  private final List<HostSpec> hosts = Arrays.asList(writer, reader1, reader2);
+
+  private HostLoadTracker tracker;
+  private LeastLatencyHostSelector selector;
+
+  @BeforeEach
+  void setUp() {
+    tracker = new HostLoadTracker();
+    selector = new LeastLatencyHostSelector(tracker);
+  }
+
+  @Test
+  public void testGetHost_NoReaders() {
+    assertThrows(SQLException.class,
+        () -> selector.getHost(Collections.singletonList(writer), HostRole.READER, null));
+  }
+
+  @Test
+  public void testGetHost_SelectsFasterHost() throws SQLException {
+    final long currentTimeNano = System.nanoTime();
+    tracker.getHostLoad("instance-1").addSample(LATENCY_NANO * 10, currentTimeNano);
+    tracker.getHostLoad("instance-2").addSample(LATENCY_NANO, currentTimeNano);
+
+    for (int i = 0; i < 10; i++) {
+      assertEquals(reader2, selector.getHost(hosts, HostRole.READER, null));
+    }
+  }
+
+  @Test
+  public void testGetHost_SelectsLessBusyHost() throws SQLException {
+    final long currentTimeNano = System.nanoTime();
+    tracker.getHostLoad("instance-1").addSample(LATENCY_NANO, currentTimeNano);
+    tracker.getHostLoad("instance-2").addSample(LATENCY_NANO, currentTimeNano);
+    tracker.getHostLoad("instance-1").start();
+    tracker.getHostLoad("instance-1").start();
+
+    for (int i = 0; i < 10; i++) {
+      assertEquals(reader2, selector.getHost(hosts, HostRole.READER, null));
+    }
+  }
+
+  @Test
+  public void testHostWithoutSamplesIsComparedByInFlightCount() {
+    tracker.getHostLoad("instance-1").addSample(LATENCY_NANO, System.nanoTime());
+
+    assertFalse(selector.isLessLoaded(reader2, reader1));
+    tracker.getHostLoad("instance-1").start();
+    assertTrue(selector.isLessLoaded(reader2, reader1));
+  }
+
+  private static HostSpec createHost(final String host, final HostRole role) {
+    return new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host(host).role(role).build();
+  }
+}
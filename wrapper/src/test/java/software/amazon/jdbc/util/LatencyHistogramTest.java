@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package software.amazon.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void testBucketsCoverAllValues() {
+    int lastIndex = -1;
+    for (long value = 0; value < 100000; value++) {
+      final int index = LatencyHistogram.getBucketIndex(value);
+      assertTrue(index == lastIndex || index == lastIndex + 1);
+      lastIndex = index;
+
+      // Values are recorded with a relative error of at most 1/16.
+      final long bucketValue = LatencyHistogram.getBucketValue(index);
+      assertTrue(Math.abs(bucketValue - value) <= value / 16);
+    }
+  }
+
+  @Test
+  public void testValueAtPercentile() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(-1, histogram.getValueAtPercentile(50));
+
+    for (int value = 1; value <= 10; value++) {
+      histogram.record(value);
+    }
+    histogram.record(100000);
+
+    assertEquals(11, histogram.getTotalCount());
+    assertEquals(1, histogram.getValueAtPercentile(0));
+    assertEquals(6, histogram.getValueAtPercentile(50));
+    assertEquals(10, histogram.getValueAtPercentile(90));
+    assertTrue(Math.abs(histogram.getValueAtPercentile(100) - 100000) <= 100000 / 16);
+  }
+
+  @Test
+  public void testValueAtPercentileOfCombinedHistograms() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    final LatencyHistogram otherHistogram = new LatencyHistogram();
+    for (int value = 1; value <= 5; value++) {
+      histogram.record(value);
+      otherHistogram.record(value + 5);
+    }
+
+    assertEquals(5, LatencyHistogram.getValueAtPercentile(50, histogram, otherHistogram));
+    assertEquals(10, LatencyHistogram.getValueAtPercentile(100, histogram, otherHistogram));
+    assertEquals(-1, LatencyHistogram.getValueAtPercentile(50, new LatencyHistogram(), new LatencyHistogram()));
+  }
+
+  @Test
+  public void testOutOfRangeValues() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(-1);
+    histogram.record(Long.MAX_VALUE);
+
+    assertEquals(0, histogram.getValueAtPercentile(50));
+    assertTrue(histogram.getValueAtPercentile(100) <= LatencyHistogram.MAX_TRACKABLE_VALUE);
+
+    histogram.reset();
+    assertEquals(0, histogram.getTotalCount());
+  }
+}
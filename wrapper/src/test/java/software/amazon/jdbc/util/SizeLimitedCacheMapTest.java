@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class SizeLimitedCacheMapTest {
+
+  private static final long EXPIRATION_NANO = TimeUnit.MINUTES.toNanos(1);
+
+  @Test
+  public void testEvictLeastRecentlyUsed() {
+    final SizeLimitedCacheMap<Integer, String> map = new SizeLimitedCacheMap<>(30);
+
+    assertEquals(0, map.put(1, "a", 10, EXPIRATION_NANO));
+    assertEquals(0, map.put(2, "b", 10, EXPIRATION_NANO));
+    assertEquals(0, map.put(3, "c", 10, EXPIRATION_NANO));
+
+    // Access the first item so the second one becomes the least recently used.
+    assertEquals("a", map.get(1));
+    assertEquals(1, map.put(4, "d", 10, EXPIRATION_NANO));
+
+    assertEquals("a", map.get(1));
+    assertNull(map.get(2));
+    assertEquals("c", map.get(3));
+    assertEquals("d", map.get(4));
+    assertEquals(3, map.size());
+    assertEquals(30, map.getSizeBytes());
+  }
+
+  @Test
+  public void testItemLargerThanMaxSizeIsNotStored() {
+    final SizeLimitedCacheMap<Integer, String> map = new SizeLimitedCacheMap<>(30);
+
+    map.put(1, "a", 10, EXPIRATION_NANO);
+    assertEquals(0, map.put(2, "b", 40, EXPIRATION_NANO));
+
+    assertEquals("a", map.get(1));
+    assertNull(map.get(2));
+    assertEquals(10, map.getSizeBytes());
+  }
+
+  @Test
+  public void testReplaceItem() {
+    final SizeLimitedCacheMap<Integer, String> map = new SizeLimitedCacheMap<>(30);
+
+    map.put(1, "a", 10, EXPIRATION_NANO);
+    map.put(1, "b", 20, EXPIRATION_NANO);
+
+    assertEquals("b", map.get(1));
+    assertEquals(1, map.size());
+    assertEquals(20, map.getSizeBytes());
+  }
+
+  @Test
+  public void testExpiredItem() throws InterruptedException {
+    final SizeLimitedCacheMap<Integer, String> map = new SizeLimitedCacheMap<>(30);
+    final long expirationNano = TimeUnit.MILLISECONDS.toNanos(100);
+
+    map.put(1, "a", 10, expirationNano);
+    map.put(2, "b", 10, EXPIRATION_NANO);
+    TimeUnit.NANOSECONDS.sleep(expirationNano * 2);
+
+    assertNull(map.get(1));
+    assertEquals("b", map.get(2));
+    assertEquals(1, map.size());
+    assertEquals(10, map.getSizeBytes());
+  }
+
+  @Test
+  public void testPutEvictsExpiredLeastRecentlyUsedItems() throws InterruptedException {
+    final SizeLimitedCacheMap<Integer, String> map = new SizeLimitedCacheMap<>(100);
+    final long expirationNano = TimeUnit.MILLISECONDS.toNanos(100);
+
+    map.put(1, "a", 10, expirationNano);
+    map.put(2, "b", 10, EXPIRATION_NANO);
+    map.put(3, "c", 10, expirationNano);
+    TimeUnit.NANOSECONDS.sleep(expirationNano * 2);
+
+    // Only the expired items before the first unexpired one are evicted by a put.
+    assertEquals(1, map.put(4, "d", 10, EXPIRATION_NANO));
+    assertEquals(3, map.size());
+    assertEquals(30, map.getSizeBytes());
+
+    // The remaining expired item is removed when it's accessed.
+    assertNull(map.get(3));
+    assertEquals("b", map.get(2));
+    assertEquals("d", map.get(4));
+    assertEquals(2, map.size());
+    assertEquals(20, map.getSizeBytes());
+  }
+
+  @Test
+  public void testClear() {
+    final SizeLimitedCacheMap<Integer, String> map = new SizeLimitedCacheMap<>(30);
+
+    map.put(1, "a", 10, EXPIRATION_NANO);
+    map.clear();
+
+    assertNull(map.get(1));
+    assertEquals(0, map.size());
+    assertEquals(0, map.getSizeBytes());
+  }
+}
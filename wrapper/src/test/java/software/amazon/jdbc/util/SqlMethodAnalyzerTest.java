@@ -19,6 +19,7 @@ package software.amazon.jdbc.util;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -95,6 +96,20 @@ class SqlMethodAnalyzerTest {
     assertDoesNotThrow(() -> sqlMethodAnalyzer.doesCloseTransaction(conn, EXECUTE_METHOD, new String[]{EMPTY_SQL}));
   }
 
+  @Test
+  void testGetStatementTypeOfPreparedStatement() {
+    final Object statement = new Object();
+    final PreparedSql preparedSql = new PreparedSql(statement, "BEGIN");
+    final Object[] args = new Object[] {};
+
+    assertNull(sqlMethodAnalyzer.getStatementType(statement, "PreparedStatement.execute", args));
+    assertEquals(SqlStatementType.START_TRANSACTION, PreparedSql.execute(
+        preparedSql, () -> sqlMethodAnalyzer.getStatementType(statement, "PreparedStatement.execute", args)));
+    // The prepared SQL isn't used for other statements.
+    assertNull(PreparedSql.execute(
+        preparedSql, () -> sqlMethodAnalyzer.getStatementType(new Object(), "PreparedStatement.execute", args)));
+  }
+
   @Test
   void testDoesSwitchAutoCommitFalseTrue() throws SQLException {
     assertFalse(sqlMethodAnalyzer.doesSwitchAutoCommitFalseTrue(conn, "Connection.setAutoCommit",
@@ -180,6 +195,8 @@ class SqlMethodAnalyzerTest {
         Arguments.of("Statement.executeUpdate", " /*COMMENT*/ START   /*COMMENT*/TRANSACTION;",
             true, true),
         Arguments.of("Statement.executeUpdate", " /*COMMENT*/ begin", true, true),
+        Arguments.of("Statement.executeUpdate", "-- COMMENT\n begin", true, true),
+        Arguments.of("Statement.executeUpdate", "/* UNTERMINATED COMMENT begin", true, false),
         Arguments.of("Statement.executeUpdate", "commit", false, false),
         Arguments.of("Statement.executeQuery", " select 1", true, false),
         Arguments.of("Statement.executeQuery", " SELECT 1", false, true),
@@ -224,7 +241,9 @@ class SqlMethodAnalyzerTest {
         Arguments.of("SET AUTOCOMMIT to 0", false),
         Arguments.of("set autoCOMMIT = on", true),
         Arguments.of("set autoCOMMIT TO trUE", true),
-        Arguments.of("  SeT  aUtOcommIT  = 1", true)
+        Arguments.of("  SeT  aUtOcommIT  = 1", true),
+        Arguments.of("SET AUTOCOMMIT = /* COMMENT */ 1; SELECT 1", true),
+        Arguments.of("SET AUTOCOMMIT = 1 0", null)
     );
   }
 
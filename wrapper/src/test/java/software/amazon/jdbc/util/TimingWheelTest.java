@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+
+  private static final long TICK_NANO = 10;
+
+  @Test
+  public void testEntriesExpireAtDeadline() {
+    final TimingWheel<TestEntry> wheel = new TimingWheel<>(TICK_NANO, 0);
+    final TestEntry entry1 = new TestEntry(1);
+    final TestEntry entry2 = new TestEntry(2);
+    wheel.add(entry1, 25);
+    wheel.add(entry2, 30);
+    assertEquals(2, wheel.size());
+
+    final List<Integer> expired = new ArrayList<>();
+    wheel.advance(29, entry -> expired.add(entry.id));
+    assertEquals(Collections.emptyList(), expired);
+
+    wheel.advance(30, entry -> expired.add(entry.id));
+    assertEquals(Arrays.asList(1, 2), expired);
+    assertEquals(0, wheel.size());
+    assertFalse(entry1.isLinked());
+  }
+
+  @Test
+  public void testEntriesOfHigherLevelsExpireAtDeadline() {
+    final TimingWheel<TestEntry> wheel = new TimingWheel<>(TICK_NANO, 0);
+    final long[] deadlineTicks = {1, 63, 64, 65, 100, 4095, 4096, 5000, 300000};
+    final List<TestEntry> entries = new ArrayList<>();
+    for (int i = 0; i < deadlineTicks.length; i++) {
+      final TestEntry entry = new TestEntry(i);
+      entries.add(entry);
+      wheel.add(entry, deadlineTicks[i] * TICK_NANO);
+    }
+
+    final long[] expiredTicks = new long[deadlineTicks.length];
+    for (long tick = 0; tick <= 300000; tick++) {
+      final long currentTick = tick;
+      wheel.advance(tick * TICK_NANO, entry -> expiredTicks[entry.id] = currentTick);
+    }
+
+    for (int i = 0; i < deadlineTicks.length; i++) {
+      assertEquals(deadlineTicks[i], expiredTicks[i]);
+    }
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  public void testRemoveEntry() {
+    final TimingWheel<TestEntry> wheel = new TimingWheel<>(TICK_NANO, 0);
+    final TestEntry entry1 = new TestEntry(1);
+    final TestEntry entry2 = new TestEntry(2);
+    wheel.add(entry1, 1000);
+    wheel.add(entry2, 1000);
+
+    assertTrue(wheel.remove(entry1));
+    assertFalse(wheel.remove(entry1));
+    assertEquals(1, wheel.size());
+
+    final List<Integer> expired = new ArrayList<>();
+    wheel.advance(1000, entry -> expired.add(entry.id));
+    assertEquals(Collections.singletonList(2), expired);
+  }
+
+  @Test
+  public void testMoveExpiredEntriesToList() {
+    final TimingWheel<TestEntry> wheel = new TimingWheel<>(TICK_NANO, 0);
+    final TimingWheel.EntryList<TestEntry> list = new TimingWheel.EntryList<>();
+    final TestEntry entry1 = new TestEntry(1);
+    final TestEntry entry2 = new TestEntry(2);
+    final TestEntry entry3 = new TestEntry(3);
+    wheel.add(entry1, 0);
+    wheel.add(entry2, 0);
+    wheel.add(entry3, 0);
+    wheel.advance(0, list::add);
+
+    assertEquals(0, wheel.size());
+    assertEquals(3, list.size());
+    assertFalse(wheel.remove(entry2));
+    assertTrue(list.remove(entry2));
+
+    final List<Integer> ids = new ArrayList<>();
+    for (TestEntry entry = list.first(); entry != null; entry = list.next(entry)) {
+      ids.add(entry.id);
+    }
+    assertEquals(Arrays.asList(1, 3), ids);
+
+    // Adding an entry of the list to the wheel removes it from the list.
+    wheel.add(entry1, 100);
+    assertEquals(1, list.size());
+    assertEquals(1, wheel.size());
+  }
+
+  static class TestEntry extends TimingWheel.Entry {
+    final int id;
+
+    TestEntry(final int id) {
+      this.id = id;
+    }
+  }
+}
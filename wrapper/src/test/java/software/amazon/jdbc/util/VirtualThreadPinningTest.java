@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.hostlistprovider.ClusterTopologyMonitorImpl;
+import software.amazon.jdbc.hostlistprovider.RdsHostListProvider;
+
+/**
+ * Verifies that background tasks and waiting callers don't pin the carriers of virtual threads.
+ * Run with the "test-virtual-thread-pinning" Gradle task, which runs the tests on Java 21 with
+ * {@code -Djdk.tracePinnedThreads=short} and a single carrier thread. The JVM prints a stack trace
+ * to {@link System#out} whenever a virtual thread blocks while pinned, and a pinned carrier blocks
+ * all other virtual threads.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "jdk.tracePinnedThreads", matches = ".+")
+public class VirtualThreadPinningTest {
+
+  private static final long TIMEOUT_NANO = TimeUnit.SECONDS.toNanos(5);
+  private static final List<HostSpec> HOSTS = Arrays.asList(
+      new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("host1").role(HostRole.READER).build(),
+      new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("host2").role(HostRole.WRITER).build());
+
+  private final ByteArrayOutputStream pinnedThreadTraces = new ByteArrayOutputStream();
+  private PrintStream systemOut;
+  private ExecutorService executorService;
+
+  @BeforeEach
+  void init() {
+    assertTrue(ExecutorFactory.isVirtualThreadSupported());
+    systemOut = System.out;
+    System.setOut(new PrintStream(pinnedThreadTraces, true));
+    executorService = ExecutorFactory.newThreadPerTaskExecutor("pinning-test-");
+  }
+
+  @AfterEach
+  void cleanUp() {
+    executorService.shutdownNow();
+    System.setOut(systemOut);
+    RdsHostListProvider.clearAll();
+  }
+
+  @Test
+  public void testPinnedThreadIsTraced() throws Exception {
+    final Object monitor = new Object();
+    executorService.submit(() -> {
+      synchronized (monitor) {
+        TimeUnit.MILLISECONDS.sleep(10);
+      }
+      return null;
+    }).get();
+
+    assertTrue(pinnedThreadTraces.toString().contains("testPinnedThreadIsTraced"));
+  }
+
+  @Test
+  public void testForceRefreshDoesNotPin() throws Exception {
+    final ClusterTopologyMonitorImpl monitor = new ClusterTopologyMonitorImpl(
+        "cluster-id",
+        new Properties(),
+        HOSTS.get(1),
+        TimeUnit.MINUTES.toNanos(1),
+        TimeUnit.MINUTES.toNanos(1)) {
+      @Override
+      protected List<HostSpec> fetchTopology() {
+        try {
+          TimeUnit.MILLISECONDS.sleep(100);
+        } catch (final InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+        return HOSTS;
+      }
+    };
+
+    try {
+      final List<Future<List<HostSpec>>> requests = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        requests.add(executorService.submit(() -> monitor.forceRefresh(TIMEOUT_NANO)));
+      }
+      for (final Future<List<HostSpec>> request : requests) {
+        assertEquals(HOSTS, request.get());
+      }
+    } finally {
+      monitor.close();
+    }
+
+    assertEquals("", pinnedThreadTraces.toString());
+  }
+}
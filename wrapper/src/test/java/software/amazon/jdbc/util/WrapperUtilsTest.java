@@ -16,16 +16,25 @@
 
 package software.amazon.jdbc.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.Blob;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -41,8 +50,11 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import software.amazon.jdbc.ConnectionPluginManager;
 import software.amazon.jdbc.JdbcCallable;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.wrapper.BlobWrapper;
+import software.amazon.jdbc.wrapper.ResultSetWrapper;
 
 public class WrapperUtilsTest {
 
@@ -70,7 +82,7 @@ public class WrapperUtilsTest {
         any(Class.class),
         any(Class.class),
         any(Object.class),
-        argThat(methodName -> !AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)),
+        argThat((String methodName) -> !AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)),
         any(JdbcCallable.class),
         any(Object[].class));
 
@@ -141,6 +153,19 @@ public class WrapperUtilsTest {
     ).join();
   }
 
+  @Test
+  void testWrapWithProxyIfNeeded() {
+    final ResultSet mockResultSet = mock(ResultSet.class);
+    final ResultSet wrapped = WrapperUtils.wrapWithProxyIfNeeded(ResultSet.class, mockResultSet, pluginManager);
+    assertTrue(wrapped instanceof ResultSetWrapper);
+    assertSame(wrapped, WrapperUtils.wrapWithProxyIfNeeded(ResultSet.class, wrapped, pluginManager));
+
+    // Objects of other result classes are wrapped by the JDBC interface their class implements.
+    final Object blob = WrapperUtils.wrapWithProxyIfNeeded(Object.class, mock(Blob.class), pluginManager);
+    assertTrue(blob instanceof BlobWrapper);
+    assertEquals("foo", WrapperUtils.wrapWithProxyIfNeeded(Object.class, "foo", pluginManager));
+  }
+
   @Test
   void getConnectionFromSqlObjectChecksStatementNotClosed() throws Exception {
     final Statement mockClosedStatement = mock(Statement.class);
@@ -155,4 +180,96 @@ public class WrapperUtilsTest {
     final Connection rsConn = WrapperUtils.getConnectionFromSqlObject(mockClosedStatement);
     assertNull(rsConn);
   }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testPureReadIsExecutedWithoutLock() {
+    when(pluginManager.execute(
+        any(Class.class),
+        any(Class.class),
+        any(Object.class),
+        any(JdbcMethod.class),
+        any(JdbcCallable.class),
+        any(Object[].class))).thenReturn(1);
+    when(pluginManager.getConnectionSwitchStamp()).thenReturn(2L);
+    when(pluginManager.validateConnectionSwitchStamp(2L)).thenReturn(true);
+
+    final Integer result = WrapperUtils.executeWithPlugins(
+        Integer.class, pluginManager, object, JdbcMethod.RESULTSET_GETINT, () -> 1);
+
+    assertEquals(1, result);
+    verify(pluginManager, never()).lock();
+    verify(pluginManager, never()).unlock();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testPureReadIsCheckedAgainWithLockAfterConnectionSwitch() {
+    when(pluginManager.execute(
+        any(Class.class),
+        any(Class.class),
+        any(Object.class),
+        any(JdbcMethod.class),
+        any(JdbcCallable.class),
+        any(Object[].class))).thenReturn(1);
+    when(pluginManager.getConnectionSwitchStamp()).thenReturn(2L);
+    when(pluginManager.validateConnectionSwitchStamp(2L)).thenReturn(false);
+
+    final Integer result = WrapperUtils.executeWithPlugins(
+        Integer.class, pluginManager, object, JdbcMethod.RESULTSET_GETINT, () -> 1);
+
+    assertEquals(1, result);
+    verify(pluginManager, times(1)).lock();
+    verify(pluginManager, times(1)).unlock();
+    // The plugin chain isn't executed again, only the connection of the object is checked.
+    verify(pluginManager, times(1)).execute(
+        any(Class.class),
+        any(Class.class),
+        any(Object.class),
+        any(JdbcMethod.class),
+        any(JdbcCallable.class),
+        any(Object[].class));
+    verify(pluginManager, times(1)).checkInvokedAgainstCurrentConnection(
+        RuntimeException.class, object, JdbcMethod.RESULTSET_GETINT.methodName);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testPureReadAgainstOldConnectionFailsAfterConnectionSwitch() {
+    when(pluginManager.execute(
+        any(Class.class),
+        any(Class.class),
+        any(Object.class),
+        any(JdbcMethod.class),
+        any(JdbcCallable.class),
+        any(Object[].class))).thenReturn(1);
+    when(pluginManager.getConnectionSwitchStamp()).thenReturn(2L);
+    when(pluginManager.validateConnectionSwitchStamp(2L)).thenReturn(false);
+    doThrow(new RuntimeException("invoked against old connection"))
+        .when(pluginManager).checkInvokedAgainstCurrentConnection(
+            RuntimeException.class, object, JdbcMethod.RESULTSET_GETINT.methodName);
+
+    assertThrows(RuntimeException.class, () -> WrapperUtils.executeWithPlugins(
+        Integer.class, pluginManager, object, JdbcMethod.RESULTSET_GETINT, () -> 1));
+    verify(pluginManager, times(1)).unlock();
+  }
+
+  @Test
+  void testNonScalarGetterIsExecutedWithLock() {
+    WrapperUtils.executeWithPlugins(
+        Object.class, pluginManager, object, JdbcMethod.RESULTSET_GETOBJECT, () -> null);
+
+    verify(pluginManager, times(1)).lock();
+    verify(pluginManager, times(1)).unlock();
+    verify(pluginManager, never()).getConnectionSwitchStamp();
+  }
+
+  @Test
+  void testStateMutatingMethodIsExecutedWithLock() {
+    WrapperUtils.runWithPlugins(pluginManager, object, JdbcMethod.RESULTSET_NEXT, () -> { });
+
+    verify(pluginManager, times(1)).lock();
+    verify(pluginManager, times(1)).unlock();
+    verify(pluginManager, never()).getConnectionSwitchStamp();
+  }
 }